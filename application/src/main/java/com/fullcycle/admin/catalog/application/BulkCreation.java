@@ -0,0 +1,50 @@
+package com.fullcycle.admin.catalog.application;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+import com.fullcycle.admin.catalog.domain.validation.handler.Notification;
+
+import io.vavr.API;
+import io.vavr.control.Either;
+
+// One result per command, in the same order: the commands whose notification got errors carry them and
+// the aggregates of the others are created together, so a database failure is reported on each of them
+public final class BulkCreation {
+
+    private BulkCreation() {}
+
+    public static <C, A, O> List<Either<Notification, O>> execute(
+            final List<C> aCommands,
+            final BiFunction<C, Notification, A> toAggregate,
+            final UnaryOperator<List<A>> createAll,
+            final Function<A, O> toOutput) {
+        final var results = new ArrayList<Either<Notification, O>>(Collections.nCopies(aCommands.size(), null));
+        final var positions = new ArrayList<Integer>(aCommands.size());
+        final var aggregates = new ArrayList<A>(aCommands.size());
+        for (int i = 0; i < aCommands.size(); i++) {
+            final var notification = Notification.create();
+            final var anAggregate = toAggregate.apply(aCommands.get(i), notification);
+            if (notification.hasError()) {
+                results.set(i, API.Left(notification));
+            } else {
+                positions.add(i);
+                aggregates.add(anAggregate);
+            }
+        }
+        if (!aggregates.isEmpty()) {
+            API.Try(() -> createAll.apply(aggregates))
+                    .onSuccess(created -> {
+                        for (int i = 0; i < positions.size(); i++) {
+                            results.set(positions.get(i), API.Right(toOutput.apply(created.get(i))));
+                        }
+                    })
+                    .onFailure(t -> positions.forEach(i -> results.set(i, API.Left(Notification.create(t)))));
+        }
+        return results;
+    }
+}
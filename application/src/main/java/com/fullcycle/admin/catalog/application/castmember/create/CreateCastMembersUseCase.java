@@ -0,0 +1,13 @@
+package com.fullcycle.admin.catalog.application.castmember.create;
+
+import com.fullcycle.admin.catalog.application.UseCase;
+import com.fullcycle.admin.catalog.domain.validation.handler.Notification;
+import io.vavr.control.Either;
+
+import java.util.List;
+
+public sealed abstract class CreateCastMembersUseCase
+        extends UseCase<List<CreateCastMemberCommand>, List<Either<Notification, CreateCastMemberOutput>>>
+        permits DefaultCreateCastMembersUseCase {
+
+}
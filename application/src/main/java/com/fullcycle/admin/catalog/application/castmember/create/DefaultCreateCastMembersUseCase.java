@@ -0,0 +1,28 @@
+package com.fullcycle.admin.catalog.application.castmember.create;
+
+import com.fullcycle.admin.catalog.application.BulkCreation;
+import com.fullcycle.admin.catalog.domain.castmeber.CastMember;
+import com.fullcycle.admin.catalog.domain.castmeber.CastMemberGateway;
+import com.fullcycle.admin.catalog.domain.validation.handler.Notification;
+import io.vavr.control.Either;
+
+import java.util.List;
+import java.util.Objects;
+
+public non-sealed class DefaultCreateCastMembersUseCase extends CreateCastMembersUseCase {
+
+    private final CastMemberGateway castMemberGateway;
+
+    public DefaultCreateCastMembersUseCase(final CastMemberGateway castMemberGateway) {
+        this.castMemberGateway = Objects.requireNonNull(castMemberGateway);
+    }
+
+    @Override
+    public List<Either<Notification, CreateCastMemberOutput>> execute(final List<CreateCastMemberCommand> aCommands) {
+        return BulkCreation.execute(aCommands,
+                (aCommand, notification) -> notification.validate(
+                        () -> CastMember.newMember(aCommand.name(), aCommand.type())),
+                this.castMemberGateway::createAll,
+                CreateCastMemberOutput::from);
+    }
+}
@@ -3,7 +3,7 @@ package com.fullcycle.admin.catalog.application.castmember.delete;
 import com.fullcycle.admin.catalog.domain.castmeber.CastMemberGateway;
 import com.fullcycle.admin.catalog.domain.castmeber.CastMemberId;
 
-public final class DefaultDeleteCastMemberUseCase extends DeleteCastMemberUseCase {
+public non-sealed class DefaultDeleteCastMemberUseCase extends DeleteCastMemberUseCase {
 
     private final CastMemberGateway castMemberGateway;
 
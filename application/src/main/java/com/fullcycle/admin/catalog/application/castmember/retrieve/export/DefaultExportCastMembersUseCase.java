@@ -0,0 +1,21 @@
+package com.fullcycle.admin.catalog.application.castmember.retrieve.export;
+
+import com.fullcycle.admin.catalog.application.castmember.retrieve.get.CastMemberOutput;
+import com.fullcycle.admin.catalog.application.castmember.retrieve.list.CastMemberQueryGateway;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+
+public non-sealed class DefaultExportCastMembersUseCase extends ExportCastMembersUseCase {
+
+    private final CastMemberQueryGateway castMemberQueryGateway;
+
+    public DefaultExportCastMembersUseCase(final CastMemberQueryGateway castMemberQueryGateway) {
+        this.castMemberQueryGateway = Objects.requireNonNull(castMemberQueryGateway);
+    }
+
+    @Override
+    public void execute(final Consumer<CastMemberOutput> aConsumer) {
+        this.castMemberQueryGateway.forEach(Objects.requireNonNull(aConsumer));
+    }
+}
@@ -0,0 +1,11 @@
+package com.fullcycle.admin.catalog.application.castmember.retrieve.export;
+
+import com.fullcycle.admin.catalog.application.UnitUseCase;
+import com.fullcycle.admin.catalog.application.castmember.retrieve.get.CastMemberOutput;
+
+import java.util.function.Consumer;
+
+public sealed abstract class ExportCastMembersUseCase
+        extends UnitUseCase<Consumer<CastMemberOutput>>
+        permits DefaultExportCastMembersUseCase {
+}
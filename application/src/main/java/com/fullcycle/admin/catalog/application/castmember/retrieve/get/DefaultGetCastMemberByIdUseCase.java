@@ -5,7 +5,10 @@ import com.fullcycle.admin.catalog.domain.castmeber.CastMemberGateway;
 import com.fullcycle.admin.catalog.domain.castmeber.CastMemberId;
 import com.fullcycle.admin.catalog.domain.exceptions.NotFoundException;
 
-public final class DefaultGetCastMemberByIdUseCase extends GetCastMemberByIdUseCase {
+import java.time.Instant;
+import java.util.Optional;
+
+public non-sealed class DefaultGetCastMemberByIdUseCase extends GetCastMemberByIdUseCase {
 
     private final CastMemberGateway castMemberGateway;
 
@@ -21,4 +24,9 @@ public final class DefaultGetCastMemberByIdUseCase extends GetCastMemberByIdUseC
                 .orElseThrow(() -> NotFoundException.with(CastMember.class, aMemberId));
 
     }
+
+    @Override
+    public Optional<Instant> lastModified(final String anId) {
+        return this.castMemberGateway.findUpdatedAtById(CastMemberId.from(anId));
+    }
 }
@@ -0,0 +1,24 @@
+package com.fullcycle.admin.catalog.application.castmember.retrieve.get;
+
+import com.fullcycle.admin.catalog.domain.castmeber.CastMemberGateway;
+import com.fullcycle.admin.catalog.domain.castmeber.CastMemberId;
+
+import java.util.List;
+import java.util.Objects;
+
+public non-sealed class DefaultGetCastMembersByIdsUseCase extends GetCastMembersByIdsUseCase {
+
+    private final CastMemberGateway castMemberGateway;
+
+    public DefaultGetCastMembersByIdsUseCase(final CastMemberGateway castMemberGateway) {
+        this.castMemberGateway = Objects.requireNonNull(castMemberGateway);
+    }
+
+    @Override
+    public List<CastMemberOutput> execute(final List<String> ids) {
+        final var memberIds = ids.stream().map(CastMemberId::from).toList();
+        return this.castMemberGateway.findAllById(memberIds).stream()
+                .map(CastMemberOutput::from)
+                .toList();
+    }
+}
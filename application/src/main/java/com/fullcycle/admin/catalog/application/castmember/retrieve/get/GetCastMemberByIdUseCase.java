@@ -1,7 +1,13 @@
 package com.fullcycle.admin.catalog.application.castmember.retrieve.get;
 
+import java.time.Instant;
+import java.util.Optional;
+
 import com.fullcycle.admin.catalog.application.UseCase;
 
 public sealed abstract class GetCastMemberByIdUseCase  extends UseCase<String, CastMemberOutput>
         permits DefaultGetCastMemberByIdUseCase {
+
+    // just the updated_at of the aggregate, empty when it does not exist
+    public abstract Optional<Instant> lastModified(String anId);
 }
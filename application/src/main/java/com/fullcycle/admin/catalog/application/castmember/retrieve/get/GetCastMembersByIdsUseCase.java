@@ -0,0 +1,9 @@
+package com.fullcycle.admin.catalog.application.castmember.retrieve.get;
+
+import com.fullcycle.admin.catalog.application.UseCase;
+
+import java.util.List;
+
+public sealed abstract class GetCastMembersByIdsUseCase extends UseCase<List<String>, List<CastMemberOutput>>
+        permits DefaultGetCastMembersByIdsUseCase {
+}
@@ -0,0 +1,16 @@
+package com.fullcycle.admin.catalog.application.castmember.retrieve.list;
+
+import java.util.function.Consumer;
+
+import com.fullcycle.admin.catalog.application.castmember.retrieve.get.CastMemberOutput;
+import com.fullcycle.admin.catalog.domain.pagination.ListVersion;
+import com.fullcycle.admin.catalog.domain.pagination.Pagination;
+import com.fullcycle.admin.catalog.domain.pagination.SearchQuery;
+
+public interface CastMemberQueryGateway {
+    Pagination<CastMemberListOutput> list(SearchQuery aQuery);
+
+    ListVersion version();
+
+    void forEach(Consumer<CastMemberOutput> aConsumer);
+}
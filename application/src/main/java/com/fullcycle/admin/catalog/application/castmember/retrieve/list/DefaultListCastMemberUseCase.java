@@ -1,21 +1,26 @@
 package com.fullcycle.admin.catalog.application.castmember.retrieve.list;
 
-import com.fullcycle.admin.catalog.domain.castmeber.CastMemberGateway;
+import com.fullcycle.admin.catalog.domain.pagination.ListVersion;
 import com.fullcycle.admin.catalog.domain.pagination.Pagination;
 import com.fullcycle.admin.catalog.domain.pagination.SearchQuery;
 
 import java.util.Objects;
 
-public final class DefaultListCastMemberUseCase extends ListCastMemberUseCase {
+public non-sealed class DefaultListCastMemberUseCase extends ListCastMemberUseCase {
 
-    private final CastMemberGateway castMemberGateway;
+    private final CastMemberQueryGateway castMemberQueryGateway;
 
-    public DefaultListCastMemberUseCase(CastMemberGateway castMemberGateway) {
-        this.castMemberGateway = Objects.requireNonNull(castMemberGateway);
+    public DefaultListCastMemberUseCase(CastMemberQueryGateway castMemberQueryGateway) {
+        this.castMemberQueryGateway = Objects.requireNonNull(castMemberQueryGateway);
     }
 
     @Override
     public Pagination<CastMemberListOutput> execute(final SearchQuery aQuery) {
-        return this.castMemberGateway.findAll(aQuery).map(CastMemberListOutput::from);
+        return this.castMemberQueryGateway.list(aQuery);
+    }
+
+    @Override
+    public ListVersion version() {
+        return this.castMemberQueryGateway.version();
     }
 }
@@ -1,10 +1,13 @@
 package com.fullcycle.admin.catalog.application.castmember.retrieve.list;
 
 import com.fullcycle.admin.catalog.application.UseCase;
+import com.fullcycle.admin.catalog.domain.pagination.ListVersion;
 import com.fullcycle.admin.catalog.domain.pagination.Pagination;
 import com.fullcycle.admin.catalog.domain.pagination.SearchQuery;
 
 public sealed abstract class ListCastMemberUseCase
         extends UseCase<SearchQuery, Pagination<CastMemberListOutput>>
         permits  DefaultListCastMemberUseCase {
+
+    public abstract ListVersion version();
 }
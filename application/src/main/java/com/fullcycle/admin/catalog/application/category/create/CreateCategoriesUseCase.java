@@ -0,0 +1,12 @@
+package com.fullcycle.admin.catalog.application.category.create;
+
+import java.util.List;
+
+import com.fullcycle.admin.catalog.application.UseCase;
+import com.fullcycle.admin.catalog.domain.validation.handler.Notification;
+
+import io.vavr.control.Either;
+
+public abstract class CreateCategoriesUseCase
+        extends UseCase<List<CreateCategoryCommand>, List<Either<Notification, CreateCategoryOutput>>> {
+}
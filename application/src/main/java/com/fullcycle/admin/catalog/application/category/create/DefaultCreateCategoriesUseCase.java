@@ -0,0 +1,28 @@
+package com.fullcycle.admin.catalog.application.category.create;
+
+import java.util.List;
+import java.util.Objects;
+
+import com.fullcycle.admin.catalog.application.BulkCreation;
+import com.fullcycle.admin.catalog.domain.category.Category;
+import com.fullcycle.admin.catalog.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalog.domain.validation.handler.Notification;
+
+import io.vavr.control.Either;
+
+public class DefaultCreateCategoriesUseCase extends CreateCategoriesUseCase {
+    private final CategoryGateway categoryGateway;
+
+    public DefaultCreateCategoriesUseCase(final CategoryGateway categoryGateway) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    }
+
+    @Override
+    public List<Either<Notification, CreateCategoryOutput>> execute(final List<CreateCategoryCommand> aCommands) {
+        return BulkCreation.execute(aCommands, (aCommand, notification) -> {
+            final var aCategory = Category.newCategory(aCommand.name(), aCommand.description(), aCommand.isActive());
+            aCategory.validate(notification);
+            return aCategory;
+        }, this.categoryGateway::createAll, CreateCategoryOutput::from);
+    }
+}
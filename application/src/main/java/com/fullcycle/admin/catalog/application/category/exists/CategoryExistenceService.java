@@ -0,0 +1,99 @@
+package com.fullcycle.admin.catalog.application.category.exists;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+
+import com.fullcycle.admin.catalog.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalog.domain.category.CategoryID;
+import com.fullcycle.admin.catalog.domain.validation.Error;
+import com.fullcycle.admin.catalog.domain.validation.ValidationHandler;
+import com.fullcycle.admin.catalog.domain.validation.handler.Notification;
+
+// Checks category ids in chunks of at most chunkSize, so a genre with thousands of categories neither
+// builds one huge IN (...) nor waits on the chunks one after the other
+public class CategoryExistenceService {
+
+    // a power of two, the IN (...) padding leaves it as is
+    public static final int DEFAULT_CHUNK_SIZE = 512;
+
+    private final CategoryGateway categoryGateway;
+    private final Executor executor;
+    private final int chunkSize;
+
+    public CategoryExistenceService(final CategoryGateway categoryGateway) {
+        this(categoryGateway, Runnable::run, DEFAULT_CHUNK_SIZE);
+    }
+
+    public CategoryExistenceService(
+            final CategoryGateway categoryGateway,
+            final Executor executor,
+            final int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("'chunkSize' should be greater than 0");
+        }
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+        this.executor = Objects.requireNonNull(executor);
+        this.chunkSize = chunkSize;
+    }
+
+    public ValidationHandler validate(final Collection<CategoryID> ids) {
+        final var notification = Notification.create();
+        final var missingIds = missing(ids);
+        if (!missingIds.isEmpty()) {
+            final var joined = missingIds.stream().map(CategoryID::getValue).collect(Collectors.joining(","));
+            notification.append(new Error("Some categories could not be found: %s".formatted(joined)));
+        }
+        return notification;
+    }
+
+    // the ids with no category behind them, without repetitions and in the order they were given
+    public Set<CategoryID> missing(final Collection<CategoryID> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return Set.of();
+        }
+        final var missing = new LinkedHashSet<>(ids);
+        final var chunks = chunks(List.copyOf(missing));
+        final var found = chunks.size() == 1
+                ? this.categoryGateway.existsById(chunks.get(0))
+                : existsConcurrently(chunks);
+        for (final var anId : found) {
+            missing.remove(anId);
+        }
+        return missing;
+    }
+
+    private Collection<CategoryID> existsConcurrently(final List<List<CategoryID>> chunks) {
+        final var lookups = chunks.stream()
+                .map(chunk -> CompletableFuture.supplyAsync(() -> this.categoryGateway.existsById(chunk), this.executor))
+                .toList();
+        final var found = new HashSet<CategoryID>();
+        try {
+            for (final var aLookup : lookups) {
+                found.addAll(aLookup.join());
+            }
+        } catch (final CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+        return found;
+    }
+
+    private List<List<CategoryID>> chunks(final List<CategoryID> ids) {
+        final var chunks = new ArrayList<List<CategoryID>>((ids.size() + chunkSize - 1) / chunkSize);
+        for (int from = 0; from < ids.size(); from += chunkSize) {
+            chunks.add(ids.subList(from, Math.min(from + chunkSize, ids.size())));
+        }
+        return chunks;
+    }
+}
@@ -0,0 +1,23 @@
+package com.fullcycle.admin.catalog.application.category.retrive.changes;
+
+import java.util.Objects;
+
+import com.fullcycle.admin.catalog.application.category.retrive.list.CategoryListOutput;
+import com.fullcycle.admin.catalog.application.category.retrive.list.CategoryQueryGateway;
+import com.fullcycle.admin.catalog.domain.pagination.Change;
+import com.fullcycle.admin.catalog.domain.pagination.ChangesQuery;
+import com.fullcycle.admin.catalog.domain.pagination.Pagination;
+
+public class DefaultListCategoryChangesUseCase extends ListCategoryChangesUseCase {
+
+    private final CategoryQueryGateway categoryQueryGateway;
+
+    public DefaultListCategoryChangesUseCase(final CategoryQueryGateway categoryQueryGateway) {
+        this.categoryQueryGateway = Objects.requireNonNull(categoryQueryGateway);
+    }
+
+    @Override
+    public Pagination<Change<CategoryListOutput>> execute(final ChangesQuery aQuery) {
+        return this.categoryQueryGateway.changes(aQuery);
+    }
+}
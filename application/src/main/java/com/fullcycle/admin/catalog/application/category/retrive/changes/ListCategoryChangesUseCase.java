@@ -0,0 +1,11 @@
+package com.fullcycle.admin.catalog.application.category.retrive.changes;
+
+import com.fullcycle.admin.catalog.application.UseCase;
+import com.fullcycle.admin.catalog.application.category.retrive.list.CategoryListOutput;
+import com.fullcycle.admin.catalog.domain.pagination.Change;
+import com.fullcycle.admin.catalog.domain.pagination.ChangesQuery;
+import com.fullcycle.admin.catalog.domain.pagination.Pagination;
+
+public abstract class ListCategoryChangesUseCase
+        extends UseCase<ChangesQuery, Pagination<Change<CategoryListOutput>>> {
+}
@@ -0,0 +1,21 @@
+package com.fullcycle.admin.catalog.application.category.retrive.export;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+
+import com.fullcycle.admin.catalog.application.category.retrive.get.CategoryOutput;
+import com.fullcycle.admin.catalog.application.category.retrive.list.CategoryQueryGateway;
+
+public class DefaultExportCategoriesUseCase extends ExportCategoriesUseCase {
+
+    private final CategoryQueryGateway categoryQueryGateway;
+
+    public DefaultExportCategoriesUseCase(final CategoryQueryGateway categoryQueryGateway) {
+        this.categoryQueryGateway = Objects.requireNonNull(categoryQueryGateway);
+    }
+
+    @Override
+    public void execute(final Consumer<CategoryOutput> aConsumer) {
+        this.categoryQueryGateway.forEach(Objects.requireNonNull(aConsumer));
+    }
+}
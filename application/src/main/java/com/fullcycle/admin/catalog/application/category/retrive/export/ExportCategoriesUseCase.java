@@ -0,0 +1,10 @@
+package com.fullcycle.admin.catalog.application.category.retrive.export;
+
+import java.util.function.Consumer;
+
+import com.fullcycle.admin.catalog.application.UnitUseCase;
+import com.fullcycle.admin.catalog.application.category.retrive.get.CategoryOutput;
+
+// hands every category to the consumer, none of them is kept after it returns
+public abstract class ExportCategoriesUseCase extends UnitUseCase<Consumer<CategoryOutput>> {
+}
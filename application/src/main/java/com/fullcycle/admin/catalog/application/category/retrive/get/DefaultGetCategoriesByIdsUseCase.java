@@ -0,0 +1,25 @@
+package com.fullcycle.admin.catalog.application.category.retrive.get;
+
+import java.util.List;
+import java.util.Objects;
+
+import com.fullcycle.admin.catalog.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalog.domain.category.CategoryID;
+
+public class DefaultGetCategoriesByIdsUseCase extends GetCategoriesByIdsUseCase {
+
+    private final CategoryGateway categoryGateway;
+
+    public DefaultGetCategoriesByIdsUseCase(final CategoryGateway categoryGateway) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    }
+
+    // ids that don't exist are left out instead of failing the whole batch
+    @Override
+    public List<CategoryOutput> execute(final List<String> ids) {
+        final var categoryIDS = ids.stream().map(CategoryID::from).toList();
+        return this.categoryGateway.findAllById(categoryIDS).stream()
+                .map(CategoryOutput::from)
+                .toList();
+    }
+}
@@ -1,6 +1,8 @@
 package com.fullcycle.admin.catalog.application.category.retrive.get;
 
+import java.time.Instant;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.function.Supplier;
 
 import com.fullcycle.admin.catalog.domain.category.Category;
@@ -25,6 +27,11 @@ public class DefaultGetCategoryByIdUseCase extends GetCategoryByIdUseCase {
                 .orElseThrow(notFound(aCategoryID));
     }
 
+    @Override
+    public Optional<Instant> lastModified(final String anId) {
+        return this.categoryGateway.findUpdatedAtById(CategoryID.from(anId));
+    }
+
     private Supplier<NotFoundException> notFound(final CategoryID anId) {
         return () -> NotFoundException.with(Category.class, anId);
     }
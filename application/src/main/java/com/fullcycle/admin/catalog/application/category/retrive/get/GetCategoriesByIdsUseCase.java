@@ -0,0 +1,9 @@
+package com.fullcycle.admin.catalog.application.category.retrive.get;
+
+import java.util.List;
+
+import com.fullcycle.admin.catalog.application.UseCase;
+
+public abstract class GetCategoriesByIdsUseCase extends UseCase<List<String>, List<CategoryOutput>> {
+
+}
@@ -1,7 +1,12 @@
 package com.fullcycle.admin.catalog.application.category.retrive.get;
 
+import java.time.Instant;
+import java.util.Optional;
+
 import com.fullcycle.admin.catalog.application.UseCase;
 
 public abstract class GetCategoryByIdUseCase extends UseCase<String, CategoryOutput> {
 
+    // just the updated_at of the aggregate, empty when it does not exist
+    public abstract Optional<Instant> lastModified(String anId);
 }
@@ -0,0 +1,24 @@
+package com.fullcycle.admin.catalog.application.category.retrive.list;
+
+import java.util.function.Consumer;
+
+import com.fullcycle.admin.catalog.application.category.retrive.get.CategoryOutput;
+import com.fullcycle.admin.catalog.domain.pagination.Change;
+import com.fullcycle.admin.catalog.domain.pagination.ChangesQuery;
+import com.fullcycle.admin.catalog.domain.pagination.ListVersion;
+import com.fullcycle.admin.catalog.domain.pagination.Pagination;
+import com.fullcycle.admin.catalog.domain.pagination.SearchQuery;
+
+// Read side of the list: the rows come straight into the outputs, no Category is built nor validated
+public interface CategoryQueryGateway {
+    Pagination<CategoryListOutput> list(SearchQuery aQuery);
+
+    // only a count and a max, for conditional GETs that may not need the page at all
+    ListVersion version();
+
+    // created, updated and deleted categories ordered by (changedAt, id), the page ends with a nextCursor when full
+    Pagination<Change<CategoryListOutput>> changes(ChangesQuery aQuery);
+
+    // every category in id order, each one handed over as soon as it is read
+    void forEach(Consumer<CategoryOutput> aConsumer);
+}
@@ -2,25 +2,27 @@ package com.fullcycle.admin.catalog.application.category.retrive.list;
 
 import java.util.Objects;
 
-import com.fullcycle.admin.catalog.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalog.domain.pagination.ListVersion;
 import com.fullcycle.admin.catalog.domain.pagination.SearchQuery;
 import com.fullcycle.admin.catalog.domain.pagination.Pagination;
 
 public class DefaultListCategoriesUseCase extends ListCategoriesUseCase {
 
-    private final CategoryGateway categoryGateway;
+    private final CategoryQueryGateway categoryQueryGateway;
 
-    public DefaultListCategoriesUseCase(CategoryGateway categoryGateway) {
-        Objects.requireNonNull(categoryGateway);
-        this.categoryGateway = categoryGateway;
+    public DefaultListCategoriesUseCase(CategoryQueryGateway categoryQueryGateway) {
+        Objects.requireNonNull(categoryQueryGateway);
+        this.categoryQueryGateway = categoryQueryGateway;
     }
 
-
-
     @Override
     public Pagination<CategoryListOutput> execute(SearchQuery aQuery) {
-        return this.categoryGateway.findAll(aQuery)
-            .map(CategoryListOutput::from);
+        return this.categoryQueryGateway.list(aQuery);
+    }
+
+    @Override
+    public ListVersion version() {
+        return this.categoryQueryGateway.version();
     }
 
 }
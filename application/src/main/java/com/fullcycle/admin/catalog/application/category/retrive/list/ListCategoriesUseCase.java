@@ -1,9 +1,11 @@
 package com.fullcycle.admin.catalog.application.category.retrive.list;
 
 import com.fullcycle.admin.catalog.application.UseCase;
+import com.fullcycle.admin.catalog.domain.pagination.ListVersion;
 import com.fullcycle.admin.catalog.domain.pagination.SearchQuery;
 import com.fullcycle.admin.catalog.domain.pagination.Pagination;
 
 public abstract class ListCategoriesUseCase extends UseCase<SearchQuery, Pagination<CategoryListOutput>> {
-    
+
+    public abstract ListVersion version();
 }
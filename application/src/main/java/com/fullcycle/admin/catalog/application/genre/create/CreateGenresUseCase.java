@@ -0,0 +1,13 @@
+package com.fullcycle.admin.catalog.application.genre.create;
+
+import java.util.List;
+
+import com.fullcycle.admin.catalog.application.UseCase;
+import com.fullcycle.admin.catalog.domain.validation.handler.Notification;
+
+import io.vavr.control.Either;
+
+public abstract class CreateGenresUseCase
+        extends UseCase<List<CreateGenreCommand>, List<Either<Notification, CreateGenreOutput>>> {
+
+}
@@ -0,0 +1,61 @@
+package com.fullcycle.admin.catalog.application.genre.create;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import com.fullcycle.admin.catalog.application.BulkCreation;
+import com.fullcycle.admin.catalog.application.category.exists.CategoryExistenceService;
+import com.fullcycle.admin.catalog.domain.category.CategoryID;
+import com.fullcycle.admin.catalog.domain.genre.Genre;
+import com.fullcycle.admin.catalog.domain.genre.GenreGateway;
+import com.fullcycle.admin.catalog.domain.validation.Error;
+import com.fullcycle.admin.catalog.domain.validation.handler.Notification;
+
+import io.vavr.control.Either;
+
+public class DefaultCreateGenresUseCase extends CreateGenresUseCase {
+
+    private final CategoryExistenceService categoryExistence;
+    private final GenreGateway genreGateway;
+
+    public DefaultCreateGenresUseCase(
+            final CategoryExistenceService categoryExistence,
+            final GenreGateway genreGateway) {
+        this.categoryExistence = Objects.requireNonNull(categoryExistence);
+        this.genreGateway = Objects.requireNonNull(genreGateway);
+    }
+
+    @Override
+    public List<Either<Notification, CreateGenreOutput>> execute(final List<CreateGenreCommand> aCommands) {
+        final var missing = missingCategories(aCommands);
+        return BulkCreation.execute(aCommands, (aCommand, notification) -> {
+            final var categories = toCategoryID(aCommand.categories());
+            final var missingIds = categories.stream()
+                    .filter(missing::contains)
+                    .map(CategoryID::getValue)
+                    .collect(Collectors.joining(","));
+            if (!missingIds.isEmpty()) {
+                notification.append(new Error("Some categories could not be found: %s".formatted(missingIds)));
+            }
+            final var aGenre = notification.validate(() -> Genre.newGenre(aCommand.name(), aCommand.isActive()));
+            if (aGenre != null) {
+                aGenre.addCategories(categories);
+            }
+            return aGenre;
+        }, this.genreGateway::createAll, CreateGenreOutput::from);
+    }
+
+    // one lookup for the categories of every command instead of one per genre
+    private Set<CategoryID> missingCategories(final List<CreateGenreCommand> aCommands) {
+        final var ids = aCommands.stream()
+                .flatMap(it -> toCategoryID(it.categories()).stream())
+                .toList();
+        return this.categoryExistence.missing(ids);
+    }
+
+    private List<CategoryID> toCategoryID(final List<String> categories) {
+        return categories == null ? List.of() : categories.stream().map(CategoryID::from).toList();
+    }
+}
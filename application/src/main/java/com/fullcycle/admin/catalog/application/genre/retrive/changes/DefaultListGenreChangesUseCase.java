@@ -0,0 +1,23 @@
+package com.fullcycle.admin.catalog.application.genre.retrive.changes;
+
+import java.util.Objects;
+
+import com.fullcycle.admin.catalog.application.genre.retrive.list.GenreListOutput;
+import com.fullcycle.admin.catalog.application.genre.retrive.list.GenreQueryGateway;
+import com.fullcycle.admin.catalog.domain.pagination.Change;
+import com.fullcycle.admin.catalog.domain.pagination.ChangesQuery;
+import com.fullcycle.admin.catalog.domain.pagination.Pagination;
+
+public class DefaultListGenreChangesUseCase extends ListGenreChangesUseCase {
+
+    private final GenreQueryGateway genreQueryGateway;
+
+    public DefaultListGenreChangesUseCase(final GenreQueryGateway genreQueryGateway) {
+        this.genreQueryGateway = Objects.requireNonNull(genreQueryGateway);
+    }
+
+    @Override
+    public Pagination<Change<GenreListOutput>> execute(final ChangesQuery aQuery) {
+        return this.genreQueryGateway.changes(aQuery);
+    }
+}
@@ -0,0 +1,10 @@
+package com.fullcycle.admin.catalog.application.genre.retrive.changes;
+
+import com.fullcycle.admin.catalog.application.UseCase;
+import com.fullcycle.admin.catalog.application.genre.retrive.list.GenreListOutput;
+import com.fullcycle.admin.catalog.domain.pagination.Change;
+import com.fullcycle.admin.catalog.domain.pagination.ChangesQuery;
+import com.fullcycle.admin.catalog.domain.pagination.Pagination;
+
+public abstract class ListGenreChangesUseCase extends UseCase<ChangesQuery, Pagination<Change<GenreListOutput>>> {
+}
@@ -0,0 +1,21 @@
+package com.fullcycle.admin.catalog.application.genre.retrive.export;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+
+import com.fullcycle.admin.catalog.application.genre.retrive.get.GenreOutput;
+import com.fullcycle.admin.catalog.application.genre.retrive.list.GenreQueryGateway;
+
+public class DefaultExportGenresUseCase extends ExportGenresUseCase {
+
+    private final GenreQueryGateway genreQueryGateway;
+
+    public DefaultExportGenresUseCase(final GenreQueryGateway genreQueryGateway) {
+        this.genreQueryGateway = Objects.requireNonNull(genreQueryGateway);
+    }
+
+    @Override
+    public void execute(final Consumer<GenreOutput> aConsumer) {
+        this.genreQueryGateway.forEach(Objects.requireNonNull(aConsumer));
+    }
+}
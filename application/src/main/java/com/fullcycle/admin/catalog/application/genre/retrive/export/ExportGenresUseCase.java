@@ -0,0 +1,9 @@
+package com.fullcycle.admin.catalog.application.genre.retrive.export;
+
+import java.util.function.Consumer;
+
+import com.fullcycle.admin.catalog.application.UnitUseCase;
+import com.fullcycle.admin.catalog.application.genre.retrive.get.GenreOutput;
+
+public abstract class ExportGenresUseCase extends UnitUseCase<Consumer<GenreOutput>> {
+}
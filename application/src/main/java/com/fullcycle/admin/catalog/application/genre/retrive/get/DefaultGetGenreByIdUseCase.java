@@ -1,6 +1,8 @@
 package com.fullcycle.admin.catalog.application.genre.retrive.get;
 
+import java.time.Instant;
 import java.util.Objects;
+import java.util.Optional;
 
 import com.fullcycle.admin.catalog.domain.exceptions.NotFoundException;
 import com.fullcycle.admin.catalog.domain.genre.Genre;
@@ -22,4 +24,9 @@ public class DefaultGetGenreByIdUseCase extends GetGenreByIdUseCase {
                 .orElseThrow(() -> NotFoundException.with(Genre.class, aGenreId));
     }
 
+    @Override
+    public Optional<Instant> lastModified(final String anId) {
+        return this.genreGateway.findUpdatedAtById(GenreID.from(anId));
+    }
+
 }
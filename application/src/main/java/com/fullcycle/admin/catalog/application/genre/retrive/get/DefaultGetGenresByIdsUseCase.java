@@ -0,0 +1,22 @@
+package com.fullcycle.admin.catalog.application.genre.retrive.get;
+
+import java.util.List;
+import java.util.Objects;
+
+import com.fullcycle.admin.catalog.domain.genre.GenreGateway;
+import com.fullcycle.admin.catalog.domain.genre.GenreID;
+
+public class DefaultGetGenresByIdsUseCase extends GetGenresByIdsUseCase {
+
+    private final GenreGateway genreGateway;
+
+    public DefaultGetGenresByIdsUseCase(final GenreGateway genreGateway) {
+        this.genreGateway = Objects.requireNonNull(genreGateway);
+    }
+
+    @Override
+    public List<GenreOutput> execute(final List<String> ids) {
+        final var genreIds = ids.stream().map(GenreID::from).toList();
+        return this.genreGateway.findAllById(genreIds).stream().map(GenreOutput::from).toList();
+    }
+}
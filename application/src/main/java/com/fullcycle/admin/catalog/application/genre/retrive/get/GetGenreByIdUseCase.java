@@ -1,7 +1,12 @@
 package com.fullcycle.admin.catalog.application.genre.retrive.get;
 
+import java.time.Instant;
+import java.util.Optional;
+
 import com.fullcycle.admin.catalog.application.UseCase;
 
 public abstract class GetGenreByIdUseCase extends UseCase<String, GenreOutput> {
 
+    // just the updated_at of the aggregate, empty when it does not exist
+    public abstract Optional<Instant> lastModified(String anId);
 }
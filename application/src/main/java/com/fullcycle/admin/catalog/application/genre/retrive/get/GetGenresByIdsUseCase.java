@@ -0,0 +1,9 @@
+package com.fullcycle.admin.catalog.application.genre.retrive.get;
+
+import java.util.List;
+
+import com.fullcycle.admin.catalog.application.UseCase;
+
+public abstract class GetGenresByIdsUseCase extends UseCase<List<String>, List<GenreOutput>> {
+
+}
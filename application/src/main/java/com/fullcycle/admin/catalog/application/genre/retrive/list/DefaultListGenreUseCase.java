@@ -2,21 +2,31 @@ package com.fullcycle.admin.catalog.application.genre.retrive.list;
 
 import java.util.Objects;
 
-import com.fullcycle.admin.catalog.domain.genre.GenreGateway;
+import com.fullcycle.admin.catalog.domain.pagination.ListVersion;
 import com.fullcycle.admin.catalog.domain.pagination.Pagination;
 import com.fullcycle.admin.catalog.domain.pagination.SearchQuery;
 
 public class DefaultListGenreUseCase extends ListGenreUseCase {
 
-    private final GenreGateway genreGateway;
+    private final GenreQueryGateway genreQueryGateway;
 
-    public DefaultListGenreUseCase(final GenreGateway genreGateway) {
-        this.genreGateway = Objects.requireNonNull(genreGateway);
+    public DefaultListGenreUseCase(final GenreQueryGateway genreQueryGateway) {
+        this.genreQueryGateway = Objects.requireNonNull(genreQueryGateway);
     }
 
     @Override
     public Pagination<GenreListOutput> execute(final SearchQuery aQuery) {
-        return this.genreGateway.findAll(aQuery).map(GenreListOutput::from);
+        return execute(aQuery, true);
+    }
+
+    @Override
+    public Pagination<GenreListOutput> execute(final SearchQuery aQuery, final boolean withCategories) {
+        return this.genreQueryGateway.list(aQuery, withCategories);
+    }
+
+    @Override
+    public ListVersion version() {
+        return this.genreQueryGateway.version();
     }
 
 }
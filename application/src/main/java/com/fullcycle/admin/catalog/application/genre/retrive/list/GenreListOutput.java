@@ -13,4 +13,9 @@ public record GenreListOutput(String id, String name, boolean isActive, java.uti
                 genre.getCategories().stream().map(CategoryID::getValue).toList(), genre.getCreatedAt(),
                 genre.getDeletedAt());
     }
+
+    public static GenreListOutput withoutCategories(final Genre genre) {
+        return new GenreListOutput(genre.getId().getValue(), genre.getName(), genre.isActive(), null,
+                genre.getCreatedAt(), genre.getDeletedAt());
+    }
 }
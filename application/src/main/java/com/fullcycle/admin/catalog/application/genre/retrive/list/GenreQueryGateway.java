@@ -0,0 +1,22 @@
+package com.fullcycle.admin.catalog.application.genre.retrive.list;
+
+import java.util.function.Consumer;
+
+import com.fullcycle.admin.catalog.application.genre.retrive.get.GenreOutput;
+import com.fullcycle.admin.catalog.domain.pagination.Change;
+import com.fullcycle.admin.catalog.domain.pagination.ChangesQuery;
+import com.fullcycle.admin.catalog.domain.pagination.ListVersion;
+import com.fullcycle.admin.catalog.domain.pagination.Pagination;
+import com.fullcycle.admin.catalog.domain.pagination.SearchQuery;
+
+public interface GenreQueryGateway {
+    // withCategories = false skips reading genres_categories, the outputs carry categories = null
+    Pagination<GenreListOutput> list(SearchQuery aQuery, boolean withCategories);
+
+    // covers genres_categories too, a deleted category takes its links out of the genres
+    ListVersion version();
+
+    Pagination<Change<GenreListOutput>> changes(ChangesQuery aQuery);
+
+    void forEach(Consumer<GenreOutput> aConsumer);
+}
@@ -1,9 +1,14 @@
 package com.fullcycle.admin.catalog.application.genre.retrive.list;
 
 import com.fullcycle.admin.catalog.application.UseCase;
+import com.fullcycle.admin.catalog.domain.pagination.ListVersion;
 import com.fullcycle.admin.catalog.domain.pagination.Pagination;
 import com.fullcycle.admin.catalog.domain.pagination.SearchQuery;
 
 public abstract class ListGenreUseCase extends UseCase<SearchQuery, Pagination<GenreListOutput>> {
 
+    // withCategories = false skips reading genres_categories, the outputs carry categories = null
+    public abstract Pagination<GenreListOutput> execute(SearchQuery aQuery, boolean withCategories);
+
+    public abstract ListVersion version();
 }
@@ -0,0 +1,77 @@
+package com.fullcycle.admin.catalog.application.castmember.create;
+
+import com.fullcycle.admin.catalog.application.UseCaseTest;
+import com.fullcycle.admin.catalog.domain.castmeber.CastMemberGateway;
+import com.fullcycle.admin.catalog.domain.castmeber.CastMemberType;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.util.List;
+import java.util.Objects;
+
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+public class CreateCastMembersUseCaseTest extends UseCaseTest {
+
+    @InjectMocks
+    private DefaultCreateCastMembersUseCase useCase;
+
+    @Mock
+    private CastMemberGateway castMemberGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(castMemberGateway);
+    }
+
+    @Test
+    public void givenValidAndInvalidCommands_whenCallsCreateCastMembers_shouldCreateTheValidOnesInOneCall() {
+        final var aCommands = List.of(
+                CreateCastMemberCommand.with("Actor", CastMemberType.ACTOR),
+                CreateCastMemberCommand.with(null, CastMemberType.ACTOR),
+                CreateCastMemberCommand.with("Nobody", null),
+                CreateCastMemberCommand.with("Director", CastMemberType.DIRECTOR));
+        when(castMemberGateway.createAll(any())).thenAnswer(returnsFirstArg());
+
+        final var actualOutput = useCase.execute(aCommands);
+
+        Assertions.assertEquals(4, actualOutput.size());
+        Assertions.assertNotNull(actualOutput.get(0).get().id());
+        Assertions.assertEquals("'name' should not be null", actualOutput.get(1).getLeft().firstError().message());
+        Assertions.assertEquals("'type' should not be null", actualOutput.get(2).getLeft().firstError().message());
+        Assertions.assertNotNull(actualOutput.get(3).get().id());
+        verify(castMemberGateway, times(1)).createAll(argThat(members -> members.size() == 2
+                && Objects.equals("Actor", members.get(0).getName())
+                && Objects.equals(CastMemberType.DIRECTOR, members.get(1).getType())));
+        verify(castMemberGateway, times(0)).create(any());
+    }
+
+    @Test
+    public void givenOnlyInvalidCommands_whenCallsCreateCastMembers_shouldNotCallGateway() {
+        final var aCommands = List.of(CreateCastMemberCommand.with(" ", CastMemberType.ACTOR));
+
+        final var actualOutput = useCase.execute(aCommands);
+
+        Assertions.assertTrue(actualOutput.get(0).isLeft());
+        verify(castMemberGateway, times(0)).createAll(any());
+    }
+
+    @Test
+    public void givenAGatewayError_whenCallsCreateCastMembers_shouldReturnTheErrorForEachValidCommand() {
+        final var expectedErrorMessage = "Gateway error";
+        final var aCommands = List.of(
+                CreateCastMemberCommand.with("Actor", CastMemberType.ACTOR),
+                CreateCastMemberCommand.with("Director", CastMemberType.DIRECTOR));
+        when(castMemberGateway.createAll(any())).thenThrow(new IllegalStateException(expectedErrorMessage));
+
+        final var actualOutput = useCase.execute(aCommands);
+
+        Assertions.assertEquals(expectedErrorMessage, actualOutput.get(0).getLeft().firstError().message());
+        Assertions.assertEquals(expectedErrorMessage, actualOutput.get(1).getLeft().firstError().message());
+    }
+}
@@ -0,0 +1,41 @@
+package com.fullcycle.admin.catalog.application.castmember.retrieve.get;
+
+import com.fullcycle.admin.catalog.application.UseCaseTest;
+import com.fullcycle.admin.catalog.domain.castmeber.CastMember;
+import com.fullcycle.admin.catalog.domain.castmeber.CastMemberGateway;
+import com.fullcycle.admin.catalog.domain.castmeber.CastMemberId;
+import com.fullcycle.admin.catalog.domain.castmeber.CastMemberType;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+
+import java.util.List;
+
+public class GetCastMembersByIdsUseCaseTest extends UseCaseTest {
+    @InjectMocks
+    private DefaultGetCastMembersByIdsUseCase useCase;
+    @Mock
+    private CastMemberGateway castMemberGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(castMemberGateway);
+    }
+
+    @Test
+    public void givenValidAndMissingIds_whenCallsGetCastMembers_shouldReturnTheFoundOnesInASingleGatewayCall() {
+        final var actor = CastMember.newMember("Actor", CastMemberType.ACTOR);
+        final var director = CastMember.newMember("Director", CastMemberType.DIRECTOR);
+        final var expectedIds = List.of(director.getId(), CastMemberId.from("123"), actor.getId());
+        final var expectedOutput = List.of(CastMemberOutput.from(director), CastMemberOutput.from(actor));
+        Mockito.when(castMemberGateway.findAllById(Mockito.eq(expectedIds))).thenReturn(List.of(director, actor));
+
+        final var actualOutput = useCase.execute(expectedIds.stream().map(CastMemberId::getValue).toList());
+
+        Assertions.assertEquals(expectedOutput, actualOutput);
+        Mockito.verify(castMemberGateway, Mockito.times(1)).findAllById(Mockito.any());
+        Mockito.verify(castMemberGateway, Mockito.never()).findById(Mockito.any());
+    }
+}
@@ -3,7 +3,6 @@ package com.fullcycle.admin.catalog.application.castmember.retrieve.list;
 import com.fullcycle.admin.catalog.application.Fixture;
 import com.fullcycle.admin.catalog.application.UseCaseTest;
 import com.fullcycle.admin.catalog.domain.castmeber.CastMember;
-import com.fullcycle.admin.catalog.domain.castmeber.CastMemberGateway;
 import com.fullcycle.admin.catalog.domain.pagination.Pagination;
 import com.fullcycle.admin.catalog.domain.pagination.SearchQuery;
 import org.junit.jupiter.api.Assertions;
@@ -24,11 +23,11 @@ public class ListCastMemberUseCaseTest extends UseCaseTest {
     private DefaultListCastMemberUseCase useCase;
 
     @Mock
-    private CastMemberGateway castMemberGateway;
+    private CastMemberQueryGateway castMemberQueryGateway;
 
     @Override
     protected List<Object> getMocks() {
-        return List.of(castMemberGateway);
+        return List.of(castMemberQueryGateway);
     }
 
     @Test
@@ -47,7 +46,7 @@ public class ListCastMemberUseCaseTest extends UseCaseTest {
         final var expectedItems = members.stream().map(CastMemberListOutput::from).toList();
         final var expectedPagination = new Pagination<>(
                 expectedPage, expectedPerPage, expectedTotal, members);
-        when(castMemberGateway.findAll(any())).thenReturn(expectedPagination);
+        when(castMemberQueryGateway.list(any())).thenReturn(expectedPagination.map(CastMemberListOutput::from));
         final var aQuery = new SearchQuery(expectedPage, expectedPerPage, expectedTerms, expectedSort, expectedDirection);
         // when
         final var actualOutput = useCase.execute(aQuery);
@@ -56,7 +55,7 @@ public class ListCastMemberUseCaseTest extends UseCaseTest {
         Assertions.assertEquals(expectedPerPage, actualOutput.perPage());
         Assertions.assertEquals(expectedTotal, actualOutput.total());
         Assertions.assertEquals(expectedItems, actualOutput.items());
-        verify(castMemberGateway).findAll(eq(aQuery));
+        verify(castMemberQueryGateway).list(eq(aQuery));
     }
 
     @Test
@@ -72,7 +71,7 @@ public class ListCastMemberUseCaseTest extends UseCaseTest {
         final var expectedItems = List.<CastMemberListOutput>of();
         final var expectedPagination = new Pagination<>(
                 expectedPage, expectedPerPage, expectedTotal, members);
-        when(castMemberGateway.findAll(any())).thenReturn(expectedPagination);
+        when(castMemberQueryGateway.list(any())).thenReturn(expectedPagination.map(CastMemberListOutput::from));
         final var aQuery = new SearchQuery(expectedPage, expectedPerPage, expectedTerms, expectedSort, expectedDirection);
         // when
         final var actualOutput = useCase.execute(aQuery);
@@ -81,7 +80,7 @@ public class ListCastMemberUseCaseTest extends UseCaseTest {
         Assertions.assertEquals(expectedPerPage, actualOutput.perPage());
         Assertions.assertEquals(expectedTotal, actualOutput.total());
         Assertions.assertEquals(expectedItems, actualOutput.items());
-        verify(castMemberGateway).findAll(eq(aQuery));
+        verify(castMemberQueryGateway).list(eq(aQuery));
     }
 
     @Test
@@ -94,12 +93,12 @@ public class ListCastMemberUseCaseTest extends UseCaseTest {
         final var expectedDirection = "asc";
 
         final var expectedErrorMessage = "Gateway error";
-        when(castMemberGateway.findAll(any())).thenThrow(new IllegalStateException(expectedErrorMessage));
+        when(castMemberQueryGateway.list(any())).thenThrow(new IllegalStateException(expectedErrorMessage));
         final var aQuery = new SearchQuery(expectedPage, expectedPerPage, expectedTerms, expectedSort, expectedDirection);
         // when
         final var actualOutput = Assertions.assertThrows(IllegalStateException.class, ()->useCase.execute(aQuery));
         // then
         Assertions.assertEquals(expectedErrorMessage, actualOutput.getMessage());
-        verify(castMemberGateway).findAll(eq(aQuery));
+        verify(castMemberQueryGateway).list(eq(aQuery));
     }
 }
@@ -0,0 +1,81 @@
+package com.fullcycle.admin.catalog.application.category.create;
+
+import com.fullcycle.admin.catalog.application.UseCaseTest;
+import com.fullcycle.admin.catalog.domain.category.CategoryGateway;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.util.List;
+import java.util.Objects;
+
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+public class CreateCategoriesUseCaseTest extends UseCaseTest {
+
+    @InjectMocks
+    private DefaultCreateCategoriesUseCase useCase;
+    @Mock
+    private CategoryGateway gateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(gateway);
+    }
+
+    @Test
+    public void givenValidAndInvalidCommands_whenCallsCreateCategories_shouldCreateTheValidOnesInOneCall() {
+        final var expectedErrorMessage = "'name' should not be null";
+        final var aCommands = List.of(
+                CreateCategoryCommand.with("Filmes", "Categoria mais assistida", true),
+                CreateCategoryCommand.with(null, "Categoria mais assistida", true),
+                CreateCategoryCommand.with("Series", null, false));
+        when(gateway.createAll(any()))
+                .thenAnswer(returnsFirstArg());
+
+        final var actualOutput = useCase.execute(aCommands);
+
+        Assertions.assertEquals(3, actualOutput.size());
+        Assertions.assertTrue(actualOutput.get(0).isRight());
+        Assertions.assertNotNull(actualOutput.get(0).get().id());
+        Assertions.assertEquals(expectedErrorMessage, actualOutput.get(1).getLeft().firstError().message());
+        Assertions.assertTrue(actualOutput.get(2).isRight());
+        verify(gateway, times(1)).createAll(argThat(categories -> categories.size() == 2
+                && Objects.equals("Filmes", categories.get(0).getName())
+                && Objects.equals("Series", categories.get(1).getName())));
+        verify(gateway, times(0)).create(any());
+    }
+
+    @Test
+    public void givenOnlyInvalidCommands_whenCallsCreateCategories_shouldNotCallGateway() {
+        final var aCommands = List.of(CreateCategoryCommand.with(" ", null, true));
+
+        final var actualOutput = useCase.execute(aCommands);
+
+        Assertions.assertEquals(1, actualOutput.size());
+        Assertions.assertTrue(actualOutput.get(0).isLeft());
+        verify(gateway, times(0)).createAll(any());
+    }
+
+    @Test
+    public void givenAGatewayError_whenCallsCreateCategories_shouldReturnTheErrorForEachValidCommand() {
+        final var expectedErrorMessage = "Gateway error";
+        final var aCommands = List.of(
+                CreateCategoryCommand.with("Filmes", null, true),
+                CreateCategoryCommand.with(null, null, true),
+                CreateCategoryCommand.with("Series", null, true));
+        when(gateway.createAll(any()))
+                .thenThrow(new IllegalStateException(expectedErrorMessage));
+
+        final var actualOutput = useCase.execute(aCommands);
+
+        Assertions.assertEquals(expectedErrorMessage, actualOutput.get(0).getLeft().firstError().message());
+        Assertions.assertEquals("'name' should not be null", actualOutput.get(1).getLeft().firstError().message());
+        Assertions.assertEquals(expectedErrorMessage, actualOutput.get(2).getLeft().firstError().message());
+    }
+}
@@ -0,0 +1,77 @@
+package com.fullcycle.admin.catalog.application.category.exists;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+
+import com.fullcycle.admin.catalog.application.UseCaseTest;
+import com.fullcycle.admin.catalog.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalog.domain.category.CategoryID;
+
+public class CategoryExistenceServiceTest extends UseCaseTest {
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(categoryGateway);
+    }
+
+    @Test
+    public void givenMoreIdsThanAChunk_whenCallsMissing_shouldQueryEveryChunkAndReturnTheMissingInOrder() {
+        // given
+        final var ids = new ArrayList<CategoryID>();
+        for (int i = 0; i < 10; i++) {
+            ids.add(CategoryID.from(String.valueOf(i)));
+        }
+        final var expectedMissing = List.of(ids.get(2), ids.get(5), ids.get(9));
+        when(categoryGateway.existsById(any())).thenAnswer(invocation -> {
+            final List<CategoryID> chunk = invocation.getArgument(0);
+            return chunk.stream().filter(it -> !expectedMissing.contains(it)).toList();
+        });
+        final var executor = Executors.newFixedThreadPool(2);
+        final var service = new CategoryExistenceService(categoryGateway, executor, 4);
+        // when
+        final var actualMissing = service.missing(ids);
+        executor.shutdown();
+        // then
+        Assertions.assertEquals(expectedMissing, List.copyOf(actualMissing));
+        Mockito.verify(categoryGateway, times(1)).existsById(ids.subList(0, 4));
+        Mockito.verify(categoryGateway, times(1)).existsById(ids.subList(4, 8));
+        Mockito.verify(categoryGateway, times(1)).existsById(ids.subList(8, 10));
+    }
+
+    @Test
+    public void givenRepeatedIds_whenCallsValidate_shouldAskOnceAndReportEachMissingIdOnce() {
+        // given
+        final var filmes = CategoryID.from("1");
+        final var series = CategoryID.from("2");
+        final var expectedErrorMessage = "Some categories could not be found: 2";
+        when(categoryGateway.existsById(any())).thenReturn(List.of(filmes));
+        final var service = new CategoryExistenceService(categoryGateway);
+        // when
+        final var actualNotification = service.validate(List.of(filmes, series, filmes, series));
+        // then
+        Assertions.assertEquals(1, actualNotification.getErrors().size());
+        Assertions.assertEquals(expectedErrorMessage, actualNotification.getErrors().get(0).message());
+        Mockito.verify(categoryGateway, times(1)).existsById(List.of(filmes, series));
+    }
+
+    @Test
+    public void givenNoIds_whenCallsMissing_shouldNotQuery() {
+        final var service = new CategoryExistenceService(categoryGateway);
+
+        Assertions.assertEquals(Set.of(), service.missing(List.of()));
+        Mockito.verify(categoryGateway, times(0)).existsById(any());
+    }
+}
@@ -0,0 +1,41 @@
+package com.fullcycle.admin.catalog.application.category.retrive.get;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+
+import com.fullcycle.admin.catalog.application.UseCaseTest;
+import com.fullcycle.admin.catalog.domain.category.Category;
+import com.fullcycle.admin.catalog.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalog.domain.category.CategoryID;
+
+public class GetCategoriesByIdsUseCaseTest extends UseCaseTest {
+    @InjectMocks
+    private DefaultGetCategoriesByIdsUseCase useCase;
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(categoryGateway);
+    }
+
+    @Test
+    public void givenValidAndMissingIds_whenCallsGetCategories_shouldReturnTheFoundOnesInASingleGatewayCall() {
+        final var filmes = Category.newCategory("Filmes", "", true);
+        final var series = Category.newCategory("Series", "", true);
+        final var expectedIds = List.of(filmes.getId(), CategoryID.from("123"), series.getId());
+        final var expectedOutput = List.of(CategoryOutput.from(filmes), CategoryOutput.from(series));
+        Mockito.when(categoryGateway.findAllById(Mockito.eq(expectedIds))).thenReturn(List.of(filmes, series));
+
+        final var actualOutput = useCase.execute(expectedIds.stream().map(CategoryID::getValue).toList());
+
+        Assertions.assertEquals(expectedOutput, actualOutput);
+        Mockito.verify(categoryGateway, Mockito.times(1)).findAllById(Mockito.any());
+        Mockito.verify(categoryGateway, Mockito.never()).findById(Mockito.any());
+    }
+}
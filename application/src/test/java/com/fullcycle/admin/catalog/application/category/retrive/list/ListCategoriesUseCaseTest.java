@@ -12,7 +12,6 @@ import org.mockito.Mockito;
 
 import com.fullcycle.admin.catalog.application.UseCaseTest;
 import com.fullcycle.admin.catalog.domain.category.Category;
-import com.fullcycle.admin.catalog.domain.category.CategoryGateway;
 import com.fullcycle.admin.catalog.domain.pagination.SearchQuery;
 import com.fullcycle.admin.catalog.domain.pagination.Pagination;
 
@@ -20,11 +19,11 @@ public class ListCategoriesUseCaseTest extends UseCaseTest {
     @InjectMocks
     private DefaultListCategoriesUseCase useCase;
     @Mock
-    private CategoryGateway categoryGateway;
+    private CategoryQueryGateway categoryQueryGateway;
 
     @Override
     protected List<Object> getMocks() {
-        return List.of(categoryGateway);
+        return List.of(categoryQueryGateway);
     }
 
     @Test
@@ -42,7 +41,7 @@ public class ListCategoriesUseCaseTest extends UseCaseTest {
         final var expectedPagination = new Pagination<>(expectedPage, expectedPerPage, categories.size(), categories);
         final var expectedItemCount = 2;
         final var expectedResult = expectedPagination.map(CategoryListOutput::from);
-        Mockito.when(categoryGateway.findAll(eq(aQuery))).thenReturn(expectedPagination);
+        Mockito.when(categoryQueryGateway.list(eq(aQuery))).thenReturn(expectedResult);
         final var actualResult = useCase.execute(aQuery);
         Assertions.assertEquals(expectedItemCount, actualResult.items().size());
         Assertions.assertEquals(expectedResult, actualResult);
@@ -63,7 +62,7 @@ public class ListCategoriesUseCaseTest extends UseCaseTest {
         final var expectedPagination = new Pagination<>(expectedPage, expectedPerPage, categories.size(), categories);
         final var expectedItemCount = 0;
         final var expectedResult = expectedPagination.map(CategoryListOutput::from);
-        Mockito.when(categoryGateway.findAll(eq(aQuery))).thenReturn(expectedPagination);
+        Mockito.when(categoryQueryGateway.list(eq(aQuery))).thenReturn(expectedResult);
         final var actualResult = useCase.execute(aQuery);
         Assertions.assertEquals(expectedItemCount, actualResult.items().size());
         Assertions.assertEquals(expectedResult, actualResult);
@@ -82,7 +81,7 @@ public class ListCategoriesUseCaseTest extends UseCaseTest {
         final var aQuery = new SearchQuery(expectedPage, expectedPerPage, expectedTerms, expectedSort,
                 expectedDirection);
 
-        Mockito.when(categoryGateway.findAll(eq(aQuery))).thenThrow(new IllegalStateException(expectedErrorMessage));
+        Mockito.when(categoryQueryGateway.list(eq(aQuery))).thenThrow(new IllegalStateException(expectedErrorMessage));
         final var actualException = Assertions.assertThrows(IllegalStateException.class, () -> useCase.execute(aQuery));
         Assertions.assertEquals(expectedErrorMessage, actualException.getMessage());
     }
@@ -1,13 +1,14 @@
 package com.fullcycle.admin.catalog.application.genre.create;
 
 import com.fullcycle.admin.catalog.application.UseCaseTest;
+import com.fullcycle.admin.catalog.application.category.exists.CategoryExistenceService;
 import com.fullcycle.admin.catalog.domain.category.CategoryGateway;
 import com.fullcycle.admin.catalog.domain.category.CategoryID;
 import com.fullcycle.admin.catalog.domain.exceptions.NotificationException;
 import com.fullcycle.admin.catalog.domain.genre.GenreGateway;
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 
@@ -20,13 +21,17 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.when;
 
 public class CreateGenreUseCaseTest extends UseCaseTest {
-        @InjectMocks
         private DefaultCreateGenreUseCase useCase;
         @Mock
         private CategoryGateway categoryGateway;
         @Mock
         private GenreGateway genreGateway;
 
+        @BeforeEach
+        void setUp() {
+                useCase = new DefaultCreateGenreUseCase(new CategoryExistenceService(categoryGateway), genreGateway);
+        }
+
         @Override
         protected List<Object> getMocks() {
                 return List.of(categoryGateway, genreGateway);
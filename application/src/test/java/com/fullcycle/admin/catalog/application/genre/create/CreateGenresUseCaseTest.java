@@ -0,0 +1,85 @@
+package com.fullcycle.admin.catalog.application.genre.create;
+
+import com.fullcycle.admin.catalog.application.UseCaseTest;
+import com.fullcycle.admin.catalog.application.category.exists.CategoryExistenceService;
+import com.fullcycle.admin.catalog.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalog.domain.category.CategoryID;
+import com.fullcycle.admin.catalog.domain.genre.GenreGateway;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+
+import java.util.List;
+import java.util.Objects;
+
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+public class CreateGenresUseCaseTest extends UseCaseTest {
+    private DefaultCreateGenresUseCase useCase;
+    @Mock
+    private CategoryGateway categoryGateway;
+    @Mock
+    private GenreGateway genreGateway;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new DefaultCreateGenresUseCase(new CategoryExistenceService(categoryGateway), genreGateway);
+    }
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(categoryGateway, genreGateway);
+    }
+
+    @Test
+    public void givenCommandsWithMissingCategories_whenCallsCreateGenres_shouldRejectThemAndCreateTheOthersInOneCall() {
+        final var filmes = CategoryID.from("123");
+        final var series = CategoryID.from("456");
+        final var aCommands = List.of(
+                CreateGenreCommand.with("Ação", true, List.of("123")),
+                CreateGenreCommand.with("Drama", true, List.of("123", "456")),
+                CreateGenreCommand.with(null, true, List.of("456")),
+                CreateGenreCommand.with("Terror", false, null));
+        when(categoryGateway.existsById(any())).thenReturn(List.of(filmes));
+        when(genreGateway.createAll(any())).thenAnswer(returnsFirstArg());
+
+        final var actualOutput = useCase.execute(aCommands);
+
+        Assertions.assertEquals(4, actualOutput.size());
+        Assertions.assertTrue(actualOutput.get(0).isRight());
+        Assertions.assertEquals("Some categories could not be found: 456",
+                actualOutput.get(1).getLeft().firstError().message());
+        Assertions.assertEquals(List.of("Some categories could not be found: 456", "'name' should not be null"),
+                actualOutput.get(2).getLeft().getErrors().stream().map(it -> it.message()).toList());
+        Assertions.assertTrue(actualOutput.get(3).isRight());
+        // a single lookup for the categories of every command
+        verify(categoryGateway, times(1)).existsById(argThat(ids -> ids.equals(List.of(filmes, series))));
+        verify(genreGateway, times(1)).createAll(argThat(genres -> genres.size() == 2
+                && Objects.equals("Ação", genres.get(0).getName())
+                && Objects.equals(List.of(filmes), genres.get(0).getCategories())
+                && Objects.equals("Terror", genres.get(1).getName())
+                && genres.get(1).getCategories().isEmpty()));
+        verify(genreGateway, times(0)).create(any());
+    }
+
+    @Test
+    public void givenAGatewayError_whenCallsCreateGenres_shouldReturnTheErrorForEachValidCommand() {
+        final var expectedErrorMessage = "Gateway error";
+        final var aCommands = List.of(
+                CreateGenreCommand.with("Ação", true, List.of()),
+                CreateGenreCommand.with(" ", true, List.of()),
+                CreateGenreCommand.with("Drama", true, List.of()));
+        when(genreGateway.createAll(any())).thenThrow(new IllegalStateException(expectedErrorMessage));
+
+        final var actualOutput = useCase.execute(aCommands);
+
+        Assertions.assertEquals(expectedErrorMessage, actualOutput.get(0).getLeft().firstError().message());
+        Assertions.assertEquals("'name' should not be empty", actualOutput.get(1).getLeft().firstError().message());
+        Assertions.assertEquals(expectedErrorMessage, actualOutput.get(2).getLeft().firstError().message());
+        verify(categoryGateway, times(0)).existsById(any());
+    }
+}
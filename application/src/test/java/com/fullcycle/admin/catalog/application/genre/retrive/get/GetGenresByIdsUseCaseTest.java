@@ -0,0 +1,49 @@
+package com.fullcycle.admin.catalog.application.genre.retrive.get;
+
+import com.fullcycle.admin.catalog.application.UseCaseTest;
+import com.fullcycle.admin.catalog.domain.category.CategoryID;
+import com.fullcycle.admin.catalog.domain.genre.Genre;
+import com.fullcycle.admin.catalog.domain.genre.GenreGateway;
+import com.fullcycle.admin.catalog.domain.genre.GenreID;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+
+import java.util.List;
+
+public class GetGenresByIdsUseCaseTest extends UseCaseTest {
+    @InjectMocks
+    private DefaultGetGenresByIdsUseCase useCase;
+    @Mock
+    private GenreGateway genreGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(genreGateway);
+    }
+
+    @Test
+    public void givenValidAndMissingIds_whenCallsGetGenres_shouldReturnTheFoundOnesInASingleGatewayCall() {
+        final var acao = Genre.newGenre("Ação", true).addCategories(List.of(CategoryID.from("123")));
+        final var drama = Genre.newGenre("Drama", false);
+        final var expectedIds = List.of(drama.getId(), GenreID.from("456"), acao.getId());
+        final var expectedOutput = List.of(GenreOutput.from(drama), GenreOutput.from(acao));
+        Mockito.when(genreGateway.findAllById(Mockito.eq(expectedIds))).thenReturn(List.of(drama, acao));
+
+        final var actualOutput = useCase.execute(expectedIds.stream().map(GenreID::getValue).toList());
+
+        Assertions.assertEquals(expectedOutput, actualOutput);
+        Assertions.assertEquals(List.of("123"), actualOutput.get(1).categories());
+        Mockito.verify(genreGateway, Mockito.times(1)).findAllById(Mockito.any());
+        Mockito.verify(genreGateway, Mockito.never()).findById(Mockito.any());
+    }
+
+    @Test
+    public void givenNoIds_whenCallsGetGenres_shouldReturnAnEmptyList() {
+        Mockito.when(genreGateway.findAllById(Mockito.eq(List.of()))).thenReturn(List.of());
+
+        Assertions.assertTrue(useCase.execute(List.of()).isEmpty());
+    }
+}
@@ -14,7 +14,6 @@ import org.mockito.Mockito;
 
 import com.fullcycle.admin.catalog.application.UseCaseTest;
 import com.fullcycle.admin.catalog.domain.genre.Genre;
-import com.fullcycle.admin.catalog.domain.genre.GenreGateway;
 import com.fullcycle.admin.catalog.domain.pagination.Pagination;
 import com.fullcycle.admin.catalog.domain.pagination.SearchQuery;
 
@@ -22,11 +21,11 @@ public class ListGenreUseCaseTest extends UseCaseTest {
     @InjectMocks
     private DefaultListGenreUseCase useCase;
     @Mock
-    private GenreGateway genreGateway;
+    private GenreQueryGateway genreQueryGateway;
 
     @Override
     protected List<Object> getMocks() {
-        return List.of(genreGateway);
+        return List.of(genreQueryGateway);
     }
 
     @Test
@@ -44,7 +43,7 @@ public class ListGenreUseCaseTest extends UseCaseTest {
         final var expectedTotal = 3;
         final var expectedItems = genres.stream().map(GenreListOutput::from).toList();
         final var expectedPagination = new Pagination<>(expectedPage, exptectedPerPage, expectedTotal, genres);
-        Mockito.when(genreGateway.findAll(any())).thenReturn(expectedPagination);
+        Mockito.when(genreQueryGateway.list(any(), eq(true))).thenReturn(expectedPagination.map(GenreListOutput::from));
         final var aQuery = new SearchQuery(expectedPage, exptectedPerPage, exptectedTerms, expectedSort,
                 expectedDirection);
         // when
@@ -54,7 +53,7 @@ public class ListGenreUseCaseTest extends UseCaseTest {
         Assertions.assertEquals(exptectedPerPage, actualOutput.perPage());
         Assertions.assertEquals(expectedTotal, actualOutput.total());
         Assertions.assertEquals(expectedItems, actualOutput.items());
-        Mockito.verify(genreGateway, times(1)).findAll(eq(aQuery));
+        Mockito.verify(genreQueryGateway, times(1)).list(eq(aQuery), eq(true));
     }
 
     @Test
@@ -69,7 +68,7 @@ public class ListGenreUseCaseTest extends UseCaseTest {
         final var expectedTotal = 0;
         final var expectedItems = List.<GenreListOutput>of();
         final var expectedPagination = new Pagination<>(expectedPage, exptectedPerPage, expectedTotal, genres);
-        Mockito.when(genreGateway.findAll(any())).thenReturn(expectedPagination);
+        Mockito.when(genreQueryGateway.list(any(), eq(true))).thenReturn(expectedPagination.map(GenreListOutput::from));
         final var aQuery = new SearchQuery(expectedPage, exptectedPerPage, exptectedTerms, expectedSort,
                 expectedDirection);
         // when
@@ -79,7 +78,7 @@ public class ListGenreUseCaseTest extends UseCaseTest {
         Assertions.assertEquals(exptectedPerPage, actualOutput.perPage());
         Assertions.assertEquals(expectedTotal, actualOutput.total());
         Assertions.assertEquals(expectedItems, actualOutput.items());
-        Mockito.verify(genreGateway, times(1)).findAll(eq(aQuery));
+        Mockito.verify(genreQueryGateway, times(1)).list(eq(aQuery), eq(true));
     }
 
     @Test
@@ -91,14 +90,28 @@ public class ListGenreUseCaseTest extends UseCaseTest {
         final var expectedSort = "createdAt";
         final var expectedDirection = "asc";
         final var errorMessage = "Gateway error";
-        Mockito.when(genreGateway.findAll(any())).thenThrow(new IllegalStateException(errorMessage));
+        Mockito.when(genreQueryGateway.list(any(), eq(true))).thenThrow(new IllegalStateException(errorMessage));
         final var aQuery = new SearchQuery(expectedPage, exptectedPerPage, exptectedTerms, expectedSort,
                 expectedDirection);
         // when
         final var actualOutput = Assertions.assertThrows(IllegalStateException.class, () -> useCase.execute(aQuery));
         // then
         Assertions.assertEquals(errorMessage, actualOutput.getMessage());
-        Mockito.verify(genreGateway, times(1)).findAll(eq(aQuery));
+        Mockito.verify(genreQueryGateway, times(1)).list(eq(aQuery), eq(true));
     }
 
+    @Test
+    public void givenWithoutCategories_whenCallsListGenre_shouldNotAskForCategories() {
+        // given
+        final var genres = List.of(Genre.newGenre("Ação", true));
+        final var aQuery = new SearchQuery(0, 10, "", "name", "asc");
+        Mockito.when(genreQueryGateway.list(any(), eq(false)))
+                .thenReturn(new Pagination<>(0, 10, 1, genres).map(GenreListOutput::withoutCategories));
+        // when
+        final var actualOutput = useCase.execute(aQuery, false);
+        // then
+        Assertions.assertEquals(1, actualOutput.items().size());
+        Assertions.assertNull(actualOutput.items().get(0).categories());
+        Mockito.verify(genreQueryGateway, times(1)).list(eq(aQuery), eq(false));
+    }
 }
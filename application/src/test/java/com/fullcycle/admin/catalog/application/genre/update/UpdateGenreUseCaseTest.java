@@ -8,13 +8,14 @@ import java.util.Objects;
 import java.util.Optional;
 
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.AdditionalAnswers;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 
 import com.fullcycle.admin.catalog.application.UseCaseTest;
+import com.fullcycle.admin.catalog.application.category.exists.CategoryExistenceService;
 import com.fullcycle.admin.catalog.domain.category.CategoryGateway;
 import com.fullcycle.admin.catalog.domain.category.CategoryID;
 import com.fullcycle.admin.catalog.domain.exceptions.NotificationException;
@@ -22,13 +23,17 @@ import com.fullcycle.admin.catalog.domain.genre.Genre;
 import com.fullcycle.admin.catalog.domain.genre.GenreGateway;
 
 public class UpdateGenreUseCaseTest extends UseCaseTest {
-        @InjectMocks
         private DefaultUpdateGenreUseCase useCase;
         @Mock
         private CategoryGateway categoryGateway;
         @Mock
         private GenreGateway genreGateway;
 
+        @BeforeEach
+        void setUp() {
+                useCase = new DefaultUpdateGenreUseCase(new CategoryExistenceService(categoryGateway), genreGateway);
+        }
+
         @Override
         protected List<Object> getMocks() {
                 return List.of(categoryGateway, genreGateway);
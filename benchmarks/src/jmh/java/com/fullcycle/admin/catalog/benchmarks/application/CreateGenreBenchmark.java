@@ -0,0 +1,182 @@
+package com.fullcycle.admin.catalog.benchmarks.application;
+
+import com.fullcycle.admin.catalog.application.category.exists.CategoryExistenceService;
+import com.fullcycle.admin.catalog.application.genre.create.CreateGenreCommand;
+import com.fullcycle.admin.catalog.application.genre.create.CreateGenreOutput;
+import com.fullcycle.admin.catalog.application.genre.create.DefaultCreateGenreUseCase;
+import com.fullcycle.admin.catalog.domain.category.Category;
+import com.fullcycle.admin.catalog.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalog.domain.category.CategoryID;
+import com.fullcycle.admin.catalog.domain.exceptions.NotificationException;
+import com.fullcycle.admin.catalog.domain.genre.Genre;
+import com.fullcycle.admin.catalog.domain.genre.GenreGateway;
+import com.fullcycle.admin.catalog.domain.genre.GenreID;
+import com.fullcycle.admin.catalog.domain.pagination.Pagination;
+import com.fullcycle.admin.catalog.domain.pagination.SearchQuery;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+// validateCategories is private, so it is measured through execute with in-memory gateways
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CreateGenreBenchmark {
+
+    @Param({"10", "1000", "10000"})
+    private int categories;
+
+    private DefaultCreateGenreUseCase useCase;
+    private CreateGenreCommand allFound;
+    private CreateGenreCommand someMissing;
+
+    @Setup
+    public void setUp() {
+        final var existing = new HashMap<CategoryID, Category>();
+        final var ids = new ArrayList<String>(categories);
+        for (int i = 0; i < categories; i++) {
+            final var aCategory = Category.newCategory("Category " + i, null, true);
+            existing.put(aCategory.getId(), aCategory);
+            ids.add(aCategory.getId().getValue());
+        }
+        final var withMissing = new ArrayList<>(ids);
+        for (int i = 0; i < withMissing.size(); i += 10) {
+            withMissing.set(i, CategoryID.unique().getValue());
+        }
+        useCase = new DefaultCreateGenreUseCase(
+                new CategoryExistenceService(new InMemoryCategoryGateway(existing)), new InMemoryGenreGateway());
+        allFound = CreateGenreCommand.with("Ação", true, ids);
+        someMissing = CreateGenreCommand.with("Ação", true, withMissing);
+    }
+
+    @Benchmark
+    public CreateGenreOutput allCategoriesFound() {
+        return useCase.execute(allFound);
+    }
+
+    @Benchmark
+    public NotificationException everyTenthCategoryMissing() {
+        try {
+            useCase.execute(someMissing);
+            throw new IllegalStateException("expected the missing categories to be reported");
+        } catch (final NotificationException ex) {
+            return ex;
+        }
+    }
+
+    private record InMemoryCategoryGateway(Map<CategoryID, Category> store) implements CategoryGateway {
+
+        @Override
+        public List<CategoryID> existsById(final Iterable<CategoryID> ids) {
+            final var found = new ArrayList<CategoryID>();
+            ids.forEach(anId -> {
+                if (store.containsKey(anId)) {
+                    found.add(anId);
+                }
+            });
+            return found;
+        }
+
+        @Override
+        public Category create(final Category aCategory) {
+            store.put(aCategory.getId(), aCategory);
+            return aCategory;
+        }
+
+        @Override
+        public List<Category> createAll(final List<Category> aCategories) {
+            aCategories.forEach(this::create);
+            return aCategories;
+        }
+
+        @Override
+        public void deleteById(final CategoryID anId) {
+            store.remove(anId);
+        }
+
+        @Override
+        public Optional<Category> findById(final CategoryID anId) {
+            return Optional.ofNullable(store.get(anId));
+        }
+
+        @Override
+        public Optional<Instant> findUpdatedAtById(final CategoryID anId) {
+            return findById(anId).map(Category::getUpdatedAt);
+        }
+
+        @Override
+        public List<Category> findAllById(final Collection<CategoryID> ids) {
+            return ids.stream().distinct().map(store::get).filter(Objects::nonNull).toList();
+        }
+
+        @Override
+        public Category update(final Category anCategory) {
+            return create(anCategory);
+        }
+
+        @Override
+        public Pagination<Category> findAll(final SearchQuery aQuery) {
+            return page(aQuery, List.copyOf(store.values()));
+        }
+    }
+
+    // the created genres are not kept, a run creates millions of them, so every read finds nothing
+    private record InMemoryGenreGateway() implements GenreGateway {
+
+        @Override
+        public Genre create(final Genre aGenre) {
+            return aGenre;
+        }
+
+        @Override
+        public List<Genre> createAll(final List<Genre> aGenres) {
+            return aGenres;
+        }
+
+        @Override
+        public void deleteById(final GenreID anId) {
+        }
+
+        @Override
+        public Optional<Genre> findById(final GenreID anID) {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<Instant> findUpdatedAtById(final GenreID anID) {
+            return Optional.empty();
+        }
+
+        @Override
+        public List<Genre> findAllById(final Collection<GenreID> ids) {
+            return List.of();
+        }
+
+        @Override
+        public Genre update(final Genre genre) {
+            return genre;
+        }
+
+        @Override
+        public Pagination<Genre> findAll(final SearchQuery aQuery) {
+            return page(aQuery, List.of());
+        }
+    }
+
+    private static <T> Pagination<T> page(final SearchQuery aQuery, final List<T> items) {
+        final var from = Math.min(items.size(), aQuery.page() * aQuery.perPage());
+        final var to = Math.min(items.size(), from + aQuery.perPage());
+        return new Pagination<>(aQuery.page(), aQuery.perPage(), items.size(), items.subList(from, to));
+    }
+}
@@ -0,0 +1,52 @@
+package com.fullcycle.admin.catalog.benchmarks.domain;
+
+import com.fullcycle.admin.catalog.domain.category.Category;
+import com.fullcycle.admin.catalog.domain.validation.handler.Notification;
+import com.fullcycle.admin.catalog.domain.validation.handler.ThrowsValidationHandler;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CategoryBenchmark {
+
+    private Category validCategory;
+    private Category invalidCategory;
+
+    @Setup
+    public void setUp() {
+        validCategory = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        invalidCategory = Category.newCategory(" ", "A categoria mais assistida", true);
+    }
+
+    @Benchmark
+    public Category newCategory() {
+        return Category.newCategory("Filmes", "A categoria mais assistida", true);
+    }
+
+    @Benchmark
+    public Category newCategoryAndValidate() {
+        final var aCategory = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        aCategory.validate(new ThrowsValidationHandler());
+        return aCategory;
+    }
+
+    @Benchmark
+    public Notification validateValidIntoNotification() {
+        final var notification = Notification.create();
+        validCategory.validate(notification);
+        return notification;
+    }
+
+    @Benchmark
+    public Notification validateInvalidIntoNotification() {
+        final var notification = Notification.create();
+        invalidCategory.validate(notification);
+        return notification;
+    }
+}
@@ -0,0 +1,49 @@
+package com.fullcycle.admin.catalog.benchmarks.domain;
+
+import com.fullcycle.admin.catalog.domain.category.CategoryID;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CategoryIDBenchmark {
+
+    private static final int IDS = 1_000;
+
+    private String aValue;
+    private CategoryID anId;
+    private Set<CategoryID> ids;
+
+    @Setup
+    public void setUp() {
+        anId = CategoryID.unique();
+        aValue = anId.getValue();
+        ids = new HashSet<>();
+        for (int i = 0; i < IDS; i++) {
+            ids.add(CategoryID.unique());
+        }
+        ids.add(anId);
+    }
+
+    @Benchmark
+    public CategoryID from() {
+        return CategoryID.from(aValue);
+    }
+
+    @Benchmark
+    public int hashCodeOfId() {
+        return anId.hashCode();
+    }
+
+    @Benchmark
+    public boolean containsInHashSet() {
+        return ids.contains(CategoryID.from(aValue));
+    }
+}
@@ -0,0 +1,61 @@
+package com.fullcycle.admin.catalog.benchmarks.domain;
+
+import com.fullcycle.admin.catalog.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalog.domain.validation.Error;
+import com.fullcycle.admin.catalog.domain.validation.handler.Notification;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class NotificationBenchmark {
+
+    @Param({"1", "10", "100"})
+    private int errors;
+
+    private Error anError;
+    private Notification anotherNotification;
+
+    @Setup
+    public void setUp() {
+        anError = new Error("'name' should not be null");
+        anotherNotification = Notification.create();
+        for (int i = 0; i < errors; i++) {
+            anotherNotification.append(anError);
+        }
+    }
+
+    @Benchmark
+    public Notification appendErrors() {
+        final var notification = Notification.create();
+        for (int i = 0; i < errors; i++) {
+            notification.append(anError);
+        }
+        return notification;
+    }
+
+    @Benchmark
+    public Notification appendHandler() {
+        return Notification.create().append(anotherNotification);
+    }
+
+    @Benchmark
+    public String validatePassing() {
+        return Notification.create().validate(() -> "ok");
+    }
+
+    // the path the use cases hit on every invalid command: the exception is caught and its errors copied
+    @Benchmark
+    public Notification validateThrowingDomainException() {
+        final var notification = Notification.create();
+        notification.validate(() -> {
+            throw DomainException.with(anError);
+        });
+        return notification;
+    }
+}
@@ -0,0 +1,73 @@
+package com.fullcycle.admin.catalog.benchmarks.genre;
+
+import com.fullcycle.admin.catalog.domain.category.CategoryID;
+import com.fullcycle.admin.catalog.domain.genre.Genre;
+import com.fullcycle.admin.catalog.domain.genre.GenreID;
+import com.fullcycle.admin.catalog.infrastructure.genre.persistence.GenreJpaEntity;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GenreRehydrationBenchmark {
+
+    private static final int ROWS = 10_000;
+    private static final int CATEGORIES_PER_GENRE = 3;
+
+    private List<Genre> aggregates;
+    private List<GenreJpaEntity> page;
+
+    @Setup
+    public void setUp() {
+        aggregates = new ArrayList<>(ROWS);
+        page = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            final var aGenre = Genre.newGenre("Genre " + i, i % 10 != 0);
+            for (int c = 0; c < CATEGORIES_PER_GENRE; c++) {
+                aGenre.addCategory(CategoryID.unique());
+            }
+            aggregates.add(aGenre);
+            page.add(GenreJpaEntity.from(aGenre));
+        }
+    }
+
+    // what toAggregate did before: every row goes through the constructor validation
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void validatingWith(final Blackhole blackhole) {
+        for (final var anEntity : page) {
+            blackhole.consume(Genre.with(
+                    GenreID.from(anEntity.getId()),
+                    anEntity.getName(),
+                    anEntity.isActive(),
+                    anEntity.getCategoryIDS(),
+                    anEntity.getCreatedAt(),
+                    anEntity.getUpdatedAt(),
+                    anEntity.getDeletedAt()));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void trustedToAggregate(final Blackhole blackhole) {
+        for (final var anEntity : page) {
+            blackhole.consume(anEntity.toAggregate());
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void jpaEntityFrom(final Blackhole blackhole) {
+        for (final var aGenre : aggregates) {
+            blackhole.consume(GenreJpaEntity.from(aGenre));
+        }
+    }
+}
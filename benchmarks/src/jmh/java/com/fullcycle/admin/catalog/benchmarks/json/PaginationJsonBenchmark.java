@@ -0,0 +1,60 @@
+package com.fullcycle.admin.catalog.benchmarks.json;
+
+import com.fullcycle.admin.catalog.application.category.retrive.list.CategoryListOutput;
+import com.fullcycle.admin.catalog.application.genre.retrive.list.GenreListOutput;
+import com.fullcycle.admin.catalog.domain.category.Category;
+import com.fullcycle.admin.catalog.domain.category.CategoryID;
+import com.fullcycle.admin.catalog.domain.genre.Genre;
+import com.fullcycle.admin.catalog.domain.pagination.Pagination;
+import com.fullcycle.admin.catalog.infrastructure.category.models.CategoryListResponse;
+import com.fullcycle.admin.catalog.infrastructure.category.presenters.CategoryApiPresenter;
+import com.fullcycle.admin.catalog.infrastructure.configuration.json.Json;
+import com.fullcycle.admin.catalog.infrastructure.genre.models.GenreListResponse;
+import com.fullcycle.admin.catalog.infrastructure.genre.presenters.GenreApiPresenter;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PaginationJsonBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int perPage;
+
+    private Pagination<CategoryListResponse> categoriesPage;
+    private Pagination<GenreListResponse> genresPage;
+
+    // the same records the list endpoints hand to Jackson, built through the API presenters
+    @Setup
+    public void setUp() {
+        final var categories = new ArrayList<CategoryListOutput>(perPage);
+        final var genres = new ArrayList<GenreListOutput>(perPage);
+        for (int i = 0; i < perPage; i++) {
+            categories.add(CategoryListOutput.from(Category.newCategory("Category " + i, "Description " + i, true)));
+            final var aGenre = Genre.newGenre("Genre " + i, true);
+            aGenre.addCategory(CategoryID.unique());
+            aGenre.addCategory(CategoryID.unique());
+            genres.add(GenreListOutput.from(aGenre));
+        }
+        categoriesPage = new Pagination<>(0, perPage, perPage * 10L, categories, "next-cursor")
+                .map(CategoryApiPresenter::present);
+        genresPage = new Pagination<>(0, perPage, perPage * 10L, genres, "next-cursor")
+                .map(GenreApiPresenter::present);
+    }
+
+    @Benchmark
+    public String categoriesPage() {
+        return Json.writeValueAsString(categoriesPage);
+    }
+
+    @Benchmark
+    public String genresPage() {
+        return Json.writeValueAsString(genresPage);
+    }
+}
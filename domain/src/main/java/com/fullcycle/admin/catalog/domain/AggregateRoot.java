@@ -1,7 +1,40 @@
 package com.fullcycle.admin.catalog.domain;
 
+import com.fullcycle.admin.catalog.domain.events.DomainEvent;
+import com.fullcycle.admin.catalog.domain.events.DomainEventPublisher;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
 public abstract class AggregateRoot<ID extends Identifier> extends Entity<ID> {
+    private List<DomainEvent> domainEvents = new ArrayList<>();
+
     protected AggregateRoot(final ID id){
         super(id);
     }
+
+    protected void registerEvent(final DomainEvent event) {
+        this.domainEvents.add(Objects.requireNonNull(event));
+    }
+
+    // Object.clone copies the reference, a clone calls this so each copy records and publishes its own events
+    protected void copyDomainEvents() {
+        this.domainEvents = new ArrayList<>(this.domainEvents);
+    }
+
+    public List<DomainEvent> getDomainEvents() {
+        return Collections.unmodifiableList(this.domainEvents);
+    }
+
+    // hands the recorded events over once: a second call publishes nothing
+    public void publishDomainEvents(final DomainEventPublisher publisher) {
+        if (publisher == null || this.domainEvents.isEmpty()) {
+            return;
+        }
+        final var events = List.copyOf(this.domainEvents);
+        this.domainEvents.clear();
+        events.forEach(publisher::publishEvent);
+    }
 }
@@ -20,19 +20,34 @@ public class CastMember extends AggregateRoot<CastMemberId> {
             final CastMemberType aType,
             final Instant aCreationDate,
             final Instant anUpdateDate
+    ){
+        this(anId, aName, aType, aCreationDate, anUpdateDate, true);
+    }
+
+    private CastMember(
+            final CastMemberId anId,
+            final String aName,
+            final CastMemberType aType,
+            final Instant aCreationDate,
+            final Instant anUpdateDate,
+            final boolean shouldValidate
     ){
         super(anId);
         this.name = aName;
         this.type = aType;
         this.createdAt = aCreationDate;
         this.updatedAt = anUpdateDate;
-        selfValidate();
+        if (shouldValidate) {
+            selfValidate();
+        }
     }
 
     public static CastMember newMember(final String aName, final CastMemberType aType) {
         final var anId = CastMemberId.unique();
         final var now = InstantUtils.now();
-        return new CastMember(anId, aName, aType, now, now);
+        final var aMember = new CastMember(anId, aName, aType, now, now);
+        aMember.registerEvent(CastMemberChanged.created(anId));
+        return aMember;
     }
 
     public static CastMember with(
@@ -48,7 +63,18 @@ public class CastMember extends AggregateRoot<CastMemberId> {
     public static CastMember with(
             final CastMember aCastMember
     ) {
-        return new CastMember(aCastMember.id, aCastMember.name, aCastMember.type, aCastMember.createdAt, aCastMember.updatedAt);
+        return new CastMember(aCastMember.id, aCastMember.name, aCastMember.type, aCastMember.createdAt, aCastMember.updatedAt, false);
+    }
+
+    // trusted path for rows read back from the database, they were validated when written
+    public static CastMember restore(
+            final CastMemberId anId,
+            final String aName,
+            final CastMemberType aType,
+            final Instant aCreationDate,
+            final Instant anUpdateDate
+    ) {
+        return new CastMember(anId, aName, aType, aCreationDate, anUpdateDate, false);
     }
 
     public CastMember update(final String aName, final CastMemberType aType) {
@@ -56,6 +82,7 @@ public class CastMember extends AggregateRoot<CastMemberId> {
         this.type = aType;
         this.updatedAt = InstantUtils.now();
         selfValidate();
+        registerEvent(CastMemberChanged.updated(getId()));
         return this;
     }
 
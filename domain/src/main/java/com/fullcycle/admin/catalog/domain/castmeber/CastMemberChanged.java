@@ -0,0 +1,22 @@
+package com.fullcycle.admin.catalog.domain.castmeber;
+
+import com.fullcycle.admin.catalog.domain.events.ChangeType;
+import com.fullcycle.admin.catalog.domain.events.DomainEvent;
+import com.fullcycle.admin.catalog.domain.utils.InstantUtils;
+
+import java.time.Instant;
+
+public record CastMemberChanged(String aggregateId, ChangeType change, Instant occurredOn) implements DomainEvent {
+
+    public static CastMemberChanged created(final CastMemberId anId) {
+        return new CastMemberChanged(anId.getValue(), ChangeType.CREATED, InstantUtils.now());
+    }
+
+    public static CastMemberChanged updated(final CastMemberId anId) {
+        return new CastMemberChanged(anId.getValue(), ChangeType.UPDATED, InstantUtils.now());
+    }
+
+    public static CastMemberChanged deleted(final CastMemberId anId) {
+        return new CastMemberChanged(anId.getValue(), ChangeType.DELETED, InstantUtils.now());
+    }
+}
@@ -3,12 +3,18 @@ package com.fullcycle.admin.catalog.domain.castmeber;
 import com.fullcycle.admin.catalog.domain.pagination.Pagination;
 import com.fullcycle.admin.catalog.domain.pagination.SearchQuery;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface CastMemberGateway {
     CastMember create(CastMember aCastMember);
+    List<CastMember> createAll(List<CastMember> aMembers);
     void deleteById(CastMemberId anId);
     Optional<CastMember> findById(CastMemberId anID);
+    Optional<Instant> findUpdatedAtById(CastMemberId anID);
+    List<CastMember> findAllById(Collection<CastMemberId> ids);
     CastMember update(CastMember genre);
     Pagination<CastMember> findAll(SearchQuery aQuery);
 }
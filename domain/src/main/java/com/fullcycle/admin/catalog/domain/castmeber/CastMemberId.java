@@ -1,6 +1,7 @@
 package com.fullcycle.admin.catalog.domain.castmeber;
 
 import com.fullcycle.admin.catalog.domain.Identifier;
+import com.fullcycle.admin.catalog.domain.utils.IdUtils;
 import com.fullcycle.admin.catalog.domain.category.CategoryID;
 
 import java.util.Objects;
@@ -14,7 +15,7 @@ public class CastMemberId extends Identifier {
         this.value = anId;
     }
     public static CastMemberId unique(){
-        return CastMemberId.from(UUID.randomUUID());
+        return CastMemberId.from(IdUtils.uuid());
     }
     public static CastMemberId from(final String anId) {
         return new CastMemberId(anId);
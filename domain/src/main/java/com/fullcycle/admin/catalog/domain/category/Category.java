@@ -35,7 +35,9 @@ public class Category extends AggregateRoot<CategoryID> implements Cloneable {
         final var id = CategoryID.unique();
         final var now = InstantUtils.now();
         final var deletedAd = isActive ? null : now;
-        return new Category(id, aName, aDescription, isActive, now, now, deletedAd);
+        final var aCategory = new Category(id, aName, aDescription, isActive, now, now, deletedAd);
+        aCategory.registerEvent(CategoryChanged.created(id));
+        return aCategory;
     }
 
     public Category deactivate() {
@@ -96,6 +98,7 @@ public class Category extends AggregateRoot<CategoryID> implements Cloneable {
             deactivate();
         }
         this.updatedAt = InstantUtils.now();
+        registerEvent(CategoryChanged.updated(getId()));
         return this;
     }
 
@@ -103,6 +106,7 @@ public class Category extends AggregateRoot<CategoryID> implements Cloneable {
     public Category clone() {
         try {
             Category clone = (Category) super.clone();
+            clone.copyDomainEvents();
             return clone;
         } catch (CloneNotSupportedException ex) {
             throw new AssertionError();
@@ -130,4 +134,11 @@ public class Category extends AggregateRoot<CategoryID> implements Cloneable {
                 updatedAt,
                 deletedAt);
     }
+
+    // Category never validates on construction, restore only mirrors the Genre and CastMember factories
+    public static Category restore(final CategoryID anId, final String name, final String description,
+            final boolean active, final Instant createdAt,
+            final Instant updatedAt, final Instant deletedAt) {
+        return new Category(anId, name, description, active, createdAt, updatedAt, deletedAt);
+    }
 }
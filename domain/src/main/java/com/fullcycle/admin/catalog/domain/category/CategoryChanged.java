@@ -0,0 +1,22 @@
+package com.fullcycle.admin.catalog.domain.category;
+
+import com.fullcycle.admin.catalog.domain.events.ChangeType;
+import com.fullcycle.admin.catalog.domain.events.DomainEvent;
+import com.fullcycle.admin.catalog.domain.utils.InstantUtils;
+
+import java.time.Instant;
+
+public record CategoryChanged(String aggregateId, ChangeType change, Instant occurredOn) implements DomainEvent {
+
+    public static CategoryChanged created(final CategoryID anId) {
+        return new CategoryChanged(anId.getValue(), ChangeType.CREATED, InstantUtils.now());
+    }
+
+    public static CategoryChanged updated(final CategoryID anId) {
+        return new CategoryChanged(anId.getValue(), ChangeType.UPDATED, InstantUtils.now());
+    }
+
+    public static CategoryChanged deleted(final CategoryID anId) {
+        return new CategoryChanged(anId.getValue(), ChangeType.DELETED, InstantUtils.now());
+    }
+}
@@ -3,16 +3,25 @@ package com.fullcycle.admin.catalog.domain.category;
 import com.fullcycle.admin.catalog.domain.pagination.SearchQuery;
 import com.fullcycle.admin.catalog.domain.pagination.Pagination;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface CategoryGateway {
     Category create(Category aCategory);
 
+    List<Category> createAll(List<Category> aCategories);
+
     void deleteById(CategoryID anId);
 
     Optional<Category> findById(CategoryID anId);
 
+    // only the updated_at column, for conditional GETs that may not need the aggregate at all
+    Optional<Instant> findUpdatedAtById(CategoryID anId);
+
+    List<Category> findAllById(Collection<CategoryID> ids);
+
     Category update(Category anCategory);
 
     Pagination<Category> findAll(SearchQuery aQuery);
@@ -1,6 +1,7 @@
 package com.fullcycle.admin.catalog.domain.category;
 
 import com.fullcycle.admin.catalog.domain.Identifier;
+import com.fullcycle.admin.catalog.domain.utils.IdUtils;
 
 import java.util.Objects;
 import java.util.UUID;
@@ -12,7 +13,7 @@ public class CategoryID extends Identifier {
         this.value = value;
     }
     public static CategoryID unique(){
-        return CategoryID.from(UUID.randomUUID());
+        return CategoryID.from(IdUtils.uuid());
     }
     public static CategoryID from(final String anId) {
         return new CategoryID(anId);
@@ -0,0 +1,7 @@
+package com.fullcycle.admin.catalog.domain.events;
+
+public enum ChangeType {
+    CREATED,
+    UPDATED,
+    DELETED
+}
@@ -0,0 +1,9 @@
+package com.fullcycle.admin.catalog.domain.events;
+
+import java.time.Instant;
+
+public interface DomainEvent {
+    String aggregateId();
+
+    Instant occurredOn();
+}
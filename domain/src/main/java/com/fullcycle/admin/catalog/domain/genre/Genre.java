@@ -28,6 +28,17 @@ public class Genre extends AggregateRoot<GenreID> {
             final Instant createdAt,
             final Instant updatedAt,
             final Instant deletedAt) {
+        this(anID, name, isActive, categories, createdAt, updatedAt, deletedAt, true);
+    }
+
+    private Genre(final GenreID anID,
+            final String name,
+            final boolean isActive,
+            final List<CategoryID> categories,
+            final Instant createdAt,
+            final Instant updatedAt,
+            final Instant deletedAt,
+            final boolean shouldValidate) {
         super(anID);
         this.name = name;
         this.active = isActive;
@@ -35,7 +46,9 @@ public class Genre extends AggregateRoot<GenreID> {
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
         this.deletedAt = deletedAt;
-        validate();
+        if (shouldValidate) {
+            validate();
+        }
     }
 
     private void validate() {
@@ -50,7 +63,9 @@ public class Genre extends AggregateRoot<GenreID> {
         final var id = GenreID.unique();
         final var now = InstantUtils.now();
         final var deletedAt = active ? null : now;
-        return new Genre(id, name, active, new ArrayList<>(), now, now, deletedAt);
+        final var aGenre = new Genre(id, name, active, new ArrayList<>(), now, now, deletedAt);
+        aGenre.registerEvent(GenreChanged.created(id));
+        return aGenre;
     }
 
     public static Genre with(final GenreID anID,
@@ -66,7 +81,18 @@ public class Genre extends AggregateRoot<GenreID> {
     public static Genre with(final Genre aGenre) {
         return new Genre(aGenre.id, aGenre.name, aGenre.active, new ArrayList<>(aGenre.categories), aGenre.createdAt,
                 aGenre.updatedAt,
-                aGenre.deletedAt);
+                aGenre.deletedAt, false);
+    }
+
+    // rehydration of state that was already validated on write, e.g. a row read back from the database
+    public static Genre restore(final GenreID anID,
+            final String name,
+            final boolean isActive,
+            final List<CategoryID> categories,
+            final Instant createdAt,
+            final Instant updatedAt,
+            final Instant deletedAt) {
+        return new Genre(anID, name, isActive, categories, createdAt, updatedAt, deletedAt, false);
     }
 
     @Override
@@ -124,6 +150,7 @@ public class Genre extends AggregateRoot<GenreID> {
         this.categories = new ArrayList<>(categories != null ? categories : Collections.emptyList());
         this.updatedAt = InstantUtils.now();
         validate();
+        registerEvent(GenreChanged.updated(getId()));
         return this;
     }
 
@@ -0,0 +1,22 @@
+package com.fullcycle.admin.catalog.domain.genre;
+
+import com.fullcycle.admin.catalog.domain.events.ChangeType;
+import com.fullcycle.admin.catalog.domain.events.DomainEvent;
+import com.fullcycle.admin.catalog.domain.utils.InstantUtils;
+
+import java.time.Instant;
+
+public record GenreChanged(String aggregateId, ChangeType change, Instant occurredOn) implements DomainEvent {
+
+    public static GenreChanged created(final GenreID anId) {
+        return new GenreChanged(anId.getValue(), ChangeType.CREATED, InstantUtils.now());
+    }
+
+    public static GenreChanged updated(final GenreID anId) {
+        return new GenreChanged(anId.getValue(), ChangeType.UPDATED, InstantUtils.now());
+    }
+
+    public static GenreChanged deleted(final GenreID anId) {
+        return new GenreChanged(anId.getValue(), ChangeType.DELETED, InstantUtils.now());
+    }
+}
@@ -1,5 +1,8 @@
 package com.fullcycle.admin.catalog.domain.genre;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 import com.fullcycle.admin.catalog.domain.pagination.Pagination;
@@ -7,8 +10,11 @@ import com.fullcycle.admin.catalog.domain.pagination.SearchQuery;
 
 public interface GenreGateway {
     Genre create(Genre aGenre);
+    List<Genre> createAll(List<Genre> aGenres);
     void deleteById(GenreID anId);
     Optional<Genre> findById(GenreID anID);
+    Optional<Instant> findUpdatedAtById(GenreID anID);
+    List<Genre> findAllById(Collection<GenreID> ids);
     Genre update(Genre genre);
     Pagination<Genre> findAll(SearchQuery aQuery);
 }
@@ -4,6 +4,7 @@ import java.util.Objects;
 import java.util.UUID;
 
 import com.fullcycle.admin.catalog.domain.Identifier;
+import com.fullcycle.admin.catalog.domain.utils.IdUtils;
 
 public class GenreID extends Identifier {
     private final String value;
@@ -12,7 +13,7 @@ public class GenreID extends Identifier {
         this.value = value;
     }
     public static GenreID unique(){
-        return GenreID.from(UUID.randomUUID());
+        return GenreID.from(IdUtils.uuid());
     }
     public static GenreID from(final String anId) {
         return new GenreID(anId);
@@ -0,0 +1,15 @@
+package com.fullcycle.admin.catalog.domain.pagination;
+
+import java.time.Instant;
+
+// One entry of a changes feed: the item as it is now, or a tombstone (no item) when it was deleted
+public record Change<T>(String id, Instant changedAt, boolean deleted, T item) {
+
+    public static <T> Change<T> of(final String anId, final Instant changedAt, final T anItem) {
+        return new Change<>(anId, changedAt, false, anItem);
+    }
+
+    public static <T> Change<T> tombstone(final String anId, final Instant deletedAt) {
+        return new Change<>(anId, deletedAt, true, null);
+    }
+}
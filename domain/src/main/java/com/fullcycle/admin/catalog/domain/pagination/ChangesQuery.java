@@ -0,0 +1,32 @@
+package com.fullcycle.admin.catalog.domain.pagination;
+
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+
+import com.fullcycle.admin.catalog.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalog.domain.validation.Error;
+
+// What changed at or after since, oldest first; once a cursor is given it takes over from since
+public record ChangesQuery(Instant since, String cursor, int perPage) {
+    public static final int MAX_PER_PAGE = 1_000;
+
+    public ChangesQuery {
+        since = since != null ? since : Instant.EPOCH;
+        perPage = Math.max(1, Math.min(perPage, MAX_PER_PAGE));
+    }
+
+    public static ChangesQuery from(final String since, final String cursor, final int perPage) {
+        if (since == null || since.isBlank()) {
+            return new ChangesQuery(null, cursor, perPage);
+        }
+        try {
+            return new ChangesQuery(Instant.parse(since.trim()), cursor, perPage);
+        } catch (final DateTimeParseException ex) {
+            throw DomainException.with(new Error("'since' must be an ISO-8601 instant, like 2024-01-31T00:00:00Z"));
+        }
+    }
+
+    public boolean hasCursor() {
+        return cursor != null && !cursor.isBlank();
+    }
+}
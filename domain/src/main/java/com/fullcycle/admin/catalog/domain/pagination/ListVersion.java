@@ -0,0 +1,8 @@
+package com.fullcycle.admin.catalog.domain.pagination;
+
+import java.time.Instant;
+
+// How many rows a list is read from and the newest updated_at among them: an insert or an update moves
+// lastUpdatedAt, a delete moves rows, so while both hold still every page of the list reads the same
+public record ListVersion(long rows, Instant lastUpdatedAt) {
+}
@@ -0,0 +1,23 @@
+package com.fullcycle.admin.catalog.domain.pagination;
+
+import java.util.Arrays;
+
+import com.fullcycle.admin.catalog.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalog.domain.validation.Error;
+
+// How the search terms are matched: anywhere in the text, as the start of the name or by whole words.
+// FULLTEXT needs the MySQL FULLTEXT indexes, on any other database a search with it is refused
+public enum MatchMode {
+    CONTAINS, PREFIX, FULLTEXT;
+
+    public static MatchMode from(final String aMode) {
+        if (aMode == null || aMode.isBlank()) {
+            return CONTAINS;
+        }
+        return Arrays.stream(values())
+                .filter(it -> it.name().equalsIgnoreCase(aMode.trim()))
+                .findFirst()
+                .orElseThrow(() -> DomainException.with(
+                        new Error("'match' must be one of contains, prefix or fulltext")));
+    }
+}
@@ -5,6 +5,53 @@ public record SearchQuery(
         int perPage,
         String terms,
         String sort,
-        String direction
+        String direction,
+        String cursor,
+        TotalMode totalMode,
+        MatchMode matchMode,
+        Boolean active
 ) {
+    // trimmed once here so the cache keys and every search mode see the same terms
+    public SearchQuery {
+        terms = terms != null ? terms.trim() : null;
+        totalMode = totalMode != null ? totalMode : TotalMode.EXACT;
+        matchMode = matchMode != null ? matchMode : MatchMode.CONTAINS;
+    }
+
+    public SearchQuery(
+            final int page,
+            final int perPage,
+            final String terms,
+            final String sort,
+            final String direction,
+            final String cursor,
+            final TotalMode totalMode,
+            final MatchMode matchMode
+    ) {
+        this(page, perPage, terms, sort, direction, cursor, totalMode, matchMode, null);
+    }
+
+    public SearchQuery(
+            final int page,
+            final int perPage,
+            final String terms,
+            final String sort,
+            final String direction
+    ) {
+        this(page, perPage, terms, sort, direction, null, TotalMode.EXACT, MatchMode.CONTAINS, null);
+    }
+
+    public boolean hasTerms() {
+        return terms != null && !terms.isBlank();
+    }
+
+    // when a cursor is present the search seeks past it (keyset) and page is ignored
+    public boolean hasCursor() {
+        return cursor != null && !cursor.isBlank();
+    }
+
+    // null lists every row, true or false only the active or the inactive ones
+    public boolean hasActive() {
+        return active != null;
+    }
 }
@@ -0,0 +1,25 @@
+package com.fullcycle.admin.catalog.domain.pagination;
+
+import java.util.Arrays;
+
+import com.fullcycle.admin.catalog.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalog.domain.validation.Error;
+
+public enum TotalMode {
+    EXACT,
+    // the table statistics, only for an unfiltered list: with terms or a filter the rows are counted as in EXACT
+    ESTIMATED,
+    // no count at all, the total is Pagination.UNKNOWN_TOTAL
+    NONE;
+
+    public static TotalMode from(final String aMode) {
+        if (aMode == null || aMode.isBlank()) {
+            return EXACT;
+        }
+        return Arrays.stream(values())
+                .filter(it -> it.name().equalsIgnoreCase(aMode.trim()))
+                .findFirst()
+                .orElseThrow(() -> DomainException.with(
+                        new Error("'total' must be one of exact, estimated or none")));
+    }
+}
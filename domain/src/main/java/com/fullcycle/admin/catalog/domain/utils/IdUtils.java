@@ -0,0 +1,45 @@
+package com.fullcycle.admin.catalog.domain.utils;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+// UUIDv7 (RFC 9562): 48 bits of unix millis, then a 12 bit counter, so ids created later sort after
+// the earlier ones and inserts land at the end of the primary key instead of anywhere in the B-tree
+public final class IdUtils {
+    private static final int COUNTER_BITS = 12;
+    private static final long VERSION = 0x7000L;
+    private static final long VARIANT = 0x8000000000000000L;
+    private static final long RANDOM_MASK = 0x3FFFFFFFFFFFFFFFL;
+
+    // (millis << 12) | counter of the last id handed out, advanced with a CAS
+    private static final AtomicLong LAST = new AtomicLong();
+
+    private IdUtils() {}
+
+    public static UUID uuid() {
+        return uuid(System.currentTimeMillis());
+    }
+
+    static UUID uuid(final long epochMillis) {
+        final var aStamp = next(epochMillis);
+        final var millis = aStamp >>> COUNTER_BITS;
+        final var counter = aStamp & ((1L << COUNTER_BITS) - 1);
+        final var msb = (millis << 16) | VERSION | counter;
+        final var lsb = VARIANT | (ThreadLocalRandom.current().nextLong() & RANDOM_MASK);
+        return new UUID(msb, lsb);
+    }
+
+    // within the same millisecond the counter goes up; when it overflows the millis part borrows
+    // the next one, which keeps the ids strictly increasing in this process
+    private static long next(final long epochMillis) {
+        final var now = epochMillis << COUNTER_BITS;
+        while (true) {
+            final var last = LAST.get();
+            final var candidate = Math.max(now, last + 1);
+            if (LAST.compareAndSet(last, candidate)) {
+                return candidate;
+            }
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.fullcycle.admin.catalog.domain.video;
 
 import com.fullcycle.admin.catalog.domain.Identifier;
+import com.fullcycle.admin.catalog.domain.utils.IdUtils;
 
 import java.util.Objects;
 import java.util.UUID;
@@ -12,7 +13,7 @@ public class VideoID extends Identifier {
         this.value = Objects.requireNonNull(anId);
     }
     public static VideoID unique(){
-        return VideoID.from(UUID.randomUUID());
+        return VideoID.from(IdUtils.uuid());
     }
     public static VideoID from(final String anId) {
         return new VideoID(anId);
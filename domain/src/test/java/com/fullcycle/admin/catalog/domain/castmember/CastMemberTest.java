@@ -1,11 +1,18 @@
 package com.fullcycle.admin.catalog.domain.castmember;
 
 import com.fullcycle.admin.catalog.domain.castmeber.CastMember;
+import com.fullcycle.admin.catalog.domain.castmeber.CastMemberChanged;
+import com.fullcycle.admin.catalog.domain.castmeber.CastMemberId;
 import com.fullcycle.admin.catalog.domain.castmeber.CastMemberType;
+import com.fullcycle.admin.catalog.domain.events.ChangeType;
+import com.fullcycle.admin.catalog.domain.events.DomainEvent;
 import com.fullcycle.admin.catalog.domain.exceptions.NotificationException;
+import com.fullcycle.admin.catalog.domain.utils.InstantUtils;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+
 public class CastMemberTest {
 
     @Test
@@ -177,4 +184,43 @@ public class CastMemberTest {
         Assertions.assertEquals(expectedErrorCount, actualException.getErrors().size());
         Assertions.assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
     }
+
+    @Test
+    public void givenAPersistedState_whenCallsRestore_thenRehydrateWithoutValidating(){
+        final var expectedId = CastMemberId.unique();
+        final var expectedDate = InstantUtils.now();
+
+        final var actualMember = CastMember.restore(expectedId, null, CastMemberType.DIRECTOR, expectedDate, expectedDate);
+
+        Assertions.assertEquals(expectedId, actualMember.getId());
+        Assertions.assertNull(actualMember.getName());
+        Assertions.assertEquals(CastMemberType.DIRECTOR, actualMember.getType());
+        Assertions.assertEquals(expectedDate, actualMember.getUpdatedAt());
+    }
+
+    @Test
+    public void givenANewMemberThenUpdated_whenPublishDomainEvents_thenHandOverCreatedAndUpdatedOnce() {
+        final var aMember = CastMember.newMember("Vin Diesel", CastMemberType.ACTOR);
+        aMember.update("Vin Diesel", CastMemberType.DIRECTOR);
+        final var actualEvents = new ArrayList<DomainEvent>();
+
+        aMember.publishDomainEvents(actualEvents::add);
+        aMember.publishDomainEvents(actualEvents::add);
+
+        Assertions.assertEquals(2, actualEvents.size());
+        Assertions.assertEquals(ChangeType.CREATED, ((CastMemberChanged) actualEvents.get(0)).change());
+        Assertions.assertEquals(ChangeType.UPDATED, ((CastMemberChanged) actualEvents.get(1)).change());
+        Assertions.assertEquals(aMember.getId().getValue(), actualEvents.get(1).aggregateId());
+        Assertions.assertTrue(aMember.getDomainEvents().isEmpty());
+    }
+
+    @Test
+    public void givenARestoredMember_whenCallGetDomainEvents_thenRecordNothing() {
+        final var aMember = CastMember.newMember("Vin Diesel", CastMemberType.ACTOR);
+
+        final var actualMember = CastMember.restore(aMember.getId(), aMember.getName(), aMember.getType(),
+                aMember.getCreatedAt(), aMember.getUpdatedAt());
+
+        Assertions.assertTrue(actualMember.getDomainEvents().isEmpty());
+    }
 }
@@ -1,10 +1,14 @@
 package com.fullcycle.admin.catalog.domain.category;
 
+import com.fullcycle.admin.catalog.domain.events.ChangeType;
+import com.fullcycle.admin.catalog.domain.events.DomainEvent;
 import com.fullcycle.admin.catalog.domain.exceptions.DomainException;
 import com.fullcycle.admin.catalog.domain.validation.handler.ThrowsValidationHandler;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+
 public class CategoryTest {
     @Test
     void givenAValidParams_whenCallNewCategory_thenInstatiateACategory(){
@@ -232,4 +236,40 @@ public class CategoryTest {
         Assertions.assertTrue(aCategory.isActive());
         Assertions.assertNull(aCategory.getDeletedAt());
     }
+
+    @Test
+    public void givenANewCategoryThenUpdated_whenPublishDomainEvents_thenHandOverCreatedAndUpdatedOnce() {
+        final var aCategory = Category.newCategory("Filmes", "", true);
+        aCategory.update("Series", "", false);
+        final var actualEvents = new ArrayList<DomainEvent>();
+
+        aCategory.publishDomainEvents(actualEvents::add);
+        aCategory.publishDomainEvents(actualEvents::add);
+
+        Assertions.assertEquals(2, actualEvents.size());
+        Assertions.assertEquals(ChangeType.CREATED, ((CategoryChanged) actualEvents.get(0)).change());
+        Assertions.assertEquals(ChangeType.UPDATED, ((CategoryChanged) actualEvents.get(1)).change());
+        Assertions.assertEquals(aCategory.getId().getValue(), actualEvents.get(1).aggregateId());
+        Assertions.assertTrue(aCategory.getDomainEvents().isEmpty());
+    }
+
+    @Test
+    public void givenARestoredCategory_whenCallGetDomainEvents_thenRecordNothing() {
+        final var aCategory = Category.newCategory("Filmes", "", true);
+
+        final var actualCategory = Category.restore(aCategory.getId(), aCategory.getName(), aCategory.getDescription(),
+                aCategory.isActive(), aCategory.getCreatedAt(), aCategory.getUpdatedAt(), aCategory.getDeletedAt());
+
+        Assertions.assertTrue(actualCategory.getDomainEvents().isEmpty());
+    }
+
+    @Test
+    public void givenAClonedCategory_whenUpdateTheClone_thenTheOriginalKeepsItsOwnEvents() {
+        final var aCategory = Category.newCategory("Filmes", "", true);
+
+        final var actualClone = aCategory.clone().update("Series", "", true);
+
+        Assertions.assertEquals(1, aCategory.getDomainEvents().size());
+        Assertions.assertEquals(2, actualClone.getDomainEvents().size());
+    }
 }
@@ -1,9 +1,12 @@
 package com.fullcycle.admin.catalog.domain.genre;
 
 import com.fullcycle.admin.catalog.domain.category.CategoryID;
+import com.fullcycle.admin.catalog.domain.events.ChangeType;
+import com.fullcycle.admin.catalog.domain.events.DomainEvent;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import com.fullcycle.admin.catalog.domain.exceptions.NotificationException;
+import com.fullcycle.admin.catalog.domain.utils.InstantUtils;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -355,4 +358,47 @@ public class GenreTest {
         Assertions.assertNull(actualGenre.getDeletedAt());
     }
 
+    @Test
+    public void givenAPersistedState_whenCallRestore_shouldRehydrateWithoutValidating() {
+        final var expectedID = GenreID.unique();
+        final var expectedCategories = List.of(CategoryID.from("123"));
+        final var expectedCreatedAt = InstantUtils.now();
+
+        final var actualGenre = Genre.restore(expectedID, " ", false, new ArrayList<>(expectedCategories),
+                expectedCreatedAt, expectedCreatedAt, expectedCreatedAt);
+
+        Assertions.assertEquals(expectedID, actualGenre.getId());
+        Assertions.assertEquals(" ", actualGenre.getName());
+        Assertions.assertFalse(actualGenre.isActive());
+        Assertions.assertEquals(expectedCategories, actualGenre.getCategories());
+        Assertions.assertEquals(expectedCreatedAt, actualGenre.getDeletedAt());
+        Assertions.assertThrows(NotificationException.class, () -> Genre.with(actualGenre.getId(), " ", false,
+                new ArrayList<>(), expectedCreatedAt, expectedCreatedAt, expectedCreatedAt));
+    }
+
+    @Test
+    public void givenANewGenreThenUpdated_whenPublishDomainEvents_thenHandOverCreatedAndUpdatedOnce() {
+        final var aGenre = Genre.newGenre("Ação", true);
+        aGenre.update("Drama", false, List.of(CategoryID.from("123")));
+        final var actualEvents = new ArrayList<DomainEvent>();
+
+        aGenre.publishDomainEvents(actualEvents::add);
+        aGenre.publishDomainEvents(actualEvents::add);
+
+        Assertions.assertEquals(2, actualEvents.size());
+        Assertions.assertEquals(ChangeType.CREATED, ((GenreChanged) actualEvents.get(0)).change());
+        Assertions.assertEquals(ChangeType.UPDATED, ((GenreChanged) actualEvents.get(1)).change());
+        Assertions.assertEquals(aGenre.getId().getValue(), actualEvents.get(1).aggregateId());
+        Assertions.assertTrue(aGenre.getDomainEvents().isEmpty());
+    }
+
+    @Test
+    public void givenARestoredGenre_whenCallGetDomainEvents_thenRecordNothing() {
+        final var aGenre = Genre.newGenre("Ação", true);
+
+        final var actualGenre = Genre.restore(aGenre.getId(), aGenre.getName(), aGenre.isActive(),
+                aGenre.getCategories(), aGenre.getCreatedAt(), aGenre.getUpdatedAt(), aGenre.getDeletedAt());
+
+        Assertions.assertTrue(actualGenre.getDomainEvents().isEmpty());
+    }
 }
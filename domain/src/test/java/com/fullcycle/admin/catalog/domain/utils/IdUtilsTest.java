@@ -0,0 +1,47 @@
+package com.fullcycle.admin.catalog.domain.utils;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+public class IdUtilsTest {
+
+    @Test
+    public void givenAnInstant_whenCallsUuid_shouldReturnAVersion7IdCarryingTheMillis() {
+        // ahead of the clock, so no id handed out before can push it forward
+        final var expectedMillis = System.currentTimeMillis() + Duration.ofDays(10).toMillis();
+
+        final var actualId = IdUtils.uuid(expectedMillis);
+
+        Assertions.assertEquals(7, actualId.version());
+        Assertions.assertEquals(2, actualId.variant());
+        Assertions.assertEquals(expectedMillis, actualId.getMostSignificantBits() >>> 16);
+    }
+
+    @Test
+    public void givenManyIdsInTheSameMillisecond_whenCallsUuid_shouldKeepThemIncreasing() {
+        final var ids = new ArrayList<String>();
+        for (int i = 0; i < 10_000; i++) {
+            ids.add(IdUtils.uuid(1_700_000_000_000L).toString());
+        }
+
+        for (int i = 1; i < ids.size(); i++) {
+            Assertions.assertTrue(ids.get(i - 1).compareTo(ids.get(i)) < 0);
+        }
+    }
+
+    @Test
+    public void givenConcurrentCallers_whenCallsUuid_shouldNeverRepeatAnId() {
+        final Set<UUID> ids = ConcurrentHashMap.newKeySet();
+
+        IntStream.range(0, 100_000).parallel().forEach(i -> ids.add(IdUtils.uuid()));
+
+        Assertions.assertEquals(100_000, ids.size());
+    }
+}
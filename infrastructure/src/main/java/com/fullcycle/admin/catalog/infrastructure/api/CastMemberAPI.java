@@ -1,18 +1,28 @@
 package com.fullcycle.admin.catalog.infrastructure.api;
 
 import com.fullcycle.admin.catalog.domain.pagination.Pagination;
+import com.fullcycle.admin.catalog.infrastructure.api.models.BulkItemResponse;
+import com.fullcycle.admin.catalog.infrastructure.api.models.ImportResponse;
 import com.fullcycle.admin.catalog.infrastructure.castmember.models.CastMemberListResponse;
 import com.fullcycle.admin.catalog.infrastructure.castmember.models.CastMemberResponse;
 import com.fullcycle.admin.catalog.infrastructure.castmember.models.CreateCastMemberRequest;
 import com.fullcycle.admin.catalog.infrastructure.castmember.models.UpdateCastMemberRequest;
+import com.fullcycle.admin.catalog.infrastructure.imports.ImportFormat;
+import com.fullcycle.admin.catalog.infrastructure.utils.NdjsonUtils;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.InputStream;
+import java.util.List;
 
 @RequestMapping(value = "cast_members")
 @Tag(name = "Cast Members")
@@ -32,32 +42,87 @@ public interface CastMemberAPI {
     ResponseEntity<?> create(@RequestBody CreateCastMemberRequest input);
 
 
+    @PostMapping(value = "bulk",
+            produces = MediaType.APPLICATION_JSON_VALUE,
+            consumes = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(summary = "Create many cast members at once, each one validated on its own")
+    @ApiResponses(
+            value = {
+                    @ApiResponse(responseCode = "200", description = "Every item was processed, each result tells its outcome"),
+                    @ApiResponse(responseCode = "500", description = "Internal server error"),
+            }
+    )
+    List<BulkItemResponse> createAll(@RequestBody List<CreateCastMemberRequest> input);
+
+    @PostMapping(value = "import",
+            produces = MediaType.APPLICATION_JSON_VALUE,
+            consumes = {NdjsonUtils.NDJSON_VALUE, ImportFormat.CSV_VALUE}
+    )
+    @Operation(summary = "Create the cast members of a NDJSON or CSV body, read and stored a batch at a time")
+    @ApiResponses(
+            value = {
+                    @ApiResponse(responseCode = "200", description = "Every line was processed, the rejected ones are in the error report"),
+                    @ApiResponse(responseCode = "415", description = "The body is neither NDJSON nor CSV"),
+                    @ApiResponse(responseCode = "500", description = "Internal server error"),
+            }
+    )
+    ImportResponse importAll(@RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType, InputStream body);
+
     @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
-    @Operation(summary = "List all cast member")
+    @Operation(summary = "List all cast member",
+            description = "total=estimated answers from the table statistics only when nothing filters the list, "
+                    + "with search it is an exact count; total=none skips the count")
     @ApiResponses(
             value = {
                     @ApiResponse(responseCode = "200", description = "List of Cast member"),
+                    @ApiResponse(responseCode = "304", description = "Page unchanged since the given ETag"),
                     @ApiResponse(responseCode = "500", description = "Internal server error"),
             }
     )
-    Pagination<CastMemberListResponse> list(
+    ResponseEntity<Pagination<CastMemberListResponse>> list(
             @RequestParam(name = "search", required = false, defaultValue = "") final String search,
             @RequestParam(name = "page", required = false, defaultValue = "0") final int page,
             @RequestParam(name = "perPage", required = false, defaultValue = "name") final int perPage,
             @RequestParam(name = "sort", required = false, defaultValue = "10") final String sort,
-            @RequestParam(name = "dir", required = false, defaultValue = "asc") final String direction
+            @RequestParam(name = "dir", required = false, defaultValue = "asc") final String direction,
+            @RequestParam(name = "cursor", required = false) final String cursor,
+            @RequestParam(name = "total", required = false, defaultValue = "exact") final String total,
+            @RequestParam(name = "match", required = false, defaultValue = "contains") final String match,
+            WebRequest request
     );
 
+    @GetMapping(value = "export", produces = NdjsonUtils.NDJSON_VALUE)
+    @Operation(summary = "Every cast member in id order, one JSON document per line, streamed as it is read")
+    @ApiResponses(
+            value = {
+                    @ApiResponse(responseCode = "200", description = "Exported, the body ends with the last cast member"),
+                    @ApiResponse(responseCode = "500", description = "Internal server error"),
+            }
+    )
+    ResponseEntity<StreamingResponseBody> export();
+
+    @GetMapping(params = "ids", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Get the cast members of the given ids, the missing ones are left out")
+    @ApiResponses(
+            value = {
+                    @ApiResponse(responseCode = "200", description = "Cast members found"),
+                    @ApiResponse(responseCode = "500", description = "Internal server error"),
+            }
+    )
+    List<CastMemberResponse> getByIds(@RequestParam(name = "ids") List<String> ids);
+
     @GetMapping(value = "{id}", produces = MediaType.APPLICATION_JSON_VALUE)
     @Operation(summary = "Get a cast member by it's identifier")
     @ApiResponses(
             value = {
                     @ApiResponse(responseCode = "200", description = "Cast member found"),
+                    @ApiResponse(responseCode = "304", description = "Cast member unchanged since the given ETag or date"),
                     @ApiResponse(responseCode = "404", description = "Not found"),
                     @ApiResponse(responseCode = "500", description = "Internal server error"),
             }
     )
-    CastMemberResponse getById(@PathVariable String id);
+    ResponseEntity<CastMemberResponse> getById(@PathVariable String id, WebRequest request);
 
     @PutMapping(value = "{id}",
             produces = MediaType.APPLICATION_JSON_VALUE,
@@ -1,5 +1,9 @@
 package com.fullcycle.admin.catalog.infrastructure.api;
 
+import java.io.InputStream;
+import java.util.List;
+
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -9,15 +13,23 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.fullcycle.admin.catalog.domain.pagination.Pagination;
+import com.fullcycle.admin.catalog.infrastructure.api.models.BulkItemResponse;
+import com.fullcycle.admin.catalog.infrastructure.api.models.ChangeResponse;
+import com.fullcycle.admin.catalog.infrastructure.api.models.ImportResponse;
 import com.fullcycle.admin.catalog.infrastructure.category.models.CategoryApiOutput;
 import com.fullcycle.admin.catalog.infrastructure.category.models.CategoryListResponse;
 import com.fullcycle.admin.catalog.infrastructure.category.models.CreateCategoryApiInput;
 import com.fullcycle.admin.catalog.infrastructure.category.models.UpdateCategoryApiInput;
+import com.fullcycle.admin.catalog.infrastructure.imports.ImportFormat;
+import com.fullcycle.admin.catalog.infrastructure.utils.NdjsonUtils;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -36,28 +48,85 @@ public interface CategoryApi {
     })
     ResponseEntity<?> createCategory(@RequestBody CreateCategoryApiInput input);
 
+    @PostMapping(value = "bulk", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Create many categories at once, each one validated on its own")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Every item was processed, each result tells its outcome"),
+            @ApiResponse(responseCode = "500", description = "An internal server error thrown")
+    })
+    List<BulkItemResponse> createCategories(@RequestBody List<CreateCategoryApiInput> input);
+
+    @PostMapping(value = "import", consumes = { NdjsonUtils.NDJSON_VALUE,
+            ImportFormat.CSV_VALUE }, produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Create the categories of a NDJSON or CSV body, read and stored a batch at a time")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Every line was processed, the rejected ones are in the error report"),
+            @ApiResponse(responseCode = "415", description = "The body is neither NDJSON nor CSV"),
+            @ApiResponse(responseCode = "500", description = "An internal server error thrown")
+    })
+    ImportResponse importCategories(@RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType, InputStream body);
+
     @GetMapping
-    @Operation(summary = "List all categories paginated")
+    @Operation(summary = "List all categories paginated",
+            description = "total=estimated answers from the table statistics only when nothing filters the list, "
+                    + "with search or active it is an exact count; total=none skips the count")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Listed successfully"),
+            @ApiResponse(responseCode = "304", description = "Page unchanged since the given ETag"),
             @ApiResponse(responseCode = "422", description = "An invalid parameter was received"),
             @ApiResponse(responseCode = "500", description = "An internal server error thrown")
     })
-    Pagination<CategoryListResponse> listCategories(
+    ResponseEntity<Pagination<CategoryListResponse>> listCategories(
             @RequestParam(name = "search", required = false, defaultValue = "") final String search,
             @RequestParam(name = "page", required = false, defaultValue = "0") final int page,
             @RequestParam(name = "perPage", required = false, defaultValue = "name") final int perPage,
             @RequestParam(name = "sort", required = false, defaultValue = "10") final String sort,
-            @RequestParam(name = "dir", required = false, defaultValue = "asc") final String direction);
+            @RequestParam(name = "dir", required = false, defaultValue = "asc") final String direction,
+            @RequestParam(name = "cursor", required = false) final String cursor,
+            @RequestParam(name = "total", required = false, defaultValue = "exact") final String total,
+            @RequestParam(name = "match", required = false, defaultValue = "contains") final String match,
+            @RequestParam(name = "active", required = false) final Boolean active,
+            WebRequest request);
+
+    @GetMapping(value = "changes", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Categories created, updated or deleted at or after since, oldest change first; "
+            + "follow next_cursor until it is null, then keep the last changed_at as the next since; "
+            + "the last few seconds are held back until the writes stamped then have committed")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Listed successfully"),
+            @ApiResponse(responseCode = "422", description = "An invalid since or cursor was received"),
+            @ApiResponse(responseCode = "500", description = "An internal server error thrown")
+    })
+    Pagination<ChangeResponse<CategoryListResponse>> listChanges(
+            @RequestParam(name = "since", required = false) final String since,
+            @RequestParam(name = "cursor", required = false) final String cursor,
+            @RequestParam(name = "perPage", required = false, defaultValue = "100") final int perPage);
+
+    @GetMapping(value = "export", produces = NdjsonUtils.NDJSON_VALUE)
+    @Operation(summary = "Every category in id order, one JSON document per line, streamed as it is read")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Exported, the body ends with the last category"),
+            @ApiResponse(responseCode = "500", description = "An internal server error thrown")
+    })
+    ResponseEntity<StreamingResponseBody> export();
+
+    @GetMapping(params = "ids", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Get the categories of the given ids, the missing ones are left out")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Categories retrived"),
+            @ApiResponse(responseCode = "500", description = "An internal server error thrown")
+    })
+    List<CategoryApiOutput> getByIds(@RequestParam(name = "ids") List<String> ids);
 
     @GetMapping(value = "{id}", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
     @Operation(summary = "Get a category by it's id")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Category retrived"),
+            @ApiResponse(responseCode = "304", description = "Category unchanged since the given ETag or date"),
             @ApiResponse(responseCode = "404", description = "Category not found"),
             @ApiResponse(responseCode = "500", description = "An internal server error thrown")
     })
-    CategoryApiOutput getById(@PathVariable(name = "id") String id);
+    ResponseEntity<CategoryApiOutput> getById(@PathVariable(name = "id") String id, WebRequest request);
 
     @PutMapping(value = "{id}", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
     @Operation(summary = "Update a category by it's id")
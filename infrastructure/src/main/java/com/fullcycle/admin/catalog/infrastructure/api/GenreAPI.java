@@ -1,18 +1,29 @@
 package com.fullcycle.admin.catalog.infrastructure.api;
 
 import com.fullcycle.admin.catalog.domain.pagination.Pagination;
+import com.fullcycle.admin.catalog.infrastructure.api.models.BulkItemResponse;
+import com.fullcycle.admin.catalog.infrastructure.api.models.ChangeResponse;
+import com.fullcycle.admin.catalog.infrastructure.api.models.ImportResponse;
 import com.fullcycle.admin.catalog.infrastructure.genre.models.CreateGenreRequest;
 import com.fullcycle.admin.catalog.infrastructure.genre.models.GenreListResponse;
 import com.fullcycle.admin.catalog.infrastructure.genre.models.GenreResponse;
 import com.fullcycle.admin.catalog.infrastructure.genre.models.UpdateGenreRequest;
+import com.fullcycle.admin.catalog.infrastructure.imports.ImportFormat;
+import com.fullcycle.admin.catalog.infrastructure.utils.NdjsonUtils;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.InputStream;
+import java.util.List;
 
 @RequestMapping(value = "genres")
 @Tag(name = "Genre")
@@ -30,29 +41,94 @@ public interface GenreAPI {
     })
     ResponseEntity<?> create(@RequestBody CreateGenreRequest input);
 
+    @PostMapping(
+            value = "bulk",
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(summary = "Create many genres at once, each one validated on its own")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Every item was processed, each result tells its outcome"),
+            @ApiResponse(responseCode = "500", description = "An internal server error thrown")
+    })
+    List<BulkItemResponse> createAll(@RequestBody List<CreateGenreRequest> input);
+
+    @PostMapping(
+            value = "import",
+            consumes = {NdjsonUtils.NDJSON_VALUE, ImportFormat.CSV_VALUE},
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(summary = "Create the genres of a NDJSON or CSV body, read and stored a batch at a time")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Every line was processed, the rejected ones are in the error report"),
+            @ApiResponse(responseCode = "415", description = "The body is neither NDJSON nor CSV"),
+            @ApiResponse(responseCode = "500", description = "An internal server error thrown")
+    })
+    ImportResponse importAll(@RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType, InputStream body);
+
     @GetMapping
-    @Operation(summary = "List all genres paginated")
+    @Operation(summary = "List all genres paginated",
+            description = "total=estimated answers from the table statistics only when nothing filters the list, "
+                    + "with search or active it is an exact count; total=none skips the count")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Listed successfully"),
+            @ApiResponse(responseCode = "304", description = "Page unchanged since the given ETag"),
             @ApiResponse(responseCode = "422", description = "An invalid parameter was received"),
             @ApiResponse(responseCode = "500", description = "An internal server error thrown")
     })
-    Pagination<GenreListResponse> list(
+    ResponseEntity<Pagination<GenreListResponse>> list(
             @RequestParam(name = "search", required = false, defaultValue = "") final String search,
             @RequestParam(name = "page", required = false, defaultValue = "0") final int page,
             @RequestParam(name = "perPage", required = false, defaultValue = "name") final int perPage,
             @RequestParam(name = "sort", required = false, defaultValue = "10") final String sort,
-            @RequestParam(name = "dir", required = false, defaultValue = "asc") final String direction
+            @RequestParam(name = "dir", required = false, defaultValue = "asc") final String direction,
+            @RequestParam(name = "cursor", required = false) final String cursor,
+            @RequestParam(name = "total", required = false, defaultValue = "exact") final String total,
+            @RequestParam(name = "match", required = false, defaultValue = "contains") final String match,
+            @RequestParam(name = "categories", required = false, defaultValue = "true") final boolean categories,
+            @RequestParam(name = "active", required = false) final Boolean active,
+            WebRequest request
     );
 
+    @GetMapping(value = "changes", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Genres created, updated or deleted at or after since, oldest change first; "
+            + "follow next_cursor until it is null, then keep the last changed_at as the next since; "
+            + "the last few seconds are held back until the writes stamped then have committed")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Listed successfully"),
+            @ApiResponse(responseCode = "422", description = "An invalid since or cursor was received"),
+            @ApiResponse(responseCode = "500", description = "An internal server error thrown")
+    })
+    Pagination<ChangeResponse<GenreListResponse>> listChanges(
+            @RequestParam(name = "since", required = false) final String since,
+            @RequestParam(name = "cursor", required = false) final String cursor,
+            @RequestParam(name = "perPage", required = false, defaultValue = "100") final int perPage);
+
+    @GetMapping(value = "export", produces = NdjsonUtils.NDJSON_VALUE)
+    @Operation(summary = "Every genre in id order, one JSON document per line, streamed as it is read")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Exported, the body ends with the last genre"),
+            @ApiResponse(responseCode = "500", description = "An internal server error thrown")
+    })
+    ResponseEntity<StreamingResponseBody> export();
+
+    @GetMapping(params = "ids", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Get the genres of the given ids, the missing ones are left out")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Genres retrived"),
+            @ApiResponse(responseCode = "500", description = "An internal server error thrown")
+    })
+    List<GenreResponse> getByIds(@RequestParam(name = "ids") List<String> ids);
+
     @GetMapping(value = "{id}", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
     @Operation(summary = "Get a genre by it's id")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Genre retrived"),
+            @ApiResponse(responseCode = "304", description = "Genre unchanged since the given ETag or date"),
             @ApiResponse(responseCode = "404", description = "Genre not found"),
             @ApiResponse(responseCode = "500", description = "An internal server error thrown")
     })
-    GenreResponse getById(@PathVariable(name ="id") String id);
+    ResponseEntity<GenreResponse> getById(@PathVariable(name ="id") String id, WebRequest request);
 
     @PutMapping(value = "{id}", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
     @Operation(summary = "Update a genre by it's id")
@@ -0,0 +1,28 @@
+package com.fullcycle.admin.catalog.infrastructure.api;
+
+import org.springframework.core.io.Resource;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+
+import com.fullcycle.admin.catalog.infrastructure.utils.NdjsonUtils;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+@RequestMapping(value = "imports")
+@Tag(name = "Import")
+public interface ImportAPI {
+
+    @GetMapping(value = "reports/{id}", produces = NdjsonUtils.NDJSON_VALUE)
+    @Operation(summary = "The rejected lines of an import and their errors, one JSON object per line")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Report retrieved successfully"),
+            @ApiResponse(responseCode = "404", description = "Unknown report or older than import.report-ttl"),
+            @ApiResponse(responseCode = "500", description = "An internal server error thrown")
+    })
+    ResponseEntity<Resource> getReport(@PathVariable(name = "id") String id);
+}
@@ -1,25 +1,42 @@
 package com.fullcycle.admin.catalog.infrastructure.api.controllers;
 
 import com.fullcycle.admin.catalog.application.castmember.create.CreateCastMemberCommand;
+import com.fullcycle.admin.catalog.application.castmember.create.CreateCastMemberOutput;
 import com.fullcycle.admin.catalog.application.castmember.create.CreateCastMemberUseCase;
+import com.fullcycle.admin.catalog.application.castmember.create.CreateCastMembersUseCase;
 import com.fullcycle.admin.catalog.application.castmember.delete.DeleteCastMemberUseCase;
+import com.fullcycle.admin.catalog.application.castmember.retrieve.export.ExportCastMembersUseCase;
 import com.fullcycle.admin.catalog.application.castmember.retrieve.get.GetCastMemberByIdUseCase;
+import com.fullcycle.admin.catalog.application.castmember.retrieve.get.GetCastMembersByIdsUseCase;
 import com.fullcycle.admin.catalog.application.castmember.retrieve.list.ListCastMemberUseCase;
 import com.fullcycle.admin.catalog.application.castmember.update.UpdateCastMemberCommand;
 import com.fullcycle.admin.catalog.application.castmember.update.UpdateCastMemberUseCase;
+import com.fullcycle.admin.catalog.domain.pagination.MatchMode;
 import com.fullcycle.admin.catalog.domain.pagination.Pagination;
 import com.fullcycle.admin.catalog.domain.pagination.SearchQuery;
+import com.fullcycle.admin.catalog.domain.pagination.TotalMode;
 import com.fullcycle.admin.catalog.infrastructure.api.CastMemberAPI;
+import com.fullcycle.admin.catalog.infrastructure.api.models.BulkItemResponse;
+import com.fullcycle.admin.catalog.infrastructure.api.models.ImportResponse;
 import com.fullcycle.admin.catalog.infrastructure.castmember.CastMemberPresenter;
 import com.fullcycle.admin.catalog.infrastructure.castmember.models.CastMemberListResponse;
 import com.fullcycle.admin.catalog.infrastructure.castmember.models.CastMemberResponse;
 import com.fullcycle.admin.catalog.infrastructure.castmember.models.CreateCastMemberRequest;
 import com.fullcycle.admin.catalog.infrastructure.castmember.models.UpdateCastMemberRequest;
+import com.fullcycle.admin.catalog.infrastructure.imports.BulkImporter;
+import com.fullcycle.admin.catalog.infrastructure.imports.ImportFormat;
+import com.fullcycle.admin.catalog.infrastructure.utils.ETagUtils;
+import com.fullcycle.admin.catalog.infrastructure.utils.NdjsonUtils;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.InputStream;
 import java.net.URI;
+import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 
 @RestController
 public class CastMemberController implements CastMemberAPI {
@@ -29,13 +46,21 @@ public class CastMemberController implements CastMemberAPI {
     private final UpdateCastMemberUseCase updateCastMemberUseCase;
     private final DeleteCastMemberUseCase deleteCastMemberUseCase;
     private final ListCastMemberUseCase listCastMemberUseCase;
+    private final GetCastMembersByIdsUseCase getCastMembersByIdsUseCase;
+    private final CreateCastMembersUseCase createCastMembersUseCase;
+    private final ExportCastMembersUseCase exportCastMembersUseCase;
+    private final BulkImporter bulkImporter;
 
-    public CastMemberController(final CreateCastMemberUseCase createCastMemberUseCase, final GetCastMemberByIdUseCase getCastMemberByIdUseCase, final UpdateCastMemberUseCase updateCastMemberUseCase, final DeleteCastMemberUseCase deleteCastMemberUseCase, final ListCastMemberUseCase listCastMemberUseCase) {
+    public CastMemberController(final CreateCastMemberUseCase createCastMemberUseCase, final GetCastMemberByIdUseCase getCastMemberByIdUseCase, final UpdateCastMemberUseCase updateCastMemberUseCase, final DeleteCastMemberUseCase deleteCastMemberUseCase, final ListCastMemberUseCase listCastMemberUseCase, final GetCastMembersByIdsUseCase getCastMembersByIdsUseCase, final CreateCastMembersUseCase createCastMembersUseCase, final ExportCastMembersUseCase exportCastMembersUseCase, final BulkImporter bulkImporter) {
         this.createCastMemberUseCase = Objects.requireNonNull(createCastMemberUseCase);
         this.getCastMemberByIdUseCase = Objects.requireNonNull(getCastMemberByIdUseCase);
         this.updateCastMemberUseCase = Objects.requireNonNull(updateCastMemberUseCase);
         this.deleteCastMemberUseCase = Objects.requireNonNull(deleteCastMemberUseCase);
         this.listCastMemberUseCase = Objects.requireNonNull(listCastMemberUseCase);
+        this.getCastMembersByIdsUseCase = Objects.requireNonNull(getCastMembersByIdsUseCase);
+        this.createCastMembersUseCase = Objects.requireNonNull(createCastMembersUseCase);
+        this.exportCastMembersUseCase = Objects.requireNonNull(exportCastMembersUseCase);
+        this.bulkImporter = Objects.requireNonNull(bulkImporter);
     }
 
     @Override
@@ -46,13 +71,53 @@ public class CastMemberController implements CastMemberAPI {
     }
 
     @Override
-    public Pagination<CastMemberListResponse> list(final String search,final int page,final int perPage,final String sort,final String direction) {
-        return this.listCastMemberUseCase.execute(new SearchQuery(page, perPage, search, sort, direction)).map(CastMemberPresenter::present);
+    public List<BulkItemResponse> createAll(final List<CreateCastMemberRequest> input) {
+        final var commands = input.stream()
+                .map(it -> CreateCastMemberCommand.with(it.name(), it.type()))
+                .toList();
+        return BulkItemResponse.from(this.createCastMembersUseCase.execute(commands).stream()
+                .map(it -> it.map(CreateCastMemberOutput::id))
+                .toList());
     }
 
     @Override
-    public CastMemberResponse getById(String id) {
-        return CastMemberPresenter.present(this.getCastMemberByIdUseCase.execute(id));
+    public ImportResponse importAll(final String contentType, final InputStream body) {
+        return this.bulkImporter.run("cast_members", body, ImportFormat.of(contentType), CreateCastMemberRequest.class,
+                Set.of(),
+                it -> CreateCastMemberCommand.with(it.name(), it.type()),
+                commands -> this.createCastMembersUseCase.execute(commands).stream()
+                        .map(it -> it.map(CreateCastMemberOutput::id))
+                        .toList());
+    }
+
+    @Override
+    public ResponseEntity<Pagination<CastMemberListResponse>> list(final String search,final int page,final int perPage,final String sort,final String direction, final String cursor, final String total, final String match, final WebRequest request) {
+        final var aQuery = new SearchQuery(page, perPage, search, sort, direction, cursor, TotalMode.from(total),
+                MatchMode.from(match));
+        return ETagUtils.ok(request, this.listCastMemberUseCase.version(),
+                () -> this.listCastMemberUseCase.execute(aQuery).map(CastMemberPresenter::present));
+    }
+
+    @Override
+    public ResponseEntity<StreamingResponseBody> export() {
+        return NdjsonUtils.<CastMemberResponse>stream(write -> this.exportCastMembersUseCase
+                .execute(it -> write.accept(CastMemberPresenter.present(it))));
+    }
+
+    @Override
+    public List<CastMemberResponse> getByIds(final List<String> ids) {
+        return this.getCastMembersByIdsUseCase.execute(ids).stream().map(CastMemberPresenter::present).toList();
+    }
+
+    @Override
+    public ResponseEntity<CastMemberResponse> getById(final String id, final WebRequest request) {
+        final var notModified = ETagUtils.<CastMemberResponse>notModified(request, id,
+                this.getCastMemberByIdUseCase::lastModified);
+        if (notModified.isPresent()) {
+            return notModified.get();
+        }
+        final var output = this.getCastMemberByIdUseCase.execute(id);
+        return ETagUtils.ok(CastMemberPresenter.present(output), id, output.updatedAt());
     }
 
     @Override
@@ -1,30 +1,49 @@
 package com.fullcycle.admin.catalog.infrastructure.api.controllers;
 
+import java.io.InputStream;
 import java.net.URI;
+import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 import java.util.function.Function;
 
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.fullcycle.admin.catalog.application.category.create.CreateCategoriesUseCase;
 import com.fullcycle.admin.catalog.application.category.create.CreateCategoryCommand;
 import com.fullcycle.admin.catalog.application.category.create.CreateCategoryOutput;
 import com.fullcycle.admin.catalog.application.category.create.CreateCategoryUseCase;
 import com.fullcycle.admin.catalog.application.category.delete.DeleteCategoryUseCase;
+import com.fullcycle.admin.catalog.application.category.retrive.changes.ListCategoryChangesUseCase;
+import com.fullcycle.admin.catalog.application.category.retrive.export.ExportCategoriesUseCase;
+import com.fullcycle.admin.catalog.application.category.retrive.get.GetCategoriesByIdsUseCase;
 import com.fullcycle.admin.catalog.application.category.retrive.get.GetCategoryByIdUseCase;
 import com.fullcycle.admin.catalog.application.category.retrive.list.ListCategoriesUseCase;
 import com.fullcycle.admin.catalog.application.category.update.UpdateCategoryCommand;
 import com.fullcycle.admin.catalog.application.category.update.UpdateCategoryOutput;
 import com.fullcycle.admin.catalog.application.category.update.UpdateCategoryUseCase;
+import com.fullcycle.admin.catalog.domain.pagination.ChangesQuery;
+import com.fullcycle.admin.catalog.domain.pagination.MatchMode;
 import com.fullcycle.admin.catalog.domain.pagination.SearchQuery;
 import com.fullcycle.admin.catalog.domain.pagination.Pagination;
+import com.fullcycle.admin.catalog.domain.pagination.TotalMode;
 import com.fullcycle.admin.catalog.domain.validation.handler.Notification;
 import com.fullcycle.admin.catalog.infrastructure.api.CategoryApi;
+import com.fullcycle.admin.catalog.infrastructure.api.models.BulkItemResponse;
+import com.fullcycle.admin.catalog.infrastructure.api.models.ChangeResponse;
+import com.fullcycle.admin.catalog.infrastructure.api.models.ImportResponse;
 import com.fullcycle.admin.catalog.infrastructure.category.models.CategoryApiOutput;
 import com.fullcycle.admin.catalog.infrastructure.category.models.CategoryListResponse;
 import com.fullcycle.admin.catalog.infrastructure.category.models.CreateCategoryApiInput;
 import com.fullcycle.admin.catalog.infrastructure.category.models.UpdateCategoryApiInput;
 import com.fullcycle.admin.catalog.infrastructure.category.presenters.CategoryApiPresenter;
+import com.fullcycle.admin.catalog.infrastructure.imports.BulkImporter;
+import com.fullcycle.admin.catalog.infrastructure.imports.ImportFormat;
+import com.fullcycle.admin.catalog.infrastructure.utils.ETagUtils;
+import com.fullcycle.admin.catalog.infrastructure.utils.NdjsonUtils;
 
 @RestController
 public class CategoryController implements CategoryApi {
@@ -34,17 +53,32 @@ public class CategoryController implements CategoryApi {
     private final UpdateCategoryUseCase updateCategoryUseCase;
     private final DeleteCategoryUseCase deleteCategoryUseCase;
     private final ListCategoriesUseCase listCategoriesUseCase;
+    private final GetCategoriesByIdsUseCase getCategoriesByIdsUseCase;
+    private final CreateCategoriesUseCase createCategoriesUseCase;
+    private final ListCategoryChangesUseCase listCategoryChangesUseCase;
+    private final ExportCategoriesUseCase exportCategoriesUseCase;
+    private final BulkImporter bulkImporter;
 
     public CategoryController(final CreateCategoryUseCase createCategoryUseCase,
             final GetCategoryByIdUseCase getCategoryByIdUseCase,
             final UpdateCategoryUseCase updateCategoryUseCase,
             final DeleteCategoryUseCase deleteCategoryUseCase,
-            final ListCategoriesUseCase listCategoriesUseCase) {
+            final ListCategoriesUseCase listCategoriesUseCase,
+            final GetCategoriesByIdsUseCase getCategoriesByIdsUseCase,
+            final CreateCategoriesUseCase createCategoriesUseCase,
+            final ListCategoryChangesUseCase listCategoryChangesUseCase,
+            final ExportCategoriesUseCase exportCategoriesUseCase,
+            final BulkImporter bulkImporter) {
         this.createCategoryUseCase = Objects.requireNonNull(createCategoryUseCase);
         this.getCategoryByIdUseCase = Objects.requireNonNull(getCategoryByIdUseCase);
         this.updateCategoryUseCase = Objects.requireNonNull(updateCategoryUseCase);
         this.deleteCategoryUseCase = Objects.requireNonNull(deleteCategoryUseCase);
         this.listCategoriesUseCase = Objects.requireNonNull(listCategoriesUseCase);
+        this.getCategoriesByIdsUseCase = Objects.requireNonNull(getCategoriesByIdsUseCase);
+        this.createCategoriesUseCase = Objects.requireNonNull(createCategoriesUseCase);
+        this.listCategoryChangesUseCase = Objects.requireNonNull(listCategoryChangesUseCase);
+        this.exportCategoriesUseCase = Objects.requireNonNull(exportCategoriesUseCase);
+        this.bulkImporter = Objects.requireNonNull(bulkImporter);
     }
 
     @Override
@@ -59,20 +93,70 @@ public class CategoryController implements CategoryApi {
     }
 
     @Override
-    public Pagination<CategoryListResponse> listCategories(String search, int page, int perPage, String sort,
-            String direction) {
-        return listCategoriesUseCase.execute(new SearchQuery(page, perPage, search, sort, direction))
-                .map(CategoryApiPresenter::present);
+    public List<BulkItemResponse> createCategories(final List<CreateCategoryApiInput> input) {
+        final var commands = input.stream()
+                .map(it -> CreateCategoryCommand.with(it.name(), it.description(),
+                        it.active() != null ? it.active() : true))
+                .toList();
+        final var results = this.createCategoriesUseCase.execute(commands).stream()
+                .map(it -> it.map(CreateCategoryOutput::id))
+                .toList();
+        return BulkItemResponse.from(results);
     }
 
     @Override
-    public CategoryApiOutput getById(String id) {
+    public ImportResponse importCategories(final String contentType, final InputStream body) {
+        return this.bulkImporter.run("categories", body, ImportFormat.of(contentType), CreateCategoryApiInput.class,
+                Set.of(),
+                it -> CreateCategoryCommand.with(it.name(), it.description(), it.active() != null ? it.active() : true),
+                commands -> this.createCategoriesUseCase.execute(commands).stream()
+                        .map(it -> it.map(CreateCategoryOutput::id))
+                        .toList());
+    }
+
+    @Override
+    public ResponseEntity<Pagination<CategoryListResponse>> listCategories(String search, int page, int perPage,
+            String sort, String direction, String cursor, String total, String match, Boolean active,
+            WebRequest request) {
+        final var aQuery = new SearchQuery(page, perPage, search, sort, direction, cursor, TotalMode.from(total),
+                MatchMode.from(match), active);
+        return ETagUtils.ok(request, this.listCategoriesUseCase.version(),
+                () -> this.listCategoriesUseCase.execute(aQuery).map(CategoryApiPresenter::present));
+    }
+
+    @Override
+    public Pagination<ChangeResponse<CategoryListResponse>> listChanges(final String since, final String cursor,
+            final int perPage) {
+        return this.listCategoryChangesUseCase.execute(ChangesQuery.from(since, cursor, perPage))
+                .map(it -> ChangeResponse.from(it, CategoryApiPresenter::present));
+    }
+
+    @Override
+    public ResponseEntity<StreamingResponseBody> export() {
+        return NdjsonUtils.<CategoryApiOutput>stream(write -> this.exportCategoriesUseCase
+                .execute(it -> write.accept(CategoryApiPresenter.present(it))));
+    }
+
+    @Override
+    public List<CategoryApiOutput> getByIds(final List<String> ids) {
+        return this.getCategoriesByIdsUseCase.execute(ids).stream()
+                .map(CategoryApiPresenter::present)
+                .toList();
+    }
+
+    @Override
+    public ResponseEntity<CategoryApiOutput> getById(final String id, final WebRequest request) {
+        final var notModified = ETagUtils.<CategoryApiOutput>notModified(request, id,
+                this.getCategoryByIdUseCase::lastModified);
+        if (notModified.isPresent()) {
+            return notModified.get();
+        }
         final var categoryOutput = this.getCategoryByIdUseCase.execute(id);
         // final var categoryApiOutput =
         // CategoryApiPresenter.present.apply(categoryOutput);
         // CategoryApiPresenter.present.compose(this.getCategoryByIdUseCase::execute).apply(id);
         final var categoryApiOutput = CategoryApiPresenter.present(categoryOutput);
-        return categoryApiOutput;
+        return ETagUtils.ok(categoryApiOutput, id, categoryOutput.updateddAt());
     }
 
     @Override
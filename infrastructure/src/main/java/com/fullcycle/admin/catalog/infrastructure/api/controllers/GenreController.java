@@ -1,24 +1,44 @@
 package com.fullcycle.admin.catalog.infrastructure.api.controllers;
 
 import com.fullcycle.admin.catalog.application.genre.create.CreateGenreCommand;
+import com.fullcycle.admin.catalog.application.genre.create.CreateGenreOutput;
 import com.fullcycle.admin.catalog.application.genre.create.CreateGenreUseCase;
+import com.fullcycle.admin.catalog.application.genre.create.CreateGenresUseCase;
 import com.fullcycle.admin.catalog.application.genre.delete.DeleteGenreUseCase;
+import com.fullcycle.admin.catalog.application.genre.retrive.changes.ListGenreChangesUseCase;
+import com.fullcycle.admin.catalog.application.genre.retrive.export.ExportGenresUseCase;
 import com.fullcycle.admin.catalog.application.genre.retrive.get.GetGenreByIdUseCase;
+import com.fullcycle.admin.catalog.application.genre.retrive.get.GetGenresByIdsUseCase;
 import com.fullcycle.admin.catalog.application.genre.retrive.list.ListGenreUseCase;
 import com.fullcycle.admin.catalog.application.genre.update.UpdateGenreCommand;
 import com.fullcycle.admin.catalog.application.genre.update.UpdateGenreUseCase;
+import com.fullcycle.admin.catalog.domain.pagination.ChangesQuery;
+import com.fullcycle.admin.catalog.domain.pagination.MatchMode;
 import com.fullcycle.admin.catalog.domain.pagination.Pagination;
 import com.fullcycle.admin.catalog.domain.pagination.SearchQuery;
+import com.fullcycle.admin.catalog.domain.pagination.TotalMode;
 import com.fullcycle.admin.catalog.infrastructure.api.GenreAPI;
+import com.fullcycle.admin.catalog.infrastructure.api.models.BulkItemResponse;
+import com.fullcycle.admin.catalog.infrastructure.api.models.ChangeResponse;
+import com.fullcycle.admin.catalog.infrastructure.api.models.ImportResponse;
 import com.fullcycle.admin.catalog.infrastructure.genre.models.CreateGenreRequest;
 import com.fullcycle.admin.catalog.infrastructure.genre.models.GenreListResponse;
 import com.fullcycle.admin.catalog.infrastructure.genre.models.GenreResponse;
 import com.fullcycle.admin.catalog.infrastructure.genre.models.UpdateGenreRequest;
 import com.fullcycle.admin.catalog.infrastructure.genre.presenters.GenreApiPresenter;
+import com.fullcycle.admin.catalog.infrastructure.imports.BulkImporter;
+import com.fullcycle.admin.catalog.infrastructure.imports.ImportFormat;
+import com.fullcycle.admin.catalog.infrastructure.utils.ETagUtils;
+import com.fullcycle.admin.catalog.infrastructure.utils.NdjsonUtils;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.InputStream;
 import java.net.URI;
+import java.util.List;
+import java.util.Set;
 
 @RestController
 public class GenreController implements GenreAPI {
@@ -27,18 +47,33 @@ public class GenreController implements GenreAPI {
     private final UpdateGenreUseCase updateGenreUseCase;
     private final DeleteGenreUseCase deleteGenreUseCase;
     private final ListGenreUseCase listGenreUseCase;
+    private final GetGenresByIdsUseCase getGenresByIdsUseCase;
+    private final CreateGenresUseCase createGenresUseCase;
+    private final ListGenreChangesUseCase listGenreChangesUseCase;
+    private final ExportGenresUseCase exportGenresUseCase;
+    private final BulkImporter bulkImporter;
 
 
     public GenreController(final CreateGenreUseCase createGenreUseCase,
                            final GetGenreByIdUseCase getGenreByIdUseCase,
                            final UpdateGenreUseCase updateGenreUseCase,
                            final DeleteGenreUseCase deleteGenreUseCase,
-                           final ListGenreUseCase listGenreUseCase) {
+                           final ListGenreUseCase listGenreUseCase,
+                           final GetGenresByIdsUseCase getGenresByIdsUseCase,
+                           final CreateGenresUseCase createGenresUseCase,
+                           final ListGenreChangesUseCase listGenreChangesUseCase,
+                           final ExportGenresUseCase exportGenresUseCase,
+                           final BulkImporter bulkImporter) {
         this.createGenreUseCase = createGenreUseCase;
         this.getGenreByIdUseCase = getGenreByIdUseCase;
         this.updateGenreUseCase = updateGenreUseCase;
         this.deleteGenreUseCase = deleteGenreUseCase;
         this.listGenreUseCase = listGenreUseCase;
+        this.getGenresByIdsUseCase = getGenresByIdsUseCase;
+        this.createGenresUseCase = createGenresUseCase;
+        this.listGenreChangesUseCase = listGenreChangesUseCase;
+        this.exportGenresUseCase = exportGenresUseCase;
+        this.bulkImporter = bulkImporter;
     }
 
 
@@ -50,13 +85,59 @@ public class GenreController implements GenreAPI {
     }
 
     @Override
-    public Pagination<GenreListResponse> list(final String search,final int page,final  int perPage, final String sort, final String direction) {
-        return this.listGenreUseCase.execute(new SearchQuery(page, perPage, search, sort, direction)).map(GenreApiPresenter::present);
+    public List<BulkItemResponse> createAll(final List<CreateGenreRequest> input) {
+        final var commands = input.stream()
+                .map(it -> CreateGenreCommand.with(it.name(), it.isActive(), it.categories()))
+                .toList();
+        return BulkItemResponse.from(this.createGenresUseCase.execute(commands).stream()
+                .map(it -> it.map(CreateGenreOutput::id))
+                .toList());
     }
 
     @Override
-    public GenreResponse getById(final String id) {
-        return GenreApiPresenter.present(this.getGenreByIdUseCase.execute(id));
+    public ImportResponse importAll(final String contentType, final InputStream body) {
+        return this.bulkImporter.run("genres", body, ImportFormat.of(contentType), CreateGenreRequest.class,
+                Set.of("categories_id"),
+                it -> CreateGenreCommand.with(it.name(), it.isActive(), it.categories()),
+                commands -> this.createGenresUseCase.execute(commands).stream()
+                        .map(it -> it.map(CreateGenreOutput::id))
+                        .toList());
+    }
+
+    @Override
+    public ResponseEntity<Pagination<GenreListResponse>> list(final String search,final int page,final  int perPage, final String sort, final String direction, final String cursor, final String total, final String match, final boolean categories, final Boolean active, final WebRequest request) {
+        final var aQuery = new SearchQuery(page, perPage, search, sort, direction, cursor, TotalMode.from(total),
+                MatchMode.from(match), active);
+        return ETagUtils.ok(request, this.listGenreUseCase.version(),
+                () -> this.listGenreUseCase.execute(aQuery, categories).map(GenreApiPresenter::present));
+    }
+
+    @Override
+    public Pagination<ChangeResponse<GenreListResponse>> listChanges(final String since, final String cursor,
+            final int perPage) {
+        return this.listGenreChangesUseCase.execute(ChangesQuery.from(since, cursor, perPage))
+                .map(it -> ChangeResponse.from(it, GenreApiPresenter::present));
+    }
+
+    @Override
+    public ResponseEntity<StreamingResponseBody> export() {
+        return NdjsonUtils.<GenreResponse>stream(write -> this.exportGenresUseCase
+                .execute(it -> write.accept(GenreApiPresenter.present(it))));
+    }
+
+    @Override
+    public List<GenreResponse> getByIds(final List<String> ids) {
+        return this.getGenresByIdsUseCase.execute(ids).stream().map(GenreApiPresenter::present).toList();
+    }
+
+    @Override
+    public ResponseEntity<GenreResponse> getById(final String id, final WebRequest request) {
+        final var notModified = ETagUtils.<GenreResponse>notModified(request, id, this.getGenreByIdUseCase::lastModified);
+        if (notModified.isPresent()) {
+            return notModified.get();
+        }
+        final var output = this.getGenreByIdUseCase.execute(id);
+        return ETagUtils.ok(GenreApiPresenter.present(output), id, output.updatedAt());
     }
 
     @Override
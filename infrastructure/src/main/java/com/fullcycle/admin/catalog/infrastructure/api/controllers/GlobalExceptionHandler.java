@@ -4,6 +4,7 @@ import java.util.List;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -12,6 +13,7 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 import com.fullcycle.admin.catalog.domain.validation.Error;
 import com.fullcycle.admin.catalog.domain.exceptions.DomainException;
 import com.fullcycle.admin.catalog.domain.exceptions.NotFoundException;
+import com.fullcycle.admin.catalog.infrastructure.persistence.DatabaseBusyException;
 
 @RestControllerAdvice
 public class GlobalExceptionHandler {
@@ -33,6 +35,14 @@ public class GlobalExceptionHandler {
         return ResponseEntity.unprocessableEntity().body(ApiError.from(ex));
     }
 
+    // only raised with the virtual thread mode, tells the client to come back instead of holding the request
+    @ExceptionHandler(value = DatabaseBusyException.class)
+    public ResponseEntity<?> handleDatabaseBusyException(final DatabaseBusyException ex) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(new ApiError(ex.getMessage(), List.of()));
+    }
+
     record ApiError(String message, List<Error> errors) {
         static ApiError from(final DomainException ex) {
             return new ApiError(ex.getMessage(), ex.getErrors());
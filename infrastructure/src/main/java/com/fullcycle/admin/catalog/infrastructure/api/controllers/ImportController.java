@@ -0,0 +1,30 @@
+package com.fullcycle.admin.catalog.infrastructure.api.controllers;
+
+import java.util.Objects;
+
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.fullcycle.admin.catalog.infrastructure.api.ImportAPI;
+import com.fullcycle.admin.catalog.infrastructure.imports.BulkImporter;
+import com.fullcycle.admin.catalog.infrastructure.utils.NdjsonUtils;
+
+@RestController
+public class ImportController implements ImportAPI {
+    private final BulkImporter bulkImporter;
+
+    public ImportController(final BulkImporter bulkImporter) {
+        this.bulkImporter = Objects.requireNonNull(bulkImporter);
+    }
+
+    @Override
+    public ResponseEntity<Resource> getReport(final String id) {
+        return this.bulkImporter.report(id)
+                .<ResponseEntity<Resource>>map(it -> ResponseEntity.ok()
+                        .contentType(NdjsonUtils.NDJSON)
+                        .body(new FileSystemResource(it)))
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+}
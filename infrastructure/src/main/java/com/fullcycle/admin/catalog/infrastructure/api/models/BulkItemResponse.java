@@ -0,0 +1,26 @@
+package com.fullcycle.admin.catalog.infrastructure.api.models;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fullcycle.admin.catalog.domain.validation.Error;
+import com.fullcycle.admin.catalog.domain.validation.handler.Notification;
+
+import io.vavr.control.Either;
+
+// result of the item at the given position of a bulk request: the created id or why it was rejected
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record BulkItemResponse(int index, String id, List<Error> errors) {
+
+    public static List<BulkItemResponse> from(final List<Either<Notification, String>> results) {
+        final var items = new ArrayList<BulkItemResponse>(results.size());
+        for (int i = 0; i < results.size(); i++) {
+            final var index = i;
+            items.add(results.get(i).fold(
+                    notification -> new BulkItemResponse(index, null, notification.getErrors()),
+                    anId -> new BulkItemResponse(index, anId, null)));
+        }
+        return items;
+    }
+}
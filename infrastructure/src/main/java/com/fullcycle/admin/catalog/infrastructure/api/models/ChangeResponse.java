@@ -0,0 +1,25 @@
+package com.fullcycle.admin.catalog.infrastructure.api.models;
+
+import java.time.Instant;
+import java.util.function.Function;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fullcycle.admin.catalog.domain.pagination.Change;
+
+// a tombstone goes out as id, changed_at and deleted = true, with no item
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ChangeResponse<T>(
+        @JsonProperty("id") String id,
+        @JsonProperty("changed_at") Instant changedAt,
+        @JsonProperty("deleted") boolean deleted,
+        @JsonProperty("item") T item) {
+
+    public static <T, R> ChangeResponse<R> from(final Change<T> aChange, final Function<T, R> present) {
+        return new ChangeResponse<>(
+                aChange.id(),
+                aChange.changedAt(),
+                aChange.deleted(),
+                aChange.item() != null ? present.apply(aChange.item()) : null);
+    }
+}
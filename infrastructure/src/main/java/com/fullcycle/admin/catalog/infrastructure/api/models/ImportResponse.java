@@ -0,0 +1,8 @@
+package com.fullcycle.admin.catalog.infrastructure.api.models;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+// outcome of a streamed import, errorReport is the path of the rejected lines and their errors under /imports/reports
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ImportResponse(long read, long imported, long rejected, String errorReport) {
+}
@@ -0,0 +1,183 @@
+package com.fullcycle.admin.catalog.infrastructure.cache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.UnaryOperator;
+
+// LRU bounded by size, entries expire ttl after being written. The aggregates are mutable, so a copy
+// goes in and a copy comes out: a use case changing what it read never changes what is cached.
+// Guarded by a ReentrantLock rather than the monitor: a virtual thread waiting on it unmounts instead of
+// pinning its carrier
+public class AggregateCache<V> {
+    private final String name;
+    private final int maxSize;
+    private final long ttlNanos;
+    private final UnaryOperator<V> copy;
+    private final LongSupplier clock;
+    private final LinkedHashMap<String, Entry<V>> entries;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final ReentrantLock lock = new ReentrantLock();
+    // bumped by every invalidation: a load that started before it must not put back what it read
+    private long generation;
+
+    public AggregateCache(final String name, final int maxSize, final Duration ttl, final UnaryOperator<V> copy) {
+        this(name, maxSize, ttl, copy, System::nanoTime);
+    }
+
+    AggregateCache(final String name, final int maxSize, final Duration ttl, final UnaryOperator<V> copy,
+                   final LongSupplier clock) {
+        this.name = Objects.requireNonNull(name);
+        this.maxSize = maxSize;
+        this.ttlNanos = ttl.toNanos();
+        this.copy = Objects.requireNonNull(copy);
+        this.clock = Objects.requireNonNull(clock);
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    public Optional<V> get(final String key, final Function<String, Optional<V>> loader) {
+        final var cached = lookup(key);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        final var started = generation();
+        final var loaded = loader.apply(key);
+        loaded.ifPresent(it -> putIfUnchanged(key, it, started));
+        return loaded.map(this.copy);
+    }
+
+    // the cached values plus one loader call for the missing keys, in the order of the keys
+    public List<V> getAll(final Collection<String> keys, final Function<List<String>, List<V>> loader,
+                          final Function<V, String> keyOf) {
+        final var found = new HashMap<String, V>(keys.size());
+        final var missing = new ArrayList<String>();
+        final var distinct = new LinkedHashSet<>(keys);
+        for (final var key : distinct) {
+            final var cached = lookup(key);
+            if (cached != null) {
+                found.put(key, cached);
+            } else {
+                missing.add(key);
+            }
+        }
+        if (!missing.isEmpty()) {
+            final var started = generation();
+            for (final var it : loader.apply(missing)) {
+                putIfUnchanged(keyOf.apply(it), it, started);
+                found.put(keyOf.apply(it), this.copy.apply(it));
+            }
+        }
+        return distinct.stream().map(found::get).filter(Objects::nonNull).toList();
+    }
+
+    public void put(final String key, final V value) {
+        final var aCopy = this.copy.apply(value);
+        this.lock.lock();
+        try {
+            store(key, aCopy);
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    public void invalidate(final String key) {
+        this.lock.lock();
+        try {
+            this.generation++;
+            this.entries.remove(key);
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    public void invalidateAll() {
+        this.lock.lock();
+        try {
+            this.generation++;
+            this.entries.clear();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    public CacheStats stats() {
+        final int size;
+        this.lock.lock();
+        try {
+            size = this.entries.size();
+        } finally {
+            this.lock.unlock();
+        }
+        return new CacheStats(this.name, this.hits.sum(), this.misses.sum(), this.evictions.sum(), size);
+    }
+
+    private V lookup(final String key) {
+        final V value;
+        this.lock.lock();
+        try {
+            final var anEntry = this.entries.get(key);
+            if (anEntry != null && anEntry.expiresAt() - this.clock.getAsLong() <= 0) {
+                this.entries.remove(key);
+                this.evictions.increment();
+                value = null;
+            } else {
+                value = anEntry != null ? anEntry.value() : null;
+            }
+        } finally {
+            this.lock.unlock();
+        }
+        if (value == null) {
+            this.misses.increment();
+            return null;
+        }
+        this.hits.increment();
+        return this.copy.apply(value);
+    }
+
+    private long generation() {
+        this.lock.lock();
+        try {
+            return this.generation;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    private void putIfUnchanged(final String key, final V value, final long started) {
+        final var aCopy = this.copy.apply(value);
+        this.lock.lock();
+        try {
+            if (this.generation == started) {
+                store(key, aCopy);
+            }
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    // holding the lock
+    private void store(final String key, final V value) {
+        this.entries.put(key, new Entry<>(value, this.clock.getAsLong() + this.ttlNanos));
+        if (this.entries.size() > this.maxSize) {
+            final var eldest = this.entries.keySet().iterator();
+            eldest.next();
+            eldest.remove();
+            this.evictions.increment();
+        }
+    }
+
+    private record Entry<V>(V value, long expiresAt) {
+    }
+}
@@ -0,0 +1,17 @@
+package com.fullcycle.admin.catalog.infrastructure.cache;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+// Bumped by the cached gateways on every write. The list results are cached under the version read
+// before the query ran, so a write makes every older entry unreachable without looking for them
+public class AggregateVersion {
+    private final AtomicLong value = new AtomicLong();
+
+    public long current() {
+        return this.value.get();
+    }
+
+    public void bump() {
+        this.value.incrementAndGet();
+    }
+}
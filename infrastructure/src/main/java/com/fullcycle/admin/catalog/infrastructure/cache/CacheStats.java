@@ -0,0 +1,9 @@
+package com.fullcycle.admin.catalog.infrastructure.cache;
+
+public record CacheStats(String name, long hits, long misses, long evictions, int size) {
+
+    public double hitRatio() {
+        final var requests = hits + misses;
+        return requests == 0 ? 0 : (double) hits / requests;
+    }
+}
@@ -0,0 +1,70 @@
+package com.fullcycle.admin.catalog.infrastructure.cache;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import com.fullcycle.admin.catalog.domain.castmeber.CastMember;
+import com.fullcycle.admin.catalog.domain.castmeber.CastMemberGateway;
+import com.fullcycle.admin.catalog.domain.castmeber.CastMemberId;
+import com.fullcycle.admin.catalog.domain.pagination.Pagination;
+import com.fullcycle.admin.catalog.domain.pagination.SearchQuery;
+
+public class CachedCastMemberGateway implements CastMemberGateway {
+    private final CastMemberGateway delegate;
+    private final AggregateCache<CastMember> cache;
+
+    public CachedCastMemberGateway(final CastMemberGateway delegate, final AggregateCache<CastMember> cache) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.cache = Objects.requireNonNull(cache);
+    }
+
+    @Override
+    public CastMember create(final CastMember aCastMember) {
+        return this.delegate.create(aCastMember);
+    }
+
+    @Override
+    public List<CastMember> createAll(final List<CastMember> aMembers) {
+        return this.delegate.createAll(aMembers);
+    }
+
+    @Override
+    public void deleteById(final CastMemberId anId) {
+        this.delegate.deleteById(anId);
+        this.cache.invalidate(anId.getValue());
+    }
+
+    @Override
+    public Optional<CastMember> findById(final CastMemberId anId) {
+        return this.cache.get(anId.getValue(), id -> this.delegate.findById(anId));
+    }
+
+    @Override
+    public Optional<Instant> findUpdatedAtById(final CastMemberId anId) {
+        return this.delegate.findUpdatedAtById(anId);
+    }
+
+    @Override
+    public List<CastMember> findAllById(final Collection<CastMemberId> ids) {
+        return this.cache.getAll(
+                ids.stream().map(CastMemberId::getValue).toList(),
+                missing -> this.delegate.findAllById(missing.stream().map(CastMemberId::from).toList()),
+                it -> it.getId().getValue()
+        );
+    }
+
+    @Override
+    public CastMember update(final CastMember aCastMember) {
+        final var updated = this.delegate.update(aCastMember);
+        this.cache.invalidate(aCastMember.getId().getValue());
+        return updated;
+    }
+
+    @Override
+    public Pagination<CastMember> findAll(final SearchQuery aQuery) {
+        return this.delegate.findAll(aQuery);
+    }
+}
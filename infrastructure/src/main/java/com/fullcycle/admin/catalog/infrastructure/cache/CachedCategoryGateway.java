@@ -0,0 +1,92 @@
+package com.fullcycle.admin.catalog.infrastructure.cache;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import com.fullcycle.admin.catalog.domain.category.Category;
+import com.fullcycle.admin.catalog.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalog.domain.category.CategoryID;
+import com.fullcycle.admin.catalog.domain.pagination.Pagination;
+import com.fullcycle.admin.catalog.domain.pagination.SearchQuery;
+
+public class CachedCategoryGateway implements CategoryGateway {
+    private final CategoryGateway delegate;
+    private final AggregateCache<Category> cache;
+    private final AggregateVersion version;
+    // genres_categories rows go away with the category (ON DELETE CASCADE), so cached genres are stale too
+    private final Runnable onDelete;
+
+    public CachedCategoryGateway(
+            final CategoryGateway delegate,
+            final AggregateCache<Category> cache,
+            final AggregateVersion version,
+            final Runnable onDelete
+    ) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.cache = Objects.requireNonNull(cache);
+        this.version = Objects.requireNonNull(version);
+        this.onDelete = Objects.requireNonNull(onDelete);
+    }
+
+    @Override
+    public Category create(final Category aCategory) {
+        final var created = this.delegate.create(aCategory);
+        this.version.bump();
+        return created;
+    }
+
+    @Override
+    public List<Category> createAll(final List<Category> aCategories) {
+        final var created = this.delegate.createAll(aCategories);
+        this.version.bump();
+        return created;
+    }
+
+    @Override
+    public void deleteById(final CategoryID anId) {
+        this.delegate.deleteById(anId);
+        this.cache.invalidate(anId.getValue());
+        this.version.bump();
+        this.onDelete.run();
+    }
+
+    @Override
+    public Optional<Category> findById(final CategoryID anId) {
+        return this.cache.get(anId.getValue(), id -> this.delegate.findById(anId));
+    }
+
+    @Override
+    public Optional<Instant> findUpdatedAtById(final CategoryID anId) {
+        return this.delegate.findUpdatedAtById(anId);
+    }
+
+    @Override
+    public List<Category> findAllById(final Collection<CategoryID> ids) {
+        return this.cache.getAll(
+                ids.stream().map(CategoryID::getValue).toList(),
+                missing -> this.delegate.findAllById(missing.stream().map(CategoryID::from).toList()),
+                it -> it.getId().getValue()
+        );
+    }
+
+    @Override
+    public Category update(final Category aCategory) {
+        final var updated = this.delegate.update(aCategory);
+        this.cache.invalidate(aCategory.getId().getValue());
+        this.version.bump();
+        return updated;
+    }
+
+    @Override
+    public Pagination<Category> findAll(final SearchQuery aQuery) {
+        return this.delegate.findAll(aQuery);
+    }
+
+    @Override
+    public List<CategoryID> existsById(final Iterable<CategoryID> ids) {
+        return this.delegate.existsById(ids);
+    }
+}
@@ -0,0 +1,82 @@
+package com.fullcycle.admin.catalog.infrastructure.cache;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import com.fullcycle.admin.catalog.domain.genre.Genre;
+import com.fullcycle.admin.catalog.domain.genre.GenreGateway;
+import com.fullcycle.admin.catalog.domain.genre.GenreID;
+import com.fullcycle.admin.catalog.domain.pagination.Pagination;
+import com.fullcycle.admin.catalog.domain.pagination.SearchQuery;
+
+public class CachedGenreGateway implements GenreGateway {
+    private final GenreGateway delegate;
+    private final AggregateCache<Genre> cache;
+    private final AggregateVersion version;
+
+    public CachedGenreGateway(
+            final GenreGateway delegate,
+            final AggregateCache<Genre> cache,
+            final AggregateVersion version
+    ) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.cache = Objects.requireNonNull(cache);
+        this.version = Objects.requireNonNull(version);
+    }
+
+    @Override
+    public Genre create(final Genre aGenre) {
+        final var created = this.delegate.create(aGenre);
+        this.version.bump();
+        return created;
+    }
+
+    @Override
+    public List<Genre> createAll(final List<Genre> aGenres) {
+        final var created = this.delegate.createAll(aGenres);
+        this.version.bump();
+        return created;
+    }
+
+    @Override
+    public void deleteById(final GenreID anId) {
+        this.delegate.deleteById(anId);
+        this.cache.invalidate(anId.getValue());
+        this.version.bump();
+    }
+
+    @Override
+    public Optional<Genre> findById(final GenreID anId) {
+        return this.cache.get(anId.getValue(), id -> this.delegate.findById(anId));
+    }
+
+    @Override
+    public Optional<Instant> findUpdatedAtById(final GenreID anId) {
+        return this.delegate.findUpdatedAtById(anId);
+    }
+
+    @Override
+    public List<Genre> findAllById(final Collection<GenreID> ids) {
+        return this.cache.getAll(
+                ids.stream().map(GenreID::getValue).toList(),
+                missing -> this.delegate.findAllById(missing.stream().map(GenreID::from).toList()),
+                it -> it.getId().getValue()
+        );
+    }
+
+    @Override
+    public Genre update(final Genre aGenre) {
+        final var updated = this.delegate.update(aGenre);
+        this.cache.invalidate(aGenre.getId().getValue());
+        this.version.bump();
+        return updated;
+    }
+
+    @Override
+    public Pagination<Genre> findAll(final SearchQuery aQuery) {
+        return this.delegate.findAll(aQuery);
+    }
+}
@@ -0,0 +1,35 @@
+package com.fullcycle.admin.catalog.infrastructure.cache;
+
+import java.util.Objects;
+
+import com.fullcycle.admin.catalog.application.category.retrive.list.CategoryListOutput;
+import com.fullcycle.admin.catalog.application.category.retrive.list.ListCategoriesUseCase;
+import com.fullcycle.admin.catalog.domain.pagination.ListVersion;
+import com.fullcycle.admin.catalog.domain.pagination.Pagination;
+import com.fullcycle.admin.catalog.domain.pagination.SearchQuery;
+
+public class CachedListCategoriesUseCase extends ListCategoriesUseCase {
+    private final ListCategoriesUseCase delegate;
+    private final QueryResultCache<ListKey, Pagination<CategoryListOutput>> cache;
+    private final AggregateVersion version;
+
+    public CachedListCategoriesUseCase(
+            final ListCategoriesUseCase delegate,
+            final QueryResultCache<ListKey, Pagination<CategoryListOutput>> cache,
+            final AggregateVersion version
+    ) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.cache = Objects.requireNonNull(cache);
+        this.version = Objects.requireNonNull(version);
+    }
+
+    @Override
+    public Pagination<CategoryListOutput> execute(final SearchQuery aQuery) {
+        return this.cache.get(this.version.current(), ListKey.of(aQuery), key -> this.delegate.execute(aQuery));
+    }
+
+    @Override
+    public ListVersion version() {
+        return this.delegate.version();
+    }
+}
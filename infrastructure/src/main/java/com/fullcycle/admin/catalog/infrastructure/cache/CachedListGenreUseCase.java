@@ -0,0 +1,41 @@
+package com.fullcycle.admin.catalog.infrastructure.cache;
+
+import java.util.Objects;
+
+import com.fullcycle.admin.catalog.application.genre.retrive.list.GenreListOutput;
+import com.fullcycle.admin.catalog.application.genre.retrive.list.ListGenreUseCase;
+import com.fullcycle.admin.catalog.domain.pagination.ListVersion;
+import com.fullcycle.admin.catalog.domain.pagination.Pagination;
+import com.fullcycle.admin.catalog.domain.pagination.SearchQuery;
+
+public class CachedListGenreUseCase extends ListGenreUseCase {
+    private final ListGenreUseCase delegate;
+    private final QueryResultCache<ListKey, Pagination<GenreListOutput>> cache;
+    private final AggregateVersion version;
+
+    public CachedListGenreUseCase(
+            final ListGenreUseCase delegate,
+            final QueryResultCache<ListKey, Pagination<GenreListOutput>> cache,
+            final AggregateVersion version
+    ) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.cache = Objects.requireNonNull(cache);
+        this.version = Objects.requireNonNull(version);
+    }
+
+    @Override
+    public Pagination<GenreListOutput> execute(final SearchQuery aQuery) {
+        return execute(aQuery, true);
+    }
+
+    @Override
+    public Pagination<GenreListOutput> execute(final SearchQuery aQuery, final boolean withCategories) {
+        return this.cache.get(this.version.current(), ListKey.of(aQuery, withCategories),
+                key -> this.delegate.execute(aQuery, withCategories));
+    }
+
+    @Override
+    public ListVersion version() {
+        return this.delegate.version();
+    }
+}
@@ -0,0 +1,41 @@
+package com.fullcycle.admin.catalog.infrastructure.cache;
+
+import com.fullcycle.admin.catalog.domain.pagination.MatchMode;
+import com.fullcycle.admin.catalog.domain.pagination.SearchQuery;
+import com.fullcycle.admin.catalog.domain.pagination.TotalMode;
+
+// SearchQuery with what does not change the result normalized away: blank terms are the same as none, the
+// direction is lowercased ("ASC" and "asc") and the page sent along with a cursor is ignored. The terms
+// themselves arrive already trimmed by SearchQuery
+public record ListKey(
+        int page,
+        int perPage,
+        String terms,
+        String sort,
+        String direction,
+        String cursor,
+        TotalMode totalMode,
+        MatchMode matchMode,
+        Boolean active,
+        boolean withCategories
+) {
+
+    public static ListKey of(final SearchQuery aQuery) {
+        return of(aQuery, true);
+    }
+
+    public static ListKey of(final SearchQuery aQuery, final boolean withCategories) {
+        return new ListKey(
+                aQuery.hasCursor() ? 0 : aQuery.page(),
+                aQuery.perPage(),
+                aQuery.hasTerms() ? aQuery.terms() : "",
+                aQuery.sort(),
+                aQuery.direction() != null ? aQuery.direction().toLowerCase() : null,
+                aQuery.hasCursor() ? aQuery.cursor() : null,
+                aQuery.totalMode(),
+                aQuery.matchMode(),
+                aQuery.active(),
+                withCategories
+        );
+    }
+}
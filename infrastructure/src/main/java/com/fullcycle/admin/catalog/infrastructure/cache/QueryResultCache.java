@@ -0,0 +1,87 @@
+package com.fullcycle.admin.catalog.infrastructure.cache;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+// LRU of list results keyed by (version, key). The cached values are shared between callers,
+// so only immutable results (records of records) belong here. Same lock as AggregateCache, the loader runs outside it
+public class QueryResultCache<K, V> {
+    private final String name;
+    private final int maxSize;
+    private final long ttlNanos;
+    private final LongSupplier clock;
+    private final LinkedHashMap<Versioned<K>, Entry<V>> entries;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final ReentrantLock lock = new ReentrantLock();
+
+    public QueryResultCache(final String name, final int maxSize, final Duration ttl) {
+        this(name, maxSize, ttl, System::nanoTime);
+    }
+
+    QueryResultCache(final String name, final int maxSize, final Duration ttl, final LongSupplier clock) {
+        this.name = Objects.requireNonNull(name);
+        this.maxSize = maxSize;
+        this.ttlNanos = ttl.toNanos();
+        this.clock = Objects.requireNonNull(clock);
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    // version must be read before the loader runs: a write during the load bumps it and the
+    // result lands under the old version, where nobody looks anymore
+    public V get(final long version, final K key, final Function<K, V> loader) {
+        final var aKey = new Versioned<>(version, key);
+        this.lock.lock();
+        try {
+            final var anEntry = this.entries.get(aKey);
+            if (anEntry != null && anEntry.expiresAt() - this.clock.getAsLong() > 0) {
+                this.hits.increment();
+                return anEntry.value();
+            }
+            if (anEntry != null) {
+                this.entries.remove(aKey);
+                this.evictions.increment();
+            }
+        } finally {
+            this.lock.unlock();
+        }
+        this.misses.increment();
+        final var value = loader.apply(key);
+        this.lock.lock();
+        try {
+            this.entries.put(aKey, new Entry<>(value, this.clock.getAsLong() + this.ttlNanos));
+            if (this.entries.size() > this.maxSize) {
+                final var eldest = this.entries.keySet().iterator();
+                eldest.next();
+                eldest.remove();
+                this.evictions.increment();
+            }
+        } finally {
+            this.lock.unlock();
+        }
+        return value;
+    }
+
+    public CacheStats stats() {
+        final int size;
+        this.lock.lock();
+        try {
+            size = this.entries.size();
+        } finally {
+            this.lock.unlock();
+        }
+        return new CacheStats(this.name, this.hits.sum(), this.misses.sum(), this.evictions.sum(), size);
+    }
+
+    private record Versioned<K>(long version, K key) {
+    }
+
+    private record Entry<V>(V value, long expiresAt) {
+    }
+}
@@ -1,40 +1,94 @@
 package com.fullcycle.admin.catalog.infrastructure.castmember;
 
+import com.fullcycle.admin.catalog.application.castmember.retrieve.get.CastMemberOutput;
+import com.fullcycle.admin.catalog.application.castmember.retrieve.list.CastMemberListOutput;
+import com.fullcycle.admin.catalog.application.castmember.retrieve.list.CastMemberQueryGateway;
 import com.fullcycle.admin.catalog.domain.castmeber.CastMember;
+import com.fullcycle.admin.catalog.domain.castmeber.CastMemberChanged;
 import com.fullcycle.admin.catalog.domain.castmeber.CastMemberGateway;
 import com.fullcycle.admin.catalog.domain.castmeber.CastMemberId;
+import com.fullcycle.admin.catalog.domain.castmeber.CastMemberType;
+import com.fullcycle.admin.catalog.domain.pagination.ListVersion;
 import com.fullcycle.admin.catalog.domain.pagination.Pagination;
 import com.fullcycle.admin.catalog.domain.pagination.SearchQuery;
 import com.fullcycle.admin.catalog.infrastructure.castmember.persistence.CastMemberJpaEntity;
 import com.fullcycle.admin.catalog.infrastructure.castmember.persistence.CastMemberRepository;
+import com.fullcycle.admin.catalog.infrastructure.outbox.Outbox;
 import com.fullcycle.admin.catalog.infrastructure.utils.SpecificationUtils;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
+import com.fullcycle.admin.catalog.infrastructure.utils.TransactionUtils;
+import com.fullcycle.admin.catalog.infrastructure.search.TrigramIndex;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 
+import javax.annotation.PostConstruct;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Consumer;
 
-public class CastMemberMySQLGateway implements CastMemberGateway {
+@Component
+public class CastMemberMySQLGateway implements CastMemberGateway, CastMemberQueryGateway {
+    private static final List<String> LIST_COLUMNS = List.of("id", "name", "type", "createdAt");
+    private static final List<String> EXPORT_COLUMNS = List.of("id", "name", "type", "createdAt", "updatedAt");
 
     private final CastMemberRepository castMemberRepository;
+    private final Outbox outbox;
+    private final boolean indexed;
+    private final TrigramIndex index = new TrigramIndex();
 
-    public CastMemberMySQLGateway(final CastMemberRepository castMemberRepository) {
+    public CastMemberMySQLGateway(
+            final CastMemberRepository castMemberRepository,
+            final Outbox outbox,
+            @Value("${search.index.enabled:false}") final boolean indexed
+    ) {
         this.castMemberRepository = Objects.requireNonNull(castMemberRepository);
+        this.outbox = Objects.requireNonNull(outbox);
+        this.indexed = indexed;
+    }
+
+    @PostConstruct
+    void buildIndex() {
+        if (this.indexed) {
+            this.index.clear();
+            this.castMemberRepository.forEachBatch(CastMemberJpaEntity.class, 1000, batch -> batch
+                    .forEach(it -> this.index.put(it.getId(), it.getName())));
+        }
     }
 
 
     @Override
+    @Transactional
     public CastMember create(CastMember aCastMember) {
-        return save(aCastMember);
+        return save(CastMemberJpaEntity.newEntity(aCastMember), aCastMember);
+    }
+
+    @Override
+    @Transactional
+    public List<CastMember> createAll(final List<CastMember> aMembers) {
+        final var entities = aMembers.stream().map(CastMemberJpaEntity::newEntity).toList();
+        this.castMemberRepository.persistAll(entities);
+        this.outbox.appendAll(Outbox.CAST_MEMBER, aMembers);
+        if (this.indexed) {
+            TransactionUtils.afterCommit(() -> aMembers.forEach(it -> this.index.put(it.getId().getValue(), it.getName())));
+        }
+        return entities.stream().map(CastMemberJpaEntity::toAggregate).toList();
     }
 
     @Override
+    @Transactional
     public void deleteById(CastMemberId aMemberId) {
         final var anId = aMemberId.getValue();
         if(this.castMemberRepository.existsById(anId)){
             this.castMemberRepository.deleteById(anId);
+            this.outbox.append(Outbox.CAST_MEMBER, CastMemberChanged.deleted(aMemberId));
+        }
+        if (this.indexed) {
+            TransactionUtils.afterCommit(() -> this.index.remove(anId));
         }
     }
 
@@ -44,33 +98,85 @@ public class CastMemberMySQLGateway implements CastMemberGateway {
     }
 
     @Override
+    public Optional<Instant> findUpdatedAtById(final CastMemberId anID) {
+        return this.castMemberRepository.findUpdatedAtById(anID.getValue());
+    }
+
+    @Override
+    @Transactional
     public CastMember update(CastMember aCastMember) {
-        return save(aCastMember);
+        return save(CastMemberJpaEntity.from(aCastMember), aCastMember);
+    }
+
+    @Override
+    public List<CastMember> findAllById(final Collection<CastMemberId> ids) {
+        final var values = ids.stream().map(CastMemberId::getValue).toList();
+        return this.castMemberRepository.findAllByIds(CastMemberJpaEntity.class, values).stream()
+                .map(CastMemberJpaEntity::toAggregate)
+                .toList();
     }
 
     @Override
     public Pagination<CastMember> findAll(SearchQuery aQuery) {
+        final var where = aQuery.hasTerms() ? assembleSpecification(aQuery) : null;
+        return this.castMemberRepository.search(CastMemberJpaEntity.class, where, aQuery)
+                .map(CastMemberJpaEntity::toAggregate);
+    }
 
-        final var page = PageRequest.of(
-                aQuery.page(),
-                aQuery.perPage(),
-                Sort.by(Sort.Direction.fromString(aQuery.direction()), aQuery.sort())
-        );
-        final var where = Optional.ofNullable(aQuery.terms()).filter(str -> !str.isBlank()).map(this::assembleSpecification).orElse(null);
-        final var pageResult = this.castMemberRepository.findAll(where,page);
-        return new Pagination<>(
-                pageResult.getNumber(),
-                pageResult.getSize(),
-                pageResult.getTotalElements(),
-                pageResult.map(CastMemberJpaEntity::toAggregate).toList()
-        );
+    @Override
+    public Pagination<CastMemberListOutput> list(final SearchQuery aQuery) {
+        final var where = aQuery.hasTerms() ? assembleSpecification(aQuery) : null;
+        return this.castMemberRepository.searchColumns(CastMemberJpaEntity.class, where, aQuery, LIST_COLUMNS)
+                .map(it -> new CastMemberListOutput(
+                        it.get("id", String.class),
+                        it.get("name", String.class),
+                        it.get("type", CastMemberType.class),
+                        it.get("createdAt", Instant.class)
+                ));
     }
 
-    private CastMember save(final CastMember aCastMember) {
-        return this.castMemberRepository.save(CastMemberJpaEntity.from(aCastMember)).toAggregate();
+    @Override
+    public ListVersion version() {
+        return this.castMemberRepository.findListVersion();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void forEach(final Consumer<CastMemberOutput> aConsumer) {
+        this.castMemberRepository.streamColumns(CastMemberJpaEntity.class, EXPORT_COLUMNS,
+                it -> aConsumer.accept(new CastMemberOutput(
+                        it.get("id", String.class),
+                        it.get("name", String.class),
+                        it.get("type", CastMemberType.class),
+                        it.get("createdAt", Instant.class),
+                        it.get("updatedAt", Instant.class)
+                )));
     }
 
-    private Specification<CastMemberJpaEntity> assembleSpecification(final String terms) {
+    private CastMember save(final CastMemberJpaEntity anEntity, final CastMember aCastMember) {
+        final var saved = this.castMemberRepository.save(anEntity).toAggregate();
+        this.outbox.append(Outbox.CAST_MEMBER, aCastMember);
+        if (this.indexed) {
+            TransactionUtils.afterCommit(() -> this.index.put(saved.getId().getValue(), saved.getName()));
+        }
+        return saved;
+    }
+
+    private Specification<CastMemberJpaEntity> assembleSpecification(final SearchQuery aQuery) {
+        return switch (aQuery.matchMode()) {
+            case FULLTEXT -> SpecificationUtils.match(aQuery.terms(), "name");
+            case PREFIX -> SpecificationUtils.prefix("name", aQuery.terms());
+            case CONTAINS -> contains(aQuery.terms());
+        };
+    }
+
+    private Specification<CastMemberJpaEntity> contains(final String terms) {
+        if (this.indexed) {
+            final var ids = this.index.search(terms);
+            if (ids.size() <= TrigramIndex.SELECTIVE_HITS) {
+                return SpecificationUtils.in("id", ids);
+            }
+        }
         return SpecificationUtils.like("name", terms);
     }
 }
@@ -3,14 +3,19 @@ package com.fullcycle.admin.catalog.infrastructure.castmember.persistence;
 import com.fullcycle.admin.catalog.domain.castmeber.CastMember;
 import com.fullcycle.admin.catalog.domain.castmeber.CastMemberId;
 import com.fullcycle.admin.catalog.domain.castmeber.CastMemberType;
+import com.fullcycle.admin.catalog.infrastructure.persistence.BinaryIdType;
+import org.hibernate.annotations.Type;
+import org.springframework.data.domain.Persistable;
 
 import javax.persistence.*;
 import java.time.Instant;
 
 @Entity(name = "CastMember")
 @Table(name = "cast_members")
-public class CastMemberJpaEntity {
+public class CastMemberJpaEntity implements Persistable<String> {
     @Id
+    @Type(type = BinaryIdType.NAME)
+    @Column(name = "id", columnDefinition = "BINARY(16)")
     private String id;
     @Column(name = "name", nullable = false)
     private String name;
@@ -23,6 +28,8 @@ public class CastMemberJpaEntity {
     private Instant updatedAt;
     @Column(name = "deleted_at", columnDefinition = "DATETIME(6)")
     private Instant deletedAt;
+    @Transient
+    private boolean isNew;
 
     public CastMemberJpaEntity() { }
 
@@ -48,8 +55,15 @@ public class CastMemberJpaEntity {
         );
     }
 
+    // an aggregate that was never stored: save() goes straight to persist, skipping the SELECT of merge
+    public static CastMemberJpaEntity newEntity(final CastMember aMember) {
+        final var anEntity = from(aMember);
+        anEntity.isNew = true;
+        return anEntity;
+    }
+
     public CastMember toAggregate() {
-        return CastMember.with(
+        return CastMember.restore(
                 CastMemberId.from(getId()),
                 getName(),
                 getType(),
@@ -58,6 +72,17 @@ public class CastMemberJpaEntity {
         );
     }
 
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
     public String getId() {
         return id;
     }
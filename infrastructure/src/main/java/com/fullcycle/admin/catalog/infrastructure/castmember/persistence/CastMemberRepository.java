@@ -1,11 +1,29 @@
 package com.fullcycle.admin.catalog.infrastructure.castmember.persistence;
 
+import com.fullcycle.admin.catalog.domain.pagination.ListVersion;
+import com.fullcycle.admin.catalog.infrastructure.persistence.BatchRepository;
+import com.fullcycle.admin.catalog.infrastructure.persistence.SearchRepository;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface CastMemberRepository extends JpaRepository<CastMemberJpaEntity, String> {
+import java.time.Instant;
+import java.util.Optional;
+
+public interface CastMemberRepository extends JpaRepository<CastMemberJpaEntity, String>, SearchRepository<CastMemberJpaEntity>,
+        BatchRepository<CastMemberJpaEntity> {
     Page<CastMemberJpaEntity> findAll(Specification<CastMemberJpaEntity> specification, Pageable page);
 
+    @Query(value = """
+            select c.updatedAt from CastMember c where c.id = :id
+            """)
+    Optional<Instant> findUpdatedAtById(@Param("id") String id);
+
+    @Query(value = """
+            select new com.fullcycle.admin.catalog.domain.pagination.ListVersion(count(c), max(c.updatedAt)) from CastMember c
+            """)
+    ListVersion findListVersion();
 }
@@ -1,46 +1,120 @@
 package com.fullcycle.admin.catalog.infrastructure.category;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.stream.StreamSupport;
 
+import javax.annotation.PostConstruct;
+
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
-import org.springframework.data.domain.Sort.Direction;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.fullcycle.admin.catalog.application.category.retrive.get.CategoryOutput;
+import com.fullcycle.admin.catalog.application.category.retrive.list.CategoryListOutput;
+import com.fullcycle.admin.catalog.application.category.retrive.list.CategoryQueryGateway;
 import com.fullcycle.admin.catalog.domain.category.Category;
+import com.fullcycle.admin.catalog.domain.category.CategoryChanged;
 import com.fullcycle.admin.catalog.domain.category.CategoryGateway;
 import com.fullcycle.admin.catalog.domain.category.CategoryID;
+import com.fullcycle.admin.catalog.domain.pagination.Change;
+import com.fullcycle.admin.catalog.domain.pagination.ChangesQuery;
+import com.fullcycle.admin.catalog.domain.pagination.ListVersion;
 import com.fullcycle.admin.catalog.domain.pagination.SearchQuery;
 import com.fullcycle.admin.catalog.domain.pagination.Pagination;
 import com.fullcycle.admin.catalog.infrastructure.category.persistence.CategoryJpaEntity;
 import com.fullcycle.admin.catalog.infrastructure.category.persistence.CategoryRepository;
+import com.fullcycle.admin.catalog.infrastructure.changes.ChangeFeed;
+import com.fullcycle.admin.catalog.infrastructure.changes.Tombstones;
+import com.fullcycle.admin.catalog.infrastructure.outbox.Outbox;
+import com.fullcycle.admin.catalog.infrastructure.search.TrigramIndex;
 import com.fullcycle.admin.catalog.infrastructure.utils.SpecificationUtils;
+import com.fullcycle.admin.catalog.infrastructure.utils.TransactionUtils;
 
 @Component
-public class CategoryMySQLGateway implements CategoryGateway {
+public class CategoryMySQLGateway implements CategoryGateway, CategoryQueryGateway {
+    private static final List<String> LIST_COLUMNS =
+            List.of("id", "name", "description", "active", "createdAt", "deletedAt");
+    private static final List<String> EXPORT_COLUMNS =
+            List.of("id", "name", "description", "active", "createdAt", "updatedAt", "deletedAt");
+
     private final CategoryRepository repository;
+    private final Outbox outbox;
+    private final Tombstones tombstones;
+    private final boolean indexed;
+    private final Duration changesSafetyLag;
+    private final TrigramIndex index = new TrigramIndex();
 
-    public CategoryMySQLGateway(final CategoryRepository repository) {
+    public CategoryMySQLGateway(
+            final CategoryRepository repository,
+            final Outbox outbox,
+            final Tombstones tombstones,
+            @Value("${search.index.enabled:false}") final boolean indexed,
+            @Value("${changes.safety-lag:5s}") final Duration changesSafetyLag
+    ) {
         this.repository = repository;
+        this.outbox = outbox;
+        this.tombstones = tombstones;
+        this.indexed = indexed;
+        this.changesSafetyLag = changesSafetyLag;
+    }
+
+    @PostConstruct
+    void buildIndex() {
+        if (this.indexed) {
+            this.index.clear();
+            this.repository.forEachBatch(CategoryJpaEntity.class, 1000, batch -> batch
+                    .forEach(it -> this.index.put(it.getId(), it.getName(), it.getDescription())));
+        }
     }
 
     @Override
+    @Transactional
     public Category create(final Category aCategory) {
-        return save(aCategory);
+        return save(CategoryJpaEntity.newEntity(aCategory), aCategory);
     }
 
     @Override
+    @Transactional
+    public List<Category> createAll(final List<Category> aCategories) {
+        final var entities = aCategories.stream().map(CategoryJpaEntity::newEntity).toList();
+        this.repository.persistAll(entities);
+        this.outbox.appendAll(Outbox.CATEGORY, aCategories);
+        if (this.indexed) {
+            TransactionUtils.afterCommit(() -> aCategories
+                    .forEach(it -> this.index.put(it.getId().getValue(), it.getName(), it.getDescription())));
+        }
+        return entities.stream().map(CategoryJpaEntity::toAggregate).toList();
+    }
+
+    @Override
+    @Transactional
     public void deleteById(final CategoryID anId) {
-        if (this.repository.existsById(anId.getValue()))
+        if (this.repository.existsById(anId.getValue())) {
             this.repository.deleteById(anId.getValue());
+            this.outbox.append(Outbox.CATEGORY, CategoryChanged.deleted(anId));
+            this.tombstones.record(Outbox.CATEGORY, anId);
+        }
+        if (this.indexed) {
+            TransactionUtils.afterCommit(() -> this.index.remove(anId.getValue()));
+        }
     }
 
-    private Category save(final Category aCategory) {
-        return this.repository.save(CategoryJpaEntity.from(aCategory)).toAggregate();
+    private Category save(final CategoryJpaEntity anEntity, final Category aCategory) {
+        final var saved = this.repository.save(anEntity).toAggregate();
+        this.outbox.append(Outbox.CATEGORY, aCategory);
+        if (this.indexed) {
+            TransactionUtils.afterCommit(
+                    () -> this.index.put(saved.getId().getValue(), saved.getName(), saved.getDescription()));
+        }
+        return saved;
     }
 
     @Override
@@ -49,23 +123,105 @@ public class CategoryMySQLGateway implements CategoryGateway {
     }
 
     @Override
+    public Optional<Instant> findUpdatedAtById(final CategoryID anId) {
+        return this.repository.findUpdatedAtById(anId.getValue());
+    }
+
+    @Override
+    @Transactional
     public Category update(final Category aCategory) {
-        return save(aCategory);
+        return save(CategoryJpaEntity.from(aCategory), aCategory);
+    }
+
+    @Override
+    public List<Category> findAllById(final Collection<CategoryID> ids) {
+        final var values = ids.stream().map(CategoryID::getValue).toList();
+        return this.repository.findAllByIds(CategoryJpaEntity.class, values).stream()
+                .map(CategoryJpaEntity::toAggregate)
+                .toList();
     }
 
     @Override
     public Pagination<Category> findAll(final SearchQuery aQuery) {
-        final var page = PageRequest.of(aQuery.page(), aQuery.perPage(),
-                Sort.by(Direction.fromString(aQuery.direction()), aQuery.sort()));
-        final var specication = Optional.ofNullable(aQuery.terms())
-                .filter(str -> !str.isBlank())
-                .map(str -> {
-                    return SpecificationUtils.<CategoryJpaEntity>like("name", str)
-                            .or(SpecificationUtils.<CategoryJpaEntity>like("description", str));
-                }).orElse(null);
-        final var pageResult = this.repository.findAll(Specification.where(specication), page);
-        return new Pagination<>(pageResult.getNumber(), pageResult.getSize(),
-                pageResult.getTotalElements(), pageResult.map(CategoryJpaEntity::toAggregate).toList());
+        return this.repository.search(CategoryJpaEntity.class, where(aQuery), aQuery)
+                .map(CategoryJpaEntity::toAggregate);
+    }
+
+    @Override
+    public Pagination<CategoryListOutput> list(final SearchQuery aQuery) {
+        return this.repository.searchColumns(CategoryJpaEntity.class, where(aQuery), aQuery, LIST_COLUMNS)
+                .map(it -> new CategoryListOutput(
+                        CategoryID.from(it.get("id", String.class)),
+                        it.get("name", String.class),
+                        it.get("description", String.class),
+                        it.get("active", Boolean.class),
+                        it.get("createdAt", Instant.class),
+                        it.get("deletedAt", Instant.class)
+                ));
+    }
+
+    @Override
+    public ListVersion version() {
+        return this.repository.findListVersion();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void forEach(final Consumer<CategoryOutput> aConsumer) {
+        this.repository.streamColumns(CategoryJpaEntity.class, EXPORT_COLUMNS, it -> aConsumer.accept(new CategoryOutput(
+                CategoryID.from(it.get("id", String.class)),
+                it.get("name", String.class),
+                it.get("description", String.class),
+                it.get("active", Boolean.class),
+                it.get("createdAt", Instant.class),
+                it.get("updatedAt", Instant.class),
+                it.get("deletedAt", Instant.class))));
+    }
+
+    @Override
+    public Pagination<Change<CategoryListOutput>> changes(final ChangesQuery aQuery) {
+        final var from = ChangeFeed.positionOf(aQuery, this.changesSafetyLag);
+        final var changed = this.repository
+                .findChangedAfter(from.at(), from.id(), from.until(), PageRequest.ofSize(aQuery.perPage())).stream()
+                .map(it -> Change.of(it.getId(), it.getUpdatedAt(), new CategoryListOutput(
+                        CategoryID.from(it.getId()),
+                        it.getName(),
+                        it.getDescription(),
+                        it.isActive(),
+                        it.getCreatedAt(),
+                        it.getDeletedAt())))
+                .toList();
+        return ChangeFeed.page(aQuery, changed,
+                this.tombstones.<CategoryListOutput>after(Outbox.CATEGORY, from, aQuery.perPage()));
+    }
+
+    // active = ? leads the (active, name, id) and (active, created_at, id) indexes, the sort reads them in order
+    private Specification<CategoryJpaEntity> where(final SearchQuery aQuery) {
+        final var terms = aQuery.hasTerms() ? assembleSpecification(aQuery) : null;
+        if (!aQuery.hasActive()) {
+            return terms;
+        }
+        return SpecificationUtils.<CategoryJpaEntity>equal("active", aQuery.active()).and(terms);
+    }
+
+    private Specification<CategoryJpaEntity> assembleSpecification(final SearchQuery aQuery) {
+        final var terms = aQuery.terms();
+        return switch (aQuery.matchMode()) {
+            case FULLTEXT -> SpecificationUtils.match(terms, "name", "description");
+            case PREFIX -> SpecificationUtils.prefix("name", terms);
+            case CONTAINS -> contains(terms);
+        };
+    }
+
+    private Specification<CategoryJpaEntity> contains(final String terms) {
+        if (this.indexed) {
+            final var ids = this.index.search(terms);
+            if (ids.size() <= TrigramIndex.SELECTIVE_HITS) {
+                return SpecificationUtils.in("id", ids);
+            }
+        }
+        return SpecificationUtils.<CategoryJpaEntity>like("name", terms)
+                .or(SpecificationUtils.like("description", terms));
     }
 
     @Override
@@ -5,10 +5,17 @@ import java.time.Instant;
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.Id;
+import javax.persistence.PostLoad;
+import javax.persistence.PostPersist;
 import javax.persistence.Table;
+import javax.persistence.Transient;
 
 import com.fullcycle.admin.catalog.domain.category.Category;
 import com.fullcycle.admin.catalog.domain.category.CategoryID;
+import com.fullcycle.admin.catalog.infrastructure.persistence.BinaryIdType;
+
+import org.hibernate.annotations.Type;
+import org.springframework.data.domain.Persistable;
 
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -17,8 +24,10 @@ import lombok.Setter;
 
 @Entity(name = "Category")
 @Table(name = "category")
-public class CategoryJpaEntity {
+public class CategoryJpaEntity implements Persistable<String> {
     @Id
+    @Type(type = BinaryIdType.NAME)
+    @Column(name = "id", columnDefinition = "BINARY(16)")
     private String id;
     @Column(name = "name", length = 255, nullable = false)
     private String name;
@@ -32,6 +41,8 @@ public class CategoryJpaEntity {
     private Instant updatedAt;
     @Column(name = "deleted_at", columnDefinition = "DATETIME(6)")
     private Instant deletedAt;
+    @Transient
+    private boolean isNew;
 
     public CategoryJpaEntity() {
     }
@@ -63,8 +74,15 @@ public class CategoryJpaEntity {
                 aCategory.getDeletedAt());
     }
 
+    // an aggregate that was never stored: save() goes straight to persist, skipping the SELECT of merge
+    public static CategoryJpaEntity newEntity(final Category aCategory) {
+        final var anEntity = from(aCategory);
+        anEntity.isNew = true;
+        return anEntity;
+    }
+
     public Category toAggregate() {
-        return Category.with(
+        return Category.restore(
                 CategoryID.from(getId()),
                 getName(),
                 getDescription(),
@@ -74,6 +92,17 @@ public class CategoryJpaEntity {
                 getDeletedAt());
     }
 
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
     public String getId() {
         return id;
     }
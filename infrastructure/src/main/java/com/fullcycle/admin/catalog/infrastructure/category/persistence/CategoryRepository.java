@@ -1,6 +1,9 @@
 package com.fullcycle.admin.catalog.infrastructure.category.persistence;
 
 import com.fullcycle.admin.catalog.domain.category.CategoryID;
+import com.fullcycle.admin.catalog.domain.pagination.ListVersion;
+import com.fullcycle.admin.catalog.infrastructure.persistence.BatchRepository;
+import com.fullcycle.admin.catalog.infrastructure.persistence.SearchRepository;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
@@ -8,13 +11,35 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.Optional;
 
-public interface CategoryRepository extends JpaRepository<CategoryJpaEntity, String> {
+public interface CategoryRepository extends JpaRepository<CategoryJpaEntity, String>, SearchRepository<CategoryJpaEntity>,
+        BatchRepository<CategoryJpaEntity> {
     Page<CategoryJpaEntity> findAll(Specification<CategoryJpaEntity> whereClause, Pageable page);
 
     @Query(value = """
             select c.id from Category c where c.id in :ids
             """)
     List<String> existsByIds(@Param("ids") List<String> ids);
+
+    @Query(value = """
+            select c.updatedAt from Category c where c.id = :id
+            """)
+    Optional<Instant> findUpdatedAtById(@Param("id") String id);
+
+    @Query(value = """
+            select new com.fullcycle.admin.catalog.domain.pagination.ListVersion(count(c), max(c.updatedAt)) from Category c
+            """)
+    ListVersion findListVersion();
+
+    @Query(value = """
+            select c from Category c
+            where (c.updatedAt > :at or (c.updatedAt = :at and c.id > :id))
+              and c.updatedAt <= :until
+            order by c.updatedAt, c.id
+            """)
+    List<CategoryJpaEntity> findChangedAfter(
+            @Param("at") Instant at, @Param("id") String id, @Param("until") Instant until, Pageable page);
 }
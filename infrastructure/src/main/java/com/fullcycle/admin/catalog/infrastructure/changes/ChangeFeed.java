@@ -0,0 +1,78 @@
+package com.fullcycle.admin.catalog.infrastructure.changes;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import com.fullcycle.admin.catalog.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalog.domain.pagination.Change;
+import com.fullcycle.admin.catalog.domain.pagination.ChangesQuery;
+import com.fullcycle.admin.catalog.domain.pagination.Pagination;
+import com.fullcycle.admin.catalog.domain.utils.InstantUtils;
+import com.fullcycle.admin.catalog.domain.validation.Error;
+import com.fullcycle.admin.catalog.infrastructure.utils.CursorUtils;
+
+// Keyset over (changedAt, id): the rows and the tombstones are both read past the same position
+// and merged, so a page is two range scans on the updated_at / deleted_at indexes.
+// The stamps are taken before commit, a write stamped earlier can become visible after a later one
+// was already handed out; the feed stops a safety lag behind now so a cursor never passes it
+public final class ChangeFeed {
+    private static final String SORT = "changedAt";
+    private static final String DIRECTION = "asc";
+    // lower than any id, seeking past (since, NIL_ID) keeps the rows changed exactly at since
+    private static final String NIL_ID = "00000000-0000-0000-0000-000000000000";
+    // the text order of the ids is the order of their BINARY(16) columns
+    private static final Comparator<Change<?>> ORDER =
+            Comparator.<Change<?>, Instant>comparing(Change::changedAt).thenComparing(Change::id);
+
+    private ChangeFeed() {}
+
+    // past (at, id), up to and including until
+    public record Position(Instant at, String id, Instant until) {
+    }
+
+    public static Position positionOf(final ChangesQuery aQuery, final Duration aSafetyLag) {
+        final var until = InstantUtils.now().minus(aSafetyLag);
+        if (!aQuery.hasCursor()) {
+            return new Position(aQuery.since(), NIL_ID, until);
+        }
+        final var aCursor = CursorUtils.decode(aQuery.cursor(), SORT, DIRECTION);
+        if (aCursor.value() == null) {
+            throw invalidCursor();
+        }
+        try {
+            return new Position(Instant.parse(aCursor.value()), aCursor.id(), until);
+        } catch (final DateTimeParseException ex) {
+            throw invalidCursor();
+        }
+    }
+
+    private static DomainException invalidCursor() {
+        return DomainException.with(new Error("'cursor' is invalid for the given sort and direction"));
+    }
+
+    // each list holds at most perPage entries past the position, already in order
+    public static <T> Pagination<Change<T>> page(
+            final ChangesQuery aQuery,
+            final List<Change<T>> changed,
+            final List<Change<T>> deleted
+    ) {
+        final var merged = new ArrayList<Change<T>>(changed.size() + deleted.size());
+        merged.addAll(changed);
+        merged.addAll(deleted);
+        merged.sort(ORDER);
+        final var items = merged.size() > aQuery.perPage() ? merged.subList(0, aQuery.perPage()) : merged;
+        return new Pagination<>(0, aQuery.perPage(), Pagination.UNKNOWN_TOTAL, List.copyOf(items), next(aQuery, items));
+    }
+
+    private static <T> String next(final ChangesQuery aQuery, final List<Change<T>> items) {
+        if (items.isEmpty() || items.size() < aQuery.perPage()) {
+            return null;
+        }
+        final var last = items.get(items.size() - 1);
+        return CursorUtils.encode(new CursorUtils.Cursor(SORT, DIRECTION, last.changedAt().toString(), last.id()));
+    }
+}
@@ -0,0 +1,42 @@
+package com.fullcycle.admin.catalog.infrastructure.changes;
+
+import java.util.List;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fullcycle.admin.catalog.domain.Identifier;
+import com.fullcycle.admin.catalog.domain.pagination.Change;
+import com.fullcycle.admin.catalog.domain.utils.InstantUtils;
+import com.fullcycle.admin.catalog.infrastructure.changes.persistence.TombstoneJpaEntity;
+import com.fullcycle.admin.catalog.infrastructure.changes.persistence.TombstoneRepository;
+
+// Deleted rows are gone from their tables, the changes feed learns about them from here.
+// They are never purged: a client may come back with any old since
+@Component
+public class Tombstones {
+    private final TombstoneRepository repository;
+
+    public Tombstones(final TombstoneRepository repository) {
+        this.repository = repository;
+    }
+
+    // an id deleted again, after being created anew, moves its tombstone forward instead of adding a second one
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(final String anAggregateType, final Identifier anId) {
+        final var now = InstantUtils.now();
+        this.repository.save(this.repository.findById(anId.getValue())
+                .map(it -> it.deletedAgainAt(now))
+                .orElseGet(() -> TombstoneJpaEntity.of(anAggregateType, anId.getValue(), now)));
+    }
+
+    public <T> List<Change<T>> after(final String anAggregateType, final ChangeFeed.Position aPosition, final int limit) {
+        return this.repository.findDeletedAfter(
+                        anAggregateType, aPosition.at(), aPosition.id(), aPosition.until(), PageRequest.ofSize(limit))
+                .stream()
+                .map(it -> Change.<T>tombstone(it.getId(), it.getDeletedAt()))
+                .toList();
+    }
+}
@@ -0,0 +1,74 @@
+package com.fullcycle.admin.catalog.infrastructure.changes.persistence;
+
+import java.time.Instant;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.PostLoad;
+import javax.persistence.PostPersist;
+import javax.persistence.Table;
+import javax.persistence.Transient;
+
+import org.hibernate.annotations.Type;
+import org.springframework.data.domain.Persistable;
+
+import com.fullcycle.admin.catalog.infrastructure.persistence.BinaryIdType;
+
+// What is left of a deleted aggregate: its id and when it went away
+@Entity(name = "Tombstone")
+@Table(name = "tombstones")
+public class TombstoneJpaEntity implements Persistable<String> {
+    @Id
+    @Type(type = BinaryIdType.NAME)
+    @Column(name = "id", columnDefinition = "BINARY(16)")
+    private String id;
+    @Column(name = "aggregate_type", length = 32, nullable = false)
+    private String aggregateType;
+    @Column(name = "deleted_at", nullable = false, columnDefinition = "DATETIME(6)")
+    private Instant deletedAt;
+    @Transient
+    private boolean isNew;
+
+    public TombstoneJpaEntity() {
+    }
+
+    private TombstoneJpaEntity(final String id, final String aggregateType, final Instant deletedAt) {
+        this.id = id;
+        this.aggregateType = aggregateType;
+        this.deletedAt = deletedAt;
+        this.isNew = true;
+    }
+
+    public static TombstoneJpaEntity of(final String anAggregateType, final String anId, final Instant deletedAt) {
+        return new TombstoneJpaEntity(anId, anAggregateType, deletedAt);
+    }
+
+    public TombstoneJpaEntity deletedAgainAt(final Instant deletedAt) {
+        this.deletedAt = deletedAt;
+        return this;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getAggregateType() {
+        return aggregateType;
+    }
+
+    public Instant getDeletedAt() {
+        return deletedAt;
+    }
+}
@@ -0,0 +1,25 @@
+package com.fullcycle.admin.catalog.infrastructure.changes.persistence;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface TombstoneRepository extends JpaRepository<TombstoneJpaEntity, String> {
+    @Query(value = """
+            select t from Tombstone t
+            where t.aggregateType = :type
+              and (t.deletedAt > :at or (t.deletedAt = :at and t.id > :id))
+              and t.deletedAt <= :until
+            order by t.deletedAt, t.id
+            """)
+    List<TombstoneJpaEntity> findDeletedAfter(
+            @Param("type") String anAggregateType,
+            @Param("at") Instant at,
+            @Param("id") String id,
+            @Param("until") Instant until,
+            Pageable page);
+}
@@ -0,0 +1,133 @@
+package com.fullcycle.admin.catalog.infrastructure.configuration;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import com.fullcycle.admin.catalog.application.category.retrive.list.CategoryListOutput;
+import com.fullcycle.admin.catalog.application.category.retrive.list.CategoryQueryGateway;
+import com.fullcycle.admin.catalog.application.category.retrive.list.DefaultListCategoriesUseCase;
+import com.fullcycle.admin.catalog.application.category.retrive.list.ListCategoriesUseCase;
+import com.fullcycle.admin.catalog.application.genre.retrive.list.DefaultListGenreUseCase;
+import com.fullcycle.admin.catalog.application.genre.retrive.list.GenreListOutput;
+import com.fullcycle.admin.catalog.application.genre.retrive.list.GenreQueryGateway;
+import com.fullcycle.admin.catalog.application.genre.retrive.list.ListGenreUseCase;
+import com.fullcycle.admin.catalog.domain.castmeber.CastMember;
+import com.fullcycle.admin.catalog.domain.category.Category;
+import com.fullcycle.admin.catalog.domain.genre.Genre;
+import com.fullcycle.admin.catalog.domain.pagination.Pagination;
+import com.fullcycle.admin.catalog.infrastructure.cache.AggregateCache;
+import com.fullcycle.admin.catalog.infrastructure.cache.AggregateVersion;
+import com.fullcycle.admin.catalog.infrastructure.cache.CachedCastMemberGateway;
+import com.fullcycle.admin.catalog.infrastructure.cache.CachedCategoryGateway;
+import com.fullcycle.admin.catalog.infrastructure.cache.CachedGenreGateway;
+import com.fullcycle.admin.catalog.infrastructure.cache.CachedListCategoriesUseCase;
+import com.fullcycle.admin.catalog.infrastructure.cache.CachedListGenreUseCase;
+import com.fullcycle.admin.catalog.infrastructure.cache.ListKey;
+import com.fullcycle.admin.catalog.infrastructure.cache.QueryResultCache;
+import com.fullcycle.admin.catalog.infrastructure.castmember.CastMemberMySQLGateway;
+import com.fullcycle.admin.catalog.infrastructure.category.CategoryMySQLGateway;
+import com.fullcycle.admin.catalog.infrastructure.genre.GenreMySQLGateway;
+
+// The cached gateways are @Primary, so the use cases get them and the MySQL ones stay behind them.
+// Only the writes made through this instance invalidate, the ttl bounds what other instances leave stale
+@Configuration
+@ConditionalOnProperty(name = "cache.aggregates.enabled", havingValue = "true")
+public class AggregateCacheConfig {
+    private final int maxSize;
+    private final int listMaxSize;
+    private final Duration ttl;
+
+    public AggregateCacheConfig(
+            @Value("${cache.aggregates.max-size:10000}") final int maxSize,
+            @Value("${cache.aggregates.list-max-size:1000}") final int listMaxSize,
+            @Value("${cache.aggregates.ttl:5m}") final Duration ttl
+    ) {
+        this.maxSize = maxSize;
+        this.listMaxSize = listMaxSize;
+        this.ttl = ttl;
+    }
+
+    @Bean
+    public AggregateVersion categoryVersion() {
+        return new AggregateVersion();
+    }
+
+    @Bean
+    public AggregateVersion genreVersion() {
+        return new AggregateVersion();
+    }
+
+    @Bean
+    public AggregateCache<Category> categoryCache() {
+        return new AggregateCache<>("categories", maxSize, ttl, Category::with);
+    }
+
+    @Bean
+    public AggregateCache<Genre> genreCache() {
+        return new AggregateCache<>("genres", maxSize, ttl, Genre::with);
+    }
+
+    @Bean
+    public AggregateCache<CastMember> castMemberCache() {
+        return new AggregateCache<>("cast_members", maxSize, ttl, CastMember::with);
+    }
+
+    @Bean
+    public QueryResultCache<ListKey, Pagination<CategoryListOutput>> categoryListCache() {
+        return new QueryResultCache<>("category_lists", listMaxSize, ttl);
+    }
+
+    @Bean
+    public QueryResultCache<ListKey, Pagination<GenreListOutput>> genreListCache() {
+        return new QueryResultCache<>("genre_lists", listMaxSize, ttl);
+    }
+
+    @Bean
+    @Primary
+    public CachedCategoryGateway cachedCategoryGateway(final CategoryMySQLGateway categoryMySQLGateway) {
+        final var genres = genreCache();
+        final var genresVersion = genreVersion();
+        return new CachedCategoryGateway(categoryMySQLGateway, categoryCache(), categoryVersion(), () -> {
+            genres.invalidateAll();
+            genresVersion.bump();
+        });
+    }
+
+    @Bean
+    @Primary
+    public CachedGenreGateway cachedGenreGateway(final GenreMySQLGateway genreMySQLGateway) {
+        return new CachedGenreGateway(genreMySQLGateway, genreCache(), genreVersion());
+    }
+
+    @Bean
+    @Primary
+    public CachedCastMemberGateway cachedCastMemberGateway(final CastMemberMySQLGateway castMemberMySQLGateway) {
+        return new CachedCastMemberGateway(castMemberMySQLGateway, castMemberCache());
+    }
+
+    // wraps a use case of its own, the plain one stays in the use case configs
+    @Bean
+    @Primary
+    public ListCategoriesUseCase cachedListCategoriesUseCase(final CategoryQueryGateway categoryQueryGateway) {
+        return new CachedListCategoriesUseCase(
+                new DefaultListCategoriesUseCase(categoryQueryGateway),
+                categoryListCache(),
+                categoryVersion()
+        );
+    }
+
+    @Bean
+    @Primary
+    public ListGenreUseCase cachedListGenreUseCase(final GenreQueryGateway genreQueryGateway) {
+        return new CachedListGenreUseCase(
+                new DefaultListGenreUseCase(genreQueryGateway),
+                genreListCache(),
+                genreVersion()
+        );
+    }
+}
@@ -0,0 +1,43 @@
+package com.fullcycle.admin.catalog.infrastructure.configuration;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.fullcycle.admin.catalog.infrastructure.utils.NdjsonUtils;
+
+// The NDJSON exports are written after the controller returns, under the async request timeout. Only those
+// get the long one: the headers are already on the response when the streaming starts, so the content type
+// tells them apart from any other async endpoint, which keeps the MVC default
+@Configuration
+public class ExportConfig implements WebMvcConfigurer {
+    private final long requestTimeout;
+
+    public ExportConfig(@Value("${export.request-timeout:30m}") final Duration requestTimeout) {
+        this.requestTimeout = requestTimeout.toMillis();
+    }
+
+    @Override
+    public void configureAsyncSupport(final AsyncSupportConfigurer configurer) {
+        configurer.registerCallableInterceptors(new CallableProcessingInterceptor() {
+            @Override
+            public <T> void beforeConcurrentHandling(final NativeWebRequest request, final Callable<T> task) {
+                final var response = request.getNativeResponse(HttpServletResponse.class);
+                if (request instanceof AsyncWebRequest asyncRequest && response != null && response.getContentType() != null
+                        && NdjsonUtils.NDJSON.isCompatibleWith(MediaType.parseMediaType(response.getContentType()))) {
+                    asyncRequest.setTimeout(requestTimeout);
+                }
+            }
+        });
+    }
+}
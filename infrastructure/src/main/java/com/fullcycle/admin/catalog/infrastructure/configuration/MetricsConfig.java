@@ -0,0 +1,39 @@
+package com.fullcycle.admin.catalog.infrastructure.configuration;
+
+import java.util.ArrayList;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.fullcycle.admin.catalog.infrastructure.cache.AggregateCache;
+import com.fullcycle.admin.catalog.infrastructure.cache.CacheStats;
+import com.fullcycle.admin.catalog.infrastructure.cache.QueryResultCache;
+import com.fullcycle.admin.catalog.infrastructure.metrics.CacheMetrics;
+import com.fullcycle.admin.catalog.infrastructure.metrics.MetricsAspect;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+// HikariCP and Hibernate statistics come from the actuator auto-configuration, here only what is ours
+@Configuration
+@ConditionalOnProperty(name = "metrics.instrumentation.enabled", havingValue = "true", matchIfMissing = true)
+public class MetricsConfig {
+
+    @Bean
+    public MetricsAspect metricsAspect(final MeterRegistry registry) {
+        return new MetricsAspect(registry);
+    }
+
+    @Bean
+    public CacheMetrics cacheMetrics(
+            final ObjectProvider<AggregateCache<?>> aggregateCaches,
+            final ObjectProvider<QueryResultCache<?, ?>> listCaches
+    ) {
+        final var caches = new ArrayList<Supplier<CacheStats>>();
+        aggregateCaches.orderedStream().forEach(it -> caches.add(it::stats));
+        listCaches.orderedStream().forEach(it -> caches.add(it::stats));
+        return new CacheMetrics(caches);
+    }
+}
@@ -0,0 +1,48 @@
+package com.fullcycle.admin.catalog.infrastructure.configuration;
+
+import java.nio.file.Path;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.fullcycle.admin.catalog.infrastructure.outbox.EventSink;
+import com.fullcycle.admin.catalog.infrastructure.outbox.FileEventSink;
+import com.fullcycle.admin.catalog.infrastructure.outbox.InMemoryEventSink;
+import com.fullcycle.admin.catalog.infrastructure.outbox.OutboxRelay;
+import com.fullcycle.admin.catalog.infrastructure.outbox.persistence.OutboxEventRepository;
+
+// The gateways always write the outbox, this only decides whether this instance drains it.
+// Declaring an EventSink bean replaces the file and memory ones
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "outbox.relay.enabled", havingValue = "true")
+public class OutboxConfig {
+
+    @Bean
+    @ConditionalOnMissingBean(EventSink.class)
+    public EventSink eventSink(
+            @Value("${outbox.sink.type:file}") final String aType,
+            @Value("${outbox.sink.file:build/outbox/events.ndjson}") final Path aFile
+    ) {
+        return switch (aType) {
+            case "file" -> new FileEventSink(aFile);
+            case "memory" -> new InMemoryEventSink();
+            default -> throw new IllegalArgumentException("outbox.sink.type must be file or memory, got " + aType);
+        };
+    }
+
+    @Bean
+    public OutboxRelay outboxRelay(
+            final OutboxEventRepository repository,
+            final EventSink eventSink,
+            @Value("${outbox.relay.batch-size:500}") final int batchSize,
+            final PlatformTransactionManager transactionManager
+    ) {
+        return new OutboxRelay(repository, eventSink, batchSize, transactionManager);
+    }
+}
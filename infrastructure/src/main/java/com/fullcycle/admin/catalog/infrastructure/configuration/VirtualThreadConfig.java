@@ -0,0 +1,73 @@
+package com.fullcycle.admin.catalog.infrastructure.configuration;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionOutcome;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.SpringBootCondition;
+import org.springframework.boot.web.embedded.undertow.UndertowServletWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ConditionContext;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.type.AnnotatedTypeMetadata;
+
+import com.fullcycle.admin.catalog.infrastructure.persistence.DatabaseConcurrencyLimiter;
+
+// Same property as Spring Boot 3.2, so it keeps working after an upgrade. Undertow's io threads still accept the
+// requests, the servlet work (controller, use case, gateway) runs on a virtual thread of its own instead of the
+// worker pool, and the limiter keeps the database side at the Hikari pool size.
+// Below Java 21 the property is ignored with a warning and the requests stay on the worker pool
+@Configuration
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+@Conditional(VirtualThreadConfig.OnVirtualThreads.class)
+public class VirtualThreadConfig {
+    private static final Logger LOG = LoggerFactory.getLogger(VirtualThreadConfig.class);
+    private static final int VIRTUAL_THREADS_JAVA = 21;
+
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService requestExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (final ReflectiveOperationException ex) {
+            throw new IllegalStateException("Could not create the virtual thread executor", ex);
+        }
+    }
+
+    @Bean
+    public WebServerFactoryCustomizer<UndertowServletWebServerFactory> virtualThreadRequests(
+            final ExecutorService requestExecutor
+    ) {
+        return factory -> factory.addDeploymentInfoCustomizers(deployment -> deployment
+                .setExecutor(requestExecutor)
+                .setAsyncExecutor(requestExecutor));
+    }
+
+    @Bean
+    public DatabaseConcurrencyLimiter databaseConcurrencyLimiter(
+            @Value("${spring.datasource.hikari.maximum-pool-size:10}") final int poolSize,
+            @Value("${database.concurrency.max-wait:2s}") final Duration maxWait
+    ) {
+        return new DatabaseConcurrencyLimiter(poolSize, maxWait);
+    }
+
+    static class OnVirtualThreads extends SpringBootCondition {
+        @Override
+        public ConditionOutcome getMatchOutcome(final ConditionContext context, final AnnotatedTypeMetadata metadata) {
+            final var aVersion = Runtime.version();
+            if (aVersion.feature() >= VIRTUAL_THREADS_JAVA) {
+                return ConditionOutcome.match("virtual threads available on Java " + aVersion);
+            }
+            LOG.warn("spring.threads.virtual.enabled is ignored, it needs Java {} or newer and this is {}",
+                    VIRTUAL_THREADS_JAVA, aVersion);
+            return ConditionOutcome.noMatch("virtual threads need Java %d, running on %s"
+                    .formatted(VIRTUAL_THREADS_JAVA, aVersion));
+        }
+    }
+}
@@ -1,11 +1,20 @@
 package com.fullcycle.admin.catalog.infrastructure.configuration.usecases;
 
 import com.fullcycle.admin.catalog.application.castmember.create.CreateCastMemberUseCase;
+import com.fullcycle.admin.catalog.application.castmember.create.CreateCastMembersUseCase;
 import com.fullcycle.admin.catalog.application.castmember.create.DefaultCreateCastMemberUseCase;
+import com.fullcycle.admin.catalog.application.castmember.create.DefaultCreateCastMembersUseCase;
 import com.fullcycle.admin.catalog.application.castmember.delete.DefaultDeleteCastMemberUseCase;
 import com.fullcycle.admin.catalog.application.castmember.delete.DeleteCastMemberUseCase;
+import com.fullcycle.admin.catalog.application.castmember.retrieve.export.DefaultExportCastMembersUseCase;
+import com.fullcycle.admin.catalog.application.castmember.retrieve.export.ExportCastMembersUseCase;
 import com.fullcycle.admin.catalog.application.castmember.retrieve.get.DefaultGetCastMemberByIdUseCase;
+import com.fullcycle.admin.catalog.application.castmember.retrieve.get.DefaultGetCastMembersByIdsUseCase;
 import com.fullcycle.admin.catalog.application.castmember.retrieve.get.GetCastMemberByIdUseCase;
+import com.fullcycle.admin.catalog.application.castmember.retrieve.get.GetCastMembersByIdsUseCase;
+import com.fullcycle.admin.catalog.application.castmember.retrieve.list.CastMemberQueryGateway;
+import com.fullcycle.admin.catalog.application.castmember.retrieve.list.DefaultListCastMemberUseCase;
+import com.fullcycle.admin.catalog.application.castmember.retrieve.list.ListCastMemberUseCase;
 import com.fullcycle.admin.catalog.application.castmember.update.DefaultUpdateCastMemberUseCase;
 import com.fullcycle.admin.catalog.application.castmember.update.UpdateCastMemberUseCase;
 import com.fullcycle.admin.catalog.domain.castmeber.CastMemberGateway;
@@ -17,9 +26,12 @@ import java.util.Objects;
 @Configuration
 public class CastMemberUseCaseConfig {
     private final CastMemberGateway castMemberGateway;
+    private final CastMemberQueryGateway castMemberQueryGateway;
 
-    public CastMemberUseCaseConfig(final CastMemberGateway castMemberGateway) {
+    public CastMemberUseCaseConfig(final CastMemberGateway castMemberGateway,
+            final CastMemberQueryGateway castMemberQueryGateway) {
         this.castMemberGateway = Objects.requireNonNull(castMemberGateway);
+        this.castMemberQueryGateway = Objects.requireNonNull(castMemberQueryGateway);
     }
 
     @Bean
@@ -27,6 +39,11 @@ public class CastMemberUseCaseConfig {
         return new DefaultCreateCastMemberUseCase(castMemberGateway);
     }
 
+    @Bean
+    public CreateCastMembersUseCase createCastMembersUseCase() {
+        return new DefaultCreateCastMembersUseCase(castMemberGateway);
+    }
+
     @Bean
     public DeleteCastMemberUseCase deleteCastMemberUseCase() {
         return new DefaultDeleteCastMemberUseCase(castMemberGateway);
@@ -37,6 +54,21 @@ public class CastMemberUseCaseConfig {
         return new DefaultGetCastMemberByIdUseCase(castMemberGateway);
     }
 
+    @Bean
+    public GetCastMembersByIdsUseCase getCastMembersByIdsUseCase() {
+        return new DefaultGetCastMembersByIdsUseCase(castMemberGateway);
+    }
+
+    @Bean
+    public ListCastMemberUseCase listCastMemberUseCase() {
+        return new DefaultListCastMemberUseCase(castMemberQueryGateway);
+    }
+
+    @Bean
+    public ExportCastMembersUseCase exportCastMembersUseCase() {
+        return new DefaultExportCastMembersUseCase(castMemberQueryGateway);
+    }
+
     @Bean
     public UpdateCastMemberUseCase updateCastMemberUseCase() {
         return new DefaultUpdateCastMemberUseCase(castMemberGateway);
@@ -1,14 +1,30 @@
 package com.fullcycle.admin.catalog.infrastructure.configuration.usecases;
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 
+import com.fullcycle.admin.catalog.application.category.create.CreateCategoriesUseCase;
 import com.fullcycle.admin.catalog.application.category.create.CreateCategoryUseCase;
+import com.fullcycle.admin.catalog.application.category.create.DefaultCreateCategoriesUseCase;
 import com.fullcycle.admin.catalog.application.category.create.DefaultCreateCategoryUseCase;
 import com.fullcycle.admin.catalog.application.category.delete.DefaultDeleteCategoryUseCase;
+import com.fullcycle.admin.catalog.application.category.retrive.changes.DefaultListCategoryChangesUseCase;
+import com.fullcycle.admin.catalog.application.category.retrive.changes.ListCategoryChangesUseCase;
+import com.fullcycle.admin.catalog.application.category.retrive.export.DefaultExportCategoriesUseCase;
+import com.fullcycle.admin.catalog.application.category.retrive.export.ExportCategoriesUseCase;
+import com.fullcycle.admin.catalog.application.category.exists.CategoryExistenceService;
 import com.fullcycle.admin.catalog.application.category.delete.DeleteCategoryUseCase;
+import com.fullcycle.admin.catalog.application.category.retrive.get.DefaultGetCategoriesByIdsUseCase;
 import com.fullcycle.admin.catalog.application.category.retrive.get.DefaultGetCategoryByIdUseCase;
+import com.fullcycle.admin.catalog.application.category.retrive.get.GetCategoriesByIdsUseCase;
 import com.fullcycle.admin.catalog.application.category.retrive.get.GetCategoryByIdUseCase;
+import com.fullcycle.admin.catalog.application.category.retrive.list.CategoryQueryGateway;
 import com.fullcycle.admin.catalog.application.category.retrive.list.DefaultListCategoriesUseCase;
 import com.fullcycle.admin.catalog.application.category.retrive.list.ListCategoriesUseCase;
 import com.fullcycle.admin.catalog.application.category.update.DefaultUpdateCategoryUseCase;
@@ -16,11 +32,26 @@ import com.fullcycle.admin.catalog.application.category.update.UpdateCategoryUse
 import com.fullcycle.admin.catalog.domain.category.CategoryGateway;
 
 @Configuration
-public class CategoryUseCaseConfig {
+public class CategoryUseCaseConfig implements DisposableBean {
     private final CategoryGateway categoryGateway;
+    private final CategoryQueryGateway categoryQueryGateway;
+    // not a bean: any Executor bean would take the place of Spring's applicationTaskExecutor
+    private final ExecutorService existenceExecutor;
 
-    public CategoryUseCaseConfig(final CategoryGateway categoryGateway){
+    public CategoryUseCaseConfig(final CategoryGateway categoryGateway,
+            final CategoryQueryGateway categoryQueryGateway,
+            @Value("${category.existence.parallelism:4}") final int parallelism){
         this.categoryGateway = categoryGateway;
+        this.categoryQueryGateway = categoryQueryGateway;
+        final var threads = new CustomizableThreadFactory("category-exists-");
+        threads.setDaemon(true);
+        this.existenceExecutor = Executors.newFixedThreadPool(parallelism, threads);
+    }
+
+    @Bean
+    public CategoryExistenceService categoryExistenceService(
+            @Value("${category.existence.chunk-size:512}") final int chunkSize) {
+        return new CategoryExistenceService(categoryGateway, existenceExecutor, chunkSize);
     }
 
     @Bean
@@ -28,6 +59,11 @@ public class CategoryUseCaseConfig {
         return new DefaultCreateCategoryUseCase(categoryGateway);
     }
 
+    @Bean
+    public CreateCategoriesUseCase createCategoriesUseCase() {
+        return new DefaultCreateCategoriesUseCase(categoryGateway);
+    }
+
     @Bean
     public UpdateCategoryUseCase updateCategoryUseCase() {
         return new DefaultUpdateCategoryUseCase(categoryGateway);
@@ -38,13 +74,33 @@ public class CategoryUseCaseConfig {
         return new DefaultGetCategoryByIdUseCase(categoryGateway);
     }
 
+    @Bean
+    public GetCategoriesByIdsUseCase getCategoriesByIdsUseCase() {
+        return new DefaultGetCategoriesByIdsUseCase(categoryGateway);
+    }
+
     @Bean
     public ListCategoriesUseCase listCategoriesUseCase() {
-        return new DefaultListCategoriesUseCase(categoryGateway);
+        return new DefaultListCategoriesUseCase(categoryQueryGateway);
+    }
+
+    @Bean
+    public ListCategoryChangesUseCase listCategoryChangesUseCase() {
+        return new DefaultListCategoryChangesUseCase(categoryQueryGateway);
+    }
+
+    @Bean
+    public ExportCategoriesUseCase exportCategoriesUseCase() {
+        return new DefaultExportCategoriesUseCase(categoryQueryGateway);
     }
 
     @Bean
     public DeleteCategoryUseCase deleteCategoriesUseCase() {
         return new DefaultDeleteCategoryUseCase(categoryGateway);
     }
+
+    @Override
+    public void destroy() {
+        this.existenceExecutor.shutdown();
+    }
 }
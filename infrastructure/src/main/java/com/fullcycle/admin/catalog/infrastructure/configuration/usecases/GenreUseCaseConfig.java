@@ -1,16 +1,25 @@
 package com.fullcycle.admin.catalog.infrastructure.configuration.usecases;
 
+import com.fullcycle.admin.catalog.application.category.exists.CategoryExistenceService;
 import com.fullcycle.admin.catalog.application.genre.create.CreateGenreUseCase;
+import com.fullcycle.admin.catalog.application.genre.create.CreateGenresUseCase;
 import com.fullcycle.admin.catalog.application.genre.create.DefaultCreateGenreUseCase;
+import com.fullcycle.admin.catalog.application.genre.create.DefaultCreateGenresUseCase;
 import com.fullcycle.admin.catalog.application.genre.delete.DefaultDeleteGenreUseCase;
 import com.fullcycle.admin.catalog.application.genre.delete.DeleteGenreUseCase;
+import com.fullcycle.admin.catalog.application.genre.retrive.changes.DefaultListGenreChangesUseCase;
+import com.fullcycle.admin.catalog.application.genre.retrive.changes.ListGenreChangesUseCase;
+import com.fullcycle.admin.catalog.application.genre.retrive.export.DefaultExportGenresUseCase;
+import com.fullcycle.admin.catalog.application.genre.retrive.export.ExportGenresUseCase;
 import com.fullcycle.admin.catalog.application.genre.retrive.get.DefaultGetGenreByIdUseCase;
+import com.fullcycle.admin.catalog.application.genre.retrive.get.DefaultGetGenresByIdsUseCase;
 import com.fullcycle.admin.catalog.application.genre.retrive.get.GetGenreByIdUseCase;
+import com.fullcycle.admin.catalog.application.genre.retrive.get.GetGenresByIdsUseCase;
 import com.fullcycle.admin.catalog.application.genre.retrive.list.DefaultListGenreUseCase;
+import com.fullcycle.admin.catalog.application.genre.retrive.list.GenreQueryGateway;
 import com.fullcycle.admin.catalog.application.genre.retrive.list.ListGenreUseCase;
 import com.fullcycle.admin.catalog.application.genre.update.DefaultUpdateGenreUseCase;
 import com.fullcycle.admin.catalog.application.genre.update.UpdateGenreUseCase;
-import com.fullcycle.admin.catalog.domain.category.CategoryGateway;
 import com.fullcycle.admin.catalog.domain.genre.GenreGateway;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -19,17 +28,25 @@ import java.util.Objects;
 
 @Configuration
 public class GenreUseCaseConfig {
-    private final CategoryGateway categoryGateway;
+    private final CategoryExistenceService categoryExistence;
     private final GenreGateway genreGateway;
+    private final GenreQueryGateway genreQueryGateway;
 
-    public GenreUseCaseConfig(final GenreGateway genreGateway, final CategoryGateway categoryGateway){
+    public GenreUseCaseConfig(final GenreGateway genreGateway, final CategoryExistenceService categoryExistence,
+            final GenreQueryGateway genreQueryGateway){
         this.genreGateway = Objects.requireNonNull(genreGateway);
-        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+        this.categoryExistence = Objects.requireNonNull(categoryExistence);
+        this.genreQueryGateway = Objects.requireNonNull(genreQueryGateway);
     }
 
     @Bean
     public CreateGenreUseCase createGenreUseCase(){
-        return new DefaultCreateGenreUseCase(categoryGateway, genreGateway);
+        return new DefaultCreateGenreUseCase(categoryExistence, genreGateway);
+    }
+
+    @Bean
+    public CreateGenresUseCase createGenresUseCase(){
+        return new DefaultCreateGenresUseCase(categoryExistence, genreGateway);
     }
 
     @Bean
@@ -42,13 +59,28 @@ public class GenreUseCaseConfig {
         return new DefaultGetGenreByIdUseCase(genreGateway);
     }
 
+    @Bean
+    public GetGenresByIdsUseCase getGenresByIdsUseCase(){
+        return new DefaultGetGenresByIdsUseCase(genreGateway);
+    }
+
     @Bean
     public ListGenreUseCase listGenreUseCase(){
-        return new DefaultListGenreUseCase(genreGateway);
+        return new DefaultListGenreUseCase(genreQueryGateway);
+    }
+
+    @Bean
+    public ListGenreChangesUseCase listGenreChangesUseCase(){
+        return new DefaultListGenreChangesUseCase(genreQueryGateway);
+    }
+
+    @Bean
+    public ExportGenresUseCase exportGenresUseCase(){
+        return new DefaultExportGenresUseCase(genreQueryGateway);
     }
 
     @Bean
     public UpdateGenreUseCase updateGenreUseCase(){
-        return new DefaultUpdateGenreUseCase(categoryGateway, genreGateway);
+        return new DefaultUpdateGenreUseCase(categoryExistence, genreGateway);
     }
 }
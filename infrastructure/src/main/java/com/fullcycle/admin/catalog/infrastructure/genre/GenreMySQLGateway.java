@@ -1,44 +1,120 @@
 package com.fullcycle.admin.catalog.infrastructure.genre;
 
+import com.fullcycle.admin.catalog.application.genre.retrive.get.GenreOutput;
+import com.fullcycle.admin.catalog.application.genre.retrive.list.GenreListOutput;
+import com.fullcycle.admin.catalog.application.genre.retrive.list.GenreQueryGateway;
+import com.fullcycle.admin.catalog.domain.category.CategoryID;
 import com.fullcycle.admin.catalog.domain.genre.Genre;
+import com.fullcycle.admin.catalog.domain.genre.GenreChanged;
 import com.fullcycle.admin.catalog.domain.genre.GenreGateway;
 import com.fullcycle.admin.catalog.domain.genre.GenreID;
+import com.fullcycle.admin.catalog.domain.pagination.Change;
+import com.fullcycle.admin.catalog.domain.pagination.ChangesQuery;
+import com.fullcycle.admin.catalog.domain.pagination.ListVersion;
 import com.fullcycle.admin.catalog.domain.pagination.Pagination;
 import com.fullcycle.admin.catalog.domain.pagination.SearchQuery;
+import com.fullcycle.admin.catalog.infrastructure.changes.ChangeFeed;
+import com.fullcycle.admin.catalog.infrastructure.changes.Tombstones;
 import com.fullcycle.admin.catalog.infrastructure.genre.persistence.GenreJpaEntity;
 import com.fullcycle.admin.catalog.infrastructure.genre.persistence.GenreRepository;
+import com.fullcycle.admin.catalog.infrastructure.outbox.Outbox;
 import com.fullcycle.admin.catalog.infrastructure.utils.SpecificationUtils;
+import com.fullcycle.admin.catalog.infrastructure.utils.TransactionUtils;
+import com.fullcycle.admin.catalog.infrastructure.search.TrigramIndex;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import javax.annotation.PostConstruct;
+import javax.persistence.Tuple;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 @Component
-public class GenreMySQLGateway implements GenreGateway {
+public class GenreMySQLGateway implements GenreGateway, GenreQueryGateway {
+    private static final int IN_CHUNK = 1_000;
+    private static final List<String> LIST_COLUMNS = List.of("id", "name", "active", "createdAt", "deletedAt");
+    private static final List<String> EXPORT_COLUMNS =
+            List.of("id", "name", "active", "createdAt", "updatedAt", "deletedAt");
 
     private final GenreRepository genreRepository;
+    private final Outbox outbox;
+    private final Tombstones tombstones;
+    private final boolean indexed;
+    private final Duration changesSafetyLag;
+    private final TrigramIndex index = new TrigramIndex();
 
-    public GenreMySQLGateway(final GenreRepository genreRepository) {
+    public GenreMySQLGateway(
+            final GenreRepository genreRepository,
+            final Outbox outbox,
+            final Tombstones tombstones,
+            @Value("${search.index.enabled:false}") final boolean indexed,
+            @Value("${changes.safety-lag:5s}") final Duration changesSafetyLag
+    ) {
         this.genreRepository = genreRepository;
+        this.outbox = outbox;
+        this.tombstones = tombstones;
+        this.indexed = indexed;
+        this.changesSafetyLag = changesSafetyLag;
+    }
+
+    @PostConstruct
+    void buildIndex() {
+        if (this.indexed) {
+            this.index.clear();
+            this.genreRepository.forEachBatch(GenreJpaEntity.class, 1000, batch -> batch
+                    .forEach(it -> this.index.put(it.getId(), it.getName())));
+        }
     }
 
     @Override
+    @Transactional
     public Genre create(Genre aGenre) {
-        return save(aGenre);
+        return save(GenreJpaEntity.newEntity(aGenre), aGenre);
     }
 
-    private Genre save(Genre aGenre) {
-        return this.genreRepository.save(GenreJpaEntity.from(aGenre)).toAggregate();
+    @Override
+    @Transactional
+    public List<Genre> createAll(final List<Genre> aGenres) {
+        final var entities = aGenres.stream().map(GenreJpaEntity::newEntity).toList();
+        this.genreRepository.persistAll(entities);
+        this.outbox.appendAll(Outbox.GENRE, aGenres);
+        if (this.indexed) {
+            TransactionUtils.afterCommit(() -> aGenres.forEach(it -> this.index.put(it.getId().getValue(), it.getName())));
+        }
+        return entities.stream().map(GenreJpaEntity::toAggregate).toList();
+    }
+
+    private Genre save(final GenreJpaEntity anEntity, final Genre aGenre) {
+        final var saved = this.genreRepository.save(anEntity).toAggregate();
+        this.outbox.append(Outbox.GENRE, aGenre);
+        if (this.indexed) {
+            TransactionUtils.afterCommit(() -> this.index.put(saved.getId().getValue(), saved.getName()));
+        }
+        return saved;
     }
 
     @Override
+    @Transactional
     public void deleteById(final GenreID anId) {
         final var aGenreId = anId.getValue();
         if (this.genreRepository.existsById(aGenreId)) {
             this.genreRepository.deleteById(aGenreId);
+            this.outbox.append(Outbox.GENRE, GenreChanged.deleted(anId));
+            this.tombstones.record(Outbox.GENRE, anId);
+        }
+        if (this.indexed) {
+            TransactionUtils.afterCommit(() -> this.index.remove(aGenreId));
         }
     }
 
@@ -48,23 +124,149 @@ public class GenreMySQLGateway implements GenreGateway {
     }
 
     @Override
+    public Optional<Instant> findUpdatedAtById(final GenreID anID) {
+        return this.genreRepository.findUpdatedAtById(anID.getValue());
+    }
+
+    @Override
+    @Transactional
     public Genre update(final Genre aGenre) {
-        return save(aGenre);
+        return save(GenreJpaEntity.from(aGenre), aGenre);
+    }
+
+    @Override
+    public List<Genre> findAllById(final Collection<GenreID> ids) {
+        final var values = ids.stream().map(GenreID::getValue).toList();
+        final var genres = this.genreRepository.findAllByIds(GenreJpaEntity.class, values);
+        final var categories = categoriesOf(genres.stream().map(GenreJpaEntity::getId).toList());
+        return genres.stream()
+                .map(it -> it.toAggregate(categories.getOrDefault(it.getId(), List.of())))
+                .toList();
+    }
+
+    @Override
+    public Pagination<Genre> findAll(final SearchQuery aQuery) {
+        final var aPage = this.genreRepository.search(GenreJpaEntity.class, where(aQuery), aQuery);
+        final var categories = categoriesOf(aPage.items().stream().map(GenreJpaEntity::getId).toList());
+        return aPage.map(it -> it.toAggregate(categories.getOrDefault(it.getId(), List.of())));
+    }
+
+    @Override
+    public Pagination<GenreListOutput> list(final SearchQuery aQuery, final boolean withCategories) {
+        final var aPage = this.genreRepository.searchColumns(GenreJpaEntity.class, where(aQuery), aQuery, LIST_COLUMNS);
+        final var categories = withCategories
+                ? categoriesOf(aPage.items().stream().map(it -> it.get("id", String.class)).toList())
+                : Map.<String, List<CategoryID>>of();
+        return aPage.map(it -> {
+            final var anId = it.get("id", String.class);
+            return new GenreListOutput(
+                    anId,
+                    it.get("name", String.class),
+                    it.get("active", Boolean.class),
+                    withCategories
+                            ? categories.getOrDefault(anId, List.of()).stream().map(CategoryID::getValue).toList()
+                            : null,
+                    it.get("createdAt", Instant.class),
+                    it.get("deletedAt", Instant.class)
+            );
+        });
     }
 
     @Override
-    public Pagination<Genre> findAll(SearchQuery aQuery) {
-        final var page = PageRequest.of(
-                aQuery.page(),
-                aQuery.perPage(),
-                Sort.by(Sort.Direction.fromString(aQuery.direction()),aQuery.sort())
-        );
-        final var where = Optional.ofNullable(aQuery.terms()).filter(str -> !str.isBlank()).map(this::assembleSpecification).orElse(null);
-        final var results = this.genreRepository.findAll(Specification.where(where),page);
-        return new Pagination<>(results.getNumber(), results.getSize(), results.getTotalElements(), results.map(GenreJpaEntity::toAggregate).toList());
-    }
-
-    private Specification<GenreJpaEntity> assembleSpecification(final String terms) {
+    @Transactional(readOnly = true)
+    public ListVersion version() {
+        final var genres = this.genreRepository.findListVersion();
+        return new ListVersion(genres.rows() + this.genreRepository.countCategoryLinks(), genres.lastUpdatedAt());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void forEach(final Consumer<GenreOutput> aConsumer) {
+        final var chunk = new ArrayList<Tuple>(IN_CHUNK);
+        this.genreRepository.streamColumns(GenreJpaEntity.class, EXPORT_COLUMNS, it -> {
+            chunk.add(it);
+            if (chunk.size() == IN_CHUNK) {
+                forEach(chunk, aConsumer);
+                chunk.clear();
+            }
+        });
+        forEach(chunk, aConsumer);
+    }
+
+    // the categories are read for a chunk of genres at a time, neither per genre nor for the whole table
+    private void forEach(final List<Tuple> genres, final Consumer<GenreOutput> aConsumer) {
+        if (genres.isEmpty()) {
+            return;
+        }
+        final var categories = categoriesOf(genres.stream().map(it -> it.get("id", String.class)).toList());
+        genres.forEach(it -> {
+            final var anId = it.get("id", String.class);
+            aConsumer.accept(new GenreOutput(
+                    anId,
+                    it.get("name", String.class),
+                    it.get("active", Boolean.class),
+                    categories.getOrDefault(anId, List.of()).stream().map(CategoryID::getValue).toList(),
+                    it.get("createdAt", Instant.class),
+                    it.get("updatedAt", Instant.class),
+                    it.get("deletedAt", Instant.class)));
+        });
+    }
+
+    @Override
+    public Pagination<Change<GenreListOutput>> changes(final ChangesQuery aQuery) {
+        final var from = ChangeFeed.positionOf(aQuery, this.changesSafetyLag);
+        final var genres = this.genreRepository
+                .findChangedAfter(from.at(), from.id(), from.until(), PageRequest.ofSize(aQuery.perPage()));
+        final var categories = categoriesOf(genres.stream().map(GenreJpaEntity::getId).toList());
+        final var changed = genres.stream()
+                .map(it -> Change.of(it.getId(), it.getUpdatedAt(), new GenreListOutput(
+                        it.getId(),
+                        it.getName(),
+                        it.isActive(),
+                        categories.getOrDefault(it.getId(), List.of()).stream().map(CategoryID::getValue).toList(),
+                        it.getCreatedAt(),
+                        it.getDeletedAt())))
+                .toList();
+        return ChangeFeed.page(aQuery, changed,
+                this.tombstones.<GenreListOutput>after(Outbox.GENRE, from, aQuery.perPage()));
+    }
+
+    // the categories of a whole page in one IN query on genres_categories, instead of one query per genre
+    private Map<String, List<CategoryID>> categoriesOf(final List<String> ids) {
+        final var categories = new HashMap<String, List<CategoryID>>(ids.size());
+        for (int i = 0; i < ids.size(); i += IN_CHUNK) {
+            final var chunk = ids.subList(i, Math.min(i + IN_CHUNK, ids.size()));
+            this.genreRepository.findCategoryIds(chunk).forEach(it -> categories
+                    .computeIfAbsent(it.getGenreId(), k -> new ArrayList<>())
+                    .add(CategoryID.from(it.getCategoryId())));
+        }
+        return categories;
+    }
+
+    // with the active filter the idx_genres_active_* indexes give the rows already in the sort order
+    private Specification<GenreJpaEntity> where(final SearchQuery aQuery) {
+        final var terms = aQuery.hasTerms() ? assembleSpecification(aQuery) : null;
+        if (!aQuery.hasActive()) {
+            return terms;
+        }
+        return SpecificationUtils.<GenreJpaEntity>equal("active", aQuery.active()).and(terms);
+    }
+
+    private Specification<GenreJpaEntity> assembleSpecification(final SearchQuery aQuery) {
+        return switch (aQuery.matchMode()) {
+            case FULLTEXT -> SpecificationUtils.match(aQuery.terms(), "name");
+            case PREFIX -> SpecificationUtils.prefix("name", aQuery.terms());
+            case CONTAINS -> contains(aQuery.terms());
+        };
+    }
+
+    private Specification<GenreJpaEntity> contains(final String terms) {
+        if (this.indexed) {
+            final var ids = this.index.search(terms);
+            if (ids.size() <= TrigramIndex.SELECTIVE_HITS) {
+                return SpecificationUtils.in("id", ids);
+            }
+        }
         return SpecificationUtils.like("name", terms);
     }
 }
@@ -1,5 +1,6 @@
 package com.fullcycle.admin.catalog.infrastructure.genre.models;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import java.time.Instant;
@@ -9,6 +10,8 @@ public record GenreListResponse(
         @JsonProperty("id") String id,
         @JsonProperty("name") String name,
         @JsonProperty("is_active") Boolean active,
+        // left out when the list was asked with categories=false
+        @JsonInclude(JsonInclude.Include.NON_NULL) @JsonProperty("categories_id") List<String> categories,
         @JsonProperty("created_at") Instant createdAt,
         @JsonProperty("deleted_at") Instant deletedAt
 ) {
@@ -1,15 +1,21 @@
 package com.fullcycle.admin.catalog.infrastructure.genre.persistence;
 
+import com.fullcycle.admin.catalog.infrastructure.persistence.BinaryIdType;
+import org.hibernate.annotations.Type;
+
 import javax.persistence.Column;
 import javax.persistence.Embeddable;
 import java.io.Serializable;
 
 @Embeddable
 public class GenreCategoryId implements Serializable {
+    private static final long serialVersionUID = 1L;
 
-    @Column(name = "genre_id", nullable = false)
+    @Type(type = BinaryIdType.NAME)
+    @Column(name = "genre_id", nullable = false, columnDefinition = "BINARY(16)")
     private String genreId;
-    @Column(name = "category_id", nullable = false)
+    @Type(type = BinaryIdType.NAME)
+    @Column(name = "category_id", nullable = false, columnDefinition = "BINARY(16)")
     private String categoryId;
 
     public GenreCategoryId() {
@@ -3,6 +3,9 @@ package com.fullcycle.admin.catalog.infrastructure.genre.persistence;
 import com.fullcycle.admin.catalog.domain.category.CategoryID;
 import com.fullcycle.admin.catalog.domain.genre.Genre;
 import com.fullcycle.admin.catalog.domain.genre.GenreID;
+import com.fullcycle.admin.catalog.infrastructure.persistence.BinaryIdType;
+import org.hibernate.annotations.Type;
+import org.springframework.data.domain.Persistable;
 
 import javax.persistence.*;
 import java.time.Instant;
@@ -12,15 +15,16 @@ import java.util.Set;
 
 @Entity
 @Table(name = "genres")
-public class GenreJpaEntity {
+public class GenreJpaEntity implements Persistable<String> {
     @Id
-    @Column(name = "id", nullable = false)
+    @Type(type = BinaryIdType.NAME)
+    @Column(name = "id", nullable = false, columnDefinition = "BINARY(16)")
     private String id;
     @Column(name = "name", nullable = false)
     private String name;
     @Column(name = "active", nullable = false)
     private boolean active;
-    @OneToMany(mappedBy = "genre", cascade = CascadeType.ALL, fetch = FetchType.EAGER, orphanRemoval = true)
+    @OneToMany(mappedBy = "genre", cascade = CascadeType.ALL, fetch = FetchType.LAZY, orphanRemoval = true)
     private Set<GenreCategoryJpaEntity> categories;
     @Column(name = "created_at", nullable = false, columnDefinition = "DATETIME(6)")
     private Instant createdAt;
@@ -28,6 +32,8 @@ public class GenreJpaEntity {
     private Instant updatedAt;
     @Column(name = "deleted_at", columnDefinition = "DATETIME(6)")
     private Instant deletedAt;
+    @Transient
+    private boolean isNew;
 
     public GenreJpaEntity() {}
     private GenreJpaEntity(
@@ -60,12 +66,24 @@ public class GenreJpaEntity {
         return anEntity;
     }
 
+    // an aggregate that was never stored: save() goes straight to persist, skipping the SELECT of merge
+    public static GenreJpaEntity newEntity(final Genre aGenre) {
+        final var anEntity = from(aGenre);
+        anEntity.isNew = true;
+        return anEntity;
+    }
+
     public Genre toAggregate() {
-        return Genre.with(
+        return toAggregate(getCategoryIDS());
+    }
+
+    // for the list paths, where the categories were read in one batch instead of through the lazy collection
+    public Genre toAggregate(final List<CategoryID> categories) {
+        return Genre.restore(
                 GenreID.from(getId()),
                 getName(),
                 isActive(),
-                getCategoryIDS(),
+                categories,
                 getCreatedAt(),
                 getUpdatedAt(),
                 getDeletedAt()
@@ -86,6 +104,17 @@ public class GenreJpaEntity {
         return getCategories().stream().map(it -> CategoryID.from(it.getId().getCategoryId())).toList();
     }
 
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
     public String getId() {
         return id;
     }
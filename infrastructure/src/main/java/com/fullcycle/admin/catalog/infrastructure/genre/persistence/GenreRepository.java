@@ -1,11 +1,55 @@
 package com.fullcycle.admin.catalog.infrastructure.genre.persistence;
 
-import com.fullcycle.admin.catalog.infrastructure.category.persistence.CategoryJpaEntity;
+import com.fullcycle.admin.catalog.domain.pagination.ListVersion;
+import com.fullcycle.admin.catalog.infrastructure.persistence.BatchRepository;
+import com.fullcycle.admin.catalog.infrastructure.persistence.SearchRepository;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface GenreRepository extends JpaRepository<GenreJpaEntity, String> {
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface GenreRepository extends JpaRepository<GenreJpaEntity, String>, SearchRepository<GenreJpaEntity>,
+        BatchRepository<GenreJpaEntity> {
     Page<GenreJpaEntity> findAll(Specification<GenreJpaEntity> whereClause, Pageable page);
+
+    @Override
+    @EntityGraph(attributePaths = "categories")
+    Optional<GenreJpaEntity> findById(String id);
+
+    @Query(value = """
+            select gc.id from GenreCategoryJpaEntity gc where gc.id.genreId in :ids
+            """)
+    List<GenreCategoryId> findCategoryIds(@Param("ids") Collection<String> ids);
+
+    @Query(value = """
+            select g.updatedAt from GenreJpaEntity g where g.id = :id
+            """)
+    Optional<Instant> findUpdatedAtById(@Param("id") String id);
+
+    @Query(value = """
+            select new com.fullcycle.admin.catalog.domain.pagination.ListVersion(count(g), max(g.updatedAt)) from GenreJpaEntity g
+            """)
+    ListVersion findListVersion();
+
+    @Query(value = """
+            select count(gc) from GenreCategoryJpaEntity gc
+            """)
+    long countCategoryLinks();
+
+    @Query(value = """
+            select g from GenreJpaEntity g
+            where (g.updatedAt > :at or (g.updatedAt = :at and g.id > :id))
+              and g.updatedAt <= :until
+            order by g.updatedAt, g.id
+            """)
+    List<GenreJpaEntity> findChangedAfter(
+            @Param("at") Instant at, @Param("id") String id, @Param("until") Instant until, Pageable page);
 }
@@ -37,6 +37,7 @@ public interface GenreApiPresenter {
                 output.id(),
                 output.name(),
                 output.isActive(),
+                output.categories(),
                 output.createdAt(), 
                 output.deletedAt());
     }
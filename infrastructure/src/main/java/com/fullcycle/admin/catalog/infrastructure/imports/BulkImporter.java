@@ -0,0 +1,166 @@
+package com.fullcycle.admin.catalog.infrastructure.imports;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fullcycle.admin.catalog.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalog.domain.utils.IdUtils;
+import com.fullcycle.admin.catalog.domain.validation.Error;
+import com.fullcycle.admin.catalog.domain.validation.handler.Notification;
+import com.fullcycle.admin.catalog.infrastructure.api.models.ImportResponse;
+import com.fullcycle.admin.catalog.infrastructure.configuration.json.Json;
+
+import io.vavr.control.Either;
+
+// Creates the records of a streamed body through a bulk create use case, batchSize at a time: each batch is
+// one transaction and, up to hibernate.jdbc.batch_size, one JDBC batch. The body is only read as fast as the
+// batches are stored, so memory holds one batch whatever the size of the file.
+// A batch that fails as a whole rejects each of its lines and the import goes on with the next one
+@Component
+public class BulkImporter {
+    private static final Logger LOG = LoggerFactory.getLogger(BulkImporter.class);
+    private static final ObjectMapper MAPPER = Json.mapper();
+    private static final String REPORT_SUFFIX = ".ndjson";
+    // <name>-<uuid>, anything else never reaches the file system
+    private static final Pattern REPORT_ID = Pattern.compile("[a-z_]+-[0-9a-f]{8}(-[0-9a-f]{4}){3}-[0-9a-f]{12}");
+
+    private final int batchSize;
+    private final Path reportDir;
+    private final Duration reportTtl;
+
+    public BulkImporter(
+            @Value("${import.batch-size:500}") final int batchSize,
+            @Value("${import.report-dir:build/imports}") final String reportDir,
+            @Value("${import.report-ttl:24h}") final Duration reportTtl) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("'import.batch-size' should be greater than 0");
+        }
+        this.batchSize = batchSize;
+        this.reportDir = Path.of(reportDir);
+        this.reportTtl = reportTtl;
+    }
+
+    public <T, C> ImportResponse run(
+            final String aName,
+            final InputStream aBody,
+            final ImportFormat aFormat,
+            final Class<T> aType,
+            final Set<String> listColumns,
+            final Function<T, C> toCommand,
+            final Function<List<C>, List<Either<Notification, String>>> createAll) {
+        deleteExpiredReports();
+        final var aReportId = "%s-%s".formatted(aName, IdUtils.uuid());
+        final var aFile = this.reportDir.resolve(aReportId + REPORT_SUFFIX);
+        var commands = new ArrayList<C>(this.batchSize);
+        var lines = new ArrayList<Long>(this.batchSize);
+        long read = 0;
+        long imported = 0;
+        try (var reader = new ImportReader(aBody, aFormat, listColumns); var report = new ErrorReport(aFile)) {
+            ImportReader.Line aLine;
+            while ((aLine = reader.next()) != null) {
+                read++;
+                try {
+                    commands.add(toCommand.apply(MAPPER.treeToValue(reader.parse(aLine), aType)));
+                    lines.add(aLine.number());
+                } catch (final JsonProcessingException e) {
+                    report.reject(aLine.number(), unreadable(e.getOriginalMessage()));
+                } catch (final IllegalArgumentException e) {
+                    report.reject(aLine.number(), unreadable(e.getMessage()));
+                }
+                if (commands.size() == this.batchSize) {
+                    imported += flush(commands, lines, createAll, report);
+                    commands = new ArrayList<>(this.batchSize);
+                    lines = new ArrayList<>(this.batchSize);
+                }
+            }
+            imported += flush(commands, lines, createAll, report);
+            return new ImportResponse(read, imported, report.rejected(),
+                    report.file() != null ? "/imports/reports/%s".formatted(aReportId) : null);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static <C> long flush(
+            final List<C> commands,
+            final List<Long> lines,
+            final Function<List<C>, List<Either<Notification, String>>> createAll,
+            final ErrorReport report) throws IOException {
+        if (commands.isEmpty()) {
+            return 0;
+        }
+        final List<Either<Notification, String>> results;
+        try {
+            results = createAll.apply(commands);
+        } catch (final RuntimeException e) {
+            LOG.warn("Import batch of lines {} to {} failed, its lines are rejected",
+                    lines.get(0), lines.get(lines.size() - 1), e);
+            final var errors = e instanceof DomainException ex && !ex.getErrors().isEmpty()
+                    ? ex.getErrors()
+                    : List.of(new Error("Line could not be stored, the batch it was in failed"));
+            for (final var aLine : lines) {
+                report.reject(aLine, errors);
+            }
+            return 0;
+        }
+        long imported = 0;
+        for (int i = 0; i < results.size(); i++) {
+            final var aResult = results.get(i);
+            if (aResult.isRight()) {
+                imported++;
+            } else {
+                report.reject(lines.get(i), aResult.getLeft().getErrors());
+            }
+        }
+        return imported;
+    }
+
+    // the error report of an import still within import.report-ttl
+    public Optional<Path> report(final String anId) {
+        if (anId == null || !REPORT_ID.matcher(anId).matches()) {
+            return Optional.empty();
+        }
+        final var aFile = this.reportDir.resolve(anId + REPORT_SUFFIX);
+        return Files.isRegularFile(aFile) ? Optional.of(aFile) : Optional.empty();
+    }
+
+    // runs ahead of every import, the reports are only ever written by one
+    void deleteExpiredReports() {
+        if (!Files.isDirectory(this.reportDir)) {
+            return;
+        }
+        final var expiresBefore = Instant.now().minus(this.reportTtl);
+        try (var files = Files.list(this.reportDir)) {
+            for (final var aFile : (Iterable<Path>) files::iterator) {
+                if (aFile.getFileName().toString().endsWith(REPORT_SUFFIX)
+                        && Files.getLastModifiedTime(aFile).toInstant().isBefore(expiresBefore)) {
+                    Files.deleteIfExists(aFile);
+                }
+            }
+        } catch (final IOException e) {
+            LOG.warn("Could not delete the expired import reports in {}", this.reportDir, e);
+        }
+    }
+
+    private static List<Error> unreadable(final String aMessage) {
+        return List.of(new Error("Line could not be read: %s".formatted(aMessage)));
+    }
+}
@@ -0,0 +1,55 @@
+package com.fullcycle.admin.catalog.infrastructure.imports;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Objects;
+
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fullcycle.admin.catalog.domain.validation.Error;
+import com.fullcycle.admin.catalog.infrastructure.configuration.json.Json;
+
+// The rejected lines of one import, one JSON object per line; the file is only created on the first rejection
+final class ErrorReport implements Closeable {
+    private static final ObjectWriter WRITER = Json.mapper().writer();
+
+    private final Path file;
+    private BufferedWriter writer;
+    private long rejected;
+
+    ErrorReport(final Path aFile) {
+        this.file = Objects.requireNonNull(aFile);
+    }
+
+    void reject(final long aLine, final List<Error> errors) throws IOException {
+        if (this.writer == null) {
+            Files.createDirectories(this.file.toAbsolutePath().getParent());
+            this.writer = Files.newBufferedWriter(this.file);
+        }
+        this.writer.write(WRITER.writeValueAsString(new Rejection(aLine, errors)));
+        this.writer.write('\n');
+        this.rejected++;
+    }
+
+    long rejected() {
+        return this.rejected;
+    }
+
+    // null when every line was imported
+    Path file() {
+        return this.writer != null ? this.file : null;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (this.writer != null) {
+            this.writer.close();
+        }
+    }
+
+    record Rejection(long line, List<Error> errors) {
+    }
+}
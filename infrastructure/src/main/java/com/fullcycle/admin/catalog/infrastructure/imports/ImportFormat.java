@@ -0,0 +1,27 @@
+package com.fullcycle.admin.catalog.infrastructure.imports;
+
+import org.springframework.http.MediaType;
+
+import com.fullcycle.admin.catalog.infrastructure.utils.NdjsonUtils;
+
+public enum ImportFormat {
+    // one JSON object per line
+    NDJSON,
+    // a header line with the JSON property names, then one record per line
+    CSV;
+
+    public static final String CSV_VALUE = "text/csv";
+    public static final MediaType CSV_TYPE = MediaType.parseMediaType(CSV_VALUE);
+
+    public static ImportFormat of(final String aContentType) {
+        final var aType = MediaType.parseMediaType(aContentType);
+        if (NdjsonUtils.NDJSON.isCompatibleWith(aType)) {
+            return NDJSON;
+        }
+        if (CSV_TYPE.isCompatibleWith(aType)) {
+            return CSV;
+        }
+        throw new IllegalArgumentException("imports must be %s or %s, got %s"
+                .formatted(NdjsonUtils.NDJSON_VALUE, CSV_VALUE, aContentType));
+    }
+}
@@ -0,0 +1,123 @@
+package com.fullcycle.admin.catalog.infrastructure.imports;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Set;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fullcycle.admin.catalog.infrastructure.configuration.json.Json;
+
+// Hands the body over one record at a time as a JSON tree: the NDJSON lines as they are and the CSV ones
+// keyed by the header, with the list columns split on ';'. Only the current line is ever in memory
+final class ImportReader implements Closeable {
+    private static final ObjectMapper MAPPER = Json.mapper();
+    private static final char BOM = '\uFEFF';
+
+    private final BufferedReader reader;
+    private final ImportFormat format;
+    private final Set<String> listColumns;
+    private String[] header;
+    private long lineNumber;
+
+    ImportReader(final InputStream aBody, final ImportFormat aFormat, final Set<String> listColumns) {
+        this.reader = new BufferedReader(new InputStreamReader(aBody, StandardCharsets.UTF_8));
+        this.format = Objects.requireNonNull(aFormat);
+        this.listColumns = Objects.requireNonNull(listColumns);
+    }
+
+    // the next record, blank lines and the CSV header are skipped; null at the end of the body
+    Line next() throws IOException {
+        String text;
+        while ((text = this.reader.readLine()) != null) {
+            if (this.lineNumber++ == 0 && !text.isEmpty() && text.charAt(0) == BOM) {
+                text = text.substring(1);
+            }
+            if (text.isBlank()) {
+                continue;
+            }
+            if (this.format == ImportFormat.CSV && this.header == null) {
+                this.header = Arrays.stream(split(text)).map(String::trim).toArray(String[]::new);
+                continue;
+            }
+            return new Line(this.lineNumber, text);
+        }
+        return null;
+    }
+
+    JsonNode parse(final Line aLine) throws JsonProcessingException {
+        if (this.format == ImportFormat.NDJSON) {
+            final var aNode = MAPPER.readTree(aLine.text());
+            if (!aNode.isObject()) {
+                throw new IllegalArgumentException("expected a JSON object");
+            }
+            return aNode;
+        }
+        final var fields = split(aLine.text());
+        if (fields.length != this.header.length) {
+            throw new IllegalArgumentException("expected %d columns, got %d".formatted(this.header.length, fields.length));
+        }
+        final var aNode = MAPPER.createObjectNode();
+        for (int i = 0; i < fields.length; i++) {
+            final var value = fields[i].trim();
+            if (value.isEmpty()) {
+                continue;
+            }
+            if (this.listColumns.contains(this.header[i])) {
+                final var items = aNode.putArray(this.header[i]);
+                Arrays.stream(value.split(";")).map(String::trim).filter(it -> !it.isEmpty()).forEach(items::add);
+            } else {
+                aNode.put(this.header[i], value);
+            }
+        }
+        return aNode;
+    }
+
+    // RFC 4180 fields of a single line: quoted fields may hold commas and doubled quotes, not line breaks
+    static String[] split(final String aLine) {
+        final var fields = new ArrayList<String>();
+        final var field = new StringBuilder();
+        var quoted = false;
+        for (int i = 0; i < aLine.length(); i++) {
+            final var c = aLine.charAt(i);
+            if (quoted) {
+                if (c != '"') {
+                    field.append(c);
+                } else if (i + 1 < aLine.length() && aLine.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("unterminated quoted field");
+        }
+        fields.add(field.toString());
+        return fields.toArray(String[]::new);
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.reader.close();
+    }
+
+    record Line(long number, String text) {
+    }
+}
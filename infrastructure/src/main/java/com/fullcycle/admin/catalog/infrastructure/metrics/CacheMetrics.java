@@ -0,0 +1,40 @@
+package com.fullcycle.admin.catalog.infrastructure.metrics;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import com.fullcycle.admin.catalog.infrastructure.cache.CacheStats;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+// same meter names Micrometer uses for Caffeine and friends, so existing cache dashboards work
+public class CacheMetrics implements MeterBinder {
+
+    private final List<Supplier<CacheStats>> caches;
+
+    public CacheMetrics(final List<Supplier<CacheStats>> caches) {
+        this.caches = caches;
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        for (final var stats : caches) {
+            final var name = stats.get().name();
+            FunctionCounter.builder("cache.gets", stats, it -> it.get().hits())
+                    .tags("cache", name, "result", "hit")
+                    .register(registry);
+            FunctionCounter.builder("cache.gets", stats, it -> it.get().misses())
+                    .tags("cache", name, "result", "miss")
+                    .register(registry);
+            FunctionCounter.builder("cache.evictions", stats, it -> it.get().evictions())
+                    .tags("cache", name)
+                    .register(registry);
+            Gauge.builder("cache.size", stats, it -> it.get().size())
+                    .tags("cache", name)
+                    .register(registry);
+        }
+    }
+}
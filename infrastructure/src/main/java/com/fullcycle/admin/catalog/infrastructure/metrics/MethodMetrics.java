@@ -0,0 +1,68 @@
+package com.fullcycle.admin.catalog.infrastructure.metrics;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+// <prefix>.calls timer (with histogram), <prefix>.errors counter and <prefix>.active gauge, tagged per call site
+public class MethodMetrics {
+
+    private final MeterRegistry registry;
+    private final String prefix;
+    private final Map<Tags, Meters> meters = new ConcurrentHashMap<>();
+
+    public MethodMetrics(final MeterRegistry registry, final String prefix) {
+        this.registry = registry;
+        this.prefix = prefix;
+    }
+
+    public Object record(final Tags tags, final Call aCall) throws Throwable {
+        final var theMeters = meters.computeIfAbsent(tags, this::register);
+        theMeters.active.incrementAndGet();
+        final var start = System.nanoTime();
+        try {
+            final var result = aCall.proceed();
+            theMeters.success.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return result;
+        } catch (final Throwable t) {
+            theMeters.error.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            Counter.builder(prefix + ".errors")
+                    .tags(tags)
+                    .tag("exception", t.getClass().getSimpleName())
+                    .register(registry)
+                    .increment();
+            throw t;
+        } finally {
+            theMeters.active.decrementAndGet();
+        }
+    }
+
+    private Meters register(final Tags tags) {
+        return new Meters(
+                timer(tags, "success"),
+                timer(tags, "error"),
+                registry.gauge(prefix + ".active", tags, new AtomicInteger()));
+    }
+
+    private Timer timer(final Tags tags, final String outcome) {
+        return Timer.builder(prefix + ".calls")
+                .tags(tags)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    @FunctionalInterface
+    public interface Call {
+        Object proceed() throws Throwable;
+    }
+
+    private record Meters(Timer success, Timer error, AtomicInteger active) {
+    }
+}
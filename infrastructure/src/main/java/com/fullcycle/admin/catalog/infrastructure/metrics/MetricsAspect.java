@@ -0,0 +1,40 @@
+package com.fullcycle.admin.catalog.infrastructure.metrics;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+
+// every use case and gateway bean goes through here, the classes themselves know nothing about metrics
+@Aspect
+public class MetricsAspect {
+
+    private final MethodMetrics useCases;
+    private final MethodMetrics gateways;
+
+    public MetricsAspect(final MeterRegistry registry) {
+        this.useCases = new MethodMetrics(registry, "usecase");
+        this.gateways = new MethodMetrics(registry, "gateway");
+    }
+
+    @Around("execution(* com.fullcycle.admin.catalog.application.UseCase+.execute(..))"
+            + " || execution(* com.fullcycle.admin.catalog.application.UnitUseCase+.execute(..))"
+            + " || execution(* com.fullcycle.admin.catalog.application.NullaryUseCase+.execute(..))")
+    public Object aroundUseCase(final ProceedingJoinPoint aJoinPoint) throws Throwable {
+        return useCases.record(Tags.of("usecase", ownerOf(aJoinPoint)), aJoinPoint::proceed);
+    }
+
+    @Around("execution(public * com.fullcycle.admin.catalog.domain..*Gateway+.*(..))"
+            + " || execution(public * com.fullcycle.admin.catalog.application..*QueryGateway+.*(..))")
+    public Object aroundGateway(final ProceedingJoinPoint aJoinPoint) throws Throwable {
+        final var tags = Tags.of("gateway", ownerOf(aJoinPoint), "method", aJoinPoint.getSignature().getName());
+        return gateways.record(tags, aJoinPoint::proceed);
+    }
+
+    // the bean class, so a cached decorator and the MySQL gateway behind it are told apart
+    private static String ownerOf(final ProceedingJoinPoint aJoinPoint) {
+        return aJoinPoint.getTarget().getClass().getSimpleName();
+    }
+}
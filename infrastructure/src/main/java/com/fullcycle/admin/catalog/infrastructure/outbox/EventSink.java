@@ -0,0 +1,9 @@
+package com.fullcycle.admin.catalog.infrastructure.outbox;
+
+import java.util.List;
+
+// Where the relay delivers the outbox. Throwing keeps the whole batch in the outbox for the next run,
+// so a sink must cope with getting the same message more than once
+public interface EventSink {
+    void publish(List<OutboxMessage> aBatch);
+}
@@ -0,0 +1,36 @@
+package com.fullcycle.admin.catalog.infrastructure.outbox;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Objects;
+
+import com.fullcycle.admin.catalog.infrastructure.configuration.json.Json;
+
+// One JSON message per line, appended batch by batch
+public class FileEventSink implements EventSink {
+    private final Path file;
+
+    public FileEventSink(final Path file) {
+        this.file = Objects.requireNonNull(file);
+    }
+
+    @Override
+    public synchronized void publish(final List<OutboxMessage> aBatch) {
+        final var lines = new StringBuilder();
+        aBatch.forEach(it -> lines.append(Json.writeValueAsString(it)).append('\n'));
+        try {
+            final var parent = this.file.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            Files.writeString(this.file, lines, StandardOpenOption.CREATE, StandardOpenOption.APPEND,
+                    StandardOpenOption.WRITE);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
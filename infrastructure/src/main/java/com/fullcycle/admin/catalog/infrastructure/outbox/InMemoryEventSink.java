@@ -0,0 +1,21 @@
+package com.fullcycle.admin.catalog.infrastructure.outbox;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class InMemoryEventSink implements EventSink {
+    private final List<OutboxMessage> messages = new ArrayList<>();
+
+    @Override
+    public synchronized void publish(final List<OutboxMessage> aBatch) {
+        this.messages.addAll(aBatch);
+    }
+
+    public synchronized List<OutboxMessage> messages() {
+        return List.copyOf(this.messages);
+    }
+
+    public synchronized void clear() {
+        this.messages.clear();
+    }
+}
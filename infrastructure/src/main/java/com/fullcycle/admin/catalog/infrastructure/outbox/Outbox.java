@@ -0,0 +1,47 @@
+package com.fullcycle.admin.catalog.infrastructure.outbox;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fullcycle.admin.catalog.domain.AggregateRoot;
+import com.fullcycle.admin.catalog.domain.events.DomainEvent;
+import com.fullcycle.admin.catalog.infrastructure.outbox.persistence.OutboxEventJpaEntity;
+import com.fullcycle.admin.catalog.infrastructure.outbox.persistence.OutboxEventRepository;
+
+// Writes the events in the transaction of the gateway that changed the aggregate: both commit or neither
+@Component
+@Transactional(propagation = Propagation.MANDATORY)
+public class Outbox {
+    public static final String CATEGORY = "category";
+    public static final String GENRE = "genre";
+    public static final String CAST_MEMBER = "cast_member";
+
+    private final OutboxEventRepository repository;
+
+    public Outbox(final OutboxEventRepository repository) {
+        this.repository = repository;
+    }
+
+    public void append(final String anAggregateType, final DomainEvent anEvent) {
+        this.repository.save(OutboxEventJpaEntity.from(anAggregateType, anEvent));
+    }
+
+    // takes the events the aggregates recorded, they are not handed out again
+    public void appendAll(final String anAggregateType, final Collection<? extends AggregateRoot<?>> aggregates) {
+        final var entities = new ArrayList<OutboxEventJpaEntity>();
+        aggregates.forEach(anAggregate -> anAggregate.publishDomainEvents(
+                anEvent -> entities.add(OutboxEventJpaEntity.from(anAggregateType, anEvent))));
+        if (!entities.isEmpty()) {
+            this.repository.saveAll(entities);
+        }
+    }
+
+    public void append(final String anAggregateType, final AggregateRoot<?> anAggregate) {
+        appendAll(anAggregateType, List.of(anAggregate));
+    }
+}
@@ -0,0 +1,14 @@
+package com.fullcycle.admin.catalog.infrastructure.outbox;
+
+import java.time.Instant;
+
+// what a sink receives: the id is unique per event, consumers use it to drop a redelivery
+public record OutboxMessage(
+        String id,
+        String aggregateType,
+        String aggregateId,
+        String eventType,
+        String payload,
+        Instant occurredOn
+) {
+}
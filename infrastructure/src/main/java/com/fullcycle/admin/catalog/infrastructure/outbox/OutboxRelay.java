@@ -0,0 +1,64 @@
+package com.fullcycle.admin.catalog.infrastructure.outbox;
+
+import java.util.Objects;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fullcycle.admin.catalog.infrastructure.outbox.persistence.OutboxEventJpaEntity;
+import com.fullcycle.admin.catalog.infrastructure.outbox.persistence.OutboxEventRepository;
+
+// Publishes the outbox oldest first, a batch at a time, and deletes a batch only once the sink took it.
+// A crash between the two publishes that batch again: delivery is at least once. Each batch is read, published
+// and deleted in one transaction holding its rows locked, so relays on other instances never take it too
+public class OutboxRelay {
+    private static final Logger LOG = LoggerFactory.getLogger(OutboxRelay.class);
+
+    private final OutboxEventRepository repository;
+    private final EventSink sink;
+    private final int batchSize;
+    private final TransactionTemplate transaction;
+
+    public OutboxRelay(
+            final OutboxEventRepository repository,
+            final EventSink sink,
+            final int batchSize,
+            final PlatformTransactionManager transactionManager
+    ) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("'batchSize' should be greater than 0");
+        }
+        this.repository = Objects.requireNonNull(repository);
+        this.sink = Objects.requireNonNull(sink);
+        this.batchSize = batchSize;
+        this.transaction = new TransactionTemplate(transactionManager);
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.relay.fixed-delay-ms:1000}")
+    public void relayPending() {
+        try {
+            while (relayBatch() == this.batchSize) {
+                // a full batch, there may be more behind it
+            }
+        } catch (final RuntimeException e) {
+            LOG.warn("Outbox relay stopped, the batch stays in the outbox for the next run", e);
+        }
+    }
+
+    // the number of events published
+    public int relayBatch() {
+        return Objects.requireNonNull(this.transaction.execute(status -> {
+            final var batch = this.repository.findAllByOrderByIdAsc(PageRequest.ofSize(this.batchSize));
+            if (batch.isEmpty()) {
+                return 0;
+            }
+            this.sink.publish(batch.stream().map(OutboxEventJpaEntity::toMessage).toList());
+            this.repository.deleteAllByIdInBatch(batch.stream().map(OutboxEventJpaEntity::getId).toList());
+            return batch.size();
+        }));
+    }
+}
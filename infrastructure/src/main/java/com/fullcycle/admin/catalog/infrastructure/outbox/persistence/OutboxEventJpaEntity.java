@@ -0,0 +1,112 @@
+package com.fullcycle.admin.catalog.infrastructure.outbox.persistence;
+
+import java.time.Instant;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.PostLoad;
+import javax.persistence.PostPersist;
+import javax.persistence.Table;
+import javax.persistence.Transient;
+
+import org.hibernate.annotations.Type;
+import org.springframework.data.domain.Persistable;
+
+import com.fullcycle.admin.catalog.domain.events.DomainEvent;
+import com.fullcycle.admin.catalog.domain.utils.IdUtils;
+import com.fullcycle.admin.catalog.infrastructure.configuration.json.Json;
+import com.fullcycle.admin.catalog.infrastructure.outbox.OutboxMessage;
+import com.fullcycle.admin.catalog.infrastructure.persistence.BinaryIdType;
+
+@Entity(name = "OutboxEvent")
+@Table(name = "outbox_events")
+public class OutboxEventJpaEntity implements Persistable<String> {
+    // UUIDv7: the primary key order is the order the events were written in
+    @Id
+    @Type(type = BinaryIdType.NAME)
+    @Column(name = "id", columnDefinition = "BINARY(16)")
+    private String id;
+    @Column(name = "aggregate_type", length = 32, nullable = false)
+    private String aggregateType;
+    @Column(name = "aggregate_id", length = 36, nullable = false)
+    private String aggregateId;
+    @Column(name = "event_type", length = 64, nullable = false)
+    private String eventType;
+    @Column(name = "payload", length = 4000, nullable = false)
+    private String payload;
+    @Column(name = "occurred_on", nullable = false, columnDefinition = "DATETIME(6)")
+    private Instant occurredOn;
+    @Transient
+    private boolean isNew;
+
+    public OutboxEventJpaEntity() {
+    }
+
+    private OutboxEventJpaEntity(
+            final String id,
+            final String aggregateType,
+            final String aggregateId,
+            final String eventType,
+            final String payload,
+            final Instant occurredOn
+    ) {
+        this.id = id;
+        this.aggregateType = aggregateType;
+        this.aggregateId = aggregateId;
+        this.eventType = eventType;
+        this.payload = payload;
+        this.occurredOn = occurredOn;
+        this.isNew = true;
+    }
+
+    public static OutboxEventJpaEntity from(final String anAggregateType, final DomainEvent anEvent) {
+        return new OutboxEventJpaEntity(
+                IdUtils.uuid().toString(),
+                anAggregateType,
+                anEvent.aggregateId(),
+                anEvent.getClass().getSimpleName(),
+                Json.writeValueAsString(anEvent),
+                anEvent.occurredOn());
+    }
+
+    public OutboxMessage toMessage() {
+        return new OutboxMessage(getId(), getAggregateType(), getAggregateId(), getEventType(), getPayload(),
+                getOccurredOn());
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getAggregateType() {
+        return aggregateType;
+    }
+
+    public String getAggregateId() {
+        return aggregateId;
+    }
+
+    public String getEventType() {
+        return eventType;
+    }
+
+    public String getPayload() {
+        return payload;
+    }
+
+    public Instant getOccurredOn() {
+        return occurredOn;
+    }
+}
@@ -0,0 +1,23 @@
+package com.fullcycle.admin.catalog.infrastructure.outbox.persistence;
+
+import java.util.List;
+
+import javax.persistence.LockModeType;
+import javax.persistence.QueryHint;
+
+import org.hibernate.LockOptions;
+import org.hibernate.cfg.AvailableSettings;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.QueryHints;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEventJpaEntity, String> {
+    // a List, not a Page: the relay only needs the next batch, never the count.
+    // The rows stay locked until the relay deletes them, a second relay skips them where the dialect renders
+    // SKIP LOCKED and waits for them on the MySQL5 one, either way no batch is published by two relays
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = AvailableSettings.JPA_LOCK_TIMEOUT, value = "" + LockOptions.SKIP_LOCKED))
+    List<OutboxEventJpaEntity> findAllByOrderByIdAsc(Pageable page);
+}
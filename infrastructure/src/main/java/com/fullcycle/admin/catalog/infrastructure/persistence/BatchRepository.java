@@ -0,0 +1,8 @@
+package com.fullcycle.admin.catalog.infrastructure.persistence;
+
+import java.util.List;
+
+public interface BatchRepository<T> {
+    // Plain INSERTs sent in JDBC batches: no merge, so no SELECT before each row
+    void persistAll(List<T> entities);
+}
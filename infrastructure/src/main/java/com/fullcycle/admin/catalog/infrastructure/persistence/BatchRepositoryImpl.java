@@ -0,0 +1,37 @@
+package com.fullcycle.admin.catalog.infrastructure.persistence;
+
+import java.util.List;
+
+import javax.persistence.EntityManager;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.transaction.annotation.Transactional;
+
+public class BatchRepositoryImpl<T> implements BatchRepository<T> {
+
+    private final EntityManager entityManager;
+    private final int batchSize;
+
+    public BatchRepositoryImpl(
+            final EntityManager entityManager,
+            @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:500}") final int batchSize
+    ) {
+        this.entityManager = entityManager;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    @Transactional
+    public void persistAll(final List<T> entities) {
+        for (int i = 0; i < entities.size(); i++) {
+            this.entityManager.persist(entities.get(i));
+            // flushing at the JDBC batch size sends full batches, clearing keeps the persistence context small
+            if ((i + 1) % this.batchSize == 0) {
+                this.entityManager.flush();
+                this.entityManager.clear();
+            }
+        }
+        this.entityManager.flush();
+        this.entityManager.clear();
+    }
+}
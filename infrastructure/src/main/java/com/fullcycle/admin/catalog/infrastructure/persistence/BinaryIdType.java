@@ -0,0 +1,97 @@
+package com.fullcycle.admin.catalog.infrastructure.persistence;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import org.hibernate.type.AbstractSingleColumnStandardBasicType;
+import org.hibernate.type.descriptor.WrapperOptions;
+import org.hibernate.type.descriptor.java.AbstractTypeDescriptor;
+import org.hibernate.type.descriptor.sql.VarbinaryTypeDescriptor;
+
+// The aggregates keep their ids as UUID strings, the tables store the 16 raw bytes (BINARY(16)).
+// A Hibernate type and not a JPA AttributeConverter: Hibernate 5 ignores @Convert on @Id attributes
+public class BinaryIdType extends AbstractSingleColumnStandardBasicType<String> {
+    public static final String NAME = "com.fullcycle.admin.catalog.infrastructure.persistence.BinaryIdType";
+    private static final long serialVersionUID = 1L;
+    private static final int SIZE = 16;
+
+    public BinaryIdType() {
+        super(VarbinaryTypeDescriptor.INSTANCE, new BinaryIdDescriptor());
+    }
+
+    @Override
+    public String getName() {
+        return "binary_id";
+    }
+
+    public static byte[] toBytes(final String anId) {
+        final UUID aUuid;
+        try {
+            aUuid = UUID.fromString(anId);
+        } catch (final IllegalArgumentException ex) {
+            // not a generated id, so no row can have it: bound as is it simply matches nothing. Throwing instead
+            // would turn the 404 of GET /categories/123 into a 500, the ids come straight from the request
+            return anId.getBytes(StandardCharsets.UTF_8);
+        }
+        return ByteBuffer.allocate(SIZE)
+                .putLong(aUuid.getMostSignificantBits())
+                .putLong(aUuid.getLeastSignificantBits())
+                .array();
+    }
+
+    public static String fromBytes(final byte[] aValue) {
+        if (aValue.length != SIZE) {
+            return new String(aValue, StandardCharsets.UTF_8);
+        }
+        final var aBuffer = ByteBuffer.wrap(aValue);
+        return new UUID(aBuffer.getLong(), aBuffer.getLong()).toString();
+    }
+
+    private static class BinaryIdDescriptor extends AbstractTypeDescriptor<String> {
+        private static final long serialVersionUID = 1L;
+
+        BinaryIdDescriptor() {
+            super(String.class);
+        }
+
+        @Override
+        public String toString(final String value) {
+            return value;
+        }
+
+        @Override
+        public String fromString(final String string) {
+            return string;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <X> X unwrap(final String value, final Class<X> type, final WrapperOptions options) {
+            if (value == null) {
+                return null;
+            }
+            if (byte[].class.isAssignableFrom(type)) {
+                return (X) toBytes(value);
+            }
+            if (String.class.isAssignableFrom(type)) {
+                return (X) value;
+            }
+            throw unknownUnwrap(type);
+        }
+
+        @Override
+        public <X> String wrap(final X value, final WrapperOptions options) {
+            if (value == null) {
+                return null;
+            }
+            if (value instanceof byte[] bytes) {
+                return fromBytes(bytes);
+            }
+            if (value instanceof String aString) {
+                return aString;
+            }
+            throw unknownWrap(value.getClass());
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.fullcycle.admin.catalog.infrastructure.persistence;
+
+// every permit of the database limiter stayed taken for longer than the allowed wait
+public class DatabaseBusyException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    public DatabaseBusyException(final String aMessage) {
+        super(aMessage, null, false, false);
+    }
+}
@@ -0,0 +1,52 @@
+package com.fullcycle.admin.catalog.infrastructure.persistence;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+
+// A MySQL gateway call holds at most one connection at a time, so with as many permits as the Hikari pool has
+// connections the callers queue here, fairly and for max-wait, instead of failing on the pool's 250ms timeout.
+// It has to wrap the transaction advisor, which takes the connection: a caller waiting for a permit holds none
+@Aspect
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class DatabaseConcurrencyLimiter {
+
+    private static final ThreadLocal<Boolean> HOLDING = ThreadLocal.withInitial(() -> false);
+
+    private final Semaphore permits;
+    private final long maxWaitNanos;
+
+    public DatabaseConcurrencyLimiter(final int limit, final Duration maxWait) {
+        this.permits = new Semaphore(limit, true);
+        this.maxWaitNanos = maxWait.toNanos();
+    }
+
+    @Around("execution(public * com.fullcycle.admin.catalog.infrastructure..*MySQLGateway.*(..))")
+    public Object limit(final ProceedingJoinPoint aJoinPoint) throws Throwable {
+        // a gateway reached from inside another one already runs under the caller's permit
+        if (HOLDING.get()) {
+            return aJoinPoint.proceed();
+        }
+        if (!permits.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS)) {
+            throw new DatabaseBusyException("No database connection became available in %dms"
+                    .formatted(TimeUnit.NANOSECONDS.toMillis(maxWaitNanos)));
+        }
+        HOLDING.set(true);
+        try {
+            return aJoinPoint.proceed();
+        } finally {
+            HOLDING.set(false);
+            permits.release();
+        }
+    }
+
+    public int available() {
+        return permits.availablePermits();
+    }
+}
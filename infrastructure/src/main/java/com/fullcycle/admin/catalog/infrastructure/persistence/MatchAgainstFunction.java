@@ -0,0 +1,53 @@
+package com.fullcycle.admin.catalog.infrastructure.persistence;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.hibernate.QueryException;
+import org.hibernate.boot.MetadataBuilder;
+import org.hibernate.boot.spi.MetadataBuilderContributor;
+import org.hibernate.dialect.function.SQLFunction;
+import org.hibernate.engine.spi.Mapping;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.type.StandardBasicTypes;
+import org.hibernate.type.Type;
+
+// match_against(col1, ..., colN, terms) -> MATCH (col1, ..., colN) AGAINST (terms IN BOOLEAN MODE)
+public class MatchAgainstFunction implements SQLFunction, MetadataBuilderContributor {
+    public static final String NAME = "match_against";
+
+    @Override
+    public void contribute(final MetadataBuilder metadataBuilder) {
+        metadataBuilder.applySqlFunction(NAME, this);
+    }
+
+    @Override
+    public boolean hasArguments() {
+        return true;
+    }
+
+    @Override
+    public boolean hasParenthesesIfNoArguments() {
+        return false;
+    }
+
+    @Override
+    public Type getReturnType(final Type firstArgumentType, final Mapping mapping) throws QueryException {
+        return StandardBasicTypes.DOUBLE;
+    }
+
+    // the raw List is the SQLFunction signature, Hibernate hands over the rendered arguments as strings
+    @Override
+    @SuppressWarnings("rawtypes")
+    public String render(final Type firstArgumentType, final List arguments, final SessionFactoryImplementor factory)
+            throws QueryException {
+        final List<?> args = arguments;
+        if (args.size() < 2) {
+            throw new QueryException(NAME + " requires at least one column and the search terms");
+        }
+        final var columns = args.subList(0, args.size() - 1).stream()
+                .map(String::valueOf)
+                .collect(Collectors.joining(", "));
+        return "MATCH (%s) AGAINST (%s IN BOOLEAN MODE)".formatted(columns, args.get(args.size() - 1));
+    }
+}
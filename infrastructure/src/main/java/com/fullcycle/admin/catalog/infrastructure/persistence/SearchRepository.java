@@ -0,0 +1,37 @@
+package com.fullcycle.admin.catalog.infrastructure.persistence;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+
+import javax.persistence.Tuple;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.fullcycle.admin.catalog.domain.pagination.Pagination;
+import com.fullcycle.admin.catalog.domain.pagination.SearchQuery;
+
+public interface SearchRepository<T> {
+    // Same as findAll(Specification, Pageable) without the count(*) query a Page always runs
+    List<T> findSlice(Class<T> aType, Specification<T> whereClause, Pageable page);
+
+    // Pages through the search by offset or by the query cursor, counting as the query's TotalMode asks
+    Pagination<T> search(Class<T> aType, Specification<T> whereClause, SearchQuery aQuery);
+
+    // Same search selecting only the given attributes, each tuple element aliased by its attribute name:
+    // no entity is built nor kept in the persistence context
+    Pagination<Tuple> searchColumns(Class<T> aType, Specification<T> whereClause, SearchQuery aQuery,
+                                    List<String> attributes);
+
+    // One IN (...) query per chunk of ids, found rows come back in the order of the given ids
+    List<T> findAllByIds(Class<T> aType, Collection<String> ids);
+
+    // Reads the whole table in id order, one batch in memory at a time
+    void forEachBatch(Class<T> aType, int batchSize, Consumer<List<T>> aConsumer);
+
+    // Reads the whole table in id order through one forward-only cursor, selecting only the given attributes:
+    // each tuple is handed over and dropped, memory stays the same for ten rows or ten million.
+    // The cursor lives as long as its connection: callers keep a transaction open around it
+    void streamColumns(Class<T> aType, List<String> attributes, Consumer<Tuple> aConsumer);
+}
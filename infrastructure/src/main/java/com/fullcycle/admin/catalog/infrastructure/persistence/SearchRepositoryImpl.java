@@ -0,0 +1,260 @@
+package com.fullcycle.admin.catalog.infrastructure.persistence;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+
+import javax.persistence.EntityManager;
+import javax.persistence.Table;
+import javax.persistence.Tuple;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Root;
+import javax.persistence.criteria.Selection;
+import javax.persistence.metamodel.Attribute;
+
+import org.hibernate.Session;
+import org.hibernate.jpa.QueryHints;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fullcycle.admin.catalog.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalog.domain.pagination.MatchMode;
+import com.fullcycle.admin.catalog.domain.pagination.Pagination;
+import com.fullcycle.admin.catalog.domain.pagination.SearchQuery;
+import com.fullcycle.admin.catalog.domain.pagination.TotalMode;
+import com.fullcycle.admin.catalog.domain.validation.Error;
+import com.fullcycle.admin.catalog.infrastructure.utils.CursorUtils;
+
+@Transactional(readOnly = true)
+public class SearchRepositoryImpl<T> implements SearchRepository<T> {
+
+    private static final String ID = "id";
+    private static final String MYSQL = "MySQL";
+    // keeps every statement and its bind list bounded however many ids a caller sends
+    private static final int IN_CHUNK = 1000;
+
+    private final EntityManager entityManager;
+    private final int fetchSize;
+    // the database never changes under a running app, it is asked once
+    private volatile Boolean mysql;
+
+    public SearchRepositoryImpl(
+            final EntityManager entityManager,
+            @Value("${export.fetch-size:1000}") final int fetchSize
+    ) {
+        this.entityManager = entityManager;
+        this.fetchSize = fetchSize;
+    }
+
+    @Override
+    public List<T> findSlice(final Class<T> aType, final Specification<T> whereClause, final Pageable page) {
+        return slice(aType, aType, whereClause, page, (query, root) -> query.select(root));
+    }
+
+    @Override
+    public Pagination<T> search(final Class<T> aType, final Specification<T> whereClause, final SearchQuery aQuery) {
+        final var items = search(aType, whereClause, aQuery,
+                (where, page) -> findSlice(aType, where, page));
+        return withCursor(items, CursorUtils.next(aQuery, items.items()));
+    }
+
+    @Override
+    public Pagination<Tuple> searchColumns(final Class<T> aType, final Specification<T> whereClause,
+                                           final SearchQuery aQuery, final List<String> attributes) {
+        validate(aType, aQuery);
+        // the cursor of the next page needs the id and the sort value of the last row, selected or not
+        final var selected = new LinkedHashSet<>(attributes);
+        selected.add(ID);
+        selected.add(aQuery.sort());
+        final var items = search(aType, whereClause, aQuery, (where, page) -> slice(aType, Tuple.class, where, page,
+                (query, root) -> query.multiselect(selected.stream()
+                        .<Selection<?>>map(it -> root.get(it).alias(it))
+                        .toList())));
+        return withCursor(items, CursorUtils.next(aQuery, items.items(), Tuple::get));
+    }
+
+    private <R> Pagination<R> search(final Class<T> aType, final Specification<T> whereClause,
+                                     final SearchQuery aQuery,
+                                     final BiFunction<Specification<T>, Pageable, List<R>> aSlice) {
+        validate(aType, aQuery);
+        final var sort = CursorUtils.sortOf(aQuery);
+        final List<R> items;
+        final long total;
+        if (aQuery.hasCursor()) {
+            final var where = Specification.where(whereClause).and(CursorUtils.<T>after(aQuery));
+            items = aSlice.apply(where, PageRequest.of(0, aQuery.perPage(), sort));
+            total = count(aType, whereClause, aQuery.totalMode());
+        } else {
+            final var page = PageRequest.of(aQuery.page(), aQuery.perPage(), sort);
+            items = aSlice.apply(whereClause, page);
+            // a short first page already holds the whole result, as Spring Data's Page does
+            total = page.getOffset() == 0 && items.size() < page.getPageSize() && aQuery.totalMode() != TotalMode.NONE
+                    ? items.size()
+                    : count(aType, whereClause, aQuery.totalMode());
+        }
+        return new Pagination<>(aQuery.page(), aQuery.perPage(), total, items);
+    }
+
+    // sort, direction and match come straight from the query string: only a plain column of the entity is sorted on
+    private void validate(final Class<T> aType, final SearchQuery aQuery) {
+        final var sortable = this.entityManager.getMetamodel().entity(aType).getSingularAttributes().stream()
+                .filter(it -> it.getPersistentAttributeType() == Attribute.PersistentAttributeType.BASIC)
+                .anyMatch(it -> it.getName().equals(aQuery.sort()));
+        if (!sortable) {
+            throw DomainException.with(new Error("'sort' cannot be '%s'".formatted(aQuery.sort())));
+        }
+        if (Sort.Direction.fromOptionalString(aQuery.direction()).isEmpty()) {
+            throw DomainException.with(new Error("'direction' must be asc or desc"));
+        }
+        // MATCH ... AGAINST needs the FULLTEXT indexes, only the MySQL migrations (db/vendor/mysql) create them
+        if (aQuery.hasTerms() && aQuery.matchMode() == MatchMode.FULLTEXT && !isMySQL()) {
+            throw DomainException.with(new Error("'match' fulltext is not available on this database, use contains or prefix"));
+        }
+    }
+
+    private static <R> Pagination<R> withCursor(final Pagination<R> aPage, final String nextCursor) {
+        return new Pagination<>(aPage.currentPage(), aPage.perPage(), aPage.total(), aPage.items(), nextCursor);
+    }
+
+    private <R> List<R> slice(final Class<T> aType, final Class<R> aResult, final Specification<T> whereClause,
+                              final Pageable page, final BiConsumer<CriteriaQuery<R>, Root<T>> aSelection) {
+        final var cb = this.entityManager.getCriteriaBuilder();
+        final var query = cb.createQuery(aResult);
+        final var root = query.from(aType);
+        final var predicate = whereClause != null ? whereClause.toPredicate(root, query, cb) : null;
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        aSelection.accept(query, root);
+        query.orderBy(QueryUtils.toOrders(page.getSort(), root, cb));
+        return this.entityManager.createQuery(query)
+                .setFirstResult((int) page.getOffset())
+                .setMaxResults(page.getPageSize())
+                .getResultList();
+    }
+
+    @Override
+    public List<T> findAllByIds(final Class<T> aType, final Collection<String> ids) {
+        final var distinct = ids.stream().distinct().toList();
+        final var found = new HashMap<Object, T>(distinct.size());
+        final var unitUtil = this.entityManager.getEntityManagerFactory().getPersistenceUnitUtil();
+        for (int from = 0; from < distinct.size(); from += IN_CHUNK) {
+            final var chunk = distinct.subList(from, Math.min(from + IN_CHUNK, distinct.size()));
+            final var cb = this.entityManager.getCriteriaBuilder();
+            final var query = cb.createQuery(aType);
+            final var root = query.from(aType);
+            query.select(root).where(root.get(ID).in(chunk));
+            this.entityManager.createQuery(query).getResultList()
+                    .forEach(it -> found.put(unitUtil.getIdentifier(it), it));
+        }
+        final var result = new ArrayList<T>(found.size());
+        for (final var anId : distinct) {
+            final var entity = found.get(anId);
+            if (entity != null) {
+                result.add(entity);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public void forEachBatch(final Class<T> aType, final int batchSize, final Consumer<List<T>> aConsumer) {
+        final var page = PageRequest.of(0, batchSize, Sort.by(ID));
+        String last = null;
+        List<T> batch;
+        do {
+            final var after = last;
+            final Specification<T> where = after == null ? null : (root, query, cb) -> cb.greaterThan(root.get(ID), after);
+            batch = findSlice(aType, where, page);
+            if (!batch.isEmpty()) {
+                aConsumer.accept(batch);
+                last = (String) this.entityManager.getEntityManagerFactory().getPersistenceUnitUtil()
+                        .getIdentifier(batch.get(batch.size() - 1));
+                // the batches already read are detached so memory stays flat
+                this.entityManager.clear();
+            }
+        } while (batch.size() == batchSize);
+    }
+
+    @Override
+    public void streamColumns(final Class<T> aType, final List<String> attributes, final Consumer<Tuple> aConsumer) {
+        final var cb = this.entityManager.getCriteriaBuilder();
+        final var query = cb.createTupleQuery();
+        final var root = query.from(aType);
+        query.multiselect(attributes.stream().<Selection<?>>map(it -> root.get(it).alias(it)).toList());
+        query.orderBy(cb.asc(root.get(ID)));
+        // Hibernate streams over a FORWARD_ONLY ScrollableResults, the fetch size sets how many rows
+        // the driver brings per round trip; tuples are not entities, the persistence context stays empty
+        try (var rows = this.entityManager.createQuery(query)
+                .setHint(QueryHints.HINT_FETCH_SIZE, this.fetchSize)
+                .getResultStream()) {
+            rows.forEach(aConsumer);
+        }
+    }
+
+    private long count(final Class<T> aType, final Specification<T> whereClause, final TotalMode aMode) {
+        return switch (aMode) {
+            case NONE -> Pagination.UNKNOWN_TOTAL;
+            // table statistics only describe the whole table, a filtered search is still counted
+            case ESTIMATED -> whereClause == null ? estimate(aType).orElseGet(() -> count(aType, null)) : count(aType, whereClause);
+            case EXACT -> count(aType, whereClause);
+        };
+    }
+
+    private long count(final Class<T> aType, final Specification<T> whereClause) {
+        final var cb = this.entityManager.getCriteriaBuilder();
+        final var query = cb.createQuery(Long.class);
+        final var root = query.from(aType);
+        final var predicate = whereClause != null ? whereClause.toPredicate(root, query, cb) : null;
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.select(cb.count(root));
+        return this.entityManager.createQuery(query).getSingleResult();
+    }
+
+    // InnoDB keeps an approximate row count per table, reading it costs nothing next to a count(*) scan.
+    // Any other database (H2 on the test-integration profile) has no such statistic and the caller counts, as it
+    // does when the query fails: plain JDBC, so the failure does not mark the transaction rollback-only
+    private Optional<Long> estimate(final Class<T> aType) {
+        final var aTable = Optional.ofNullable(aType.getAnnotation(Table.class)).map(Table::name);
+        if (aTable.isEmpty() || !isMySQL()) {
+            return Optional.empty();
+        }
+        return this.entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            try (var statement = connection.prepareStatement("""
+                    SELECT TABLE_ROWS FROM information_schema.TABLES
+                    WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ?
+                    """)) {
+                statement.setString(1, aTable.get());
+                try (var rows = statement.executeQuery()) {
+                    return rows.next() && rows.getObject(1) instanceof Number value
+                            ? Optional.of(value.longValue())
+                            : Optional.empty();
+                }
+            } catch (final SQLException e) {
+                return Optional.empty();
+            }
+        });
+    }
+
+    private boolean isMySQL() {
+        if (this.mysql == null) {
+            this.mysql = this.entityManager.unwrap(Session.class).doReturningWork(
+                    connection -> MYSQL.equalsIgnoreCase(connection.getMetaData().getDatabaseProductName()));
+        }
+        return this.mysql;
+    }
+}
@@ -0,0 +1,205 @@
+package com.fullcycle.admin.catalog.infrastructure.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// In-memory inverted index of trigrams answering case-insensitive substring searches with ids.
+// Each document gets an ordinal in insertion order, so posting lists are int arrays that stay
+// sorted for free and are intersected by merge.
+public final class TrigramIndex {
+    // beyond this many hits an IN (...) lookup stops beating the scan it replaces
+    public static final int SELECTIVE_HITS = 5_000;
+    private static final int GRAM = 3;
+    // joins the fields of a document, never part of a term so no match spans two fields
+    private static final char SEPARATOR = '\u0000';
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Integer> ordinals = new HashMap<>();
+    private final Map<Long, Postings> postings = new HashMap<>();
+    private final BitSet live = new BitSet();
+    private String[] ids = new String[64];
+    private String[] texts = new String[64];
+    private int next;
+
+    public void put(final String anId, final String... fields) {
+        Objects.requireNonNull(anId);
+        final var aText = normalize(String.join(String.valueOf(SEPARATOR), Arrays.stream(fields)
+                .map(it -> it == null ? "" : it)
+                .toList()));
+        this.lock.writeLock().lock();
+        try {
+            unlink(anId);
+            link(anId, aText);
+            if (next - live.cardinality() > Math.max(1024, live.cardinality())) {
+                compact();
+            }
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(final String anId) {
+        this.lock.writeLock().lock();
+        try {
+            unlink(anId);
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        this.lock.writeLock().lock();
+        try {
+            this.ordinals.clear();
+            this.postings.clear();
+            this.live.clear();
+            this.ids = new String[64];
+            this.texts = new String[64];
+            this.next = 0;
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        this.lock.readLock().lock();
+        try {
+            return this.ordinals.size();
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    // ids of the documents containing the term as given, like the LIKE it stands in for: SearchQuery trims it
+    public List<String> search(final String aTerm) {
+        final var term = normalize(aTerm);
+        this.lock.readLock().lock();
+        try {
+            final var candidates = term.length() < GRAM ? all() : candidates(term);
+            final var result = new ArrayList<String>(candidates.length);
+            for (final int ordinal : candidates) {
+                if (live.get(ordinal) && texts[ordinal].contains(term)) {
+                    result.add(ids[ordinal]);
+                }
+            }
+            return result;
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    private int[] candidates(final String term) {
+        final var grams = trigrams(term);
+        final var lists = new Postings[grams.length];
+        for (int i = 0; i < grams.length; i++) {
+            lists[i] = this.postings.get(grams[i]);
+            if (lists[i] == null) {
+                return new int[0];
+            }
+        }
+        // the shortest list first keeps every following merge as small as possible
+        Arrays.sort(lists, (a, b) -> Integer.compare(a.size, b.size));
+        var result = Arrays.copyOf(lists[0].docs, lists[0].size);
+        for (int i = 1; i < lists.length && result.length > 0; i++) {
+            result = intersect(result, lists[i]);
+        }
+        return result;
+    }
+
+    private int[] all() {
+        return this.live.stream().toArray();
+    }
+
+    private void link(final String anId, final String aText) {
+        final var ordinal = this.next++;
+        if (ordinal == this.ids.length) {
+            this.ids = Arrays.copyOf(this.ids, ordinal * 2);
+            this.texts = Arrays.copyOf(this.texts, ordinal * 2);
+        }
+        this.ids[ordinal] = anId;
+        this.texts[ordinal] = aText;
+        this.live.set(ordinal);
+        this.ordinals.put(anId, ordinal);
+        for (final long gram : trigrams(aText)) {
+            this.postings.computeIfAbsent(gram, it -> new Postings()).add(ordinal);
+        }
+    }
+
+    // the ordinal is only marked dead, its postings are dropped on the next compaction
+    private void unlink(final String anId) {
+        final var ordinal = this.ordinals.remove(anId);
+        if (ordinal != null) {
+            this.live.clear(ordinal);
+            this.ids[ordinal] = null;
+            this.texts[ordinal] = null;
+        }
+    }
+
+    private void compact() {
+        final var oldIds = this.ids;
+        final var oldTexts = this.texts;
+        final var oldLive = (BitSet) this.live.clone();
+        this.ordinals.clear();
+        this.postings.clear();
+        this.live.clear();
+        this.ids = new String[Math.max(64, oldLive.cardinality() * 2)];
+        this.texts = new String[this.ids.length];
+        this.next = 0;
+        oldLive.stream().forEach(ordinal -> link(oldIds[ordinal], oldTexts[ordinal]));
+    }
+
+    private static int[] intersect(final int[] left, final Postings right) {
+        final var result = new int[Math.min(left.length, right.size)];
+        int i = 0, j = 0, k = 0;
+        while (i < left.length && j < right.size) {
+            if (left[i] < right.docs[j]) {
+                i++;
+            } else if (left[i] > right.docs[j]) {
+                j++;
+            } else {
+                result[k++] = left[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, k);
+    }
+
+    private static long[] trigrams(final String aText) {
+        if (aText.length() < GRAM) {
+            return new long[0];
+        }
+        final var grams = new long[aText.length() - GRAM + 1];
+        for (int i = 0; i < grams.length; i++) {
+            grams[i] = ((long) aText.charAt(i) << 32) | ((long) aText.charAt(i + 1) << 16) | aText.charAt(i + 2);
+        }
+        return Arrays.stream(grams).distinct().toArray();
+    }
+
+    private static String normalize(final String aText) {
+        return aText.toLowerCase(Locale.ROOT);
+    }
+
+    // ordinals grow with every put, so appending keeps the list sorted
+    private static final class Postings {
+        private int[] docs = new int[4];
+        private int size;
+
+        private void add(final int ordinal) {
+            if (size > 0 && docs[size - 1] == ordinal) {
+                return;
+            }
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+            }
+            docs[size++] = ordinal;
+        }
+    }
+}
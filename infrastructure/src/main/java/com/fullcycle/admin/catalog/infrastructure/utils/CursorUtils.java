@@ -0,0 +1,127 @@
+package com.fullcycle.admin.catalog.infrastructure.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.BiFunction;
+
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.Path;
+import javax.persistence.criteria.Predicate;
+
+import org.springframework.beans.BeanWrapperImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.fullcycle.admin.catalog.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalog.domain.pagination.SearchQuery;
+import com.fullcycle.admin.catalog.domain.validation.Error;
+import com.fullcycle.admin.catalog.infrastructure.configuration.json.Json;
+
+public final class CursorUtils {
+    private static final String ID = "id";
+
+    private CursorUtils() {}
+
+    // The cursor carries the sort value and the id of the last row read, so the next page
+    // is a range scan on (sort, id) instead of an OFFSET that walks over every skipped row
+    public static Sort sortOf(final SearchQuery aQuery) {
+        final var direction = Sort.Direction.fromString(aQuery.direction());
+        return Sort.by(direction, aQuery.sort()).and(Sort.by(direction, ID));
+    }
+
+    public static <T> Specification<T> after(final SearchQuery aQuery) {
+        if (!aQuery.hasCursor()) {
+            return null;
+        }
+        final var aCursor = decode(aQuery);
+        final var ascending = Sort.Direction.fromString(aCursor.direction()).isAscending();
+        return (root, query, cb) -> seek(cb, root.get(aCursor.sort()), root.get(ID), aCursor, ascending);
+    }
+
+    // NULL sorts below every value, as MySQL and H2 order it: first going up, last going down
+    private static Predicate seek(
+            final CriteriaBuilder cb,
+            final Path<Comparable<Object>> sortPath,
+            final Path<String> idPath,
+            final Cursor aCursor,
+            final boolean ascending
+    ) {
+        final var id = aCursor.id();
+        if (aCursor.value() == null) {
+            return ascending
+                    ? cb.or(cb.and(cb.isNull(sortPath), cb.greaterThan(idPath, id)), cb.isNotNull(sortPath))
+                    : cb.and(cb.isNull(sortPath), cb.lessThan(idPath, id));
+        }
+        final Comparable<Object> value = convert(aCursor.value(), sortPath.getJavaType());
+        return ascending
+                ? cb.or(cb.greaterThan(sortPath, value),
+                        cb.and(cb.equal(sortPath, value), cb.greaterThan(idPath, id)))
+                : cb.or(cb.lessThan(sortPath, value),
+                        cb.and(cb.equal(sortPath, value), cb.lessThan(idPath, id)),
+                        cb.isNull(sortPath));
+    }
+
+    public static <T> String next(final SearchQuery aQuery, final List<T> entities) {
+        return next(aQuery, entities, (last, property) -> new BeanWrapperImpl(last).getPropertyValue(property));
+    }
+
+    // valueOf reads a property of the last row, for rows that are not beans (tuples of selected columns)
+    public static <T> String next(final SearchQuery aQuery, final List<T> rows,
+                                  final BiFunction<T, String, Object> valueOf) {
+        if (rows.isEmpty() || rows.size() < aQuery.perPage()) {
+            return null;
+        }
+        final var last = rows.get(rows.size() - 1);
+        final var value = valueOf.apply(last, aQuery.sort());
+        return encode(new Cursor(aQuery.sort(), aQuery.direction(), value != null ? value.toString() : null,
+                String.valueOf(valueOf.apply(last, ID))));
+    }
+
+    public static String encode(final Cursor aCursor) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(Json.writeValueAsString(aCursor).getBytes(StandardCharsets.UTF_8));
+    }
+
+    // a cursor made for another sort or direction would seek on the wrong column, it is refused
+    public static Cursor decode(final String aValue, final String sort, final String direction) {
+        final Cursor aCursor;
+        try {
+            final var json = new String(Base64.getUrlDecoder().decode(aValue), StandardCharsets.UTF_8);
+            aCursor = Json.readValue(json, Cursor.class);
+        } catch (final RuntimeException ex) {
+            throw invalidCursor();
+        }
+        if (aCursor == null || aCursor.id() == null
+                || !sort.equals(aCursor.sort())
+                || !direction.equalsIgnoreCase(aCursor.direction())) {
+            throw invalidCursor();
+        }
+        return aCursor;
+    }
+
+    private static Cursor decode(final SearchQuery aQuery) {
+        return decode(aQuery.cursor(), aQuery.sort(), aQuery.direction());
+    }
+
+    // the sort columns are strings, instants or booleans, the only types a cursor value is written from
+    @SuppressWarnings("unchecked")
+    private static <Y> Y convert(final String value, final Class<? extends Y> aType) {
+        if (Instant.class.equals(aType)) {
+            return (Y) Instant.parse(value);
+        }
+        if (Boolean.class.equals(aType) || boolean.class.equals(aType)) {
+            return (Y) Boolean.valueOf(value);
+        }
+        return (Y) value;
+    }
+
+    private static DomainException invalidCursor() {
+        return DomainException.with(new Error("'cursor' is invalid for the given sort and direction"));
+    }
+
+    // value is null when the last row had no value in the sort column, written out as "value":null
+    public record Cursor(String sort, String direction, String value, String id) {
+    }
+}
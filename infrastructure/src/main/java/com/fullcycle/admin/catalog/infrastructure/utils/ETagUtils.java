@@ -0,0 +1,80 @@
+package com.fullcycle.admin.catalog.infrastructure.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+import com.fullcycle.admin.catalog.infrastructure.configuration.json.Json;
+
+public final class ETagUtils {
+
+    private ETagUtils() {}
+
+    // every write moves updated_at, so id + updated_at (micros, the column precision) is a strong validator
+    public static String strong(final String anId, final Instant updatedAt) {
+        return "\"" + anId + "-" + ChronoUnit.MICROS.between(Instant.EPOCH, updatedAt) + "\"";
+    }
+
+    // a page has no updated_at of its own: the validator is the SHA-256 of the serialized version of the rows
+    // it is read from, an equal version means an equal page but not byte for byte the same body, hence weak
+    public static String weak(final Object aVersion) {
+        try {
+            final var digest = MessageDigest.getInstance("SHA-256")
+                    .digest(Json.writeValueAsString(aVersion).getBytes(StandardCharsets.UTF_8));
+            return "W/\"" + HexFormat.of().formatHex(digest) + "\"";
+        } catch (final NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // answers a conditional GET with a 304 from updated_at alone, without loading the aggregate;
+    // empty when the request is not conditional, the aggregate is gone or it has changed
+    public static <T> Optional<ResponseEntity<T>> notModified(
+            final WebRequest request,
+            final String anId,
+            final Function<String, Optional<Instant>> lastModified
+    ) {
+        if (request.getHeader(HttpHeaders.IF_NONE_MATCH) == null
+                && request.getHeader(HttpHeaders.IF_MODIFIED_SINCE) == null) {
+            return Optional.empty();
+        }
+        return lastModified.apply(anId)
+                .filter(updatedAt -> request.checkNotModified(strong(anId, updatedAt), updatedAt.toEpochMilli()))
+                .map(updatedAt -> ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                        .eTag(strong(anId, updatedAt))
+                        .lastModified(updatedAt)
+                        .build());
+    }
+
+    // Spring compares these headers with If-None-Match / If-Modified-Since and answers 304 before
+    // the body is serialized, which covers a write landing between notModified and the full read
+    public static <T> ResponseEntity<T> ok(final T body, final String anId, final Instant updatedAt) {
+        return ResponseEntity.ok()
+                .eTag(strong(anId, updatedAt))
+                .lastModified(updatedAt)
+                .body(body);
+    }
+
+    // the version is read before the page, a write landing in between leaves an older ETag on a newer page
+    // and the next conditional GET reads it again; a 304 never reads the page at all
+    public static <T> ResponseEntity<T> ok(final WebRequest request, final Object aVersion, final Supplier<T> aPage) {
+        final var anETag = weak(aVersion);
+        if (request.checkNotModified(anETag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(anETag).build();
+        }
+        return ResponseEntity.ok()
+                .eTag(anETag)
+                .body(aPage.get());
+    }
+}
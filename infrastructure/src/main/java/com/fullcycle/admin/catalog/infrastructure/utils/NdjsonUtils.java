@@ -0,0 +1,62 @@
+package com.fullcycle.admin.catalog.infrastructure.utils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fullcycle.admin.catalog.infrastructure.configuration.json.Json;
+
+public final class NdjsonUtils {
+    public static final String NDJSON_VALUE = "application/x-ndjson";
+    public static final MediaType NDJSON = MediaType.parseMediaType(NDJSON_VALUE);
+    // written in place of the remaining lines when the source fails half way
+    public static final Map<String, String> INTERRUPTED = Map.of("error", "The export was interrupted, the lines above are incomplete");
+
+    // a flush per line would be one write to the socket per row, the generator buffer decides instead
+    private static final ObjectWriter WRITER = Json.mapper().writer()
+            .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+    private NdjsonUtils() {}
+
+    // One JSON document per line written through a single streaming generator as the source hands
+    // the items over: nothing is collected, the body is written after the controller returns
+    public static <T> ResponseEntity<StreamingResponseBody> stream(final Consumer<Consumer<T>> aSource) {
+        final StreamingResponseBody body = out -> {
+            try (var generator = WRITER.getFactory().createGenerator(out)) {
+                generator.setRootValueSeparator(null);
+                try {
+                    aSource.accept(item -> write(generator, item));
+                } catch (final UncheckedIOException ex) {
+                    throw ex.getCause();
+                } catch (final RuntimeException ex) {
+                    // the 200 is already on the wire: the last line is what tells the client the export is cut short
+                    try {
+                        WRITER.writeValue(generator, INTERRUPTED);
+                        generator.writeRaw('\n');
+                    } catch (final IOException writeEx) {
+                        ex.addSuppressed(writeEx);
+                    }
+                    throw ex;
+                }
+            }
+        };
+        return ResponseEntity.ok().contentType(NDJSON).body(body);
+    }
+
+    private static void write(final JsonGenerator generator, final Object item) {
+        try {
+            WRITER.writeValue(generator, item);
+            generator.writeRaw('\n');
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
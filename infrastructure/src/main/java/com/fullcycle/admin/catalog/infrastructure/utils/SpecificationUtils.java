@@ -1,12 +1,66 @@
 package com.fullcycle.admin.catalog.infrastructure.utils;
 
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.stream.Collectors;
+
+import javax.persistence.criteria.Expression;
+
 import org.springframework.data.jpa.domain.Specification;
 
+import com.fullcycle.admin.catalog.infrastructure.persistence.MatchAgainstFunction;
+
 public final class SpecificationUtils {
+    // not a backslash, MySQL would read it as escaping the closing quote of the ESCAPE literal
+    private static final char ESCAPE = '!';
+
     private SpecificationUtils(){}
 
     public static <T> Specification<T> like(final String prop, final String term){
         return (root, query, cb) -> 
             cb.like(cb.upper(root.get(prop)),"%"+term.toUpperCase()+"%");
     }
+
+    // no UPPER() around the column so the btree index on it is used, the ci collation already ignores case
+    public static <T> Specification<T> prefix(final String prop, final String term) {
+        return (root, query, cb) ->
+            cb.like(root.get(prop), escape(term.trim()) + "%", ESCAPE);
+    }
+
+    // every word must be present, each one matched as a word prefix, backed by the FULLTEXT index on the props.
+    // Terms made of operators only leave no word to require, they match nothing rather than everything
+    public static <T> Specification<T> match(final String term, final String... props) {
+        final var words = booleanMode(term);
+        if (words.isEmpty()) {
+            return (root, query, cb) -> cb.disjunction();
+        }
+        return (root, query, cb) -> {
+            final var args = new Expression<?>[props.length + 1];
+            for (int i = 0; i < props.length; i++) {
+                args[i] = root.get(props[i]);
+            }
+            args[props.length] = cb.literal(words);
+            return cb.greaterThan(cb.function(MatchAgainstFunction.NAME, Double.class, args), 0.0);
+        };
+    }
+
+    public static <T> Specification<T> equal(final String prop, final Object value) {
+        return (root, query, cb) -> cb.equal(root.get(prop), value);
+    }
+
+    public static <T> Specification<T> in(final String prop, final Collection<String> values) {
+        return (root, query, cb) -> values.isEmpty() ? cb.disjunction() : root.get(prop).in(values);
+    }
+
+    private static String booleanMode(final String term) {
+        return Arrays.stream(term.split("\\s+"))
+                .map(word -> word.replaceAll("[+\\-<>()~*\"@]", ""))
+                .filter(word -> !word.isBlank())
+                .map(word -> "+" + word + "*")
+                .collect(Collectors.joining(" "));
+    }
+
+    private static String escape(final String term) {
+        return term.replace("!", "!!").replace("%", "!%").replace("_", "!_");
+    }
 }
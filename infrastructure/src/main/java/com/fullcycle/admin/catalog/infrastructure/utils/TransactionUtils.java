@@ -0,0 +1,24 @@
+package com.fullcycle.admin.catalog.infrastructure.utils;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public final class TransactionUtils {
+
+    private TransactionUtils() {}
+
+    // for state shared outside the database (the in-memory search indexes): a rolled back transaction
+    // never reaches it; with no transaction around the action runs right away
+    public static void afterCommit(final Runnable anAction) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            anAction.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                anAction.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,4 @@
+DROP INDEX idx_genres_active_created_at ON genres;
+DROP INDEX idx_genres_active_name ON genres;
+DROP INDEX idx_category_active_created_at ON category;
+DROP INDEX idx_category_active_name ON category;
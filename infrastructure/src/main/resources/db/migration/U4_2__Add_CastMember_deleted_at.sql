@@ -0,0 +1 @@
+ALTER TABLE cast_members DROP COLUMN deleted_at;
\ No newline at end of file
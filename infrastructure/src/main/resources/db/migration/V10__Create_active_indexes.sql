@@ -0,0 +1,5 @@
+-- deletes remove the row (the tombstones keep them for the changes feed), only active needs to lead the index
+CREATE INDEX idx_category_active_name ON category (active, name, id);
+CREATE INDEX idx_category_active_created_at ON category (active, created_at, id);
+CREATE INDEX idx_genres_active_name ON genres (active, name, id);
+CREATE INDEX idx_genres_active_created_at ON genres (active, created_at, id);
@@ -0,0 +1 @@
+ALTER TABLE cast_members ADD COLUMN deleted_at DATETIME(6) NULL;
\ No newline at end of file
@@ -0,0 +1,3 @@
+CREATE INDEX idx_category_name ON category (name);
+CREATE INDEX idx_genres_name ON genres (name);
+CREATE INDEX idx_cast_members_name ON cast_members (name);
@@ -0,0 +1,8 @@
+CREATE TABLE outbox_events (
+    id BINARY(16) NOT NULL PRIMARY KEY,
+    aggregate_type VARCHAR(32) NOT NULL,
+    aggregate_id VARCHAR(36) NOT NULL,
+    event_type VARCHAR(64) NOT NULL,
+    payload VARCHAR(4000) NOT NULL,
+    occurred_on DATETIME(6) NOT NULL
+);
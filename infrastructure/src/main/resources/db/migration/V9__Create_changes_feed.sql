@@ -0,0 +1,8 @@
+CREATE TABLE tombstones (
+    id BINARY(16) NOT NULL PRIMARY KEY,
+    aggregate_type VARCHAR(32) NOT NULL,
+    deleted_at DATETIME(6) NOT NULL
+);
+CREATE INDEX idx_tombstones_type_deleted_at ON tombstones (aggregate_type, deleted_at, id);
+CREATE INDEX idx_category_updated_at ON category (updated_at, id);
+CREATE INDEX idx_genres_updated_at ON genres (updated_at, id);
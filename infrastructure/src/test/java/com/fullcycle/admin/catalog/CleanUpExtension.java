@@ -4,7 +4,9 @@ import java.util.List;
 
 import com.fullcycle.admin.catalog.infrastructure.castmember.persistence.CastMemberRepository;
 import com.fullcycle.admin.catalog.infrastructure.category.persistence.CategoryRepository;
+import com.fullcycle.admin.catalog.infrastructure.changes.persistence.TombstoneRepository;
 import com.fullcycle.admin.catalog.infrastructure.genre.persistence.GenreRepository;
+import com.fullcycle.admin.catalog.infrastructure.outbox.persistence.OutboxEventRepository;
 import org.junit.jupiter.api.extension.BeforeEachCallback;
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
@@ -19,7 +21,9 @@ public class CleanUpExtension implements BeforeEachCallback {
         cleanUp(List.of(
                 appContext.getBean(GenreRepository.class),
                 appContext.getBean(CategoryRepository.class),
-                appContext.getBean(CastMemberRepository.class)
+                appContext.getBean(CastMemberRepository.class),
+                appContext.getBean(OutboxEventRepository.class),
+                appContext.getBean(TombstoneRepository.class)
         ));
     }
 
@@ -6,6 +6,8 @@ import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 
+import com.fullcycle.admin.catalog.infrastructure.changes.Tombstones;
+import com.fullcycle.admin.catalog.infrastructure.outbox.Outbox;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
@@ -21,7 +23,9 @@ import org.springframework.test.context.ActiveProfiles;
 @ComponentScan(
     basePackages = "com.fullcycle.admin.catalog",
     useDefaultFilters = false,
-    includeFilters = {@ComponentScan.Filter(type = FilterType.REGEX, pattern = ".*MySQLGateway")})
+    includeFilters = {
+        @ComponentScan.Filter(type = FilterType.REGEX, pattern = ".*MySQLGateway"),
+        @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = {Outbox.class, Tombstones.class})})
 @ExtendWith(CleanUpExtension.class)
 @Tag("integrationTest")
 public @interface MySQLGatewayTest {    
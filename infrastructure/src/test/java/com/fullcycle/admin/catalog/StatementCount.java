@@ -0,0 +1,40 @@
+package com.fullcycle.admin.catalog;
+
+import java.util.function.Supplier;
+
+import javax.persistence.EntityManagerFactory;
+
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.Assertions;
+
+// What Hibernate sent to the database while the action ran; the statistics are only on for its duration
+public record StatementCount<T>(T result, long statements, long inserts, long loads) {
+
+    public static <T> StatementCount<T> of(final EntityManagerFactory anEntityManagerFactory, final Supplier<T> anAction) {
+        final var statistics = anEntityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        try {
+            final var aResult = anAction.get();
+            return new StatementCount<>(aResult, statistics.getPrepareStatementCount(),
+                    statistics.getEntityInsertCount(), statistics.getEntityLoadCount());
+        } finally {
+            statistics.setStatisticsEnabled(false);
+        }
+    }
+
+    public StatementCount<T> assertStatements(final long expected) {
+        Assertions.assertEquals(expected, this.statements, "prepared statements");
+        return this;
+    }
+
+    public StatementCount<T> assertInserts(final long expected) {
+        Assertions.assertEquals(expected, this.inserts, "entity inserts");
+        return this;
+    }
+
+    public StatementCount<T> assertLoads(final long expected) {
+        Assertions.assertEquals(expected, this.loads, "entity loads");
+        return this;
+    }
+}
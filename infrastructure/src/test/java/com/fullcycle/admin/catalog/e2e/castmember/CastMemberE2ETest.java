@@ -6,22 +6,30 @@ import com.fullcycle.admin.catalog.domain.castmeber.CastMemberId;
 import com.fullcycle.admin.catalog.domain.castmeber.CastMemberType;
 import com.fullcycle.admin.catalog.e2e.MockDsl;
 import com.fullcycle.admin.catalog.infrastructure.castmember.persistence.CastMemberRepository;
+import com.fullcycle.admin.catalog.infrastructure.configuration.json.Json;
+import com.fullcycle.admin.catalog.infrastructure.utils.NdjsonUtils;
 import org.hamcrest.CoreMatchers;
 import org.junit.Assert;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
 import org.springframework.test.web.client.match.MockRestRequestMatchers;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 import org.testcontainers.containers.MySQLContainer;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 
+import java.nio.file.Path;
+
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.startsWith;
 import static org.hamcrest.Matchers.hasSize;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
@@ -40,9 +48,13 @@ public class CastMemberE2ETest implements MockDsl {
     private static final MySQLContainer MYSQL_CONTAINER = new MySQLContainer("mysql:latest")
             .withPassword("123").withUsername("root").withDatabaseName("adm_videos");
 
+    @TempDir
+    static Path reportDir;
+
     @DynamicPropertySource
     public static void setDatasourceProperties(final DynamicPropertyRegistry registry) {
         registry.add("mysql.port", () -> MYSQL_CONTAINER.getMappedPort(3306));
+        registry.add("import.report-dir", () -> reportDir.toString());
     }
 
     @Override
@@ -168,6 +180,45 @@ public class CastMemberE2ETest implements MockDsl {
         Assertions.assertEquals(actualMember.createdAt(),actualMember.updatedAt());
     }
 
+    @Test
+    public void asCatalogAdminIShouldBeAbleToRevalidateTheListOfMembersWithItsETag() throws Exception {
+        Assertions.assertTrue(MYSQL_CONTAINER.isRunning());
+        Assertions.assertEquals(0, castMemberRepository.count());
+        givenACastMember("Actor", CastMemberType.ACTOR);
+        final var deletedId = givenACastMember("Director", CastMemberType.DIRECTOR);
+        final var aRequest = MockMvcRequestBuilders.get("/cast_members")
+                .queryParam("sort", "name")
+                .contentType(MediaType.APPLICATION_JSON);
+        final var anETag = this.mvc.perform(aRequest).andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        this.mvc.perform(aRequest.header(HttpHeaders.IF_NONE_MATCH, anETag))
+                .andExpect(status().isNotModified());
+
+        deleteCastMember(deletedId).andExpect(status().isNoContent());
+        this.mvc.perform(aRequest.header(HttpHeaders.IF_NONE_MATCH, anETag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(1)))
+                .andExpect(jsonPath("$.items[0].name", equalTo("Actor")));
+    }
+
+    @Test
+    public void asCatalogAdminIShouldBeAbleToRevalidateACastMemberWithItsETag() throws Exception {
+        Assertions.assertTrue(MYSQL_CONTAINER.isRunning());
+        Assertions.assertEquals(0, castMemberRepository.count());
+        final var actualId = givenACastMember("Actor", CastMemberType.DIRECTOR);
+        final var anETag = retrieveACastMemberResult(actualId).andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        final var aRequest = MockMvcRequestBuilders.get("/cast_members/{id}", actualId.getValue())
+                .accept(MediaType.APPLICATION_JSON);
+
+        this.mvc.perform(aRequest.header(HttpHeaders.IF_NONE_MATCH, anETag))
+                .andExpect(status().isNotModified());
+
+        updateACastMember(actualId, "The Actor", CastMemberType.ACTOR).andExpect(status().isOk());
+        this.mvc.perform(aRequest.header(HttpHeaders.IF_NONE_MATCH, anETag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name", equalTo("The Actor")));
+    }
+
     @Test
     public void asCatalogAdminIShouldBeToSeeATreatedErrorByGettingAFotFoundCastMember() throws Exception {
         Assertions.assertTrue(MYSQL_CONTAINER.isRunning());
@@ -219,4 +270,34 @@ public class CastMemberE2ETest implements MockDsl {
         Assertions.assertEquals(1, castMemberRepository.count());
         Assertions.assertFalse(castMemberRepository.existsById(actualId.getValue()));
     }
+
+    @Test
+    public void asCatalogAdminIShouldBeAbleToImportCastMembersAndReadTheRejectedLines() throws Exception {
+        Assertions.assertTrue(MYSQL_CONTAINER.isRunning());
+        Assertions.assertEquals(0, castMemberRepository.count());
+        final var aBody = """
+                {"name":"Actor","type":"ACTOR"}
+                {"name":"Singer","type":"SINGER"}
+                {"type":"DIRECTOR"}
+                {"name":"Director","type":"DIRECTOR"}
+                """;
+        final var aResponse = this.mvc.perform(MockMvcRequestBuilders.post("/cast_members/import")
+                        .contentType(NdjsonUtils.NDJSON)
+                        .content(aBody))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.read", equalTo(4)))
+                .andExpect(jsonPath("$.imported", equalTo(2)))
+                .andExpect(jsonPath("$.rejected", equalTo(2)))
+                .andExpect(jsonPath("$.error_report", startsWith("/imports/reports/cast_members-")))
+                .andReturn().getResponse().getContentAsString();
+        Assertions.assertEquals(2, castMemberRepository.count());
+
+        final var aReport = Json.mapper().readTree(aResponse).get("error_report").asText();
+        final var actualReport = this.mvc.perform(MockMvcRequestBuilders.get(aReport))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString().lines().toList();
+        Assertions.assertEquals(2, actualReport.size());
+        Assertions.assertTrue(actualReport.get(0).startsWith("{\"line\":2,"));
+        Assertions.assertEquals("{\"line\":3,\"errors\":[{\"message\":\"'name' should not be null\"}]}", actualReport.get(1));
+    }
 }
@@ -112,6 +112,41 @@ public class CategoryE2ETest implements MockDsl {
 
     }
 
+    @Test
+    public void asACatalogAdminIShouldBeAbleToSearchCategoriesByWordsOfTheDescription() throws Exception {
+        Assertions.assertTrue(MY_SQL_CONTAINER.isRunning());
+        Assertions.assertEquals(0, categoryRepository.count());
+        givenACategory("Filmes", "Categoria mais assistida", true);
+        givenACategory("Documentarios", "Categoria menos assistida", true);
+        givenACategory("Series", "", true);
+        final var aRequest = MockMvcRequestBuilders.get("/categories")
+                .queryParam("perPage", "10")
+                .queryParam("sort", "name")
+                .queryParam("search", "assist mais")
+                .queryParam("match", "fulltext")
+                .contentType(MediaType.APPLICATION_JSON);
+        this.mvc.perform(aRequest)
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.total", Matchers.equalTo(1)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.items[0].name", Matchers.equalTo("Filmes")));
+    }
+
+    @Test
+    public void asACatalogAdminIShouldFindNoCategoryWhenTheWordsSearchHasOnlyOperators() throws Exception {
+        Assertions.assertTrue(MY_SQL_CONTAINER.isRunning());
+        Assertions.assertEquals(0, categoryRepository.count());
+        givenACategory("Filmes", "Categoria mais assistida", true);
+        givenACategory("Series", "", true);
+        final var aRequest = MockMvcRequestBuilders.get("/categories")
+                .queryParam("search", "+- *")
+                .queryParam("match", "fulltext")
+                .contentType(MediaType.APPLICATION_JSON);
+        this.mvc.perform(aRequest)
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.total", Matchers.equalTo(0)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.items", Matchers.hasSize(0)));
+    }
+
     @Test
     public void asACatalogAdminIShouldBeAbleToSortAllCategoriesByDescriptionDesc() throws Exception {
         Assertions.assertTrue(MY_SQL_CONTAINER.isRunning());
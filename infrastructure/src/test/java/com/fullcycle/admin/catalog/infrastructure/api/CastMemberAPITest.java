@@ -5,10 +5,13 @@ import com.fullcycle.admin.catalog.ControllerTest;
 import com.fullcycle.admin.catalog.Fixture;
 import com.fullcycle.admin.catalog.application.castmember.create.CreateCastMemberOutput;
 import com.fullcycle.admin.catalog.application.castmember.create.CreateCastMemberUseCase;
+import com.fullcycle.admin.catalog.application.castmember.create.CreateCastMembersUseCase;
 import com.fullcycle.admin.catalog.application.castmember.create.DefaultCreateCastMemberUseCase;
 import com.fullcycle.admin.catalog.application.castmember.delete.DeleteCastMemberUseCase;
+import com.fullcycle.admin.catalog.application.castmember.retrieve.export.ExportCastMembersUseCase;
 import com.fullcycle.admin.catalog.application.castmember.retrieve.get.CastMemberOutput;
 import com.fullcycle.admin.catalog.application.castmember.retrieve.get.GetCastMemberByIdUseCase;
+import com.fullcycle.admin.catalog.application.castmember.retrieve.get.GetCastMembersByIdsUseCase;
 import com.fullcycle.admin.catalog.application.castmember.retrieve.list.CastMemberListOutput;
 import com.fullcycle.admin.catalog.application.castmember.retrieve.list.ListCastMemberUseCase;
 import com.fullcycle.admin.catalog.application.castmember.update.UpdateCastMemberOutput;
@@ -22,6 +25,7 @@ import com.fullcycle.admin.catalog.domain.validation.Error;
 import com.fullcycle.admin.catalog.domain.validation.handler.Notification;
 import com.fullcycle.admin.catalog.infrastructure.castmember.models.CreateCastMemberRequest;
 import com.fullcycle.admin.catalog.infrastructure.castmember.models.UpdateCastMemberRequest;
+import com.fullcycle.admin.catalog.infrastructure.imports.BulkImporter;
 import org.hamcrest.CoreMatchers;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.Test;
@@ -66,6 +70,18 @@ public class CastMemberAPITest {
     @MockBean
     private UpdateCastMemberUseCase updateCastMemberUseCase;
 
+    @MockBean
+    private GetCastMembersByIdsUseCase getCastMembersByIdsUseCase;
+
+    @MockBean
+    private CreateCastMembersUseCase createCastMembersUseCase;
+
+    @MockBean
+    private ExportCastMembersUseCase exportCastMembersUseCase;
+
+    @MockBean
+    private BulkImporter bulkImporter;
+
     @Test
     public void givenAValidCommand_whenCallsCreateCastMember_shouldReturnItsIdentifier() throws Exception {
         // given
@@ -2,20 +2,32 @@ package com.fullcycle.admin.catalog.infrastructure.api;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
 
 import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.result.MockMvcResultHandlers;
@@ -23,11 +35,15 @@ import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fullcycle.admin.catalog.ControllerTest;
+import com.fullcycle.admin.catalog.application.category.create.CreateCategoriesUseCase;
 import com.fullcycle.admin.catalog.application.category.create.CreateCategoryOutput;
 import com.fullcycle.admin.catalog.application.category.create.CreateCategoryUseCase;
 import com.fullcycle.admin.catalog.application.category.delete.DeleteCategoryUseCase;
+import com.fullcycle.admin.catalog.application.category.retrive.changes.ListCategoryChangesUseCase;
+import com.fullcycle.admin.catalog.application.category.retrive.export.ExportCategoriesUseCase;
 import com.fullcycle.admin.catalog.application.category.retrive.get.CategoryOutput;
 import com.fullcycle.admin.catalog.application.category.retrive.get.GetCategoryByIdUseCase;
+import com.fullcycle.admin.catalog.application.category.retrive.get.GetCategoriesByIdsUseCase;
 import com.fullcycle.admin.catalog.application.category.retrive.list.CategoryListOutput;
 import com.fullcycle.admin.catalog.application.category.retrive.list.ListCategoriesUseCase;
 import com.fullcycle.admin.catalog.application.category.update.UpdateCategoryOutput;
@@ -36,16 +52,32 @@ import com.fullcycle.admin.catalog.domain.category.Category;
 import com.fullcycle.admin.catalog.domain.category.CategoryID;
 import com.fullcycle.admin.catalog.domain.exceptions.DomainException;
 import com.fullcycle.admin.catalog.domain.exceptions.NotFoundException;
+import com.fullcycle.admin.catalog.domain.pagination.Change;
+import com.fullcycle.admin.catalog.domain.pagination.MatchMode;
+import com.fullcycle.admin.catalog.domain.pagination.ListVersion;
 import com.fullcycle.admin.catalog.domain.pagination.Pagination;
+import com.fullcycle.admin.catalog.domain.pagination.TotalMode;
 import com.fullcycle.admin.catalog.domain.validation.Error;
 import com.fullcycle.admin.catalog.domain.validation.handler.Notification;
 import com.fullcycle.admin.catalog.infrastructure.category.models.CreateCategoryApiInput;
 import com.fullcycle.admin.catalog.infrastructure.category.models.UpdateCategoryApiInput;
+import com.fullcycle.admin.catalog.infrastructure.imports.BulkImporter;
+import com.fullcycle.admin.catalog.infrastructure.utils.ETagUtils;
+import com.fullcycle.admin.catalog.infrastructure.utils.NdjsonUtils;
 
 import io.vavr.API;
 
-@ControllerTest(controllers = CategoryApi.class)
+@ControllerTest(controllers = { CategoryApi.class, ImportAPI.class })
+@Import(BulkImporter.class)
 public class CategoryAPITest {
+        @TempDir
+        static Path reportDir;
+
+        @DynamicPropertySource
+        static void setReportDir(final DynamicPropertyRegistry registry) {
+                registry.add("import.report-dir", () -> reportDir.toString());
+        }
+
         @Autowired
         private MockMvc mvc;
 
@@ -64,6 +96,18 @@ public class CategoryAPITest {
         @MockBean
         private ListCategoriesUseCase listCategoriesUseCase;
 
+        @MockBean
+        private GetCategoriesByIdsUseCase getCategoriesByIdsUseCase;
+
+        @MockBean
+        private CreateCategoriesUseCase createCategoriesUseCase;
+
+        @MockBean
+        private ListCategoryChangesUseCase listCategoryChangesUseCase;
+
+        @MockBean
+        private ExportCategoriesUseCase exportCategoriesUseCase;
+
         @Test
         public void givenAValidCommand_whenCallsCreateCategory_shouldReturnCategoryId() throws Exception {
                 // given
@@ -186,6 +230,49 @@ public class CategoryAPITest {
                 verify(getCategoryByIdUseCase, times(1)).execute(Mockito.eq(expectedId.getValue()));
         }
 
+        @Test
+        public void givenAMatchingIfNoneMatch_whenCallsGetCategory_shouldReturnNotModifiedWithoutLoadingIt()
+                        throws Exception {
+                // given
+                final var aCategory = Category.newCategory("Filmes", "A Categoria", true);
+                final var expectedId = aCategory.getId().getValue();
+                final var expectedETag = ETagUtils.strong(expectedId, aCategory.getUpdatedAt());
+                when(getCategoryByIdUseCase.lastModified(any())).thenReturn(Optional.of(aCategory.getUpdatedAt()));
+                // when
+                final var request = MockMvcRequestBuilders.get("/categories/{id}", expectedId)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .header(HttpHeaders.IF_NONE_MATCH, expectedETag);
+                final var response = this.mvc.perform(request)
+                                .andDo(MockMvcResultHandlers.print());
+                // then
+                response.andExpect(MockMvcResultMatchers.status().isNotModified())
+                                .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.ETAG, expectedETag))
+                                .andExpect(MockMvcResultMatchers.content().string(""));
+                verify(getCategoryByIdUseCase, times(1)).lastModified(Mockito.eq(expectedId));
+                verify(getCategoryByIdUseCase, times(0)).execute(any());
+        }
+
+        @Test
+        public void givenAStaleIfNoneMatch_whenCallsGetCategory_shouldReturnTheCategoryWithANewETag() throws Exception {
+                // given
+                final var aCategory = Category.newCategory("Filmes", "A Categoria", true);
+                final var expectedId = aCategory.getId().getValue();
+                final var expectedETag = ETagUtils.strong(expectedId, aCategory.getUpdatedAt());
+                when(getCategoryByIdUseCase.lastModified(any())).thenReturn(Optional.of(aCategory.getUpdatedAt()));
+                when(getCategoryByIdUseCase.execute(any())).thenReturn(CategoryOutput.from(aCategory));
+                // when
+                final var request = MockMvcRequestBuilders.get("/categories/{id}", expectedId)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .header(HttpHeaders.IF_NONE_MATCH, "\"" + expectedId + "-0\"");
+                final var response = this.mvc.perform(request)
+                                .andDo(MockMvcResultHandlers.print());
+                // then
+                response.andExpect(MockMvcResultMatchers.status().isOk())
+                                .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.ETAG, expectedETag))
+                                .andExpect(MockMvcResultMatchers.header().exists(HttpHeaders.LAST_MODIFIED))
+                                .andExpect(MockMvcResultMatchers.jsonPath("$.id", Matchers.equalTo(expectedId)));
+        }
+
         @Test
         public void givenAnInvalidId_whenCallGetCategory_shouldRetunNotFound() throws Exception {
                 // given
@@ -317,6 +404,28 @@ public class CategoryAPITest {
                 verify(deleteCategoryUseCase, times(1)).execute(Mockito.eq(expectedId));
         }
 
+        @Test
+        public void givenIds_whenCallGetCategoriesByIds_shouldReturnTheFoundCategories() throws Exception {
+                // given
+                final var filmes = Category.newCategory("Filmes", "", true);
+                final var series = Category.newCategory("Series", "", true);
+                final var expectedIds = List.of(filmes.getId().getValue(), "123", series.getId().getValue());
+                when(getCategoriesByIdsUseCase.execute(any())).thenReturn(
+                                List.of(CategoryOutput.from(filmes), CategoryOutput.from(series)));
+                // when
+                final var request = MockMvcRequestBuilders.get("/categories")
+                                .queryParam("ids", String.join(",", expectedIds));
+                final var response = this.mvc.perform(request)
+                                .andDo(MockMvcResultHandlers.print());
+                // Then
+                response.andExpect(MockMvcResultMatchers.status().isOk())
+                                .andExpect(MockMvcResultMatchers.jsonPath("$", Matchers.hasSize(2)))
+                                .andExpect(MockMvcResultMatchers.jsonPath("$[0].id", Matchers.equalTo(filmes.getId().getValue())))
+                                .andExpect(MockMvcResultMatchers.jsonPath("$[1].id", Matchers.equalTo(series.getId().getValue())));
+                verify(getCategoriesByIdsUseCase, times(1)).execute(Mockito.eq(expectedIds));
+                verify(listCategoriesUseCase, times(0)).execute(any());
+        }
+
         @Test
         public void givenAValidParams_whenCallListCategories_shouldReturnCategories() throws Exception {
                 // given
@@ -361,4 +470,328 @@ public class CategoryAPITest {
                 ));
         }
 
+        @Test
+        public void givenACursor_whenCallListCategories_shouldSeekAndReturnNextCursor() throws Exception {
+                // given
+                final var expectedCursor = "eyJzb3J0IjoibmFtZSJ9";
+                final var expectedNextCursor = "eyJzb3J0IjoibmFtZTIifQ";
+                final var expectedPerPage = 10;
+                final var aCategory = Category.newCategory("Movies", "", true);
+                final var expectedItems = List.of(CategoryListOutput.from(aCategory));
+
+                when(listCategoriesUseCase.execute(any())).thenReturn(
+                                new Pagination<>(0, expectedPerPage, 1, expectedItems, expectedNextCursor));
+                // when
+                final var request = MockMvcRequestBuilders.get("/categories")
+                                .queryParam("perPage", String.valueOf(expectedPerPage))
+                                .queryParam("sort", "name")
+                                .queryParam("cursor", expectedCursor)
+                                .contentType(MediaType.APPLICATION_JSON);
+                final var response = this.mvc.perform(request)
+                                .andDo(MockMvcResultHandlers.print());
+                // Then
+                response.andExpect(MockMvcResultMatchers.status().isOk())
+                                .andExpect(MockMvcResultMatchers.jsonPath("$.next_cursor", Matchers.equalTo(expectedNextCursor)))
+                                .andExpect(MockMvcResultMatchers.jsonPath("$.items", Matchers.hasSize(1)));
+                verify(listCategoriesUseCase, times(1)).execute(argThat(query ->
+                        Objects.equals(expectedCursor, query.cursor()) && query.hasCursor()
+                ));
+        }
+
+        @Test
+        public void givenTotalNone_whenCallListCategories_shouldPassTotalModeAndReturnUnknownTotal() throws Exception {
+                // given
+                final var expectedTotal = Pagination.UNKNOWN_TOTAL;
+                when(listCategoriesUseCase.execute(any())).thenReturn(
+                                new Pagination<>(0, 10, expectedTotal, List.<CategoryListOutput>of()));
+                // when
+                final var request = MockMvcRequestBuilders.get("/categories")
+                                .queryParam("perPage", "10")
+                                .queryParam("sort", "name")
+                                .queryParam("total", "none")
+                                .contentType(MediaType.APPLICATION_JSON);
+                final var response = this.mvc.perform(request)
+                                .andDo(MockMvcResultHandlers.print());
+                // Then
+                response.andExpect(MockMvcResultMatchers.status().isOk())
+                                .andExpect(MockMvcResultMatchers.jsonPath("$.total", Matchers.equalTo((int) expectedTotal)));
+                verify(listCategoriesUseCase, times(1)).execute(argThat(query ->
+                        Objects.equals(TotalMode.NONE, query.totalMode())
+                        && Objects.equals(MatchMode.CONTAINS, query.matchMode())
+                        && !query.hasActive()
+                ));
+        }
+
+        @Test
+        public void givenActiveTrue_whenCallListCategories_shouldPassTheActiveFilter() throws Exception {
+                when(listCategoriesUseCase.execute(any())).thenReturn(
+                                new Pagination<>(0, 10, 0, List.<CategoryListOutput>of()));
+                final var request = MockMvcRequestBuilders.get("/categories")
+                                .queryParam("perPage", "10")
+                                .queryParam("sort", "name")
+                                .queryParam("active", "true")
+                                .contentType(MediaType.APPLICATION_JSON);
+
+                this.mvc.perform(request)
+                                .andExpect(MockMvcResultMatchers.status().isOk());
+                verify(listCategoriesUseCase, times(1)).execute(argThat(query ->
+                        Objects.equals(Boolean.TRUE, query.active())
+                ));
+        }
+
+        @Test
+        public void givenTheETagOfTheSamePage_whenCallListCategories_shouldReturnNotModified() throws Exception {
+                // given
+                final var aCategory = Category.newCategory("Filmes", "A Categoria", true);
+                when(listCategoriesUseCase.version()).thenReturn(new ListVersion(1, aCategory.getUpdatedAt()));
+                when(listCategoriesUseCase.execute(any())).thenReturn(
+                                new Pagination<>(0, 10, 1, List.of(CategoryListOutput.from(aCategory))));
+                final var request = MockMvcRequestBuilders.get("/categories")
+                                .queryParam("perPage", "10")
+                                .queryParam("sort", "name")
+                                .contentType(MediaType.APPLICATION_JSON);
+                final var expectedETag = this.mvc.perform(request).andReturn().getResponse()
+                                .getHeader(HttpHeaders.ETAG);
+                // when
+                final var response = this.mvc.perform(request.header(HttpHeaders.IF_NONE_MATCH, expectedETag))
+                                .andDo(MockMvcResultHandlers.print());
+                // Then
+                Assertions.assertTrue(expectedETag.startsWith("W/"));
+                response.andExpect(MockMvcResultMatchers.status().isNotModified())
+                                .andExpect(MockMvcResultMatchers.content().string(""));
+                verify(listCategoriesUseCase, times(1)).execute(any());
+        }
+
+        @Test
+        public void givenMatchFulltext_whenCallListCategories_shouldPassMatchMode() throws Exception {
+                // given
+                when(listCategoriesUseCase.execute(any())).thenReturn(
+                                new Pagination<>(0, 10, 0, List.<CategoryListOutput>of()));
+                // when
+                final var request = MockMvcRequestBuilders.get("/categories")
+                                .queryParam("perPage", "10")
+                                .queryParam("sort", "name")
+                                .queryParam("search", "mais assistida")
+                                .queryParam("match", "fulltext")
+                                .contentType(MediaType.APPLICATION_JSON);
+                final var response = this.mvc.perform(request)
+                                .andDo(MockMvcResultHandlers.print());
+                // Then
+                response.andExpect(MockMvcResultMatchers.status().isOk());
+                verify(listCategoriesUseCase, times(1)).execute(argThat(query ->
+                        Objects.equals(MatchMode.FULLTEXT, query.matchMode())
+                        && Objects.equals("mais assistida", query.terms())
+                ));
+        }
+
+        @Test
+        public void givenAnInvalidTotal_whenCallListCategories_shouldReturnUnprocessableEntity() throws Exception {
+                // given
+                final var expectedErrorMessage = "'total' must be one of exact, estimated or none";
+                // when
+                final var request = MockMvcRequestBuilders.get("/categories")
+                                .queryParam("perPage", "10")
+                                .queryParam("sort", "name")
+                                .queryParam("total", "maybe")
+                                .contentType(MediaType.APPLICATION_JSON);
+                final var response = this.mvc.perform(request)
+                                .andDo(MockMvcResultHandlers.print());
+                // Then
+                response.andExpect(MockMvcResultMatchers.status().isUnprocessableEntity())
+                                .andExpect(MockMvcResultMatchers.jsonPath("$.errors[0].message", Matchers.equalTo(expectedErrorMessage)));
+                verify(listCategoriesUseCase, times(0)).execute(any());
+        }
+
+        @Test
+        public void givenAnUpdateAndADeletion_whenCallListChanges_shouldReturnTheItemAndATombstone() throws Exception {
+                // given
+                final var expectedSince = Instant.parse("2024-01-31T00:00:00Z");
+                final var aCategory = Category.newCategory("Filmes", "", true);
+                final var aDeletedId = CategoryID.unique().getValue();
+                final var expectedDeletedAt = Instant.parse("2024-02-01T10:00:00Z");
+                when(listCategoryChangesUseCase.execute(any())).thenReturn(new Pagination<>(0, 2,
+                                Pagination.UNKNOWN_TOTAL,
+                                List.of(Change.of(aCategory.getId().getValue(), aCategory.getUpdatedAt(),
+                                                CategoryListOutput.from(aCategory)),
+                                        Change.<CategoryListOutput>tombstone(aDeletedId, expectedDeletedAt)),
+                                "eyJzb3J0IjoiY2hhbmdlZEF0In0"));
+                // when
+                final var request = MockMvcRequestBuilders.get("/categories/changes")
+                                .queryParam("since", expectedSince.toString())
+                                .queryParam("perPage", "2");
+                final var response = this.mvc.perform(request)
+                                .andDo(MockMvcResultHandlers.print());
+                // Then
+                response.andExpect(MockMvcResultMatchers.status().isOk())
+                                .andExpect(MockMvcResultMatchers.jsonPath("$.items[0].deleted", Matchers.equalTo(false)))
+                                .andExpect(MockMvcResultMatchers.jsonPath("$.items[0].item.name", Matchers.equalTo("Filmes")))
+                                .andExpect(MockMvcResultMatchers.jsonPath("$.items[1].id", Matchers.equalTo(aDeletedId)))
+                                .andExpect(MockMvcResultMatchers.jsonPath("$.items[1].deleted", Matchers.equalTo(true)))
+                                .andExpect(MockMvcResultMatchers.jsonPath("$.items[1].changed_at", Matchers.equalTo(expectedDeletedAt.toString())))
+                                .andExpect(MockMvcResultMatchers.jsonPath("$.items[1].item").doesNotExist())
+                                .andExpect(MockMvcResultMatchers.jsonPath("$.next_cursor", Matchers.notNullValue()));
+                verify(listCategoryChangesUseCase, times(1)).execute(argThat(query ->
+                        Objects.equals(expectedSince, query.since()) && query.perPage() == 2 && !query.hasCursor()
+                ));
+        }
+
+        @Test
+        public void givenAnInvalidSince_whenCallListChanges_shouldReturnUnprocessableEntity() throws Exception {
+                // given
+                final var expectedErrorMessage = "'since' must be an ISO-8601 instant, like 2024-01-31T00:00:00Z";
+                // when
+                final var request = MockMvcRequestBuilders.get("/categories/changes")
+                                .queryParam("since", "yesterday");
+                final var response = this.mvc.perform(request)
+                                .andDo(MockMvcResultHandlers.print());
+                // Then
+                response.andExpect(MockMvcResultMatchers.status().isUnprocessableEntity())
+                                .andExpect(MockMvcResultMatchers.jsonPath("$.errors[0].message", Matchers.equalTo(expectedErrorMessage)));
+                verify(listCategoryChangesUseCase, times(0)).execute(any());
+        }
+
+        @Test
+        public void givenCategories_whenCallsExport_shouldStreamOneJsonDocumentPerLine() throws Exception {
+                // given
+                final var filmes = Category.newCategory("Filmes", "A categoria mais assistida", true);
+                final var series = Category.newCategory("Series", "", false);
+                doAnswer(invocation -> {
+                        final Consumer<CategoryOutput> aConsumer = invocation.getArgument(0);
+                        aConsumer.accept(CategoryOutput.from(filmes));
+                        aConsumer.accept(CategoryOutput.from(series));
+                        return null;
+                }).when(exportCategoriesUseCase).execute(any());
+                // when
+                final var started = this.mvc.perform(MockMvcRequestBuilders.get("/categories/export"))
+                                .andExpect(MockMvcResultMatchers.request().asyncStarted())
+                                .andReturn();
+                final var response = this.mvc.perform(MockMvcRequestBuilders.asyncDispatch(started))
+                                .andDo(MockMvcResultHandlers.print());
+                // Then
+                response.andExpect(MockMvcResultMatchers.status().isOk())
+                                .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.CONTENT_TYPE, "application/x-ndjson"));
+                final var lines = started.getResponse().getContentAsString().split("\n");
+                Assertions.assertEquals(2, lines.length);
+                Assertions.assertEquals(filmes.getId().getValue(), mapper.readTree(lines[0]).get("id").asText());
+                Assertions.assertEquals("Series", mapper.readTree(lines[1]).get("name").asText());
+                Assertions.assertFalse(mapper.readTree(lines[1]).get("is_active").asBoolean());
+                Assertions.assertEquals(Duration.ofMinutes(30).toMillis(), started.getRequest().getAsyncContext().getTimeout());
+        }
+
+        @Test
+        public void givenASourceFailingHalfWay_whenCallsExport_shouldEndTheStreamWithAnErrorLine() throws Exception {
+                // given
+                final var filmes = Category.newCategory("Filmes", "A categoria mais assistida", true);
+                doAnswer(invocation -> {
+                        final Consumer<CategoryOutput> aConsumer = invocation.getArgument(0);
+                        aConsumer.accept(CategoryOutput.from(filmes));
+                        throw new IllegalStateException("Connection reset");
+                }).when(exportCategoriesUseCase).execute(any());
+                // when
+                final var started = this.mvc.perform(MockMvcRequestBuilders.get("/categories/export"))
+                                .andExpect(MockMvcResultMatchers.request().asyncStarted())
+                                .andReturn();
+                // Then
+                Assertions.assertInstanceOf(IllegalStateException.class, started.getAsyncResult());
+                final var lines = started.getResponse().getContentAsString().split("\n");
+                Assertions.assertEquals(2, lines.length);
+                Assertions.assertEquals(filmes.getId().getValue(), mapper.readTree(lines[0]).get("id").asText());
+                Assertions.assertEquals(NdjsonUtils.INTERRUPTED.get("error"), mapper.readTree(lines[1]).get("error").asText());
+        }
+
+        @Test
+        public void givenMixedItems_whenCallsCreateCategories_shouldReturnOneResultPerItem() throws Exception {
+                // given
+                final var expectedErrorMessage = "'name' should not be null";
+                final var aInput = List.of(
+                                new CreateCategoryApiInput("Filmes", "A mais assistida", true),
+                                new CreateCategoryApiInput(null, "A mais assistida", true));
+                when(createCategoriesUseCase.execute(any())).thenReturn(List.of(
+                                API.Right(CreateCategoryOutput.from("123")),
+                                API.Left(Notification.create(new Error(expectedErrorMessage)))));
+                // when
+                final var request = MockMvcRequestBuilders.post("/categories/bulk")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(this.mapper.writeValueAsString(aInput));
+                final var response = this.mvc.perform(request)
+                                .andDo(MockMvcResultHandlers.print());
+                // Then
+                response.andExpect(MockMvcResultMatchers.status().isOk())
+                                .andExpect(MockMvcResultMatchers.jsonPath("$", Matchers.hasSize(2)))
+                                .andExpect(MockMvcResultMatchers.jsonPath("$[0].index", Matchers.equalTo(0)))
+                                .andExpect(MockMvcResultMatchers.jsonPath("$[0].id", Matchers.equalTo("123")))
+                                .andExpect(MockMvcResultMatchers.jsonPath("$[0].errors").doesNotExist())
+                                .andExpect(MockMvcResultMatchers.jsonPath("$[1].index", Matchers.equalTo(1)))
+                                .andExpect(MockMvcResultMatchers.jsonPath("$[1].id").doesNotExist())
+                                .andExpect(MockMvcResultMatchers.jsonPath("$[1].errors[0].message", Matchers.equalTo(expectedErrorMessage)));
+                verify(createCategoriesUseCase, times(1)).execute(argThat(commands ->
+                        commands.size() == 2
+                        && Objects.equals("Filmes", commands.get(0).name())
+                        && commands.get(1).name() == null
+                ));
+        }
+
+        @Test
+        public void givenANdjsonBody_whenCallsImport_shouldCreateTheReadableLinesAndReportTheRejectedOnes() throws Exception {
+                // given
+                final var expectedErrorMessage = "'name' should not be null";
+                final var aBody = """
+                                {"name":"Filmes","description":"","is_active":true}
+
+                                {"name":
+                                {"description":"sem nome"}
+                                """;
+                when(createCategoriesUseCase.execute(any())).thenReturn(List.of(
+                                API.Right(CreateCategoryOutput.from("123")),
+                                API.Left(Notification.create(new Error(expectedErrorMessage)))));
+                // when
+                final var request = MockMvcRequestBuilders.post("/categories/import")
+                                .contentType(NdjsonUtils.NDJSON)
+                                .content(aBody);
+                final var response = this.mvc.perform(request)
+                                .andDo(MockMvcResultHandlers.print());
+                // then
+                response.andExpect(MockMvcResultMatchers.status().isOk())
+                                .andExpect(MockMvcResultMatchers.jsonPath("$.read", Matchers.equalTo(3)))
+                                .andExpect(MockMvcResultMatchers.jsonPath("$.imported", Matchers.equalTo(1)))
+                                .andExpect(MockMvcResultMatchers.jsonPath("$.rejected", Matchers.equalTo(2)))
+                                .andExpect(MockMvcResultMatchers.jsonPath("$.error_report", Matchers.startsWith("/imports/reports/categories-")));
+                verify(createCategoriesUseCase, times(1)).execute(argThat(commands ->
+                        commands.size() == 2
+                        && Objects.equals("Filmes", commands.get(0).name())
+                        && commands.get(1).name() == null
+                        && commands.get(1).isActive()
+                ));
+
+                final var aReport = this.mapper.readTree(response.andReturn().getResponse().getContentAsString())
+                                .get("error_report").asText();
+                final var actualReport = this.mvc.perform(MockMvcRequestBuilders.get(aReport))
+                                .andExpect(MockMvcResultMatchers.status().isOk())
+                                .andExpect(MockMvcResultMatchers.content().contentType(NdjsonUtils.NDJSON))
+                                .andReturn().getResponse().getContentAsString().lines().toList();
+                Assertions.assertEquals(2, actualReport.size());
+                Assertions.assertTrue(actualReport.get(0).startsWith("{\"line\":3,\"errors\":[{\"message\":\"Line could not be read: "));
+                Assertions.assertEquals("{\"line\":4,\"errors\":[{\"message\":\"%s\"}]}".formatted(expectedErrorMessage),
+                                actualReport.get(1));
+        }
+
+        @Test
+        public void givenAnUnknownReport_whenCallsGetImportReport_shouldReturnNotFound() throws Exception {
+                this.mvc.perform(MockMvcRequestBuilders.get("/imports/reports/categories-0191d3a4-7b2c-7000-8000-000000000000"))
+                                .andExpect(MockMvcResultMatchers.status().isNotFound());
+                this.mvc.perform(MockMvcRequestBuilders.get("/imports/reports/..%2F..%2Fbuild.gradle"))
+                                .andExpect(MockMvcResultMatchers.status().isNotFound());
+        }
+
+        @Test
+        public void givenAJsonBody_whenCallsImport_shouldReturnUnsupportedMediaType() throws Exception {
+                final var request = MockMvcRequestBuilders.post("/categories/import")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("[]");
+
+                this.mvc.perform(request)
+                                .andExpect(MockMvcResultMatchers.status().isUnsupportedMediaType());
+                verify(createCategoriesUseCase, times(0)).execute(any());
+        }
+
 }
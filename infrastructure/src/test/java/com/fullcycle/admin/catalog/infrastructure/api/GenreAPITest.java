@@ -2,11 +2,16 @@ package com.fullcycle.admin.catalog.infrastructure.api;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fullcycle.admin.catalog.ControllerTest;
+import com.fullcycle.admin.catalog.application.genre.create.CreateGenreCommand;
 import com.fullcycle.admin.catalog.application.genre.create.CreateGenreOutput;
 import com.fullcycle.admin.catalog.application.genre.create.CreateGenreUseCase;
+import com.fullcycle.admin.catalog.application.genre.create.CreateGenresUseCase;
 import com.fullcycle.admin.catalog.application.genre.delete.DeleteGenreUseCase;
+import com.fullcycle.admin.catalog.application.genre.retrive.changes.ListGenreChangesUseCase;
+import com.fullcycle.admin.catalog.application.genre.retrive.export.ExportGenresUseCase;
 import com.fullcycle.admin.catalog.application.genre.retrive.get.GenreOutput;
 import com.fullcycle.admin.catalog.application.genre.retrive.get.GetGenreByIdUseCase;
+import com.fullcycle.admin.catalog.application.genre.retrive.get.GetGenresByIdsUseCase;
 import com.fullcycle.admin.catalog.application.genre.retrive.list.GenreListOutput;
 import com.fullcycle.admin.catalog.application.genre.retrive.list.ListGenreUseCase;
 import com.fullcycle.admin.catalog.application.genre.update.UpdateGenreOutput;
@@ -16,24 +21,41 @@ import com.fullcycle.admin.catalog.domain.exceptions.NotFoundException;
 import com.fullcycle.admin.catalog.domain.exceptions.NotificationException;
 import com.fullcycle.admin.catalog.domain.genre.Genre;
 import com.fullcycle.admin.catalog.domain.genre.GenreID;
+import com.fullcycle.admin.catalog.domain.pagination.Change;
+import com.fullcycle.admin.catalog.domain.pagination.ListVersion;
 import com.fullcycle.admin.catalog.domain.pagination.Pagination;
 import com.fullcycle.admin.catalog.domain.validation.Error;
 import com.fullcycle.admin.catalog.domain.validation.handler.Notification;
 import com.fullcycle.admin.catalog.infrastructure.genre.models.CreateGenreRequest;
 import com.fullcycle.admin.catalog.infrastructure.genre.models.UpdateGenreRequest;
+import com.fullcycle.admin.catalog.infrastructure.imports.BulkImporter;
+import com.fullcycle.admin.catalog.infrastructure.imports.ImportFormat;
+import com.fullcycle.admin.catalog.infrastructure.utils.ETagUtils;
+import com.fullcycle.admin.catalog.infrastructure.utils.NdjsonUtils;
+import io.vavr.API;
+import io.vavr.control.Either;
 import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.result.MockMvcResultHandlers;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 
+import java.nio.file.Path;
+import java.time.Instant;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -41,9 +63,19 @@ import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
-@ControllerTest(controllers = GenreAPI.class)
+@ControllerTest(controllers = {GenreAPI.class, ImportAPI.class})
+@Import(BulkImporter.class)
 public class GenreAPITest {
 
+    @TempDir
+    static Path reportDir;
+
+    @DynamicPropertySource
+    static void setReportDir(final DynamicPropertyRegistry registry) {
+        registry.add("import.report-dir", () -> reportDir.toString());
+        registry.add("import.batch-size", () -> 2);
+    }
+
     @Autowired
     private MockMvc mvc;
 
@@ -65,6 +97,18 @@ public class GenreAPITest {
     @MockBean
     private ListGenreUseCase listGenreUseCase;
 
+    @MockBean
+    private GetGenresByIdsUseCase getGenresByIdsUseCase;
+
+    @MockBean
+    private CreateGenresUseCase createGenresUseCase;
+
+    @MockBean
+    private ListGenreChangesUseCase listGenreChangesUseCase;
+
+    @MockBean
+    private ExportGenresUseCase exportGenresUseCase;
+
     @Test
     public void givenAValidCommand_whenCallsCreateGenre_shouldReturnGenreId() throws Exception {
         // given
@@ -243,7 +287,7 @@ public class GenreAPITest {
         final var expectedItemsCount = 1;
         final var expectedTotal = 1;
         final var expectedItems = List.of(GenreListOutput.from(aGenre));
-        when(listGenreUseCase.execute(any())).thenReturn(new Pagination<>(expectedPage, expectedPerPage, expectedTotal, expectedItems));
+        when(listGenreUseCase.execute(any(), anyBoolean())).thenReturn(new Pagination<>(expectedPage, expectedPerPage, expectedTotal, expectedItems));
         // when
         final var aRequest = MockMvcRequestBuilders.get("/genres")
                 .queryParam("page", String.valueOf(expectedPage))
@@ -270,7 +314,230 @@ public class GenreAPITest {
             && Objects.equals(expectedDirection, query.direction())
             && Objects.equals(expectedSort, query.sort())
             && Objects.equals(expectedTerms, query.terms())
-                ));
+                ), eq(true));
+    }
+
+    @Test
+    public void givenTheETagOfTheSameVersion_whenCallsListGenres_shouldReturnNotModifiedWithoutReadingThePage() throws Exception {
+        // given
+        final var aGenre = Genre.newGenre("Ação", true);
+        when(listGenreUseCase.version()).thenReturn(new ListVersion(1, aGenre.getUpdatedAt()));
+        when(listGenreUseCase.execute(any(), anyBoolean())).thenReturn(
+                new Pagination<>(0, 10, 1, List.of(GenreListOutput.from(aGenre))));
+        final var aRequest = MockMvcRequestBuilders.get("/genres")
+                .queryParam("perPage", "10")
+                .queryParam("sort", "name")
+                .accept(MediaType.APPLICATION_JSON);
+        final var expectedETag = this.mvc.perform(aRequest).andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        // when
+        final var response = this.mvc.perform(aRequest.header(HttpHeaders.IF_NONE_MATCH, expectedETag));
+        // then
+        response.andExpect(status().isNotModified())
+                .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.ETAG, expectedETag))
+                .andExpect(MockMvcResultMatchers.content().string(""));
+        Assertions.assertTrue(expectedETag.startsWith("W/\""));
+        verify(listGenreUseCase, times(1)).execute(any(), anyBoolean());
+    }
+
+    @Test
+    public void givenTheETagOfAnOlderVersion_whenCallsListGenres_shouldReturnThePageWithANewETag() throws Exception {
+        // given
+        final var aGenre = Genre.newGenre("Ação", true);
+        when(listGenreUseCase.version()).thenReturn(new ListVersion(1, aGenre.getUpdatedAt()));
+        when(listGenreUseCase.execute(any(), anyBoolean())).thenReturn(
+                new Pagination<>(0, 10, 1, List.of(GenreListOutput.from(aGenre))));
+        final var aRequest = MockMvcRequestBuilders.get("/genres")
+                .queryParam("perPage", "10")
+                .queryParam("sort", "name")
+                .accept(MediaType.APPLICATION_JSON);
+        final var staleETag = this.mvc.perform(aRequest).andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        when(listGenreUseCase.version()).thenReturn(new ListVersion(2, aGenre.getUpdatedAt()));
+        // when
+        final var response = this.mvc.perform(aRequest.header(HttpHeaders.IF_NONE_MATCH, staleETag));
+        // then
+        response.andExpect(status().isOk())
+                .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.ETAG, Matchers.not(staleETag)))
+                .andExpect(jsonPath("$.items[0].id", Matchers.equalTo(aGenre.getId().getValue())));
+    }
+
+    @Test
+    public void givenTheETagOfTheGenre_whenCallsGetGenreById_shouldReturnNotModifiedWithoutLoadingIt() throws Exception {
+        // given
+        final var aGenre = Genre.newGenre("Ação", true);
+        final var expectedId = aGenre.getId().getValue();
+        final var expectedETag = ETagUtils.strong(expectedId, aGenre.getUpdatedAt());
+        when(getGenreByIdUseCase.lastModified(expectedId)).thenReturn(Optional.of(aGenre.getUpdatedAt()));
+        // when
+        final var aRequest = MockMvcRequestBuilders.get("/genres/{id}", expectedId)
+                .accept(MediaType.APPLICATION_JSON)
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.IF_NONE_MATCH, expectedETag);
+        final var response = this.mvc.perform(aRequest);
+        // then
+        response.andExpect(status().isNotModified())
+                .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.ETAG, expectedETag));
+        verify(getGenreByIdUseCase, never()).execute(any());
+    }
+
+    @Test
+    public void givenCategoriesFalse_whenCallsListGenres_shouldListThemWithoutCategories() throws Exception {
+        // given
+        final var aGenre = Genre.newGenre("Ação", true);
+        final var expectedItems = List.of(GenreListOutput.withoutCategories(aGenre));
+        when(listGenreUseCase.execute(any(), anyBoolean())).thenReturn(new Pagination<>(0, 10, 1, expectedItems));
+        // when
+        final var aRequest = MockMvcRequestBuilders.get("/genres")
+                .queryParam("perPage", "10")
+                .queryParam("sort", "name")
+                .queryParam("categories", "false")
+                .accept(MediaType.APPLICATION_JSON);
+        final var response = this.mvc.perform(aRequest);
+        // then
+        response.andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].id", Matchers.equalTo(aGenre.getId().getValue())))
+                .andExpect(jsonPath("$.items[0].categories_id").doesNotExist());
+        verify(listGenreUseCase).execute(any(), eq(false));
+    }
+
+    @Test
+    public void givenAnUpdateAndADeletion_whenCallsListChanges_shouldReturnTheGenreWithItsCategoriesAndATombstone() throws Exception {
+        // given
+        final var expectedSince = Instant.parse("2024-01-31T00:00:00Z");
+        final var aGenre = Genre.newGenre("Ação", true);
+        aGenre.addCategory(CategoryID.from("123"));
+        final var aDeletedId = GenreID.unique().getValue();
+        final var expectedDeletedAt = Instant.parse("2024-02-01T10:00:00Z");
+        when(listGenreChangesUseCase.execute(any())).thenReturn(new Pagination<>(0, 2, Pagination.UNKNOWN_TOTAL,
+                List.of(Change.of(aGenre.getId().getValue(), aGenre.getUpdatedAt(), GenreListOutput.from(aGenre)),
+                        Change.<GenreListOutput>tombstone(aDeletedId, expectedDeletedAt)),
+                null));
+        // when
+        final var aRequest = MockMvcRequestBuilders.get("/genres/changes")
+                .queryParam("since", expectedSince.toString())
+                .queryParam("perPage", "2");
+        final var response = this.mvc.perform(aRequest).andDo(MockMvcResultHandlers.print());
+        // then
+        response.andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].deleted", Matchers.equalTo(false)))
+                .andExpect(jsonPath("$.items[0].item.name", Matchers.equalTo("Ação")))
+                .andExpect(jsonPath("$.items[0].item.categories_id", Matchers.equalTo(List.of("123"))))
+                .andExpect(jsonPath("$.items[1].id", Matchers.equalTo(aDeletedId)))
+                .andExpect(jsonPath("$.items[1].deleted", Matchers.equalTo(true)))
+                .andExpect(jsonPath("$.items[1].item").doesNotExist())
+                .andExpect(jsonPath("$.next_cursor").doesNotExist());
+        verify(listGenreChangesUseCase).execute(argThat(query ->
+                Objects.equals(expectedSince, query.since()) && query.perPage() == 2 && !query.hasCursor()));
+    }
+
+    @Test
+    public void givenACursor_whenCallsListGenres_shouldPassItAndReturnTheNextOne() throws Exception {
+        // given
+        final var expectedCursor = "eyJzb3J0IjoibmFtZSJ9";
+        final var expectedNextCursor = "eyJzb3J0IjoibmFtZTIifQ";
+        final var aGenre = Genre.newGenre("Ação", true);
+        when(listGenreUseCase.execute(any(), anyBoolean())).thenReturn(
+                new Pagination<>(0, 10, 1, List.of(GenreListOutput.from(aGenre)), expectedNextCursor));
+        // when
+        final var aRequest = MockMvcRequestBuilders.get("/genres")
+                .queryParam("perPage", "10")
+                .queryParam("sort", "name")
+                .queryParam("cursor", expectedCursor)
+                .accept(MediaType.APPLICATION_JSON);
+        final var response = this.mvc.perform(aRequest);
+        // then
+        response.andExpect(status().isOk())
+                .andExpect(jsonPath("$.next_cursor", Matchers.equalTo(expectedNextCursor)))
+                .andExpect(jsonPath("$.items", Matchers.hasSize(1)));
+        verify(listGenreUseCase).execute(argThat(query ->
+                Objects.equals(expectedCursor, query.cursor()) && query.hasCursor()), eq(true));
+    }
+
+    @Test
+    public void givenIds_whenCallsGetGenresByIds_shouldReturnTheFoundGenres() throws Exception {
+        // given
+        final var acao = Genre.newGenre("Ação", true).addCategories(List.of(CategoryID.from("123")));
+        final var drama = Genre.newGenre("Drama", false);
+        final var expectedIds = List.of(drama.getId().getValue(), "456", acao.getId().getValue());
+        when(getGenresByIdsUseCase.execute(any())).thenReturn(List.of(GenreOutput.from(drama), GenreOutput.from(acao)));
+        // when
+        final var aResponse = this.mvc.perform(MockMvcRequestBuilders.get("/genres")
+                        .queryParam("ids", String.join(",", expectedIds)))
+                .andDo(MockMvcResultHandlers.print());
+        // then
+        aResponse.andExpect(status().isOk())
+                .andExpect(jsonPath("$", Matchers.hasSize(2)))
+                .andExpect(jsonPath("$[0].id", Matchers.equalTo(drama.getId().getValue())))
+                .andExpect(jsonPath("$[0].is_active", Matchers.equalTo(false)))
+                .andExpect(jsonPath("$[1].id", Matchers.equalTo(acao.getId().getValue())))
+                .andExpect(jsonPath("$[1].categories_id", Matchers.equalTo(List.of("123"))));
+        verify(getGenresByIdsUseCase, times(1)).execute(eq(expectedIds));
+        verify(listGenreUseCase, times(0)).execute(any(), Mockito.anyBoolean());
+    }
+
+    @Test
+    public void givenACsvBodyWithMissingCategories_whenCallsImport_shouldReportTheRejectedLines() throws Exception {
+        // given
+        final var expectedErrorMessage = "Some categories could not be found: 456";
+        final var aBody = """
+                name,is_active,categories_id
+                Ação,true,123
+                Drama,true,123;456
+                Terror,false,
+                """;
+        when(createGenresUseCase.execute(any())).thenAnswer(call -> {
+            final List<CreateGenreCommand> commands = call.getArgument(0);
+            return commands.stream()
+                    .<Either<Notification, CreateGenreOutput>>map(it -> it.categories().contains("456")
+                            ? API.Left(Notification.create(new Error(expectedErrorMessage)))
+                            : API.Right(CreateGenreOutput.from(it.name())))
+                    .toList();
+        });
+        // when
+        final var aResponse = this.mvc.perform(MockMvcRequestBuilders.post("/genres/import")
+                        .contentType(ImportFormat.CSV_VALUE)
+                        .content(aBody))
+                .andDo(MockMvcResultHandlers.print());
+        // then
+        aResponse.andExpect(status().isOk())
+                .andExpect(jsonPath("$.read", Matchers.equalTo(3)))
+                .andExpect(jsonPath("$.imported", Matchers.equalTo(2)))
+                .andExpect(jsonPath("$.rejected", Matchers.equalTo(1)))
+                .andExpect(jsonPath("$.error_report", Matchers.startsWith("/imports/reports/genres-")));
+        verify(createGenresUseCase, times(2)).execute(any());
+        verify(createGenresUseCase).execute(Mockito.argThat(commands ->
+                commands.size() == 2
+                && Objects.equals(List.of("123", "456"), commands.get(1).categories())));
+
+        final var aReport = this.mapper.readTree(aResponse.andReturn().getResponse().getContentAsString())
+                .get("error_report").asText();
+        this.mvc.perform(MockMvcRequestBuilders.get(aReport))
+                .andExpect(status().isOk())
+                .andExpect(MockMvcResultMatchers.content().contentType(NdjsonUtils.NDJSON))
+                .andExpect(MockMvcResultMatchers.content().string(
+                        "{\"line\":3,\"errors\":[{\"message\":\"%s\"}]}\n".formatted(expectedErrorMessage)));
     }
 
+    @Test
+    public void givenABatchThatFails_whenCallsImport_shouldStillReturnTheCounts() throws Exception {
+        // given
+        final var aBody = """
+                {"name":"Ação"}
+                {"name":"Drama"}
+                {"name":"Terror"}
+                """;
+        when(createGenresUseCase.execute(any()))
+                .thenThrow(new IllegalStateException("Connection is not available"))
+                .thenReturn(List.of(API.Right(CreateGenreOutput.from("123"))));
+        // when
+        final var aResponse = this.mvc.perform(MockMvcRequestBuilders.post("/genres/import")
+                        .contentType(NdjsonUtils.NDJSON)
+                        .content(aBody))
+                .andDo(MockMvcResultHandlers.print());
+        // then
+        aResponse.andExpect(status().isOk())
+                .andExpect(jsonPath("$.read", Matchers.equalTo(3)))
+                .andExpect(jsonPath("$.imported", Matchers.equalTo(1)))
+                .andExpect(jsonPath("$.rejected", Matchers.equalTo(2)))
+                .andExpect(jsonPath("$.error_report", Matchers.startsWith("/imports/reports/genres-")));
+    }
 }
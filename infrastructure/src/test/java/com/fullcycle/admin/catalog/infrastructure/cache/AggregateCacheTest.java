@@ -0,0 +1,90 @@
+package com.fullcycle.admin.catalog.infrastructure.cache;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.fullcycle.admin.catalog.domain.category.Category;
+
+public class AggregateCacheTest {
+
+    @Test
+    public void givenACachedAggregate_whenCallGet_shouldNotCallTheLoaderAndReturnACopy() {
+        final var aCategory = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        final var cache = new AggregateCache<Category>("categories", 10, Duration.ofMinutes(5), Category::with);
+        final var loads = new AtomicInteger();
+
+        final var first = cache.get("1", id -> { loads.incrementAndGet(); return Optional.of(aCategory); });
+        first.get().update("Series", "mudou só a cópia", false);
+        final var second = cache.get("1", id -> { loads.incrementAndGet(); return Optional.of(aCategory); });
+
+        Assertions.assertEquals(1, loads.get());
+        Assertions.assertEquals("Filmes", second.get().getName());
+        Assertions.assertNotSame(first.get(), second.get());
+        Assertions.assertEquals(1, cache.stats().hits());
+        Assertions.assertEquals(1, cache.stats().misses());
+    }
+
+    @Test
+    public void givenAnExpiredEntry_whenCallGet_shouldLoadAgain() {
+        final var now = new AtomicLong();
+        final var cache = new AggregateCache<Category>("categories", 10, Duration.ofSeconds(1), Category::with, now::get);
+        final var loads = new AtomicInteger();
+        final var aCategory = Category.newCategory("Filmes", "", true);
+
+        cache.get("1", id -> { loads.incrementAndGet(); return Optional.of(aCategory); });
+        now.set(Duration.ofSeconds(2).toNanos());
+        cache.get("1", id -> { loads.incrementAndGet(); return Optional.of(aCategory); });
+
+        Assertions.assertEquals(2, loads.get());
+        Assertions.assertEquals(1, cache.stats().evictions());
+    }
+
+    @Test
+    public void givenAFullCache_whenCallPut_shouldEvictTheLeastRecentlyUsed() {
+        final var cache = new AggregateCache<Category>("categories", 2, Duration.ofMinutes(5), Category::with);
+        cache.put("1", Category.newCategory("Filmes", "", true));
+        cache.put("2", Category.newCategory("Series", "", true));
+        cache.get("1", id -> Optional.empty());
+
+        cache.put("3", Category.newCategory("Documentarios", "", true));
+
+        Assertions.assertTrue(cache.get("1", id -> Optional.empty()).isPresent());
+        Assertions.assertTrue(cache.get("2", id -> Optional.empty()).isEmpty());
+        Assertions.assertEquals(2, cache.stats().size());
+        Assertions.assertEquals(1, cache.stats().evictions());
+    }
+
+    @Test
+    public void givenAnInvalidationDuringALoad_whenCallGet_shouldNotCacheTheStaleValue() {
+        final var cache = new AggregateCache<Category>("categories", 10, Duration.ofMinutes(5), Category::with);
+        final var aCategory = Category.newCategory("Filmes", "", true);
+
+        cache.get("1", id -> { cache.invalidate("1"); return Optional.of(aCategory); });
+
+        Assertions.assertEquals(0, cache.stats().size());
+    }
+
+    @Test
+    public void givenSomeCachedKeys_whenCallGetAll_shouldLoadOnlyTheMissingOnesInOrder() {
+        final var cache = new AggregateCache<Category>("categories", 10, Duration.ofMinutes(5), Category::with);
+        final var filmes = Category.newCategory("Filmes", "", true);
+        final var series = Category.newCategory("Series", "", true);
+        final var filmesId = filmes.getId().getValue();
+        final var seriesId = series.getId().getValue();
+        cache.put(filmesId, filmes);
+
+        final var actual = cache.getAll(List.of(seriesId, filmesId, "nao-existe"), missing -> {
+            Assertions.assertEquals(List.of(seriesId, "nao-existe"), missing);
+            return List.of(series);
+        }, it -> it.getId().getValue());
+
+        Assertions.assertEquals(List.of(seriesId, filmesId), actual.stream().map(it -> it.getId().getValue()).toList());
+        Assertions.assertEquals(2, cache.stats().size());
+    }
+}
@@ -0,0 +1,54 @@
+package com.fullcycle.admin.catalog.infrastructure.cache;
+
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.fullcycle.admin.catalog.domain.category.Category;
+import com.fullcycle.admin.catalog.domain.category.CategoryGateway;
+
+@ExtendWith(MockitoExtension.class)
+public class CachedCategoryGatewayTest {
+
+    @Mock
+    private CategoryGateway categoryMySQLGateway;
+
+    @Test
+    public void givenACachedCategory_whenCallUpdate_shouldReadItFromTheDelegateAgain() {
+        final var aCategory = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        final var expectedId = aCategory.getId();
+        final var onDelete = new AtomicInteger();
+        final var gateway = new CachedCategoryGateway(categoryMySQLGateway,
+                new AggregateCache<>("categories", 10, Duration.ofMinutes(5), Category::with), new AggregateVersion(),
+                onDelete::incrementAndGet);
+
+        when(categoryMySQLGateway.findById(eq(expectedId))).thenReturn(Optional.of(Category.with(aCategory)));
+        when(categoryMySQLGateway.update(any())).thenAnswer(returnsFirstArg());
+
+        gateway.findById(expectedId);
+        gateway.findById(expectedId);
+        verify(categoryMySQLGateway, times(1)).findById(eq(expectedId));
+
+        gateway.update(Category.with(aCategory).update("Series", "", true));
+        gateway.findById(expectedId);
+        verify(categoryMySQLGateway, times(2)).findById(eq(expectedId));
+
+        gateway.deleteById(expectedId);
+        gateway.findById(expectedId);
+        verify(categoryMySQLGateway, times(3)).findById(eq(expectedId));
+        Assertions.assertEquals(1, onDelete.get());
+    }
+}
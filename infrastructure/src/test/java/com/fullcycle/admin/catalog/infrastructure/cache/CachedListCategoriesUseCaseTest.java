@@ -0,0 +1,96 @@
+package com.fullcycle.admin.catalog.infrastructure.cache;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.fullcycle.admin.catalog.application.category.retrive.list.CategoryListOutput;
+import com.fullcycle.admin.catalog.application.category.retrive.list.ListCategoriesUseCase;
+import com.fullcycle.admin.catalog.domain.category.Category;
+import com.fullcycle.admin.catalog.domain.pagination.MatchMode;
+import com.fullcycle.admin.catalog.domain.pagination.Pagination;
+import com.fullcycle.admin.catalog.domain.pagination.SearchQuery;
+import com.fullcycle.admin.catalog.domain.pagination.TotalMode;
+
+@ExtendWith(MockitoExtension.class)
+public class CachedListCategoriesUseCaseTest {
+
+    @Mock
+    private ListCategoriesUseCase listCategoriesUseCase;
+
+    @Test
+    public void givenTheSameQuery_whenCallsExecuteUntilAWrite_shouldQueryOncePerVersion() {
+        final var categories = List.of(CategoryListOutput.from(Category.newCategory("Filmes", "", true)));
+        final var expectedPage = new Pagination<>(0, 10, 1, categories);
+        final var version = new AggregateVersion();
+        final var useCase = new CachedListCategoriesUseCase(listCategoriesUseCase,
+                new QueryResultCache<ListKey, Pagination<CategoryListOutput>>("category_lists", 10, Duration.ofMinutes(5)),
+                version);
+
+        when(listCategoriesUseCase.execute(any())).thenReturn(expectedPage);
+
+        Assertions.assertSame(expectedPage, useCase.execute(new SearchQuery(0, 10, "", "name", "asc")));
+        Assertions.assertSame(expectedPage, useCase.execute(new SearchQuery(0, 10, " ", "name", "ASC")));
+        verify(listCategoriesUseCase, times(1)).execute(any());
+
+        version.bump();
+        useCase.execute(new SearchQuery(0, 10, "", "name", "asc"));
+        verify(listCategoriesUseCase, times(2)).execute(any());
+
+        useCase.execute(new SearchQuery(1, 10, "", "name", "asc"));
+        verify(listCategoriesUseCase, times(3)).execute(any());
+    }
+
+    @Test
+    public void givenATermWithATrailingSpace_whenCallsExecute_shouldSearchAndCacheTheTrimmedTerm() {
+        final var expectedPage = new Pagination<>(0, 10, 1,
+                List.of(CategoryListOutput.from(Category.newCategory("Filmes", "", true))));
+        final var useCase = new CachedListCategoriesUseCase(listCategoriesUseCase,
+                new QueryResultCache<ListKey, Pagination<CategoryListOutput>>("category_lists", 10, Duration.ofMinutes(5)),
+                new AggregateVersion());
+        final var trimmed = new SearchQuery(0, 10, "Filmes", "name", "asc");
+
+        when(listCategoriesUseCase.execute(trimmed)).thenReturn(expectedPage);
+
+        Assertions.assertSame(expectedPage, useCase.execute(new SearchQuery(0, 10, "Filmes ", "name", "asc")));
+        Assertions.assertSame(expectedPage, useCase.execute(trimmed));
+        verify(listCategoriesUseCase, times(1)).execute(trimmed);
+    }
+
+    @Test
+    public void givenTheSameQueryWithAndWithoutTheActiveFilter_whenCallsExecute_shouldCacheEachOneOnItsOwn() {
+        final var allPage = new Pagination<>(0, 10, 2, List.of(
+                CategoryListOutput.from(Category.newCategory("Filmes", "", true)),
+                CategoryListOutput.from(Category.newCategory("Series", "", false))));
+        final var activePage = new Pagination<>(0, 10, 1, List.of(allPage.items().get(0)));
+        final var inactivePage = new Pagination<>(0, 10, 1, List.of(allPage.items().get(1)));
+        final var useCase = new CachedListCategoriesUseCase(listCategoriesUseCase,
+                new QueryResultCache<ListKey, Pagination<CategoryListOutput>>("category_lists", 10, Duration.ofMinutes(5)),
+                new AggregateVersion());
+        final var all = new SearchQuery(0, 10, "", "name", "asc");
+        final var activeOnly = new SearchQuery(0, 10, "", "name", "asc", null, TotalMode.EXACT, MatchMode.CONTAINS, true);
+        final var inactiveOnly = new SearchQuery(0, 10, "", "name", "asc", null, TotalMode.EXACT, MatchMode.CONTAINS, false);
+
+        when(listCategoriesUseCase.execute(all)).thenReturn(allPage);
+        when(listCategoriesUseCase.execute(activeOnly)).thenReturn(activePage);
+        when(listCategoriesUseCase.execute(inactiveOnly)).thenReturn(inactivePage);
+
+        Assertions.assertSame(allPage, useCase.execute(all));
+        Assertions.assertSame(activePage, useCase.execute(activeOnly));
+        Assertions.assertSame(inactivePage, useCase.execute(inactiveOnly));
+        Assertions.assertSame(activePage, useCase.execute(activeOnly));
+        verify(listCategoriesUseCase, times(1)).execute(all);
+        verify(listCategoriesUseCase, times(1)).execute(activeOnly);
+        verify(listCategoriesUseCase, times(1)).execute(inactiveOnly);
+    }
+}
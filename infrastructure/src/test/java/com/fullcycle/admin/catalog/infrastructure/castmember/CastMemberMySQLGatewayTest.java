@@ -2,18 +2,24 @@ package com.fullcycle.admin.catalog.infrastructure.castmember;
 
 import com.fullcycle.admin.catalog.Fixture;
 import com.fullcycle.admin.catalog.MySQLGatewayTest;
+import com.fullcycle.admin.catalog.StatementCount;
 import com.fullcycle.admin.catalog.domain.castmeber.CastMember;
 import com.fullcycle.admin.catalog.domain.castmeber.CastMemberId;
 import com.fullcycle.admin.catalog.domain.castmeber.CastMemberType;
+import com.fullcycle.admin.catalog.domain.pagination.ListVersion;
+import com.fullcycle.admin.catalog.domain.pagination.MatchMode;
 import com.fullcycle.admin.catalog.domain.pagination.SearchQuery;
+import com.fullcycle.admin.catalog.domain.pagination.TotalMode;
 import com.fullcycle.admin.catalog.infrastructure.castmember.persistence.CastMemberJpaEntity;
 import com.fullcycle.admin.catalog.infrastructure.castmember.persistence.CastMemberRepository;
+import javax.persistence.EntityManagerFactory;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -24,6 +30,8 @@ public class CastMemberMySQLGatewayTest {
     private CastMemberMySQLGateway castMemberGateway;
     @Autowired
     private CastMemberRepository castMemberRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
 
     @Test
     public void testDependencies() {
@@ -267,4 +275,72 @@ public class CastMemberMySQLGatewayTest {
                 CastMemberJpaEntity.from(CastMember.newMember("Martin Scorsese", CastMemberType.DIRECTOR))
         ));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void givenANewCastMember_whenCallsCreate_shouldIssueASingleInsertWithoutSelect() {
+        castMemberRepository.flush();
+        final var actualCount = StatementCount.of(entityManagerFactory, () -> {
+            final var aMember = castMemberGateway.create(CastMember.newMember(Fixture.name(), Fixture.CastMember.type()));
+            castMemberRepository.flush();
+            return aMember;
+        });
+
+        // the cast member row and its outbox event, still no SELECT
+        actualCount.assertStatements(2).assertInserts(2).assertLoads(0);
+    }
+
+    @Test
+    public void givenFiveMembers_whenFollowingTheCursorOfList_shouldReturnEachOneOnceByName() {
+        final var names = List.of("Quentin Tarantino", "Ana Castillo", "Vin Diesel", "Kit Harington", "Martin Scorsese");
+        castMemberRepository.saveAllAndFlush(names.stream()
+                .map(it -> CastMemberJpaEntity.from(CastMember.newMember(it, CastMemberType.ACTOR)))
+                .toList());
+
+        final var actualNames = new ArrayList<String>();
+        String cursor = null;
+        do {
+            final var aPage = castMemberGateway.list(new SearchQuery(0, 2, "", "name", "asc", cursor,
+                    TotalMode.NONE, MatchMode.CONTAINS));
+            aPage.items().forEach(it -> actualNames.add(it.name()));
+            cursor = aPage.nextCursor();
+        } while (cursor != null);
+
+        Assertions.assertEquals(names.stream().sorted().toList(), actualNames);
+    }
+
+    @Test
+    public void givenMembers_whenOneIsUpdatedOrDeleted_shouldMoveTheListVersion() {
+        final var aMember = castMemberGateway.create(CastMember.newMember("Vin", CastMemberType.ACTOR));
+        final var anotherMember = castMemberGateway.create(CastMember.newMember("Kit", CastMemberType.ACTOR));
+        final var created = castMemberGateway.version();
+        Assertions.assertEquals(new ListVersion(2, anotherMember.getUpdatedAt()), created);
+
+        final var updated = castMemberGateway.update(CastMember.with(aMember).update("Vin Diesel", CastMemberType.ACTOR));
+        Assertions.assertEquals(new ListVersion(2, updated.getUpdatedAt()), castMemberGateway.version());
+
+        castMemberGateway.deleteById(anotherMember.getId());
+        Assertions.assertEquals(new ListVersion(1, updated.getUpdatedAt()), castMemberGateway.version());
+    }
+
+    @Test
+    public void givenMissingAndRepeatedIds_whenCallsFindAllById_shouldReturnTheFoundOnesOnceInTheGivenOrder() {
+        final var actor = CastMember.newMember("Vin Diesel", CastMemberType.ACTOR);
+        final var director = CastMember.newMember("Quentin Tarantino", CastMemberType.DIRECTOR);
+        castMemberRepository.saveAllAndFlush(List.of(CastMemberJpaEntity.from(actor), CastMemberJpaEntity.from(director)));
+        final var ids = new ArrayList<CastMemberId>();
+        ids.add(director.getId());
+        for (int i = 0; i < 1500; i++) {
+            ids.add(CastMemberId.unique());
+        }
+        ids.add(actor.getId());
+        ids.add(director.getId());
+        ids.add(CastMemberId.from("123"));
+
+        final var actualMembers = castMemberGateway.findAllById(ids);
+
+        Assertions.assertEquals(List.of(director.getId(), actor.getId()),
+                actualMembers.stream().map(CastMember::getId).toList());
+        Assertions.assertEquals(CastMemberType.DIRECTOR, actualMembers.get(0).getType());
+        Assertions.assertTrue(castMemberGateway.findAllById(List.of()).isEmpty());
+    }
+}
@@ -1,17 +1,31 @@
 package com.fullcycle.admin.catalog.infrastructure.category;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.IntStream;
 
+import javax.persistence.EntityManagerFactory;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 
 import com.fullcycle.admin.catalog.MySQLGatewayTest;
+import com.fullcycle.admin.catalog.StatementCount;
+import com.fullcycle.admin.catalog.application.category.retrive.get.CategoryOutput;
+import com.fullcycle.admin.catalog.application.category.retrive.list.CategoryListOutput;
 import com.fullcycle.admin.catalog.domain.category.Category;
 import com.fullcycle.admin.catalog.domain.category.CategoryID;
+import com.fullcycle.admin.catalog.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalog.domain.pagination.MatchMode;
+import com.fullcycle.admin.catalog.domain.pagination.Pagination;
 import com.fullcycle.admin.catalog.domain.pagination.SearchQuery;
+import com.fullcycle.admin.catalog.domain.pagination.TotalMode;
 import com.fullcycle.admin.catalog.infrastructure.category.persistence.CategoryJpaEntity;
 import com.fullcycle.admin.catalog.infrastructure.category.persistence.CategoryRepository;
+import com.fullcycle.admin.catalog.infrastructure.changes.Tombstones;
+import com.fullcycle.admin.catalog.infrastructure.outbox.Outbox;
 
 @MySQLGatewayTest
 public class CategoryMysqlSQLGatewayTest {
@@ -19,6 +33,12 @@ public class CategoryMysqlSQLGatewayTest {
     private CategoryMySQLGateway categoryMysqlGateway;
     @Autowired
     private CategoryRepository categoryRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private Outbox outbox;
+    @Autowired
+    private Tombstones tombstones;
 
     @Test
     public void givenAValidCategory_whenCallsCreate_shouldReturnANewCategory(){
@@ -124,6 +144,16 @@ public class CategoryMysqlSQLGatewayTest {
         Assertions.assertEquals(aCategory.getId(), actualCategory.getId());        
     }
 
+    @Test
+    public void givenAPrePersitedCategory_whenCallsFindUpdatedAtById_shouldReturnOnlyItsUpdatedAt() {
+        final var aCategory = Category.newCategory("Filmes", "Uma categoria de filme", true);
+        categoryRepository.saveAndFlush(CategoryJpaEntity.from(aCategory));
+
+        Assertions.assertEquals(Optional.of(aCategory.getUpdatedAt()),
+                categoryMysqlGateway.findUpdatedAtById(aCategory.getId()));
+        Assertions.assertTrue(categoryMysqlGateway.findUpdatedAtById(CategoryID.from("none")).isEmpty());
+    }
+
     @Test
     public void givenValidCategoryIdNotStored_whenCallsFindById_shouldReturnEmpty() {
         Assertions.assertEquals(0, categoryRepository.count());
@@ -210,6 +240,337 @@ public class CategoryMysqlSQLGatewayTest {
         Assertions.assertEquals(series.getId(), actualResult.items().get(0).getId());
     }
 
+    @Test
+    public void givenPrePersistedCategories_whenCallsList_shouldProjectTheRowsWithoutLoadingEntities() {
+        final var filmes = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        final var series = Category.newCategory("Series", "", false);
+        final var docs = Category.newCategory("Docs", "", true);
+        categoryRepository.saveAllAndFlush(List.of(
+            CategoryJpaEntity.from(filmes),
+            CategoryJpaEntity.from(series),
+            CategoryJpaEntity.from(docs)
+        ));
+        final var actualResult = StatementCount.of(entityManagerFactory,
+                () -> categoryMysqlGateway.list(new SearchQuery(0, 10, "", "name", "asc")))
+                .assertLoads(0)
+                .result();
+
+        Assertions.assertEquals(3, actualResult.total());
+        Assertions.assertEquals(
+                List.of(CategoryListOutput.from(docs), CategoryListOutput.from(filmes), CategoryListOutput.from(series)),
+                actualResult.items());
+    }
+
+    @Test
+    public void givenASortOutsideTheListColumns_whenFollowingTheCursorOfList_shouldReturnEveryRowOnce() {
+        final var categories = List.of(
+            Category.newCategory("Filmes", "", true),
+            Category.newCategory("Series", "", true),
+            Category.newCategory("Docs", "", true));
+        categoryRepository.saveAllAndFlush(categories.stream().map(CategoryJpaEntity::from).toList());
+        final var actualIds = new ArrayList<CategoryID>();
+
+        var actualResult = categoryMysqlGateway.list(new SearchQuery(0, 1, "", "updatedAt", "desc"));
+        actualResult.items().forEach(it -> actualIds.add(it.id()));
+        while (actualResult.nextCursor() != null) {
+            actualResult = categoryMysqlGateway.list(new SearchQuery(0, 1, "", "updatedAt", "desc",
+                    actualResult.nextCursor(), TotalMode.NONE, MatchMode.CONTAINS));
+            actualResult.items().forEach(it -> actualIds.add(it.id()));
+        }
+
+        Assertions.assertEquals(3, actualIds.size());
+        Assertions.assertTrue(actualIds.containsAll(categories.stream().map(Category::getId).toList()));
+    }
+
+    @Test
+    public void givenFollowCursor_whenCallFindAllWithNextCursor_shouldReturnNextPages() {
+        final var expectedPerPage = 1;
+        final var expectedTotal = 3;
+        final var filmes = Category.newCategory("Filmes", "", true);
+        final var series = Category.newCategory("Series", "", true);
+        final var docs = Category.newCategory("Docs", "", true);
+        Assertions.assertEquals(0, categoryRepository.count());
+        categoryRepository.saveAll(List.of(
+            CategoryJpaEntity.from(filmes),
+            CategoryJpaEntity.from(series),
+            CategoryJpaEntity.from(docs)
+        ));
+        Assertions.assertEquals(3, categoryRepository.count());
+        var query = new SearchQuery(0, 1, "", "name", "asc");
+        var actualResult = categoryMysqlGateway.findAll(query);
+        Assertions.assertEquals(expectedPerPage, actualResult.items().size());
+        Assertions.assertEquals(docs.getId(), actualResult.items().get(0).getId());
+        Assertions.assertNotNull(actualResult.nextCursor());
+        //Cursor 1
+        query = new SearchQuery(0, 1, "", "name", "asc", actualResult.nextCursor(), TotalMode.EXACT, MatchMode.CONTAINS);
+        actualResult = categoryMysqlGateway.findAll(query);
+        Assertions.assertEquals(expectedTotal, actualResult.total());
+        Assertions.assertEquals(expectedPerPage, actualResult.items().size());
+        Assertions.assertEquals(filmes.getId(), actualResult.items().get(0).getId());
+        //Cursor 2
+        query = new SearchQuery(0, 1, "", "name", "asc", actualResult.nextCursor(), TotalMode.EXACT, MatchMode.CONTAINS);
+        actualResult = categoryMysqlGateway.findAll(query);
+        Assertions.assertEquals(expectedPerPage, actualResult.items().size());
+        Assertions.assertEquals(series.getId(), actualResult.items().get(0).getId());
+        //Cursor 3
+        query = new SearchQuery(0, 1, "", "name", "asc", actualResult.nextCursor(), TotalMode.EXACT, MatchMode.CONTAINS);
+        actualResult = categoryMysqlGateway.findAll(query);
+        Assertions.assertTrue(actualResult.items().isEmpty());
+        Assertions.assertNull(actualResult.nextCursor());
+    }
+
+    @Test
+    public void givenTotalModeNone_whenCallFindAll_shouldSkipCountAndReturnUnknownTotal() {
+        categoryRepository.saveAll(List.of(
+            CategoryJpaEntity.from(Category.newCategory("Filmes", "", true)),
+            CategoryJpaEntity.from(Category.newCategory("Series", "", true)),
+            CategoryJpaEntity.from(Category.newCategory("Docs", "", true))
+        ));
+        final var query = new SearchQuery(0, 1, "", "name", "asc", null, TotalMode.NONE, MatchMode.CONTAINS);
+        final var actualResult = categoryMysqlGateway.findAll(query);
+        Assertions.assertEquals(Pagination.UNKNOWN_TOTAL, actualResult.total());
+        Assertions.assertEquals(1, actualResult.items().size());
+        Assertions.assertNotNull(actualResult.nextCursor());
+    }
+
+    @Test
+    public void givenTotalModeEstimatedAndTerms_whenCallFindAll_shouldCountExactly() {
+        final var expectedTotal = 2;
+        categoryRepository.saveAll(List.of(
+            CategoryJpaEntity.from(Category.newCategory("Filmes", "", true)),
+            CategoryJpaEntity.from(Category.newCategory("Filmes antigos", "", true)),
+            CategoryJpaEntity.from(Category.newCategory("Docs", "", true))
+        ));
+        final var query = new SearchQuery(0, 1, "fil", "name", "asc", null, TotalMode.ESTIMATED, MatchMode.CONTAINS);
+        final var actualResult = categoryMysqlGateway.findAll(query);
+        Assertions.assertEquals(expectedTotal, actualResult.total());
+        Assertions.assertEquals(1, actualResult.items().size());
+    }
+
+    // H2 has no table statistics to estimate from, the total falls back to an exact count
+    @Test
+    public void givenTotalModeEstimatedWithoutTerms_whenCallFindAllAndList_shouldCountOnADatabaseWithoutStatistics() {
+        final var expectedTotal = 3;
+        categoryRepository.saveAllAndFlush(List.of(
+            CategoryJpaEntity.from(Category.newCategory("Filmes", "", true)),
+            CategoryJpaEntity.from(Category.newCategory("Series", "", true)),
+            CategoryJpaEntity.from(Category.newCategory("Docs", "", true))
+        ));
+        final var query = new SearchQuery(0, 1, "", "name", "asc", null, TotalMode.ESTIMATED, MatchMode.CONTAINS);
+
+        final var actualResult = categoryMysqlGateway.findAll(query);
+        final var actualList = categoryMysqlGateway.list(query);
+
+        Assertions.assertEquals(expectedTotal, actualResult.total());
+        Assertions.assertEquals(1, actualResult.items().size());
+        Assertions.assertEquals(expectedTotal, actualList.total());
+    }
+
+    @Test
+    public void givenMatchModePrefix_whenCallFindAll_shouldReturnCategoriesWhoseNameStartsWithTerms() {
+        final var expectedTotal = 2;
+        final var filmes = Category.newCategory("Filmes", "", true);
+        final var filmesAntigos = Category.newCategory("Filmes antigos", "", true);
+        categoryRepository.saveAll(List.of(
+            CategoryJpaEntity.from(filmes),
+            CategoryJpaEntity.from(filmesAntigos),
+            CategoryJpaEntity.from(Category.newCategory("Bons filmes", "", true)),
+            CategoryJpaEntity.from(Category.newCategory("Docs", "Filmes reais", true))
+        ));
+        final var query = new SearchQuery(0, 10, "Filmes", "name", "asc", null, TotalMode.EXACT, MatchMode.PREFIX);
+        final var actualResult = categoryMysqlGateway.findAll(query);
+        Assertions.assertEquals(expectedTotal, actualResult.total());
+        Assertions.assertEquals(filmes.getId(), actualResult.items().get(0).getId());
+        Assertions.assertEquals(filmesAntigos.getId(), actualResult.items().get(1).getId());
+    }
+
+    @Test
+    public void givenMatchModePrefixAndLikeWildcards_whenCallFindAll_shouldMatchThemLiterally() {
+        categoryRepository.saveAll(List.of(
+            CategoryJpaEntity.from(Category.newCategory("Filmes", "", true)),
+            CategoryJpaEntity.from(Category.newCategory("100% Filmes", "", true))
+        ));
+        final var query = new SearchQuery(0, 10, "%", "name", "asc", null, TotalMode.EXACT, MatchMode.PREFIX);
+        final var actualResult = categoryMysqlGateway.findAll(query);
+        Assertions.assertEquals(0, actualResult.total());
+    }
+
+    @Test
+    public void givenActiveAndInactiveCategories_whenFollowingTheCursorOfListActiveOnly_shouldReturnTheActiveOnesByName() {
+        final var acao = Category.newCategory("Ação", "", true);
+        final var drama = Category.newCategory("Drama", "", true);
+        final var filmes = Category.newCategory("Filmes", "Filmes antigos", true);
+        categoryRepository.saveAll(List.of(
+            CategoryJpaEntity.from(filmes),
+            CategoryJpaEntity.from(Category.newCategory("Comédia", "", false)),
+            CategoryJpaEntity.from(drama),
+            CategoryJpaEntity.from(Category.newCategory("Filmes mudos", "", false)),
+            CategoryJpaEntity.from(acao)
+        ));
+
+        final var actualIds = new ArrayList<CategoryID>();
+        String cursor = null;
+        do {
+            final var aPage = categoryMysqlGateway.list(new SearchQuery(0, 2, "", "name", "asc", cursor,
+                    TotalMode.EXACT, MatchMode.CONTAINS, true));
+            Assertions.assertEquals(3, aPage.total());
+            aPage.items().forEach(it -> actualIds.add(it.id()));
+            cursor = aPage.nextCursor();
+        } while (cursor != null);
+        final var actualInactive = categoryMysqlGateway.findAll(new SearchQuery(0, 10, "Filmes", "name", "asc",
+                null, TotalMode.EXACT, MatchMode.PREFIX, false));
+
+        Assertions.assertEquals(List.of(acao.getId(), drama.getId(), filmes.getId()), actualIds);
+        Assertions.assertEquals(1, actualInactive.total());
+        Assertions.assertEquals("Filmes mudos", actualInactive.items().get(0).getName());
+    }
+
+    // the writes through the gateway only reach the index once they commit, CategorySearchIndexTest covers them
+    @Test
+    public void givenSearchIndexEnabled_whenCallFindAllWithTerms_shouldAnswerFromTheIndexBuiltAtStartup() {
+        final var expectedTotal = 2;
+        final var filmes = Category.newCategory("Filmes", "", true);
+        final var series = Category.newCategory("Series", "Melhores filmes em partes", true);
+        categoryRepository.saveAllAndFlush(List.of(
+            CategoryJpaEntity.from(filmes),
+            CategoryJpaEntity.from(series),
+            CategoryJpaEntity.from(Category.newCategory("Docs", "", true))));
+        final var indexedGateway = new CategoryMySQLGateway(categoryRepository, outbox, tombstones, true, Duration.ZERO);
+        indexedGateway.buildIndex();
+        // written behind the index back, so the index can't find it
+        categoryRepository.saveAndFlush(CategoryJpaEntity.from(Category.newCategory("Filmes antigos", "", true)));
+
+        final var actualResult = indexedGateway.findAll(new SearchQuery(0, 10, "FILME", "name", "asc"));
+
+        Assertions.assertEquals(expectedTotal, actualResult.total());
+        Assertions.assertEquals(filmes.getId(), actualResult.items().get(0).getId());
+        Assertions.assertEquals(series.getId(), actualResult.items().get(1).getId());
+        Assertions.assertEquals(0, indexedGateway.findAll(new SearchQuery(0, 10, "musicais", "name", "asc")).total());
+    }
+
+    @Test
+    public void givenMoreIdsThanOneInChunk_whenCallFindAllById_shouldReturnTheFoundOnesInTheGivenOrder() {
+        final var filmes = Category.newCategory("Filmes", "", true);
+        final var series = Category.newCategory("Series", "", true);
+        final var docs = Category.newCategory("Docs", "", true);
+        categoryRepository.saveAll(List.of(
+            CategoryJpaEntity.from(filmes),
+            CategoryJpaEntity.from(series),
+            CategoryJpaEntity.from(docs)
+        ));
+        final var ids = new ArrayList<CategoryID>();
+        ids.add(series.getId());
+        IntStream.range(0, 1500).forEach(i -> ids.add(CategoryID.unique()));
+        ids.add(docs.getId());
+        ids.add(series.getId());
+        IntStream.range(0, 1500).forEach(i -> ids.add(CategoryID.unique()));
+        ids.add(filmes.getId());
+
+        final var actualResult = categoryMysqlGateway.findAllById(ids);
+
+        Assertions.assertEquals(List.of(series.getId(), docs.getId(), filmes.getId()),
+                actualResult.stream().map(Category::getId).toList());
+        Assertions.assertTrue(categoryMysqlGateway.findAllById(List.of()).isEmpty());
+    }
+
+    @Test
+    public void givenManyCategories_whenCallsCreateAll_shouldPersistAllOfThem() {
+        final var categories = new ArrayList<Category>();
+        for (int i = 0; i < 1_200; i++) {
+            categories.add(Category.newCategory("Categoria " + i, "", i % 2 == 0));
+        }
+        Assertions.assertEquals(0, categoryRepository.count());
+
+        final var actualResult = categoryMysqlGateway.createAll(categories);
+
+        Assertions.assertEquals(categories.size(), actualResult.size());
+        Assertions.assertEquals(categories.size(), categoryRepository.count());
+        Assertions.assertEquals(categories.get(0).getId(), actualResult.get(0).getId());
+        final var persisted = categoryRepository.findById(categories.get(1_199).getId().getValue()).get();
+        Assertions.assertEquals("Categoria 1199", persisted.getName());
+        Assertions.assertFalse(persisted.isActive());
+    }
+
+    @Test
+    public void givenRowsWithoutASortValue_whenFollowsTheCursorBothWays_shouldReadEveryRowOnce() {
+        final var categories = List.of(
+            Category.newCategory("Filmes", "", true),
+            Category.newCategory("Series", "", false),
+            Category.newCategory("Docs", "", true),
+            Category.newCategory("Animes", "", false)
+        );
+        categoryRepository.saveAll(categories.stream().map(CategoryJpaEntity::from).toList());
+        final var expectedIds = categories.stream().map(it -> it.getId().getValue()).sorted().toList();
+
+        for (final var direction : List.of("asc", "desc")) {
+            final var actualIds = new ArrayList<String>();
+            String aCursor = null;
+            do {
+                final var aPage = categoryMysqlGateway.findAll(new SearchQuery(0, 1, "", "deletedAt", direction,
+                        aCursor, TotalMode.NONE, MatchMode.CONTAINS));
+                aPage.items().forEach(it -> actualIds.add(it.getId().getValue()));
+                aCursor = aPage.nextCursor();
+            } while (aCursor != null);
+            Assertions.assertEquals(expectedIds, actualIds.stream().sorted().toList(), direction);
+        }
+    }
+
+    @Test
+    public void givenACursorFromAnotherSort_whenCallFindAll_shouldThrowDomainException() {
+        final var expectedErrorMessage = "'cursor' is invalid for the given sort and direction";
+        categoryRepository.saveAll(List.of(
+            CategoryJpaEntity.from(Category.newCategory("Filmes", "", true)),
+            CategoryJpaEntity.from(Category.newCategory("Series", "", true))
+        ));
+        final var aCursor = categoryMysqlGateway.findAll(new SearchQuery(0, 1, "", "name", "asc")).nextCursor();
+        final var query = new SearchQuery(0, 1, "", "createdAt", "asc", aCursor, TotalMode.EXACT, MatchMode.CONTAINS);
+        final var actualException = Assertions.assertThrows(DomainException.class,
+                () -> categoryMysqlGateway.findAll(query));
+        Assertions.assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+    }
+
+    @Test
+    public void givenASortThatIsNotAColumn_whenCallFindAllAndList_shouldThrowDomainException() {
+        final var expectedErrorMessage = "'sort' cannot be 'password'";
+        final var query = new SearchQuery(0, 1, "", "password", "asc");
+
+        final var actualException = Assertions.assertThrows(DomainException.class,
+                () -> categoryMysqlGateway.findAll(query));
+        Assertions.assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+        final var actualListException = Assertions.assertThrows(DomainException.class,
+                () -> categoryMysqlGateway.list(query));
+        Assertions.assertEquals(expectedErrorMessage, actualListException.getErrors().get(0).message());
+    }
+
+    @Test
+    public void givenAnInvalidDirection_whenCallFindAll_shouldThrowDomainException() {
+        final var expectedErrorMessage = "'direction' must be asc or desc";
+        final var query = new SearchQuery(0, 1, "", "name", "sideways");
+
+        final var actualException = Assertions.assertThrows(DomainException.class,
+                () -> categoryMysqlGateway.findAll(query));
+        Assertions.assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+    }
+
+    // H2 has no FULLTEXT index to match against, the MySQL searches are covered by CategoryE2ETest
+    @Test
+    public void givenMatchModeFulltextOnADatabaseWithoutFulltextIndexes_whenCallFindAllAndList_shouldThrowDomainException() {
+        final var expectedErrorMessage = "'match' fulltext is not available on this database, use contains or prefix";
+        categoryRepository.saveAll(List.of(
+            CategoryJpaEntity.from(Category.newCategory("Filmes", "", true)),
+            CategoryJpaEntity.from(Category.newCategory("Series", "", true))
+        ));
+        final var query = new SearchQuery(0, 10, "filmes", "name", "asc", null, TotalMode.EXACT, MatchMode.FULLTEXT);
+
+        final var actualException = Assertions.assertThrows(DomainException.class,
+                () -> categoryMysqlGateway.findAll(query));
+        final var actualListException = Assertions.assertThrows(DomainException.class,
+                () -> categoryMysqlGateway.list(query));
+
+        Assertions.assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+        Assertions.assertEquals(expectedErrorMessage, actualListException.getErrors().get(0).message());
+    }
+
     @Test
     public void givenPrePersistedCategoriesAndDocAsTerm_whenCallFindAllAdnTermsMatchesCategoryName_shouldReturnPaginated() {
         final var expectedPage = 0;
@@ -279,4 +640,37 @@ public class CategoryMysqlSQLGatewayTest {
         //then
         Assertions.assertTrue(expectedIds.size() == actualResult.size() && expectedIds.containsAll(actualResult));
     }
+
+    @Test
+    public void givenANewCategory_whenCallsCreate_shouldIssueASingleInsertWithoutSelect() {
+        categoryRepository.flush();
+        final var actualCount = StatementCount.of(entityManagerFactory, () -> {
+            final var aCategory = categoryMysqlGateway.create(Category.newCategory("Filmes", "", true));
+            categoryRepository.flush();
+            return aCategory;
+        });
+
+        // the category row and its outbox event, still no SELECT
+        actualCount.assertStatements(2).assertInserts(2).assertLoads(0);
+    }
+
+    @Test
+    public void givenPrePersistedCategories_whenCallsForEach_shouldHandOverEveryOneInIdOrderWithoutLoadingEntities() {
+        final var categories = categoryMysqlGateway.createAll(List.of(
+                Category.newCategory("Filmes", "A categoria mais assistida", true),
+                Category.newCategory("Series", "", false),
+                Category.newCategory("Docs", "", true)));
+        final var expectedIds = categories.stream().map(it -> it.getId().getValue()).sorted().toList();
+        final var actualOutputs = StatementCount.of(entityManagerFactory, () -> {
+            final var outputs = new ArrayList<CategoryOutput>();
+            categoryMysqlGateway.forEach(outputs::add);
+            return outputs;
+        }).assertLoads(0).result();
+
+        Assertions.assertEquals(expectedIds, actualOutputs.stream().map(it -> it.id().getValue()).toList());
+        final var series = actualOutputs.stream().filter(it -> it.name().equals("Series")).findFirst().orElseThrow();
+        Assertions.assertFalse(series.isActive());
+        Assertions.assertNotNull(series.deletedAt());
+        Assertions.assertNotNull(series.updateddAt());
+    }
 }
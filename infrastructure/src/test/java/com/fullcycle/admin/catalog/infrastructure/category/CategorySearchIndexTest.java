@@ -0,0 +1,67 @@
+package com.fullcycle.admin.catalog.infrastructure.category;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fullcycle.admin.catalog.MySQLGatewayTest;
+import com.fullcycle.admin.catalog.domain.category.Category;
+import com.fullcycle.admin.catalog.domain.category.CategoryID;
+import com.fullcycle.admin.catalog.domain.pagination.SearchQuery;
+
+// every call commits or rolls back on its own, as it does behind the API, so the index sees what the database keeps.
+// The pool of the profile, not the embedded one: with it auto-commit is off and a rollback undoes the writes
+@MySQLGatewayTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = "search.index.enabled=true")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class CategorySearchIndexTest {
+    @Autowired
+    private CategoryMySQLGateway categoryMysqlGateway;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    public void givenCommittedWrites_whenSearchesContains_shouldFindThemThroughTheIndex() {
+        final var filmes = categoryMysqlGateway.create(Category.newCategory("Filmes", "", true));
+        final var series = categoryMysqlGateway.create(Category.newCategory("Series", "", true));
+        categoryMysqlGateway.update(Category.with(filmes).update("Documentarios", "", true));
+        categoryMysqlGateway.deleteById(series.getId());
+
+        Assertions.assertEquals(List.of(filmes.getId()), search("documentar"));
+        Assertions.assertEquals(List.of(), search("filmes"));
+        Assertions.assertEquals(List.of(), search("series"));
+    }
+
+    @Test
+    public void givenWritesThatRollBack_whenSearchesContains_shouldAnswerAsBeforeThem() {
+        final var filmes = categoryMysqlGateway.create(Category.newCategory("Filmes", "", true));
+        final var series = categoryMysqlGateway.create(Category.newCategory("Series", "", true));
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            categoryMysqlGateway.update(Category.with(filmes).update("Documentarios", "", true));
+            categoryMysqlGateway.deleteById(series.getId());
+            categoryMysqlGateway.createAll(List.of(Category.newCategory("Novelas", "", true)));
+            status.setRollbackOnly();
+        });
+
+        Assertions.assertEquals(List.of(filmes.getId()), search("filmes"));
+        Assertions.assertEquals(List.of(), search("documentar"));
+        Assertions.assertEquals(List.of(series.getId()), search("series"));
+        Assertions.assertEquals(List.of(), search("novelas"));
+    }
+
+    private List<CategoryID> search(final String terms) {
+        return categoryMysqlGateway.findAll(new SearchQuery(0, 10, terms, "name", "asc")).items().stream()
+                .map(Category::getId)
+                .toList();
+    }
+}
@@ -0,0 +1,139 @@
+package com.fullcycle.admin.catalog.infrastructure.changes;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import com.fullcycle.admin.catalog.MySQLGatewayTest;
+import com.fullcycle.admin.catalog.application.category.retrive.list.CategoryListOutput;
+import com.fullcycle.admin.catalog.domain.category.Category;
+import com.fullcycle.admin.catalog.domain.category.CategoryID;
+import com.fullcycle.admin.catalog.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalog.domain.genre.Genre;
+import com.fullcycle.admin.catalog.domain.pagination.Change;
+import com.fullcycle.admin.catalog.domain.pagination.ChangesQuery;
+import com.fullcycle.admin.catalog.domain.utils.InstantUtils;
+import com.fullcycle.admin.catalog.infrastructure.category.CategoryMySQLGateway;
+import com.fullcycle.admin.catalog.infrastructure.category.persistence.CategoryRepository;
+import com.fullcycle.admin.catalog.infrastructure.changes.persistence.TombstoneRepository;
+import com.fullcycle.admin.catalog.infrastructure.genre.GenreMySQLGateway;
+import com.fullcycle.admin.catalog.infrastructure.outbox.Outbox;
+
+@MySQLGatewayTest
+public class ChangeFeedTest {
+    @Autowired
+    private CategoryMySQLGateway categoryGateway;
+    @Autowired
+    private GenreMySQLGateway genreGateway;
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private TombstoneRepository tombstoneRepository;
+    @Autowired
+    private Outbox outbox;
+    @Autowired
+    private Tombstones tombstones;
+
+    @Test
+    public void givenCreatedAndDeletedCategories_whenFollowsTheCursor_shouldReturnEachChangeOnceOldestFirst() {
+        final var filmes = categoryGateway.create(Category.newCategory("Filmes", "", true));
+        final var series = categoryGateway.create(Category.newCategory("Series", "", true));
+        final var documentarios = categoryGateway.create(Category.newCategory("Documentarios", "", true));
+        categoryGateway.deleteById(series.getId());
+
+        final var actualChanges = new ArrayList<Change<CategoryListOutput>>();
+        String cursor = null;
+        do {
+            final var aPage = categoryGateway.changes(new ChangesQuery(null, cursor, 2));
+            actualChanges.addAll(aPage.items());
+            cursor = aPage.nextCursor();
+        } while (cursor != null);
+
+        final var createdIds = List.of(filmes.getId().getValue(), documentarios.getId().getValue());
+        Assertions.assertEquals(3, actualChanges.size());
+        Assertions.assertTrue(actualChanges.subList(0, 2).stream().map(Change::id).toList().containsAll(createdIds));
+        Assertions.assertEquals(series.getId().getValue(), actualChanges.get(2).id());
+        Assertions.assertTrue(actualChanges.get(2).deleted());
+        Assertions.assertNull(actualChanges.get(2).item());
+        Assertions.assertEquals("Filmes", actualChanges.stream()
+                .filter(it -> it.id().equals(filmes.getId().getValue()))
+                .findFirst().orElseThrow().item().name());
+    }
+
+    @Test
+    public void givenASince_whenCallsChanges_shouldLeaveOutWhatChangedBefore() {
+        final var createdAt = Instant.parse("2024-01-01T00:00:00Z");
+        final var expectedSince = Instant.parse("2024-02-01T00:00:00Z");
+        categoryGateway.create(Category.with(CategoryID.unique(), "Filmes", "", true, createdAt, createdAt, null));
+        final var expectedCategory = categoryGateway.create(Category.with(
+                CategoryID.unique(), "Series", "", true, createdAt, expectedSince, null));
+
+        final var actualPage = categoryGateway.changes(new ChangesQuery(expectedSince, null, 10));
+
+        Assertions.assertEquals(1, actualPage.items().size());
+        Assertions.assertEquals(expectedCategory.getId().getValue(), actualPage.items().get(0).id());
+        Assertions.assertEquals(expectedSince, actualPage.items().get(0).changedAt());
+        Assertions.assertNull(actualPage.nextCursor());
+    }
+
+    @Test
+    public void givenAChangedGenre_whenCallsChanges_shouldReturnItWithItsCategories() {
+        final var filmes = categoryGateway.create(Category.newCategory("Filmes", "", true));
+        final var aGenre = Genre.newGenre("Ação", true);
+        aGenre.addCategory(filmes.getId());
+        genreGateway.create(aGenre);
+        final var aDeletedGenre = genreGateway.create(Genre.newGenre("Terror", true));
+        genreGateway.deleteById(aDeletedGenre.getId());
+
+        final var actualItems = genreGateway.changes(new ChangesQuery(null, null, 10)).items();
+
+        Assertions.assertEquals(2, actualItems.size());
+        Assertions.assertEquals(aGenre.getId().getValue(), actualItems.get(0).id());
+        Assertions.assertEquals(List.of(filmes.getId().getValue()), actualItems.get(0).item().categories());
+        Assertions.assertTrue(actualItems.get(1).deleted());
+    }
+
+    @Test
+    public void givenAChangeInsideTheSafetyLag_whenCallsChanges_shouldHoldItBackForALaterCall() {
+        final var anHourAgo = InstantUtils.now().minus(Duration.ofHours(1));
+        final var expectedCategory = categoryGateway.create(Category.with(
+                CategoryID.unique(), "Filmes", "", true, anHourAgo, anHourAgo, null));
+        categoryGateway.create(Category.newCategory("Series", "", true));
+        final var laggingGateway = new CategoryMySQLGateway(categoryRepository, outbox, tombstones, false, Duration.ofMinutes(1));
+
+        final var actualPage = laggingGateway.changes(new ChangesQuery(null, null, 10));
+
+        Assertions.assertEquals(List.of(expectedCategory.getId().getValue()),
+                actualPage.items().stream().map(Change::id).toList());
+        Assertions.assertNull(actualPage.nextCursor());
+    }
+
+    @Test
+    public void givenAnIdDeletedTwice_whenCallsChanges_shouldReturnOneTombstoneAtTheLastDeletion() {
+        final var aCategory = categoryGateway.create(Category.newCategory("Filmes", "", true));
+        categoryGateway.deleteById(aCategory.getId());
+        final var firstDeletedAt = tombstoneRepository.findById(aCategory.getId().getValue()).orElseThrow().getDeletedAt();
+        categoryGateway.create(aCategory);
+        categoryGateway.deleteById(aCategory.getId());
+
+        final var actualItems = categoryGateway.changes(new ChangesQuery(null, null, 10)).items();
+
+        Assertions.assertEquals(1, tombstoneRepository.count());
+        Assertions.assertEquals(1, actualItems.size());
+        Assertions.assertTrue(actualItems.get(0).deleted());
+        Assertions.assertFalse(actualItems.get(0).changedAt().isBefore(firstDeletedAt));
+    }
+
+    @Test
+    public void givenACursorOfAnotherSort_whenCallsChanges_shouldThrowDomainException() {
+        final var aCursor = "eyJzb3J0IjoibmFtZSIsImRpcmVjdGlvbiI6ImFzYyIsInZhbHVlIjoiYSIsImlkIjoiMSJ9";
+
+        Assertions.assertThrows(DomainException.class,
+                () -> categoryGateway.changes(new ChangesQuery(null, aCursor, 10)));
+    }
+}
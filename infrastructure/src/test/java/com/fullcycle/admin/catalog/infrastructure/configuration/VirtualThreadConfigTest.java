@@ -0,0 +1,35 @@
+package com.fullcycle.admin.catalog.infrastructure.configuration;
+
+import java.util.concurrent.ExecutorService;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import com.fullcycle.admin.catalog.infrastructure.persistence.DatabaseConcurrencyLimiter;
+
+public class VirtualThreadConfigTest {
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withUserConfiguration(VirtualThreadConfig.class);
+
+    @Test
+    public void givenTheVirtualThreadsEnabled_whenTheContextStarts_shouldUseThemOnlyWhereTheJavaHasThem() {
+        final var expectedVirtualThreads = Runtime.version().feature() >= 21;
+
+        this.contextRunner
+                .withPropertyValues("spring.threads.virtual.enabled=true")
+                .run(context -> {
+                    Assertions.assertNull(context.getStartupFailure());
+                    Assertions.assertEquals(expectedVirtualThreads, context.containsBean("requestExecutor"));
+                    Assertions.assertEquals(expectedVirtualThreads,
+                            context.getBeansOfType(DatabaseConcurrencyLimiter.class).size() == 1);
+                });
+    }
+
+    @Test
+    public void givenTheVirtualThreadsDisabled_whenTheContextStarts_shouldKeepTheWorkerPool() {
+        this.contextRunner
+                .withPropertyValues("spring.threads.virtual.enabled=false")
+                .run(context -> Assertions.assertTrue(context.getBeansOfType(ExecutorService.class).isEmpty()));
+    }
+}
@@ -1,20 +1,31 @@
 package com.fullcycle.admin.catalog.infrastructure.genre;
 
 import com.fullcycle.admin.catalog.MySQLGatewayTest;
+import com.fullcycle.admin.catalog.StatementCount;
+import com.fullcycle.admin.catalog.application.genre.retrive.get.GenreOutput;
+import com.fullcycle.admin.catalog.application.genre.retrive.list.GenreListOutput;
 import com.fullcycle.admin.catalog.domain.category.Category;
 import com.fullcycle.admin.catalog.domain.category.CategoryID;
 import com.fullcycle.admin.catalog.domain.genre.Genre;
 import com.fullcycle.admin.catalog.domain.genre.GenreID;
+import com.fullcycle.admin.catalog.domain.pagination.MatchMode;
 import com.fullcycle.admin.catalog.domain.pagination.SearchQuery;
+import com.fullcycle.admin.catalog.domain.pagination.TotalMode;
 import com.fullcycle.admin.catalog.infrastructure.category.CategoryMySQLGateway;
 import com.fullcycle.admin.catalog.infrastructure.genre.persistence.GenreJpaEntity;
 import com.fullcycle.admin.catalog.infrastructure.genre.persistence.GenreRepository;
+import javax.persistence.EntityManagerFactory;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 
@@ -26,6 +37,10 @@ public class GenreMySQLGatewayTest {
     private GenreMySQLGateway genreMySQLGateway;
     @Autowired
     private GenreRepository genreRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private TestEntityManager entityManager;
 
     @Test
     public void testDependenciesInjected() {
@@ -409,6 +424,117 @@ public class GenreMySQLGatewayTest {
         }
     }
 
+    @Test
+    public void givenGenresWithCategories_whenCallsFindAll_shouldLoadThePageWithTwoQueries() {
+        final var filmes = categoryMysqlGateway.create(Category.newCategory("Filmes", "", true));
+        final var series = categoryMysqlGateway.create(Category.newCategory("Series", "", true));
+        final var acao = Genre.newGenre("Ação", true).addCategories(List.of(filmes.getId(), series.getId()));
+        final var drama = Genre.newGenre("Drama", true).addCategories(List.of(series.getId()));
+        final var terror = Genre.newGenre("Terror", true);
+        genreRepository.saveAllAndFlush(List.of(
+                GenreJpaEntity.from(acao), GenreJpaEntity.from(drama), GenreJpaEntity.from(terror)));
+        entityManager.clear();
+        final var actualPage = StatementCount.of(entityManagerFactory,
+                () -> genreMySQLGateway.findAll(new SearchQuery(0, 10, "", "name", "asc")))
+                // the page and one IN over genres_categories, no matter how many genres are in the page
+                .assertStatements(2)
+                .result();
+
+        Assertions.assertEquals(3, actualPage.items().size());
+        Assertions.assertEquals(sorted(acao.getCategories()), sorted(actualPage.items().get(0).getCategories()));
+        Assertions.assertEquals(drama.getCategories(), actualPage.items().get(1).getCategories());
+        Assertions.assertTrue(actualPage.items().get(2).getCategories().isEmpty());
+    }
+
+    @Test
+    public void givenGenresWithCategories_whenCallsList_shouldProjectThePageWithoutLoadingEntities() {
+        final var filmes = categoryMysqlGateway.create(Category.newCategory("Filmes", "", true));
+        final var acao = Genre.newGenre("Ação", true).addCategories(List.of(filmes.getId()));
+        final var drama = Genre.newGenre("Drama", false);
+        genreRepository.saveAllAndFlush(List.of(GenreJpaEntity.from(acao), GenreJpaEntity.from(drama)));
+        entityManager.clear();
+        final var actualPage = StatementCount.of(entityManagerFactory,
+                () -> genreMySQLGateway.list(new SearchQuery(0, 10, "", "name", "asc"), true))
+                .assertStatements(2)
+                .assertLoads(0)
+                .result();
+
+        Assertions.assertEquals(List.of(GenreListOutput.from(acao), GenreListOutput.from(drama)), actualPage.items());
+    }
+
+    @Test
+    public void givenActiveAndInactiveGenres_whenCallsListWithActiveFalse_shouldOnlyReturnTheInactiveOnes() {
+        final var drama = Genre.newGenre("Drama", false);
+        final var terror = Genre.newGenre("Terror", false);
+        genreRepository.saveAllAndFlush(List.of(
+                GenreJpaEntity.from(terror),
+                GenreJpaEntity.from(Genre.newGenre("Ação", true)),
+                GenreJpaEntity.from(drama),
+                GenreJpaEntity.from(Genre.newGenre("Suspense", true))));
+
+        final var actualPage = genreMySQLGateway.list(new SearchQuery(0, 10, "", "name", "asc", null,
+                TotalMode.EXACT, MatchMode.CONTAINS, false), false);
+
+        Assertions.assertEquals(2, actualPage.total());
+        Assertions.assertEquals(List.of(drama.getId().getValue(), terror.getId().getValue()),
+                actualPage.items().stream().map(GenreListOutput::id).toList());
+    }
+
+    @Test
+    public void givenGenresWithCategories_whenCallsListWithoutCategories_shouldOnlyQueryThePage() {
+        final var filmes = categoryMysqlGateway.create(Category.newCategory("Filmes", "", true));
+        genreRepository.saveAllAndFlush(List.of(
+                GenreJpaEntity.from(Genre.newGenre("Ação", true).addCategories(List.of(filmes.getId()))),
+                GenreJpaEntity.from(Genre.newGenre("Drama", true).addCategories(List.of(filmes.getId())))));
+        entityManager.clear();
+        final var actualPage = StatementCount.of(entityManagerFactory,
+                () -> genreMySQLGateway.list(new SearchQuery(0, 10, "", "name", "asc"), false))
+                .assertStatements(1)
+                .result();
+
+        Assertions.assertEquals(2, actualPage.items().size());
+        Assertions.assertNull(actualPage.items().get(0).categories());
+    }
+
+    @Test
+    public void givenGenresWithCategories_whenCallsFindAllById_shouldLoadThemWithTwoQueries() {
+        final var filmes = categoryMysqlGateway.create(Category.newCategory("Filmes", "", true));
+        final var acao = Genre.newGenre("Ação", true).addCategories(List.of(filmes.getId()));
+        final var drama = Genre.newGenre("Drama", true).addCategories(List.of(filmes.getId()));
+        genreRepository.saveAllAndFlush(List.of(GenreJpaEntity.from(acao), GenreJpaEntity.from(drama)));
+        entityManager.clear();
+        final var actualGenres = StatementCount.of(entityManagerFactory,
+                () -> genreMySQLGateway.findAllById(List.of(drama.getId(), acao.getId())))
+                .assertStatements(2)
+                .result();
+
+        Assertions.assertEquals(List.of(drama.getId(), acao.getId()), actualGenres.stream().map(Genre::getId).toList());
+        Assertions.assertEquals(List.of(filmes.getId()), actualGenres.get(0).getCategories());
+    }
+
+    @Test
+    public void givenMissingAndRepeatedIds_whenCallsFindAllById_shouldReturnTheFoundOnesOnceInTheGivenOrder() {
+        final var acao = Genre.newGenre("Ação", true);
+        final var drama = Genre.newGenre("Drama", true);
+        final var terror = Genre.newGenre("Terror", false);
+        genreRepository.saveAllAndFlush(List.of(
+                GenreJpaEntity.from(acao), GenreJpaEntity.from(drama), GenreJpaEntity.from(terror)));
+        final var ids = new ArrayList<GenreID>();
+        ids.add(terror.getId());
+        for (int i = 0; i < 1500; i++) {
+            ids.add(GenreID.unique());
+        }
+        ids.add(acao.getId());
+        ids.add(terror.getId());
+        ids.add(GenreID.from("123"));
+
+        final var actualGenres = genreMySQLGateway.findAllById(ids);
+
+        Assertions.assertEquals(List.of(terror.getId(), acao.getId()), actualGenres.stream().map(Genre::getId).toList());
+        Assertions.assertFalse(actualGenres.get(0).isActive());
+        Assertions.assertTrue(genreMySQLGateway.findAllById(List.of()).isEmpty());
+    }
+
     private void mockGenres() {
         genreRepository.saveAllAndFlush(List.of(
                 GenreJpaEntity.from(Genre.newGenre("Comédia", true)),
@@ -424,4 +550,104 @@ public class GenreMySQLGatewayTest {
                 .sorted(Comparator.comparing(CategoryID::getValue))
                 .toList();
     }
+
+    @Test
+    public void givenANewGenreWithCategory_whenCallsCreate_shouldOnlyIssueInserts() {
+        final var filmes = categoryMysqlGateway.create(Category.newCategory("Filmes", "", true));
+        final var aGenre = Genre.newGenre("Ação", true);
+        aGenre.addCategories(List.of(filmes.getId()));
+        genreRepository.flush();
+        final var actualCount = StatementCount.of(entityManagerFactory, () -> {
+            final var created = genreMySQLGateway.create(aGenre);
+            genreRepository.flush();
+            return created;
+        });
+
+        // genre, genre_category and the outbox event
+        actualCount.assertStatements(3).assertInserts(3).assertLoads(0);
+    }
+
+    @Test
+    public void givenGenresWithAndWithoutCategories_whenCallsForEach_shouldHandOverEachOneWithItsCategories() {
+        final var filmes = categoryMysqlGateway.create(Category.newCategory("Filmes", "", true));
+        final var series = categoryMysqlGateway.create(Category.newCategory("Series", "", true));
+        final var acao = Genre.newGenre("Ação", true);
+        acao.addCategories(List.of(filmes.getId(), series.getId()));
+        final var terror = Genre.newGenre("Terror", false);
+        genreMySQLGateway.createAll(List.of(acao, terror));
+
+        final var actualOutputs = new ArrayList<GenreOutput>();
+        genreMySQLGateway.forEach(actualOutputs::add);
+
+        Assertions.assertEquals(
+                List.of(acao.getId().getValue(), terror.getId().getValue()).stream().sorted().toList(),
+                actualOutputs.stream().map(GenreOutput::id).toList());
+        final var actualAcao = actualOutputs.stream().filter(it -> it.name().equals("Ação")).findFirst().orElseThrow();
+        Assertions.assertEquals(
+                sorted(List.of(filmes.getId(), series.getId())).stream().map(CategoryID::getValue).toList(),
+                actualAcao.categories().stream().sorted().toList());
+        final var actualTerror = actualOutputs.stream().filter(it -> it.name().equals("Terror")).findFirst().orElseThrow();
+        Assertions.assertEquals(List.of(), actualTerror.categories());
+        Assertions.assertFalse(actualTerror.isActive());
+    }
+
+    // the export runs on an async thread with no transaction around it, as this test does
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void givenNoTransactionAround_whenCallsForEach_shouldStreamInsideAReadOnlyOne() {
+        final var filmes = categoryMysqlGateway.create(Category.newCategory("Filmes", "", true));
+        final var acao = Genre.newGenre("Ação", true);
+        acao.addCategories(List.of(filmes.getId()));
+        genreMySQLGateway.createAll(List.of(acao, Genre.newGenre("Terror", true)));
+
+        final var actualOutputs = new ArrayList<GenreOutput>();
+        genreMySQLGateway.forEach(it -> {
+            Assertions.assertTrue(TransactionSynchronizationManager.isActualTransactionActive());
+            Assertions.assertTrue(TransactionSynchronizationManager.isCurrentTransactionReadOnly());
+            actualOutputs.add(it);
+        });
+
+        Assertions.assertFalse(TransactionSynchronizationManager.isActualTransactionActive());
+        Assertions.assertEquals(2, actualOutputs.size());
+        Assertions.assertEquals(List.of(filmes.getId().getValue()), actualOutputs.stream()
+                .filter(it -> it.name().equals("Ação")).findFirst().orElseThrow().categories());
+    }
+
+    @Test
+    public void givenFiveGenres_whenFollowingTheCursorOfList_shouldReturnEachOneOnceWithItsCategories() {
+        final var filmes = categoryMysqlGateway.create(Category.newCategory("Filmes", "", true));
+        final var genres = List.of("Terror", "Ação", "Drama", "Comédia", "Suspense").stream()
+                .map(it -> Genre.newGenre(it, true).addCategory(filmes.getId()))
+                .toList();
+        genreMySQLGateway.createAll(genres);
+
+        final var actualNames = new ArrayList<String>();
+        String cursor = null;
+        do {
+            final var aPage = genreMySQLGateway.list(new SearchQuery(0, 2, "", "name", "asc", cursor,
+                    TotalMode.NONE, MatchMode.CONTAINS), true);
+            aPage.items().forEach(it -> {
+                Assertions.assertEquals(List.of(filmes.getId().getValue()), it.categories());
+                actualNames.add(it.name());
+            });
+            cursor = aPage.nextCursor();
+        } while (cursor != null);
+
+        Assertions.assertEquals(List.of("Ação", "Comédia", "Drama", "Suspense", "Terror"), actualNames);
+    }
+
+    // the cascade runs in the database, each call commits on its own as it does behind the API
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void givenAGenreLinkedToACategory_whenTheCategoryIsDeleted_shouldMoveTheListVersion() {
+        final var filmes = categoryMysqlGateway.create(Category.newCategory("Filmes", "", true));
+        genreMySQLGateway.create(Genre.newGenre("Ação", true).addCategory(filmes.getId()));
+        final var before = genreMySQLGateway.version();
+
+        categoryMysqlGateway.deleteById(filmes.getId());
+
+        final var actualVersion = genreMySQLGateway.version();
+        Assertions.assertEquals(before.lastUpdatedAt(), actualVersion.lastUpdatedAt());
+        Assertions.assertEquals(before.rows() - 1, actualVersion.rows());
+    }
 }
@@ -9,6 +9,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.json.JacksonTester;
 
 import java.io.IOException;
+import java.util.List;
 
 @JacksonTest
 public class GenreListResponseTest {
@@ -20,9 +21,10 @@ public class GenreListResponseTest {
         final var expectedId = "123";
         final var expectedName = "Ação";
         final var expectedIsActive = false;
+        final var expectedCategories = List.of("456");
         final var expectedCreatedAt = InstantUtils.now();
         final var expectedDeletedAt = InstantUtils.now();
-        final var response = new GenreListResponse(expectedId, expectedName, expectedIsActive,
+        final var response = new GenreListResponse(expectedId, expectedName, expectedIsActive, expectedCategories,
                 expectedCreatedAt,
                 expectedDeletedAt);
         final var actualJson = this.json.write(response);
@@ -30,6 +32,7 @@ public class GenreListResponseTest {
                 .hasJsonPathValue("$.id", expectedId)
                 .hasJsonPathValue("$.name", expectedName)
                 .hasJsonPathValue("$.is_active", expectedIsActive)
+                .hasJsonPathValue("$.categories_id", expectedCategories)
                 .hasJsonPathValue("$.created_at", expectedCreatedAt.toString())
                 .hasJsonPathValue("$.deleted_at", expectedDeletedAt.toString());
     }
@@ -0,0 +1,192 @@
+package com.fullcycle.admin.catalog.infrastructure.imports;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fullcycle.admin.catalog.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalog.domain.validation.Error;
+import com.fullcycle.admin.catalog.domain.validation.handler.Notification;
+import com.fullcycle.admin.catalog.infrastructure.api.models.ImportResponse;
+import com.fullcycle.admin.catalog.infrastructure.genre.models.CreateGenreRequest;
+
+import io.vavr.API;
+import io.vavr.control.Either;
+
+public class BulkImporterTest {
+    @TempDir
+    private Path reportDir;
+
+    private final List<List<CreateGenreRequest>> batches = new ArrayList<>();
+
+    // rejects the nameless ones like the validator would
+    private final Function<List<CreateGenreRequest>, List<Either<Notification, String>>> createAll = aBatch -> {
+        batches.add(List.copyOf(aBatch));
+        return aBatch.stream()
+                .<Either<Notification, String>>map(it -> it.name() == null
+                        ? API.Left(Notification.create(new Error("'name' should not be null")))
+                        : API.Right(it.name()))
+                .toList();
+    };
+
+    @Test
+    public void givenMoreLinesThanABatch_whenRuns_shouldCreateThemInFixedSizeBatchesInOrder() {
+        final var aBody = """
+                {"name":"Ação","categories_id":["1","2"]}
+                {"name":"Drama","is_active":false}
+                {"name":"Terror"}
+                {"name":"Comédia"}
+                {"name":"Suspense"}
+                """;
+        final var anImporter = new BulkImporter(2, reportDir.toString(), Duration.ofDays(1));
+
+        final var actualResponse = run(anImporter, aBody, ImportFormat.NDJSON);
+
+        Assertions.assertEquals(5, actualResponse.read());
+        Assertions.assertEquals(5, actualResponse.imported());
+        Assertions.assertEquals(0, actualResponse.rejected());
+        Assertions.assertNull(actualResponse.errorReport());
+        Assertions.assertEquals(List.of(2, 2, 1), batches.stream().map(List::size).toList());
+        Assertions.assertEquals(List.of("1", "2"), batches.get(0).get(0).categories());
+        Assertions.assertFalse(batches.get(0).get(1).isActive());
+        Assertions.assertEquals("Suspense", batches.get(2).get(0).name());
+    }
+
+    @Test
+    public void givenACsvBody_whenRuns_shouldReadTheHeaderQuotesAndListColumns() {
+        final var aBody = """
+                name,is_active,categories_id
+                "Ação, aventura",true,1;2
+                "O ""clássico""\",,
+                Drama,false
+                """;
+        final var anImporter = new BulkImporter(500, reportDir.toString(), Duration.ofDays(1));
+
+        final var actualResponse = run(anImporter, aBody, ImportFormat.CSV);
+
+        Assertions.assertEquals(3, actualResponse.read());
+        Assertions.assertEquals(2, actualResponse.imported());
+        Assertions.assertEquals(1, actualResponse.rejected());
+        final var aBatch = batches.get(0);
+        Assertions.assertEquals("Ação, aventura", aBatch.get(0).name());
+        Assertions.assertEquals(List.of("1", "2"), aBatch.get(0).categories());
+        Assertions.assertEquals("O \"clássico\"", aBatch.get(1).name());
+        Assertions.assertTrue(aBatch.get(1).isActive());
+        Assertions.assertEquals(List.of(), aBatch.get(1).categories());
+    }
+
+    @Test
+    public void givenInvalidAndUnreadableLines_whenRuns_shouldWriteEachOneToTheErrorReportWithItsLine() throws Exception {
+        final var aBody = """
+                {"name":"Ação"}
+                {"name":
+                {"is_active":true}
+                [1, 2]
+                """;
+        final var anImporter = new BulkImporter(500, reportDir.toString(), Duration.ofDays(1));
+
+        final var actualResponse = run(anImporter, aBody, ImportFormat.NDJSON);
+
+        Assertions.assertEquals(4, actualResponse.read());
+        Assertions.assertEquals(1, actualResponse.imported());
+        Assertions.assertEquals(3, actualResponse.rejected());
+        final var actualReport = Files.readAllLines(report(anImporter, actualResponse));
+        // the unreadable lines are reported as they are read, the invalid ones when their batch is stored
+        Assertions.assertEquals(3, actualReport.size());
+        Assertions.assertTrue(actualReport.get(0).startsWith("{\"line\":2,\"errors\":[{\"message\":\"Line could not be read: "));
+        Assertions.assertTrue(actualReport.get(1).startsWith("{\"line\":4,"));
+        Assertions.assertTrue(actualReport.get(1).contains("expected a JSON object"));
+        Assertions.assertEquals("{\"line\":3,\"errors\":[{\"message\":\"'name' should not be null\"}]}", actualReport.get(2));
+    }
+
+    @Test
+    public void givenABatchThatFails_whenRuns_shouldRejectItsLinesAndGoOnWithTheNextOne() throws Exception {
+        final var aBody = """
+                {"name":"Ação"}
+                {"name":"Drama"}
+                {"name":"Terror"}
+                {"name":"Comédia"}
+                {"name":"Suspense"}
+                """;
+        final var expectedErrorMessage = "Some categories could not be found: 123";
+        final var anImporter = new BulkImporter(2, reportDir.toString(), Duration.ofDays(1));
+
+        final var actualResponse = anImporter.run("genres", body(aBody), ImportFormat.NDJSON,
+                CreateGenreRequest.class, Set.of("categories_id"), Function.identity(), aBatch -> {
+                    if (aBatch.get(0).name().equals("Ação")) {
+                        throw DomainException.with(new Error(expectedErrorMessage));
+                    }
+                    if (aBatch.get(0).name().equals("Terror")) {
+                        throw new IllegalStateException("Deadlock found when trying to get lock");
+                    }
+                    return createAll.apply(aBatch);
+                });
+
+        Assertions.assertEquals(5, actualResponse.read());
+        Assertions.assertEquals(1, actualResponse.imported());
+        Assertions.assertEquals(4, actualResponse.rejected());
+        Assertions.assertEquals(List.of("Suspense"), batches.get(0).stream().map(CreateGenreRequest::name).toList());
+        final var actualReport = Files.readAllLines(report(anImporter, actualResponse));
+        Assertions.assertEquals(4, actualReport.size());
+        Assertions.assertEquals("{\"line\":1,\"errors\":[{\"message\":\"%s\"}]}".formatted(expectedErrorMessage), actualReport.get(0));
+        Assertions.assertTrue(actualReport.get(1).startsWith("{\"line\":2,"));
+        // the cause of an unexpected failure stays in the log, not in a file handed to the client
+        Assertions.assertEquals("{\"line\":3,\"errors\":[{\"message\":\"Line could not be stored, the batch it was in failed\"}]}", actualReport.get(2));
+        Assertions.assertTrue(actualReport.get(3).startsWith("{\"line\":4,"));
+    }
+
+    @Test
+    public void givenAReportOlderThanTheTtl_whenTheNextImportRuns_shouldDeleteIt() throws Exception {
+        final var anImporter = new BulkImporter(500, reportDir.toString(), Duration.ofHours(1));
+        final var anExpiredResponse = run(anImporter, "{\"is_active\":true}\n", ImportFormat.NDJSON);
+        final var anExpiredReport = report(anImporter, anExpiredResponse);
+        Files.setLastModifiedTime(anExpiredReport, FileTime.from(Instant.now().minus(Duration.ofHours(2))));
+        final var aKeptResponse = run(anImporter, "{\"is_active\":true}\n", ImportFormat.NDJSON);
+
+        run(anImporter, "{\"name\":\"Ação\"}\n", ImportFormat.NDJSON);
+
+        Assertions.assertFalse(Files.exists(anExpiredReport));
+        Assertions.assertTrue(anImporter.report(reportId(anExpiredResponse)).isEmpty());
+        Assertions.assertTrue(anImporter.report(reportId(aKeptResponse)).isPresent());
+    }
+
+    @Test
+    public void givenAnIdOutsideTheReports_whenGetsTheReport_shouldReturnEmpty() throws Exception {
+        Files.writeString(reportDir.resolve("passwd.ndjson"), "{}");
+        final var anImporter = new BulkImporter(500, reportDir.toString(), Duration.ofDays(1));
+
+        Assertions.assertTrue(anImporter.report("passwd").isEmpty());
+        Assertions.assertTrue(anImporter.report("../imports/passwd").isEmpty());
+        Assertions.assertTrue(anImporter.report(null).isEmpty());
+    }
+
+    private ImportResponse run(final BulkImporter anImporter, final String aBody, final ImportFormat aFormat) {
+        return anImporter.run("genres", body(aBody), aFormat,
+                CreateGenreRequest.class, Set.of("categories_id"), Function.identity(), createAll);
+    }
+
+    private static ByteArrayInputStream body(final String aBody) {
+        return new ByteArrayInputStream(aBody.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Path report(final BulkImporter anImporter, final ImportResponse aResponse) {
+        return anImporter.report(reportId(aResponse)).orElseThrow();
+    }
+
+    private static String reportId(final ImportResponse aResponse) {
+        Assertions.assertTrue(aResponse.errorReport().startsWith("/imports/reports/"));
+        return aResponse.errorReport().substring("/imports/reports/".length());
+    }
+}
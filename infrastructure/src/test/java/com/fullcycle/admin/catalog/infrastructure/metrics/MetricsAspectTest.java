@@ -0,0 +1,128 @@
+package com.fullcycle.admin.catalog.infrastructure.metrics;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.EnableAspectJAutoProxy;
+
+import com.fullcycle.admin.catalog.application.castmember.delete.DefaultDeleteCastMemberUseCase;
+import com.fullcycle.admin.catalog.application.castmember.delete.DeleteCastMemberUseCase;
+import com.fullcycle.admin.catalog.application.castmember.retrieve.list.CastMemberQueryGateway;
+import com.fullcycle.admin.catalog.application.castmember.retrieve.list.DefaultListCastMemberUseCase;
+import com.fullcycle.admin.catalog.application.castmember.retrieve.list.ListCastMemberUseCase;
+import com.fullcycle.admin.catalog.application.category.retrive.get.DefaultGetCategoryByIdUseCase;
+import com.fullcycle.admin.catalog.application.category.retrive.get.GetCategoryByIdUseCase;
+import com.fullcycle.admin.catalog.domain.castmeber.CastMemberGateway;
+import com.fullcycle.admin.catalog.domain.castmeber.CastMemberId;
+import com.fullcycle.admin.catalog.domain.category.Category;
+import com.fullcycle.admin.catalog.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalog.domain.category.CategoryID;
+import com.fullcycle.admin.catalog.domain.exceptions.NotFoundException;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class MetricsAspectTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    public void givenAUseCase_whenExecuteSucceeds_shouldTimeItAndCountItAsActiveWhileRunning() {
+        final var aCategory = Category.newCategory("Filmes", "", true);
+        final var gateway = Mockito.mock(CategoryGateway.class);
+        final var activeDuringCall = new double[1];
+        Mockito.when(gateway.findById(aCategory.getId())).thenAnswer(invocation -> {
+            activeDuringCall[0] = registry.get("usecase.active")
+                    .tag("usecase", "DefaultGetCategoryByIdUseCase").gauge().value();
+            return Optional.of(aCategory);
+        });
+        final GetCategoryByIdUseCase useCase = proxy(new DefaultGetCategoryByIdUseCase(gateway));
+
+        final var actualOutput = useCase.execute(aCategory.getId().getValue());
+
+        Assertions.assertEquals(aCategory.getName(), actualOutput.name());
+        Assertions.assertEquals(1, activeDuringCall[0]);
+        Assertions.assertEquals(0, registry.get("usecase.active")
+                .tag("usecase", "DefaultGetCategoryByIdUseCase").gauge().value());
+        Assertions.assertEquals(1, registry.get("usecase.calls")
+                .tags("usecase", "DefaultGetCategoryByIdUseCase", "outcome", "success").timer().count());
+    }
+
+    @Test
+    public void givenAUseCase_whenExecuteThrows_shouldCountTheErrorAndRethrow() {
+        final var gateway = Mockito.mock(CategoryGateway.class);
+        Mockito.when(gateway.findById(Mockito.any())).thenReturn(Optional.empty());
+        final GetCategoryByIdUseCase useCase = proxy(new DefaultGetCategoryByIdUseCase(gateway));
+
+        Assertions.assertThrows(NotFoundException.class, () -> useCase.execute("123"));
+
+        Assertions.assertEquals(1, registry.get("usecase.errors")
+                .tags("usecase", "DefaultGetCategoryByIdUseCase", "exception", "NotFoundException").counter().count());
+        Assertions.assertEquals(1, registry.get("usecase.calls")
+                .tags("usecase", "DefaultGetCategoryByIdUseCase", "outcome", "error").timer().count());
+        Assertions.assertEquals(0, registry.get("usecase.active")
+                .tag("usecase", "DefaultGetCategoryByIdUseCase").gauge().value());
+    }
+
+    @Test
+    public void givenAGateway_whenCallingItsMethods_shouldTimeEachMethodOnItsOwn() {
+        final var target = Mockito.mock(CategoryGateway.class);
+        Mockito.when(target.existsById(Mockito.any())).thenReturn(List.of());
+        final var factory = new AspectJProxyFactory(target);
+        factory.setInterfaces(CategoryGateway.class);
+        factory.addAspect(new MetricsAspect(registry));
+        final CategoryGateway gateway = factory.getProxy();
+
+        gateway.existsById(List.of(CategoryID.from("123")));
+        gateway.existsById(List.of(CategoryID.from("456")));
+        gateway.findById(CategoryID.from("123"));
+
+        Assertions.assertEquals(2, registry.get("gateway.calls")
+                .tags("method", "existsById", "outcome", "success").timer().count());
+        Assertions.assertEquals(1, registry.get("gateway.calls")
+                .tags("method", "findById", "outcome", "success").timer().count());
+    }
+
+    @Test
+    public void givenTheCastMemberUseCases_whenTheContextStarts_shouldProxyAndTimeThemLikeEveryOther() {
+        final var gateway = Mockito.mock(CastMemberGateway.class);
+        try (var context = new AnnotationConfigApplicationContext()) {
+            context.register(ClassProxies.class);
+            context.registerBean(MeterRegistry.class, () -> registry);
+            context.registerBean(MetricsAspect.class, () -> new MetricsAspect(registry));
+            context.registerBean(DeleteCastMemberUseCase.class, () -> new DefaultDeleteCastMemberUseCase(gateway));
+            context.registerBean(ListCastMemberUseCase.class, () -> new DefaultListCastMemberUseCase(
+                    Mockito.mock(CastMemberQueryGateway.class)));
+            context.refresh();
+            final var deleteUseCase = context.getBean(DeleteCastMemberUseCase.class);
+
+            deleteUseCase.execute("123");
+
+            Assertions.assertTrue(AopUtils.isAopProxy(deleteUseCase));
+            Assertions.assertTrue(AopUtils.isAopProxy(context.getBean(ListCastMemberUseCase.class)));
+            Assertions.assertEquals(1, registry.get("usecase.calls")
+                    .tags("usecase", "DefaultDeleteCastMemberUseCase", "outcome", "success").timer().count());
+            Mockito.verify(gateway).deleteById(CastMemberId.from("123"));
+        }
+    }
+
+    private <T> T proxy(final T target) {
+        final var factory = new AspectJProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new MetricsAspect(registry));
+        return factory.getProxy();
+    }
+
+    // as Spring Boot proxies, by subclassing
+    @Configuration
+    @EnableAspectJAutoProxy(proxyTargetClass = true)
+    static class ClassProxies {
+    }
+}
@@ -0,0 +1,112 @@
+package com.fullcycle.admin.catalog.infrastructure.outbox;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.fullcycle.admin.catalog.MySQLGatewayTest;
+import com.fullcycle.admin.catalog.domain.castmeber.CastMember;
+import com.fullcycle.admin.catalog.domain.castmeber.CastMemberType;
+import com.fullcycle.admin.catalog.domain.category.Category;
+import com.fullcycle.admin.catalog.domain.genre.Genre;
+import com.fullcycle.admin.catalog.infrastructure.castmember.CastMemberMySQLGateway;
+import com.fullcycle.admin.catalog.infrastructure.category.CategoryMySQLGateway;
+import com.fullcycle.admin.catalog.infrastructure.genre.GenreMySQLGateway;
+import com.fullcycle.admin.catalog.infrastructure.outbox.persistence.OutboxEventJpaEntity;
+import com.fullcycle.admin.catalog.infrastructure.outbox.persistence.OutboxEventRepository;
+
+@MySQLGatewayTest
+public class OutboxRelayTest {
+    @Autowired
+    private CategoryMySQLGateway categoryGateway;
+    @Autowired
+    private GenreMySQLGateway genreGateway;
+    @Autowired
+    private CastMemberMySQLGateway castMemberGateway;
+    @Autowired
+    private OutboxEventRepository outboxRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    public void givenCreateUpdateAndDelete_whenCallsTheGateway_shouldWriteOneOutboxEventEach() {
+        final var aCategory = Category.newCategory("Filmes", "", true);
+
+        categoryGateway.create(aCategory);
+        categoryGateway.update(aCategory.update("Series", "", true));
+        categoryGateway.deleteById(aCategory.getId());
+        // nothing was stored under this id anymore, so nothing is written
+        categoryGateway.deleteById(aCategory.getId());
+
+        final var actualEvents = outboxRepository.findAll();
+        Assertions.assertEquals(3, actualEvents.size());
+        actualEvents.forEach(it -> {
+            Assertions.assertEquals(Outbox.CATEGORY, it.getAggregateType());
+            Assertions.assertEquals(aCategory.getId().getValue(), it.getAggregateId());
+            Assertions.assertEquals("CategoryChanged", it.getEventType());
+        });
+        Assertions.assertEquals(
+                List.of("CREATED", "UPDATED", "DELETED"),
+                outboxRepository.findAllByOrderByIdAsc(PageRequest.ofSize(10)).stream()
+                        .map(it -> it.getPayload().replaceAll(".*\"change\":\"([A-Z]+)\".*", "$1"))
+                        .toList());
+    }
+
+    @Test
+    public void givenGenreAndCastMemberWrites_whenCallsTheGateways_shouldWriteTheirEventsInOrder() {
+        final var aGenre = Genre.newGenre("Ação", true);
+        final var aMember = CastMember.newMember("Vin Diesel", CastMemberType.ACTOR);
+
+        genreGateway.create(aGenre);
+        castMemberGateway.create(aMember);
+        genreGateway.update(aGenre.update("Drama", true, List.of()));
+        castMemberGateway.update(aMember.update("Vin Diesel", CastMemberType.DIRECTOR));
+        genreGateway.deleteById(aGenre.getId());
+        castMemberGateway.deleteById(aMember.getId());
+
+        final var actualEvents = outboxRepository.findAllByOrderByIdAsc(PageRequest.ofSize(10));
+        Assertions.assertEquals(
+                List.of(Outbox.GENRE, Outbox.CAST_MEMBER, Outbox.GENRE, Outbox.CAST_MEMBER, Outbox.GENRE, Outbox.CAST_MEMBER),
+                actualEvents.stream().map(OutboxEventJpaEntity::getAggregateType).toList());
+        Assertions.assertEquals(
+                List.of("GenreChanged", "CastMemberChanged", "GenreChanged", "CastMemberChanged", "GenreChanged", "CastMemberChanged"),
+                actualEvents.stream().map(OutboxEventJpaEntity::getEventType).toList());
+        Assertions.assertEquals(
+                List.of("CREATED", "CREATED", "UPDATED", "UPDATED", "DELETED", "DELETED"),
+                actualEvents.stream()
+                        .map(it -> it.getPayload().replaceAll(".*\"change\":\"([A-Z]+)\".*", "$1"))
+                        .toList());
+        Assertions.assertEquals(aMember.getId().getValue(), actualEvents.get(5).getAggregateId());
+    }
+
+    @Test
+    public void givenPendingEvents_whenRelayRuns_shouldPublishInBatchesOldestFirstAndEmptyTheOutbox() {
+        final var genres = List.of(Genre.newGenre("Ação", true), Genre.newGenre("Drama", true), Genre.newGenre("Terror", true));
+        genreGateway.createAll(genres);
+        final var aSink = new InMemoryEventSink();
+        final var aRelay = new OutboxRelay(outboxRepository, aSink, 2, transactionManager);
+
+        aRelay.relayPending();
+
+        Assertions.assertEquals(
+                genres.stream().map(it -> it.getId().getValue()).toList(),
+                aSink.messages().stream().map(OutboxMessage::aggregateId).toList());
+        Assertions.assertEquals(0, outboxRepository.count());
+    }
+
+    @Test
+    public void givenASinkThatFails_whenRelayRuns_shouldKeepTheBatchInTheOutbox() {
+        categoryGateway.create(Category.newCategory("Filmes", "", true));
+        final var aRelay = new OutboxRelay(outboxRepository, aBatch -> {
+            throw new IllegalStateException("broker down");
+        }, 10, transactionManager);
+
+        aRelay.relayPending();
+
+        Assertions.assertEquals(1, outboxRepository.count());
+    }
+}
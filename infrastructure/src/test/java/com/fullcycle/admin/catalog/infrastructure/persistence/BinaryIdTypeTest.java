@@ -0,0 +1,60 @@
+package com.fullcycle.admin.catalog.infrastructure.persistence;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HexFormat;
+
+import org.hibernate.HibernateException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.fullcycle.admin.catalog.domain.utils.IdUtils;
+
+public class BinaryIdTypeTest {
+
+    private final BinaryIdType type = new BinaryIdType();
+
+    @Test
+    public void givenAUuid_whenConvertsToBytes_shouldWriteItsSixteenBytesInOrder() {
+        final var anId = "0191d3a4-7b2c-7def-8a12-3456789abcde";
+        final var expectedBytes = HexFormat.of().parseHex("0191d3a47b2c7def8a123456789abcde");
+
+        final var actualBytes = BinaryIdType.toBytes(anId);
+
+        Assertions.assertArrayEquals(expectedBytes, actualBytes);
+        Assertions.assertEquals(anId, BinaryIdType.fromBytes(actualBytes));
+    }
+
+    @Test
+    public void givenAGeneratedId_whenRoundTripsThroughTheDescriptor_shouldReadTheSameId() {
+        final var anId = IdUtils.uuid().toString();
+        final var aDescriptor = type.getJavaTypeDescriptor();
+
+        final var actualBytes = aDescriptor.unwrap(anId, byte[].class, null);
+
+        Assertions.assertEquals(16, actualBytes.length);
+        Assertions.assertEquals(anId, aDescriptor.wrap(actualBytes, null));
+        Assertions.assertEquals(anId, aDescriptor.unwrap(anId, String.class, null));
+        Assertions.assertEquals(anId, aDescriptor.wrap(anId, null));
+        Assertions.assertNull(aDescriptor.unwrap(null, byte[].class, null));
+        Assertions.assertNull(aDescriptor.wrap(null, null));
+    }
+
+    @Test
+    public void givenAnIdThatIsNotAUuid_whenConvertsToBytes_shouldFallBackToItsTextWithoutThrowing() {
+        final var anId = "123";
+
+        final var actualBytes = BinaryIdType.toBytes(anId);
+
+        Assertions.assertArrayEquals(anId.getBytes(StandardCharsets.UTF_8), actualBytes);
+        Assertions.assertEquals(anId, BinaryIdType.fromBytes(actualBytes));
+    }
+
+    @Test
+    public void givenAnUnsupportedJavaType_whenUnwraps_shouldThrowHibernateException() {
+        final var aDescriptor = type.getJavaTypeDescriptor();
+
+        Assertions.assertThrows(HibernateException.class,
+                () -> aDescriptor.unwrap(IdUtils.uuid().toString(), Long.class, null));
+        Assertions.assertThrows(HibernateException.class, () -> aDescriptor.wrap(1L, null));
+    }
+}
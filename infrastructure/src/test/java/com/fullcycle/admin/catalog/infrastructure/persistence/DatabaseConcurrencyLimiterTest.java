@@ -0,0 +1,110 @@
+package com.fullcycle.admin.catalog.infrastructure.persistence;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.EnableAspectJAutoProxy;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import com.fullcycle.admin.catalog.domain.category.CategoryID;
+import com.fullcycle.admin.catalog.infrastructure.category.CategoryMySQLGateway;
+import com.fullcycle.admin.catalog.infrastructure.category.persistence.CategoryRepository;
+import com.fullcycle.admin.catalog.infrastructure.changes.Tombstones;
+import com.fullcycle.admin.catalog.infrastructure.outbox.Outbox;
+
+public class DatabaseConcurrencyLimiterTest {
+
+    private final CategoryRepository repository = Mockito.mock(CategoryRepository.class);
+
+    @Test
+    public void givenEveryPermitTaken_whenAnotherThreadCallsAGateway_shouldFailAfterTheMaxWait() throws Exception {
+        final var limiter = new DatabaseConcurrencyLimiter(1, Duration.ofMillis(50));
+        final var gateway = proxy(limiter);
+        final var entered = new CountDownLatch(1);
+        final var release = new CountDownLatch(1);
+        Mockito.when(repository.existsByIds(Mockito.any())).thenAnswer(invocation -> {
+            entered.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return List.of();
+        });
+        final var holder = CompletableFuture.runAsync(() -> gateway.existsById(List.of(CategoryID.from("123"))));
+        Assertions.assertTrue(entered.await(5, TimeUnit.SECONDS));
+
+        Assertions.assertThrows(DatabaseBusyException.class, () -> gateway.findUpdatedAtById(CategoryID.from("123")));
+        Mockito.verify(repository, Mockito.never()).findUpdatedAtById(Mockito.any());
+
+        release.countDown();
+        holder.get(5, TimeUnit.SECONDS);
+        Assertions.assertEquals(1, limiter.available());
+    }
+
+    @Test
+    public void givenAGatewayCalledFromInsideAnother_whenLimitIsOne_shouldRunUnderTheSamePermit() {
+        final var limiter = new DatabaseConcurrencyLimiter(1, Duration.ofMillis(50));
+        final var gateway = proxy(limiter);
+        final var expectedUpdatedAt = Instant.now();
+        Mockito.when(repository.findUpdatedAtById(Mockito.any())).thenReturn(Optional.of(expectedUpdatedAt));
+        Mockito.when(repository.existsByIds(Mockito.any())).thenAnswer(invocation -> {
+            gateway.findUpdatedAtById(CategoryID.from("123"));
+            return List.of("123");
+        });
+
+        final var actualIds = gateway.existsById(List.of(CategoryID.from("123")));
+
+        Assertions.assertEquals(List.of(CategoryID.from("123")), actualIds);
+        Mockito.verify(repository).findUpdatedAtById("123");
+        Assertions.assertEquals(1, limiter.available());
+    }
+
+    @Test
+    public void givenATransactionalGatewayMethod_whenCalled_shouldTakeThePermitBeforeTheTransactionBegins() {
+        final var limiter = new DatabaseConcurrencyLimiter(1, Duration.ofMillis(50));
+        final var availableAtBegin = new AtomicInteger(-1);
+        final var transactionManager = Mockito.mock(PlatformTransactionManager.class);
+        Mockito.when(transactionManager.getTransaction(Mockito.any())).thenAnswer(invocation -> {
+            availableAtBegin.set(limiter.available());
+            return new SimpleTransactionStatus();
+        });
+        try (var context = new AnnotationConfigApplicationContext()) {
+            context.register(TransactionalGatewayConfig.class);
+            context.registerBean(DatabaseConcurrencyLimiter.class, () -> limiter);
+            context.registerBean(PlatformTransactionManager.class, () -> transactionManager);
+            context.registerBean(CategoryMySQLGateway.class, () -> new CategoryMySQLGateway(repository,
+                    Mockito.mock(Outbox.class), Mockito.mock(Tombstones.class), false, Duration.ZERO));
+            context.refresh();
+
+            context.getBean(CategoryMySQLGateway.class).deleteById(CategoryID.from("123"));
+        }
+
+        Assertions.assertEquals(0, availableAtBegin.get());
+        Assertions.assertEquals(1, limiter.available());
+    }
+
+    @Configuration
+    @EnableAspectJAutoProxy(proxyTargetClass = true)
+    @EnableTransactionManagement(proxyTargetClass = true)
+    static class TransactionalGatewayConfig {
+    }
+
+    private CategoryMySQLGateway proxy(final DatabaseConcurrencyLimiter limiter) {
+        final var factory = new AspectJProxyFactory(new CategoryMySQLGateway(repository, Mockito.mock(Outbox.class),
+                Mockito.mock(Tombstones.class), false, Duration.ZERO));
+        factory.setProxyTargetClass(true);
+        factory.addAspect(limiter);
+        return factory.getProxy();
+    }
+}
@@ -0,0 +1,99 @@
+package com.fullcycle.admin.catalog.infrastructure.persistence;
+
+import com.fullcycle.admin.catalog.domain.utils.IdUtils;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+// Inserts the same rows keyed by random v4 ids and by time ordered v7 ids and compares throughput
+// and table size, published as report entries. Run with:
+// ./gradlew :infrastructure:test --tests '*IdInsertBenchmarkTest' -Dbenchmark=true [-Dbenchmark.rows=100000]
+@Tag("benchmark")
+@Testcontainers
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+public class IdInsertBenchmarkTest {
+    private static final int ROWS = Integer.getInteger("benchmark.rows", 500_000);
+    private static final int BATCH = 1_000;
+
+    @Container
+    private static final MySQLContainer<?> MY_SQL_CONTAINER = new MySQLContainer<>("mysql:latest")
+            .withPassword("123456")
+            .withUsername("root")
+            .withDatabaseName("adm_videos")
+            // a small buffer pool makes the page splits of random keys show up as they would on a big table
+            .withCommand("--innodb-buffer-pool-size=32M");
+
+    @Test
+    public void givenV4AndV7Ids_whenInsertingTheSameRows_shouldReportThroughputAndSize(final TestReporter reporter)
+            throws Exception {
+        try (var conn = DriverManager.getConnection(
+                MY_SQL_CONTAINER.getJdbcUrl() + "?rewriteBatchedStatements=true",
+                MY_SQL_CONTAINER.getUsername(), MY_SQL_CONTAINER.getPassword())) {
+            final var v4 = run(conn, "bench_v4", UUID::randomUUID);
+            final var v7 = run(conn, "bench_v7", IdUtils::uuid);
+
+            reporter.publishEntry(v4.entries("v4"));
+            reporter.publishEntry(v7.entries("v7"));
+            Assertions.assertEquals(ROWS, v4.rows());
+            Assertions.assertEquals(ROWS, v7.rows());
+        }
+    }
+
+    private static Result run(final Connection conn, final String table, final Supplier<UUID> ids) throws SQLException {
+        try (var st = conn.createStatement()) {
+            st.execute("DROP TABLE IF EXISTS " + table);
+            // same shape as category: clustered BINARY(16) key plus a secondary index
+            st.execute("CREATE TABLE " + table + " (id BINARY(16) NOT NULL PRIMARY KEY, "
+                    + "name VARCHAR(255) NOT NULL, created_at DATETIME(6) NOT NULL, INDEX idx_" + table + "_name (name))");
+        }
+        conn.setAutoCommit(false);
+        final var start = System.nanoTime();
+        try (var ps = conn.prepareStatement("INSERT INTO " + table + " (id, name, created_at) VALUES (?, ?, ?)")) {
+            for (int i = 1; i <= ROWS; i++) {
+                ps.setBytes(1, BinaryIdType.toBytes(ids.get().toString()));
+                ps.setString(2, "Categoria " + i);
+                ps.setObject(3, Instant.now());
+                ps.addBatch();
+                if (i % BATCH == 0) {
+                    ps.executeBatch();
+                    conn.commit();
+                }
+            }
+            ps.executeBatch();
+            conn.commit();
+        }
+        final var elapsed = System.nanoTime() - start;
+        conn.setAutoCommit(true);
+        try (var st = conn.createStatement()) {
+            st.execute("ANALYZE TABLE " + table);
+            try (var rs = st.executeQuery("SELECT (SELECT COUNT(*) FROM " + table + "), DATA_LENGTH, INDEX_LENGTH "
+                    + "FROM information_schema.TABLES WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = '" + table + "'")) {
+                rs.next();
+                return new Result(rs.getLong(1), ROWS / (elapsed / 1_000_000_000.0), rs.getLong(2), rs.getLong(3));
+            }
+        }
+    }
+
+    private record Result(long rows, double rowsPerSecond, long dataBytes, long indexBytes) {
+
+        Map<String, String> entries(final String ids) {
+            return Map.of(
+                    ids + ".rowsPerSecond", "%.0f".formatted(rowsPerSecond),
+                    ids + ".dataBytes", String.valueOf(dataBytes),
+                    ids + ".indexBytes", String.valueOf(indexBytes));
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.fullcycle.admin.catalog.infrastructure.persistence;
+
+import java.util.List;
+
+import org.hibernate.QueryException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class MatchAgainstFunctionTest {
+
+    private final MatchAgainstFunction function = new MatchAgainstFunction();
+
+    @Test
+    public void givenColumnsAndTerms_whenRenders_shouldWriteABooleanModeMatchOverEveryColumn() {
+        final var expectedSql = "MATCH (c.name, c.description) AGAINST (? IN BOOLEAN MODE)";
+
+        final var actualSql = function.render(null, List.of("c.name", "c.description", "?"), null);
+
+        Assertions.assertEquals(expectedSql, actualSql);
+    }
+
+    @Test
+    public void givenOnlyTheTerms_whenRenders_shouldThrowQueryException() {
+        Assertions.assertThrows(QueryException.class, () -> function.render(null, List.of("?"), null));
+    }
+}
@@ -0,0 +1,48 @@
+package com.fullcycle.admin.catalog.infrastructure.search;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TrigramIndexTest {
+
+    @Test
+    public void givenIndexedDocuments_whenCallSearch_shouldReturnIdsContainingTheTermIgnoringCase() {
+        final var index = new TrigramIndex();
+        index.put("1", "Filmes", "A categoria mais assistida");
+        index.put("2", "Series", "A categoria menos assistida");
+        index.put("3", "Documentarios", "");
+
+        Assertions.assertEquals(List.of("1"), index.search("FILM"));
+        Assertions.assertEquals(List.of("1", "2"), index.search("assist"));
+        Assertions.assertEquals(List.of("3"), index.search("do"));
+        Assertions.assertEquals(List.of(), index.search("filmes a categoria"));
+        Assertions.assertEquals(List.of(), index.search("musicais"));
+    }
+
+    @Test
+    public void givenAnUpdatedDocument_whenCallSearch_shouldOnlyMatchTheNewText() {
+        final var index = new TrigramIndex();
+        index.put("1", "Filmes");
+        index.put("1", "Series");
+
+        Assertions.assertEquals(1, index.size());
+        Assertions.assertEquals(List.of(), index.search("film"));
+        Assertions.assertEquals(List.of("1"), index.search("ries"));
+    }
+
+    @Test
+    public void givenManyRemovedDocuments_whenCallSearch_shouldCompactAndKeepTheLiveOnes() {
+        final var index = new TrigramIndex();
+        IntStream.range(0, 5000).forEach(i -> index.put(String.valueOf(i), "Categoria " + i));
+        IntStream.range(0, 4990).forEach(i -> index.remove(String.valueOf(i)));
+        index.put("novo", "Categoria nova");
+
+        Assertions.assertEquals(11, index.size());
+        Assertions.assertEquals(List.of("4999"), index.search("categoria 4999"));
+        Assertions.assertEquals(List.of(), index.search("categoria 42"));
+        Assertions.assertEquals(11, index.search("categoria").size());
+    }
+}
@@ -0,0 +1,70 @@
+package com.fullcycle.admin.catalog.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fullcycle.admin.catalog.infrastructure.configuration.json.Json;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Optional;
+
+public class CatalogClient {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient client;
+    private final URI baseUri;
+    private final ObjectMapper mapper;
+
+    public CatalogClient(final URI baseUri) {
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        this.baseUri = baseUri;
+        this.mapper = Json.mapper();
+    }
+
+    public String toJson(final Object aBody) {
+        return Json.writeValueAsString(aBody);
+    }
+
+    // the body of a 2xx response, anything else counts as an error of the endpoint and comes back empty
+    public Optional<JsonNode> send(
+            final LatencyRecorder recorder,
+            final String anEndpoint,
+            final String aMethod,
+            final String aPath,
+            final String aBody
+    ) {
+        final var request = HttpRequest.newBuilder(URI.create(baseUri + aPath))
+                .timeout(TIMEOUT)
+                .header("Content-Type", "application/json")
+                .header("Accept", "application/json")
+                .method(aMethod, aBody == null
+                        ? HttpRequest.BodyPublishers.noBody()
+                        : HttpRequest.BodyPublishers.ofString(aBody))
+                .build();
+        final var start = System.nanoTime();
+        try {
+            final var response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            final var elapsed = System.nanoTime() - start;
+            if (response.statusCode() >= 400) {
+                recorder.error(anEndpoint);
+                return Optional.empty();
+            }
+            recorder.record(anEndpoint, elapsed);
+            return response.body().isEmpty() ? Optional.empty() : Optional.of(mapper.readTree(response.body()));
+        } catch (final IOException ex) {
+            recorder.error(anEndpoint);
+            return Optional.empty();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return Optional.empty();
+        }
+    }
+}
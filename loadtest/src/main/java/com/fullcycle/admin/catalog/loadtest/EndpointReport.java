@@ -0,0 +1,38 @@
+package com.fullcycle.admin.catalog.loadtest;
+
+public record EndpointReport(
+        String endpoint,
+        long requests,
+        long errors,
+        double requestsPerSecond,
+        double p50Millis,
+        double p99Millis,
+        double p999Millis,
+        double maxMillis) {
+
+    public static EndpointReport from(final String anEndpoint, final LatencyRecorder.Samples samples, final double seconds) {
+        final var sorted = samples.sorted();
+        return new EndpointReport(
+                anEndpoint,
+                sorted.length,
+                samples.errors(),
+                sorted.length / seconds,
+                percentile(sorted, 0.50),
+                percentile(sorted, 0.99),
+                percentile(sorted, 0.999),
+                sorted.length == 0 ? 0 : millis(sorted[sorted.length - 1]));
+    }
+
+    // nearest rank, so the value is always one that was actually measured
+    private static double percentile(final long[] sorted, final double aPercentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        final var rank = (int) Math.ceil(aPercentile * sorted.length);
+        return millis(sorted[Math.max(rank - 1, 0)]);
+    }
+
+    private static double millis(final long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
@@ -0,0 +1,61 @@
+package com.fullcycle.admin.catalog.loadtest;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+// one per worker thread, so recording never contends; the workers' recorders are merged once the run is over
+public class LatencyRecorder {
+
+    private final Map<String, Samples> samples = new HashMap<>();
+
+    public void record(final String anEndpoint, final long nanos) {
+        samples.computeIfAbsent(anEndpoint, key -> new Samples()).add(nanos);
+    }
+
+    public void error(final String anEndpoint) {
+        samples.computeIfAbsent(anEndpoint, key -> new Samples()).errors++;
+    }
+
+    public LatencyRecorder merge(final LatencyRecorder another) {
+        another.samples.forEach((anEndpoint, theirs) -> {
+            final var ours = samples.computeIfAbsent(anEndpoint, key -> new Samples());
+            for (int i = 0; i < theirs.count; i++) {
+                ours.add(theirs.nanos[i]);
+            }
+            ours.errors += theirs.errors;
+        });
+        return this;
+    }
+
+    public Map<String, Samples> samples() {
+        return samples;
+    }
+
+    public static class Samples {
+        private long[] nanos = new long[1024];
+        private int count;
+        private long errors;
+
+        private void add(final long aValue) {
+            if (count == nanos.length) {
+                nanos = Arrays.copyOf(nanos, count * 2);
+            }
+            nanos[count++] = aValue;
+        }
+
+        public int count() {
+            return count;
+        }
+
+        public long errors() {
+            return errors;
+        }
+
+        public long[] sorted() {
+            final var copy = Arrays.copyOf(nanos, count);
+            Arrays.sort(copy);
+            return copy;
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.fullcycle.admin.catalog.loadtest;
+
+import com.fullcycle.admin.catalog.infrastructure.configuration.WebServerConfig;
+import com.fullcycle.admin.catalog.infrastructure.configuration.json.Json;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+public class LoadTest {
+
+    public static void main(final String[] args) throws Exception {
+        final var options = LoadTestOptions.parse(args);
+        if (!options.embedded()) {
+            // whatever mode the target app was started with
+            drive(options.target(), "external", options);
+            return;
+        }
+        for (final var anExecution : options.executions()) {
+            try (final var context = boot(options, anExecution)) {
+                final var port = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+                drive(URI.create("http://localhost:%d/api".formatted(port)), anExecution, options);
+            }
+        }
+    }
+
+    private static void drive(final URI target, final String anExecution, final LoadTestOptions options)
+            throws Exception {
+        final var workload = new Workload(new CatalogClient(target));
+        workload.seed(options.seed());
+        run(workload, options.concurrency(), options.warmup());
+
+        final var startedAt = Instant.now();
+        final var start = System.nanoTime();
+        final var recorder = run(workload, options.concurrency(), options.duration());
+        final var seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        final var report = LoadTestReport.from(startedAt, target.toString(), anExecution,
+                options.slowQuery().toMillis(), options.concurrency(), seconds, recorder);
+        write(report, options.reportOf(anExecution));
+        print(report);
+    }
+
+    private static ConfigurableApplicationContext boot(final LoadTestOptions options, final String anExecution) {
+        final var app = new SpringApplication(WebServerConfig.class);
+        app.setAdditionalProfiles(options.profile());
+        app.addInitializers(context -> context.getBeanFactory().addBeanPostProcessor(new SlowQueries(options.slowQuery())));
+        // SQL logging would end up measured as part of every request
+        return app.run("--server.port=0", "--spring.jpa.show-sql=false", "--spring.h2.console.enabled=false",
+                "--spring.threads.virtual.enabled=" + LoadTestOptions.VIRTUAL.equals(anExecution));
+    }
+
+    // closed loop: every worker sends its next request as soon as the previous one answers
+    private static LatencyRecorder run(final Workload workload, final int concurrency, final Duration aDuration)
+            throws InterruptedException, ExecutionException {
+        final var deadline = System.nanoTime() + aDuration.toNanos();
+        final var executor = Executors.newFixedThreadPool(concurrency);
+        try {
+            final var workers = new ArrayList<Future<LatencyRecorder>>(concurrency);
+            for (int i = 0; i < concurrency; i++) {
+                workers.add(executor.submit(() -> {
+                    final var recorder = new LatencyRecorder();
+                    while (System.nanoTime() < deadline) {
+                        workload.next(recorder);
+                    }
+                    return recorder;
+                }));
+            }
+            final var merged = new LatencyRecorder();
+            for (final var aWorker : workers) {
+                merged.merge(aWorker.get());
+            }
+            return merged;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void write(final LoadTestReport report, final Path aReport) throws IOException {
+        final var aPath = aReport.toAbsolutePath();
+        Files.createDirectories(aPath.getParent());
+        Files.writeString(aPath, Json.writeValueAsString(report));
+        System.out.println("Report written to " + aPath);
+    }
+
+    private static void print(final LoadTestReport report) {
+        System.out.printf("%s, %d workers, %dms added per statement%n",
+                report.execution(), report.concurrency(), report.slowQueryMillis());
+        System.out.printf("%-36s %9s %7s %9s %9s %9s %9s%n", "endpoint", "requests", "errors", "rps", "p50 ms", "p99 ms", "p999 ms");
+        for (final var it : report.endpoints()) {
+            System.out.printf("%-36s %9d %7d %9.1f %9.2f %9.2f %9.2f%n", it.endpoint(), it.requests(), it.errors(),
+                    it.requestsPerSecond(), it.p50Millis(), it.p99Millis(), it.p999Millis());
+        }
+        System.out.printf("%-36s %9d %7d %9.1f%n", "total", report.requests(), report.errors(), report.requestsPerSecond());
+    }
+}
@@ -0,0 +1,78 @@
+package com.fullcycle.admin.catalog.loadtest;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+
+public record LoadTestOptions(
+        URI target,
+        String profile,
+        Duration warmup,
+        Duration duration,
+        int concurrency,
+        int seed,
+        Path report,
+        Duration slowQuery,
+        List<String> executions) {
+
+    public static final String WORKERS = "workers";
+    public static final String VIRTUAL = "virtual";
+
+    // --key=value pairs, anything not given keeps its default; without --target the app is booted in-process,
+    // once per --execution mode and with --slow-query added to every statement
+    public static LoadTestOptions parse(final String[] args) {
+        final var values = new HashMap<String, String>();
+        for (final var arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --key=value but got: " + arg);
+            }
+            final var separator = arg.indexOf('=');
+            values.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        final var target = values.get("target");
+        return new LoadTestOptions(
+                target != null ? URI.create(target) : null,
+                values.getOrDefault("profile", "test-integration"),
+                duration(values.getOrDefault("warmup", "10s")),
+                duration(values.getOrDefault("duration", "60s")),
+                Integer.parseInt(values.getOrDefault("concurrency", "32")),
+                Integer.parseInt(values.getOrDefault("seed", "500")),
+                Path.of(values.getOrDefault("report", "build/reports/loadtest/report.json")),
+                duration(values.getOrDefault("slow-query", "0s")),
+                executions(values.getOrDefault("execution", WORKERS)));
+    }
+
+    public boolean embedded() {
+        return target == null;
+    }
+
+    // a report per execution mode, named after it when more than one runs
+    public Path reportOf(final String anExecution) {
+        if (executions.size() == 1) {
+            return report;
+        }
+        final var aName = report.getFileName().toString();
+        final var dot = aName.lastIndexOf('.');
+        final var base = dot < 0 ? aName : aName.substring(0, dot);
+        final var extension = dot < 0 ? "" : aName.substring(dot);
+        return report.resolveSibling(base + "-" + anExecution + extension);
+    }
+
+    private static List<String> executions(final String aValue) {
+        return switch (aValue) {
+            case WORKERS -> List.of(WORKERS);
+            case VIRTUAL -> List.of(VIRTUAL);
+            case "both" -> List.of(WORKERS, VIRTUAL);
+            default -> throw new IllegalArgumentException("--execution must be workers, virtual or both");
+        };
+    }
+
+    private static Duration duration(final String aValue) {
+        if (aValue.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(aValue.substring(0, aValue.length() - 2)));
+        }
+        return Duration.parse("PT" + aValue.toUpperCase());
+    }
+}
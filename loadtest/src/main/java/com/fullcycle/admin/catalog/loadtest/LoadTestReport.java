@@ -0,0 +1,36 @@
+package com.fullcycle.admin.catalog.loadtest;
+
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+
+public record LoadTestReport(
+        Instant startedAt,
+        String target,
+        String execution,
+        long slowQueryMillis,
+        int concurrency,
+        double durationSeconds,
+        long requests,
+        long errors,
+        double requestsPerSecond,
+        List<EndpointReport> endpoints) {
+
+    public static LoadTestReport from(
+            final Instant startedAt,
+            final String target,
+            final String execution,
+            final long slowQueryMillis,
+            final int concurrency,
+            final double seconds,
+            final LatencyRecorder recorder) {
+        final var endpoints = recorder.samples().entrySet().stream()
+                .map(it -> EndpointReport.from(it.getKey(), it.getValue(), seconds))
+                .sorted(Comparator.comparing(EndpointReport::endpoint))
+                .toList();
+        final var requests = endpoints.stream().mapToLong(EndpointReport::requests).sum();
+        final var errors = endpoints.stream().mapToLong(EndpointReport::errors).sum();
+        return new LoadTestReport(startedAt, target, execution, slowQueryMillis, concurrency, seconds,
+                requests, errors, requests / seconds, endpoints);
+    }
+}
@@ -0,0 +1,65 @@
+package com.fullcycle.admin.catalog.loadtest;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+// Stands in for a loaded MySQL: every statement execution first sleeps, holding its pooled connection meanwhile
+public class SlowQueries implements BeanPostProcessor {
+
+    private final Duration latency;
+
+    public SlowQueries(final Duration latency) {
+        this.latency = latency;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(final Object bean, final String beanName) {
+        if (!(bean instanceof DataSource aDataSource) || latency.isZero()) {
+            return bean;
+        }
+        return new DelegatingDataSource(aDataSource) {
+            @Override
+            public Connection getConnection() throws SQLException {
+                return wrap(Connection.class, super.getConnection());
+            }
+
+            @Override
+            public Connection getConnection(final String username, final String password) throws SQLException {
+                return wrap(Connection.class, super.getConnection(username, password));
+            }
+        };
+    }
+
+    private <T> T wrap(final Class<T> aType, final Object target) {
+        final InvocationHandler handler = (proxy, method, args) -> {
+            if (target instanceof Statement && method.getName().startsWith("execute")) {
+                Thread.sleep(latency.toMillis());
+            }
+            final var result = invoke(target, method, args);
+            if (result instanceof Statement && Statement.class.isAssignableFrom(method.getReturnType())) {
+                return wrap(method.getReturnType(), result);
+            }
+            return result;
+        };
+        return aType.cast(Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{aType}, handler));
+    }
+
+    private static Object invoke(final Object target, final Method aMethod, final Object[] args) throws Throwable {
+        try {
+            return aMethod.invoke(target, args);
+        } catch (final InvocationTargetException ex) {
+            throw ex.getCause();
+        }
+    }
+}
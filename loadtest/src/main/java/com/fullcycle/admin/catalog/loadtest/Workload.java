@@ -0,0 +1,150 @@
+package com.fullcycle.admin.catalog.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+// mixed CRUD and list/search traffic on the three aggregates, picked at random by weight
+public class Workload {
+
+    private static final int SEED_CHUNK = 100;
+    private static final List<String> WORDS = List.of(
+            "Filmes", "Series", "Documentarios", "Anime", "Drama", "Comedia", "Terror", "Aventura");
+
+    private final CatalogClient client;
+    private final List<Operation> operations = new ArrayList<>();
+    private final int totalWeight;
+
+    private final Pool categories = new Pool();
+    private final Pool genres = new Pool();
+    private final Pool castMembers = new Pool();
+
+    public Workload(final CatalogClient client) {
+        this.client = client;
+        resource("categories", categories, this::categoryBody);
+        resource("genres", genres, this::genreBody);
+        resource("cast_members", castMembers, this::castMemberBody);
+        this.totalWeight = operations.stream().mapToInt(Operation::weight).sum();
+    }
+
+    // rows that get and update hit for the whole run, the deletes only take rows created during the run
+    public void seed(final int rows) {
+        final var recorder = new LatencyRecorder();
+        seed(recorder, "categories", categories, rows, this::categoryBody);
+        seed(recorder, "genres", genres, rows, this::genreBody);
+        seed(recorder, "cast_members", castMembers, rows, this::castMemberBody);
+    }
+
+    public void next(final LatencyRecorder recorder) {
+        var aRoll = ThreadLocalRandom.current().nextInt(totalWeight);
+        for (final var anOperation : operations) {
+            aRoll -= anOperation.weight();
+            if (aRoll < 0) {
+                anOperation.action().accept(recorder);
+                return;
+            }
+        }
+    }
+
+    private void resource(final String aPath, final Pool aPool, final Supplier<Map<String, Object>> aBody) {
+        final var base = "/" + aPath;
+        operations.add(new Operation(25, recorder -> client.send(recorder, "GET " + base, "GET",
+                base + "?page=0&perPage=10&sort=name&dir=asc", null)));
+        operations.add(new Operation(10, recorder -> client.send(recorder, "GET " + base + "?search", "GET",
+                base + "?page=0&perPage=10&sort=name&dir=asc&search=" + word().toLowerCase(), null)));
+        operations.add(new Operation(35, recorder -> client.send(recorder, "GET " + base + "/{id}", "GET",
+                base + "/" + aPool.any(), null)));
+        operations.add(new Operation(12, recorder -> client.send(recorder, "POST " + base, "POST",
+                base, client.toJson(aBody.get())).ifPresent(it -> aPool.disposable.add(it.get("id").asText()))));
+        operations.add(new Operation(12, recorder -> client.send(recorder, "PUT " + base + "/{id}", "PUT",
+                base + "/" + aPool.any(), client.toJson(aBody.get()))));
+        operations.add(new Operation(6, recorder -> {
+            final var anId = aPool.disposable.poll();
+            if (anId != null) {
+                client.send(recorder, "DELETE " + base + "/{id}", "DELETE", base + "/" + anId, null);
+            }
+        }));
+    }
+
+    private void seed(
+            final LatencyRecorder recorder,
+            final String aPath,
+            final Pool aPool,
+            final int rows,
+            final Supplier<Map<String, Object>> aBody
+    ) {
+        for (int created = 0; created < rows; created += SEED_CHUNK) {
+            final var chunk = new ArrayList<Map<String, Object>>();
+            for (int i = created; i < Math.min(rows, created + SEED_CHUNK); i++) {
+                chunk.add(aBody.get());
+            }
+            final var items = client.send(recorder, "seed", "POST", "/" + aPath + "/bulk", client.toJson(chunk))
+                    .orElseThrow(() -> new IllegalStateException("Could not seed " + aPath));
+            for (final JsonNode item : items) {
+                if (item.hasNonNull("id")) {
+                    aPool.seeded.add(item.get("id").asText());
+                }
+            }
+        }
+        if (aPool.seeded.isEmpty()) {
+            throw new IllegalStateException("No %s were seeded".formatted(aPath));
+        }
+    }
+
+    private Map<String, Object> categoryBody() {
+        final var aBody = new LinkedHashMap<String, Object>();
+        aBody.put("name", name());
+        aBody.put("description", "Load test " + word());
+        aBody.put("is_active", ThreadLocalRandom.current().nextInt(10) != 0);
+        return aBody;
+    }
+
+    private Map<String, Object> genreBody() {
+        final var ids = new ArrayList<String>();
+        if (!categories.seeded.isEmpty()) {
+            for (int i = ThreadLocalRandom.current().nextInt(4); i > 0; i--) {
+                ids.add(categories.any());
+            }
+        }
+        final var aBody = new LinkedHashMap<String, Object>();
+        aBody.put("name", name());
+        aBody.put("categories_id", ids.stream().distinct().toList());
+        aBody.put("is_active", ThreadLocalRandom.current().nextInt(10) != 0);
+        return aBody;
+    }
+
+    private Map<String, Object> castMemberBody() {
+        final var aBody = new LinkedHashMap<String, Object>();
+        aBody.put("name", name());
+        aBody.put("type", ThreadLocalRandom.current().nextBoolean() ? "ACTOR" : "DIRECTOR");
+        return aBody;
+    }
+
+    private static String name() {
+        return word() + " " + ThreadLocalRandom.current().nextInt(1_000_000);
+    }
+
+    private static String word() {
+        return WORDS.get(ThreadLocalRandom.current().nextInt(WORDS.size()));
+    }
+
+    private record Operation(int weight, Consumer<LatencyRecorder> action) {
+    }
+
+    private static class Pool {
+        // filled before any worker starts and only read afterwards
+        private final List<String> seeded = new ArrayList<>();
+        private final ConcurrentLinkedQueue<String> disposable = new ConcurrentLinkedQueue<>();
+
+        private String any() {
+            return seeded.get(ThreadLocalRandom.current().nextInt(seeded.size()));
+        }
+    }
+}